@@ -0,0 +1,69 @@
+package inu.codin.codin.common.security;
+
+import inu.codin.codin.common.security.filter.RequestPathClassifier;
+import inu.codin.codin.common.security.filter.RequestPathClassifier.PathType;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter의 요청 경로 분류 성능 비교
+ * antPathMatcher : 요청마다 permit-all, swagger, public-api 패턴을 AntPathMatcher로 순회 (기존 방식)
+ * classifier : 미리 컴파일한 PathPattern으로 한 번만 순회 (RequestPathClassifier)
+ * 요청 URI는 ObjectId 경로 변수를 포함하여 매번 달라지도록 구성 (실제 트래픽처럼 같은 URI가 반복되지 않음)
+ * 여러 요청 스레드의 경합을 확인하기 위해 4개 스레드로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class RequestPathClassifierBenchmark {
+
+    private static final List<String> PERMIT_ALL = List.of(
+            "/auth/**", "/users/signup", "/users/password", "/users/nickname/check", "/email/**",
+            "/images/*/default", "/v3/api-docs/public", "/ws-stomp/**", "/actuator/health", "/error"
+    );
+    private static final List<String> PUBLIC_API = List.of(
+            "/posts/category", "/posts/{postId}", "/posts/best", "/posts/top3", "/lectures/**/reviews",
+            "/lectures/{lectureId}", "/notices/**", "/calendar/**"
+    );
+    private static final int URI_COUNT = 4_096;
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private final RequestPathClassifier classifier = new RequestPathClassifier(PERMIT_ALL, PUBLIC_API);
+    private final List<String> uris = new ArrayList<>(URI_COUNT);
+
+    @Setup
+    public void setUp() {
+        String[] templates = {
+                "/posts/%s", "/posts/%s/comments", "/chatroom/%s", "/chats/%s", "/auth/google/%s",
+                "/lectures/%s/reviews", "/users/%s/posts", "/notification/%s/read", "/swagger-ui/%s"
+        };
+        for (int i = 0; i < URI_COUNT; i++) {
+            uris.add(String.format(templates[i % templates.length], new ObjectId()));
+        }
+    }
+
+    @Benchmark
+    public PathType antPathMatcher() {
+        String uri = nextUri();
+        if (PERMIT_ALL.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri))) return PathType.PERMIT_ALL;
+        if (RequestPathClassifier.SWAGGER_AUTH_PATHS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri))) return PathType.SWAGGER;
+        if (PUBLIC_API.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri))) return PathType.PUBLIC;
+        return PathType.PROTECTED;
+    }
+
+    @Benchmark
+    public PathType classifier() {
+        return classifier.classify(nextUri());
+    }
+
+    private String nextUri() {
+        return uris.get(ThreadLocalRandom.current().nextInt(URI_COUNT));
+    }
+}
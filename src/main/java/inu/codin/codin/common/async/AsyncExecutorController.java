@@ -0,0 +1,28 @@
+package inu.codin.codin.common.async;
+
+import inu.codin.codin.common.response.ListResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/executors")
+@RequiredArgsConstructor
+@Tag(name = "Executor Monitoring API", description = "[관리자] 비동기 Executor 상태 API")
+public class AsyncExecutorController {
+
+    private final AsyncExecutorMonitor asyncExecutorMonitor;
+
+    @Operation(summary = "[관리자] 비동기 Executor 대기열 및 스레드 상태 반환")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    public ResponseEntity<ListResponse<ExecutorMetrics>> getExecutorMetrics() {
+        return ResponseEntity.ok()
+                .body(new ListResponse<>(200, "비동기 Executor 상태 반환 완료", asyncExecutorMonitor.getMetrics()));
+    }
+}
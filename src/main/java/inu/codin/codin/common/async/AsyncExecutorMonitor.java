@@ -0,0 +1,56 @@
+package inu.codin.codin.common.async;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 등록된 ThreadPoolTaskExecutor의 대기열 크기, 활성 스레드 수, 거부 작업 수 집계
+ * 대기열이 80% 이상 찼거나 거부된 작업이 있다면 주기적으로 로그로 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncExecutorMonitor {
+
+    private final Map<String, ThreadPoolTaskExecutor> executors;
+
+    public List<ExecutorMetrics> getMetrics() {
+        return executors.entrySet().stream()
+                .map(entry -> toMetrics(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(ExecutorMetrics::getName))
+                .toList();
+    }
+
+    @Scheduled(fixedRate = 60000) // 1분 마다 실행
+    public void logSaturatedExecutors() {
+        getMetrics().stream()
+                .filter(metrics -> metrics.isSaturated() || metrics.getRejectedTasks() > 0)
+                .forEach(metrics -> log.warn("[{}] active: {}/{}, queue: {}/{}, rejected: {}",
+                        metrics.getName(), metrics.getActiveThreads(), metrics.getMaxPoolSize(),
+                        metrics.getQueueSize(), metrics.getQueueCapacity(), metrics.getRejectedTasks()));
+    }
+
+    private ExecutorMetrics toMetrics(String name, ThreadPoolTaskExecutor executor) {
+        ThreadPoolExecutor threadPool = executor.getThreadPoolExecutor();
+        long rejected = threadPool.getRejectedExecutionHandler() instanceof MonitoredRejectedExecutionHandler handler
+                ? handler.getRejectedCount() : 0L;
+        return ExecutorMetrics.builder()
+                .name(name)
+                .activeThreads(threadPool.getActiveCount())
+                .poolSize(threadPool.getPoolSize())
+                .maxPoolSize(threadPool.getMaximumPoolSize())
+                .queueSize(threadPool.getQueue().size())
+                .queueCapacity(threadPool.getQueue().size() + threadPool.getQueue().remainingCapacity())
+                .completedTasks(threadPool.getCompletedTaskCount())
+                .rejectedTasks(rejected)
+                .build();
+    }
+}
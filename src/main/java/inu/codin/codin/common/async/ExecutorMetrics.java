@@ -0,0 +1,24 @@
+package inu.codin.codin.common.async;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Executor 상태 지표
+ */
+@Getter
+@Builder
+public class ExecutorMetrics {
+    private final String name;
+    private final int activeThreads;
+    private final int poolSize;
+    private final int maxPoolSize;
+    private final int queueSize;
+    private final int queueCapacity;
+    private final long completedTasks;
+    private final long rejectedTasks;
+
+    public boolean isSaturated() {
+        return queueCapacity > 0 && queueSize * 10 >= queueCapacity * 8;
+    }
+}
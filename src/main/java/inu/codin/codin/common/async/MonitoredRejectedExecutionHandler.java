@@ -0,0 +1,37 @@
+package inu.codin.codin.common.async;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열이 가득 차 거부된 작업 수를 집계한 뒤, 지정한 거부 정책에 위임
+ */
+@Slf4j
+public class MonitoredRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    @Getter
+    private final String executorName;
+    private final RejectedExecutionHandler delegate;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public MonitoredRejectedExecutionHandler(String executorName, RejectedExecutionHandler delegate) {
+        this.executorName = executorName;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        long rejected = rejectedCount.incrementAndGet();
+        if (rejected == 1 || rejected % 100 == 0)
+            log.warn("[{}] 대기열 포화로 작업 거부 - 정책: {}, 누적 거부: {}", executorName, delegate.getClass().getSimpleName(), rejected);
+        delegate.rejectedExecution(task, executor);
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
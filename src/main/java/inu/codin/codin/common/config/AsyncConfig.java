@@ -0,0 +1,119 @@
+package inu.codin.codin.common.config;
+
+import inu.codin.codin.common.async.MonitoredRejectedExecutionHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 작업 종류별 비동기 Executor 설정
+ * 각 Executor는 대기열 크기가 제한되어 있어, 한 작업(SMTP 지연, FCM 장애 등)이 밀려도 다른 작업의 스레드를 점유하지 않음
+ *
+ * applicationTaskExecutor - Executor를 지정하지 않은 @Async 작업의 기본 Executor, 대기열이 가득 차면 거부
+ * notificationExecutor - 알림(FCM) 전송, 대기열이 가득 차면 가장 오래된 알림부터 버림
+ * cacheRecoveryExecutor - Cache 복구, 대기열이 가득 차면 거부하고 호출자가 복구 생략 (다음 Cache miss에서 다시 복구)
+ * emailExecutor - 인증 메일 전송, 대기열이 가득 차면 거부 (요청 스레드가 SMTP 전송을 기다리지 않도록 503 응답 후 다시 요청)
+ * schedulerExecutor - 스케줄러 작업, 대기열이 가득 차면 이번 실행 생략
+ * chatExecutor - 채팅 부가 작업(unread 갱신 전송), 대기열이 가득 차면 요청 스레드에서 직접 실행 (유실 방지)
+ * outboxExecutor - Outbox 작업 처리, 대기열이 가득 차면 거부 (Relay가 점유를 풀고 다음 실행에서 다시 점유)
+ * fcmExecutor - FCM 묶음 전송(최대 500 토큰), 대기열이 가득 차면 요청 스레드에서 직접 전송 (유실 방지)
+ * s3UploadExecutor - 한 요청의 이미지 병렬 업로드, 대기열이 가득 차면 요청 스레드에서 직접 업로드 (업로드 속도 조절)
+ */
+@Slf4j
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String DEFAULT_EXECUTOR = "applicationTaskExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String CACHE_RECOVERY_EXECUTOR = "cacheRecoveryExecutor";
+    public static final String EMAIL_EXECUTOR = "emailExecutor";
+    public static final String SCHEDULER_EXECUTOR = "schedulerExecutor";
+    public static final String CHAT_EXECUTOR = "chatExecutor";
+    public static final String OUTBOX_EXECUTOR = "outboxExecutor";
+    public static final String FCM_EXECUTOR = "fcmExecutor";
+    public static final String S3_UPLOAD_EXECUTOR = "s3UploadExecutor";
+
+    /**
+     * 기본 Executor, Spring Boot의 applicationTaskExecutor 이름을 사용하여 이름으로 기본 Executor를 찾는 곳에서도 사용
+     */
+    @Primary
+    @Bean(name = {DEFAULT_EXECUTOR, "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor() {
+        return createExecutor(DEFAULT_EXECUTOR, 2, 4, 100, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        return createExecutor(NOTIFICATION_EXECUTOR, 2, 4, 500, new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    @Bean(name = CACHE_RECOVERY_EXECUTOR)
+    public ThreadPoolTaskExecutor cacheRecoveryExecutor() {
+        return createExecutor(CACHE_RECOVERY_EXECUTOR, 2, 4, 1000, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = EMAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor emailExecutor() {
+        return createExecutor(EMAIL_EXECUTOR, 2, 4, 100, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = SCHEDULER_EXECUTOR)
+    public ThreadPoolTaskExecutor schedulerExecutor() {
+        return createExecutor(SCHEDULER_EXECUTOR, 2, 2, 10, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Bean(name = CHAT_EXECUTOR)
+    public ThreadPoolTaskExecutor chatExecutor() {
+        return createExecutor(CHAT_EXECUTOR, 4, 8, 1000, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean(name = OUTBOX_EXECUTOR)
+    public ThreadPoolTaskExecutor outboxExecutor() {
+        return createExecutor(OUTBOX_EXECUTOR, 4, 8, 200, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = FCM_EXECUTOR)
+    public ThreadPoolTaskExecutor fcmExecutor() {
+        return createExecutor(FCM_EXECUTOR, 4, 8, 100, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean(name = S3_UPLOAD_EXECUTOR)
+    public ThreadPoolTaskExecutor s3UploadExecutor() {
+        return createExecutor(S3_UPLOAD_EXECUTOR, 8, 16, 100, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Executor를 지정하지 않은 @Async 작업은 기본 Executor(applicationTaskExecutor)에서 실행
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return applicationTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) ->
+                log.error("[Async] {}.{} 실행 중 예외 발생: {}", method.getDeclaringClass().getSimpleName(), method.getName(), e.getMessage(), e);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String name, int corePoolSize, int maxPoolSize, int queueCapacity,
+                                                  RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new MonitoredRejectedExecutionHandler(name, rejectedExecutionHandler));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
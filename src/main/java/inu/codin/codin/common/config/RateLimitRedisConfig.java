@@ -0,0 +1,52 @@
+package inu.codin.codin.common.config;
+
+import inu.codin.codin.common.ratelimit.RateLimitProperties;
+import inu.codin.codin.infra.redis.dto.RedisProperties;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * Redis 기반 Rate Limit 버킷 설정 (rate-limit.redis=true)
+ * bucket4j ProxyManager는 byte[] Codec 연결이 필요하므로 RedisTemplate과 별도의 Lettuce 연결을 사용
+ * 버킷 Key는 버킷이 가득 찰 때까지의 시간 + idle-timeout 뒤 만료되어 사용하지 않는 버킷은 Redis에서 자동으로 제거
+ */
+@Configuration
+@ConditionalOnProperty(name = "rate-limit.redis", havingValue = "true")
+public class RateLimitRedisConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public RedisClient rateLimitRedisClient(RedisProperties redisProperties) {
+        RedisURI.Builder uri = RedisURI.builder()
+                .withHost(redisProperties.getHost())
+                .withPort(redisProperties.getPort())
+                .withTimeout(Duration.ofMillis(500));
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            uri.withPassword(redisProperties.getPassword().toCharArray());
+        }
+        return RedisClient.create(uri.build());
+    }
+
+    @Bean(destroyMethod = "close")
+    public StatefulRedisConnection<byte[], byte[]> rateLimitRedisConnection(RedisClient rateLimitRedisClient) {
+        return rateLimitRedisClient.connect(ByteArrayCodec.INSTANCE);
+    }
+
+    @Bean
+    public ProxyManager<byte[]> rateLimitProxyManager(StatefulRedisConnection<byte[], byte[]> rateLimitRedisConnection,
+                                                      RateLimitProperties rateLimitProperties) {
+        return LettuceBasedProxyManager.builderFor(rateLimitRedisConnection)
+                .withExpirationStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(rateLimitProperties.getIdleTimeout()))
+                .build();
+    }
+}
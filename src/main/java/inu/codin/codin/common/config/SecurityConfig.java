@@ -3,8 +3,12 @@ package inu.codin.codin.common.config;
 
 import inu.codin.codin.common.dto.PermitAllProperties;
 import inu.codin.codin.common.dto.PublicApiProperties;
+import inu.codin.codin.common.ratelimit.ClientIpResolver;
+import inu.codin.codin.common.ratelimit.RateLimitBanFilter;
+import inu.codin.codin.common.ratelimit.RateLimitBanList;
 import inu.codin.codin.common.security.filter.ExceptionHandlerFilter;
 import inu.codin.codin.common.security.filter.JwtAuthenticationFilter;
+import inu.codin.codin.common.security.filter.RequestPathClassifier;
 import inu.codin.codin.common.security.service.JwtService;
 import inu.codin.codin.common.security.service.oauth2.AppleOAuth2UserService;
 import inu.codin.codin.common.security.service.oauth2.CustomOAuth2UserService;
@@ -65,6 +69,8 @@ public class SecurityConfig {
     private final CustomOAuth2AccessTokenResponseClient customOAuth2AccessTokenResponseClient;
 
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+    private final RateLimitBanList rateLimitBanList;
+    private final ClientIpResolver clientIpResolver;
 
     @Value("${server.domain}")
     private String BASEURL;
@@ -118,9 +124,12 @@ public class SecurityConfig {
 //                .httpBasic(Customizer.withDefaults())
                 // JwtAuthenticationFilter 추가
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtService, permitAllProperties, publicApiProperties),
+                        new JwtAuthenticationFilter(jwtService,
+                                new RequestPathClassifier(permitAllProperties.getUrls(), publicApiProperties.getUrls())),
                         UsernamePasswordAuthenticationFilter.class
                 )
+                // 차단된 요청자 확인 필터 추가 (인증된 유저는 userId, 아니라면 IP로 확인)
+                .addFilterAfter(new RateLimitBanFilter(rateLimitBanList, clientIpResolver), JwtAuthenticationFilter.class)
                 // 예외 처리 필터 추가
                 .addFilterBefore(new ExceptionHandlerFilter(), LogoutFilter.class);
         return http.build();
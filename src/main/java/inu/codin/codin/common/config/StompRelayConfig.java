@@ -0,0 +1,49 @@
+package inu.codin.codin.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inu.codin.codin.common.stomp.relay.RedisStompRelayInterceptor;
+import inu.codin.codin.common.stomp.relay.RedisStompRelayListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+
+import java.util.UUID;
+
+/**
+ * 여러 서버 간 STOMP 메세지 전달 설정 (websocket.broker=redis)
+ * 각 서버는 Simple Broker로 자신에게 연결된 세션에 전달하고, 서버 간에는 Redis Pub/Sub 채널 하나로 메세지를 공유
+ * websocket.broker=simple(기본값)이라면 단일 서버용 Simple Broker만 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "websocket.broker", havingValue = "redis")
+public class StompRelayConfig {
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${websocket.relay.channel:stomp:relay}")
+    private String channel;
+
+    @Bean
+    public RedisStompRelayInterceptor redisStompRelayInterceptor(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        return new RedisStompRelayInterceptor(redisTemplate, objectMapper, channel, nodeId);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer stompRelayListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                     ObjectMapper objectMapper,
+                                                                     ApplicationContext applicationContext) {
+        RedisStompRelayListener listener = new RedisStompRelayListener(objectMapper,
+                () -> applicationContext.getBean("brokerChannel", MessageChannel.class), nodeId);
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(listener, new ChannelTopic(channel));
+        return container;
+    }
+}
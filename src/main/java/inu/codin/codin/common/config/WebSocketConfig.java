@@ -3,7 +3,9 @@ package inu.codin.codin.common.config;
 import inu.codin.codin.common.security.service.JwtService;
 import inu.codin.codin.common.stomp.HttpHandShakeInterceptor;
 import inu.codin.codin.common.stomp.StompMessageProcessor;
+import inu.codin.codin.common.stomp.relay.RedisStompRelayInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -23,6 +25,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompMessageProcessor stompMessageProcessor;
     private final JwtService jwtService;
+    private final ObjectProvider<RedisStompRelayInterceptor> redisStompRelayInterceptor; // websocket.broker=redis 일 때만 존재
+
+    @Value("${websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -41,11 +47,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         //클라이언트에서 보낸 메세지를 받을 prefix, controller의 @MessageMapping과 이어짐
         registry.setUserDestinationPrefix("/user");
         //convertAndSendToUser 사용할 prefix
+        redisStompRelayInterceptor.ifAvailable(interceptor -> registry.configureBrokerChannel().interceptors(interceptor));
+        //서버에서 발행한 메세지를 Redis를 통해 다른 서버의 브로커에도 전달 (StompRelayConfig)
     }
 
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
-        registration.setMessageSizeLimit(50 * 1024 * 1024); // 메세지 크기 제한 오류 방지(이 코드가 없으면 byte code를 보낼때 소켓 연결이 끊길 수 있음)
+        registration.setMessageSizeLimit(messageSizeLimit); // 이미지는 S3에 직접 업로드하고 URL만 채팅으로 보내므로 큰 프레임을 허용하지 않음
     }
 
     @Override
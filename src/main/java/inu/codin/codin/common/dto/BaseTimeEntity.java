@@ -39,6 +39,10 @@ public abstract class BaseTimeEntity {
         this.createdAt = LocalDateTime.now();
     }
 
+    protected void restoreCreatedAt(LocalDateTime createdAt){
+        this.createdAt = createdAt;
+    }
+
     public void setUpdatedAt() {
         this.updatedAt = LocalDateTime.now();
     }
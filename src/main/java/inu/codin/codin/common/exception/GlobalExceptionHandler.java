@@ -15,6 +15,7 @@ import inu.codin.codin.domain.chat.exception.ChattingException;
 import inu.codin.codin.domain.info.exception.InfoErrorCode;
 import inu.codin.codin.domain.info.exception.InfoException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -105,6 +106,16 @@ public class GlobalExceptionHandler {
                 .body(new ExceptionResponse(e.getMessage(), HttpStatus.BAD_REQUEST.value()));
     }
 
+    /**
+     * 비동기 작업 대기열이 가득 차 거부된 경우 (인증 메일 전송 등), 잠시 후 다시 요청하도록 503 응답
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    protected ResponseEntity<ExceptionResponse> handleTaskRejectedException(TaskRejectedException e) {
+        log.warn("[TaskRejectedException] {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ExceptionResponse("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+
     @ExceptionHandler(OAuth2AuthenticationException.class)
     protected ResponseEntity<ExceptionResponse> handleOAuth2AuthenticationException(OAuth2AuthenticationException e) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -0,0 +1,67 @@
+package inu.codin.codin.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Rate Limit, 차단에 사용할 요청자 IP 결정
+ * X-Forwarded-For의 첫 번째 값은 요청자가 임의로 넣을 수 있으므로 사용하지 않음
+ * 1. 직접 연결한 주소(remoteAddr)가 신뢰하는 Proxy가 아니라면 remoteAddr
+ * 2. 신뢰하는 Proxy라면 X-Forwarded-For를 오른쪽부터 읽으며 신뢰하는 Proxy가 아닌 첫 번째 주소
+ *    (신뢰하는 Proxy가 덧붙인 주소이므로 요청자가 바꿀 수 없음)
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(RateLimitProperties rateLimitProperties) {
+        this.trustedProxies = rateLimitProperties.getTrustedProxies().stream()
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) return remoteAddr;
+
+        String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank()) return remoteAddr;
+
+        String[] hops = forwardedFor.split(",");
+        String clientIp = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!isIpAddress(hop)) break; // 형식이 잘못된 값부터는 신뢰할 수 없으므로 마지막으로 확인된 주소 사용
+            clientIp = hop;
+            if (!isTrustedProxy(hop)) break;
+        }
+        return clientIp;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (!isIpAddress(address)) return false;
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            if (trustedProxy.matches(address)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * IPv4, IPv6 형식 문자만으로 이루어졌는지 확인 (호스트 이름으로 DNS 조회가 일어나지 않도록)
+     */
+    private static boolean isIpAddress(String address) {
+        if (address == null || address.isEmpty() || address.length() > 45) return false;
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            boolean valid = Character.digit(c, 16) >= 0 || c == '.' || c == ':';
+            if (!valid) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package inu.codin.codin.common.ratelimit;
+
+import inu.codin.codin.common.response.RateLimitResponse;
+import inu.codin.codin.common.security.util.SecurityUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+import static inu.codin.codin.common.ratelimit.RateLimitBucketConstants.IP_KEY_PREFIX;
+import static inu.codin.codin.common.ratelimit.RateLimitBucketConstants.USER_KEY_PREFIX;
+
+/**
+ * 차단된 요청자의 요청을 거부하는 필터
+ * JWT 인증 직후, 버킷 조회 전에 확인
+ * 인증된 유저는 userId, 아니라면 IP로 확인하여 같은 NAT를 사용하는 유저가 다른 요청자의 IP 차단에 함께 막히지 않도록 함
+ */
+@RequiredArgsConstructor
+public class RateLimitBanFilter extends OncePerRequestFilter {
+
+    private final RateLimitBanList rateLimitBanList;
+    private final ClientIpResolver clientIpResolver;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ObjectId userId = SecurityUtils.getCurrentUserIdOrNull();
+        String key = userId != null ? USER_KEY_PREFIX + userId : IP_KEY_PREFIX + clientIpResolver.resolve(request);
+        long remainingBanMillis = rateLimitBanList.getRemainingBanMillis(key);
+        if (remainingBanMillis > 0) {
+            RateLimitResponse.bannedResponse(response, remainingBanMillis);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
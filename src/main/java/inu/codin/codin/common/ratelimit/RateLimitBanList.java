@@ -0,0 +1,73 @@
+package inu.codin.codin.common.ratelimit;
+
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisRateLimitBanService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate Limit 차단 목록
+ * 요청마다 Redis를 조회하지 않도록 서버 메모리의 목록으로 O(1) 확인하고,
+ * 다른 서버에서 차단한 요청자는 주기적으로 Redis에서 가져와 반영 (최대 5초 지연)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitBanList {
+
+    private final RedisRateLimitBanService redisRateLimitBanService;
+    private final RedisHealthChecker redisHealthChecker;
+    private final RateLimitProperties rateLimitProperties;
+
+    // Key : 요청자 Key, Value : 차단 해제 시각(epoch millis)
+    private final Map<String, Long> bans = new ConcurrentHashMap<>();
+
+    /**
+     * @param key 요청자 Key (ip:{clientIp}, user:{userId})
+     * @return 차단 해제까지 남은 시간(ms), 차단되지 않았다면 0
+     */
+    public long getRemainingBanMillis(String key) {
+        Long expiresAt = bans.get(key);
+        if (expiresAt == null) return 0;
+        long remaining = expiresAt - System.currentTimeMillis();
+        return Math.max(remaining, 0);
+    }
+
+    /**
+     * 요청자를 ban-duration 동안 차단하고 다른 서버에 공유
+     */
+    public void ban(String key) {
+        long expiresAt = System.currentTimeMillis() + rateLimitProperties.getBanDuration().toMillis();
+        bans.put(key, expiresAt);
+        log.warn("[RateLimit] 요청자 차단 : key={}, duration={}", key, rateLimitProperties.getBanDuration());
+
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        try {
+            redisRateLimitBanService.ban(key, expiresAt, rateLimitProperties.getBanDuration());
+        } catch (Exception e) {
+            log.warn("[RateLimit] 차단 목록 저장 실패 : key={}, {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Redis의 차단 목록을 현재 목록에 병합하고 해제 시각이 지난 차단은 제거
+     * 목록을 교체하지 않으므로 조회 중에 현재 서버에서 추가한 차단이나 Redis에 저장하지 못한 차단도 유지됨
+     */
+    @Scheduled(fixedDelay = 5000) // 5초 마다 실행
+    public void refresh() {
+        if (rateLimitProperties.isEnabled() && redisHealthChecker.isRedisAvailable()) {
+            try {
+                redisRateLimitBanService.getBans().forEach((key, expiresAt) -> bans.merge(key, expiresAt, Math::max));
+            } catch (Exception e) {
+                log.warn("[RateLimit] 차단 목록 조회 실패 : {}", e.getMessage());
+            }
+        }
+        long now = System.currentTimeMillis();
+        bans.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
@@ -1,18 +1,16 @@
 package inu.codin.codin.common.ratelimit;
 
-import java.time.Duration;
-
 /**
- * @apiNote # BUCKET_CAPACITY : 토큰 버킷의 최대 용량
- *          # BUCKET_TOKEN : 토큰 버킷의 현재 토큰 개수
- *          # REFILL_DURATION : 토큰 버킷이 채워지는 주기
- *          # REQUEST_PER_COST : 요청당 필요한 토큰 개수
+ * @apiNote # REQUEST_PER_COST : 요청당 필요한 토큰 개수
+ *          # KEY_PREFIX : Redis에 저장되는 버킷 Key, rate-limit:{group}:{user|ip}:{id}
+ *          # USER_KEY_PREFIX, IP_KEY_PREFIX : 요청자 Key (버킷, 위반 횟수, 차단 목록에서 공통 사용)
+ *          그룹별 버킷 용량, 채워지는 주기는 RateLimitGroup, RateLimitProperties 참고
  */
 public class RateLimitBucketConstants {
 
-    public static final long BUCKET_CAPACITY = 10L;
-    public static final long BUCKET_TOKEN = 10L;
-    public static final Duration REFILL_DURATION = Duration.ofSeconds(1);
     public static final long REQUEST_PER_COST = 1L;
+    public static final String KEY_PREFIX = "rate-limit:";
+    public static final String USER_KEY_PREFIX = "user:";
+    public static final String IP_KEY_PREFIX = "ip:";
 
 }
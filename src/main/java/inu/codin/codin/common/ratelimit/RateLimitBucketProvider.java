@@ -0,0 +1,98 @@
+package inu.codin.codin.common.ratelimit;
+
+import inu.codin.codin.common.util.LocalCache;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static inu.codin.codin.common.ratelimit.RateLimitBucketConstants.KEY_PREFIX;
+import static inu.codin.codin.common.ratelimit.RateLimitBucketConstants.REQUEST_PER_COST;
+
+/**
+ * 그룹, 요청자별 토큰 버킷 조회 및 토큰 소비
+ * 1. rate-limit.redis=true : Redis에 저장된 버킷을 모든 서버가 공유 (Lettuce CAS), 버킷이 가득 찬 뒤 idle-timeout이 지나면 Key 만료
+ *    ProxyManager는 RedisTemplate과 별도의 연결을 사용하므로 RedisHealthChecker.execute로 감싸 Circuit Breaker에 실패, 지연 시간을 집계
+ * 2. Redis 모드가 아니거나 Redis 장애 시 : 서버 메모리 버킷 (최대 max-local-buckets개 LRU, 생성 후 idle-timeout이 지나면 제거)
+ */
+@Slf4j
+@Component
+public class RateLimitBucketProvider {
+
+    private final ProxyManager<byte[]> proxyManager;
+    private final RedisHealthChecker redisHealthChecker;
+    private final LocalCache<String, Bucket> localBuckets;
+    private final Map<RateLimitGroup, BucketConfiguration> configurations = new EnumMap<>(RateLimitGroup.class);
+
+    public RateLimitBucketProvider(RateLimitProperties properties,
+                                   ObjectProvider<ProxyManager<byte[]>> proxyManager,
+                                   RedisHealthChecker redisHealthChecker) {
+        this.proxyManager = proxyManager.getIfAvailable();
+        this.redisHealthChecker = redisHealthChecker;
+        this.localBuckets = new LocalCache<>(properties.getMaxLocalBuckets(), properties.getIdleTimeout().toMillis());
+        for (RateLimitGroup group : RateLimitGroup.values()) {
+            long capacity = properties.getCapacity(group);
+            configurations.put(group, BucketConfiguration.builder()
+                    .addLimit(Bandwidth.classic(capacity, Refill.intervally(capacity, properties.getRefillPeriod(group))))
+                    .build());
+        }
+    }
+
+    /**
+     * 요청 하나만큼 토큰 소비
+     * @param key 요청자 식별자 (user:{userId} 또는 ip:{clientIp})
+     */
+    public ConsumptionProbe tryConsume(RateLimitGroup group, String key) {
+        String bucketKey = KEY_PREFIX + group.name().toLowerCase() + ":" + key;
+        BucketConfiguration configuration = configurations.get(group);
+
+        if (proxyManager != null && redisHealthChecker.isRedisAvailable()) {
+            try {
+                return redisHealthChecker.execute(() -> tryConsumeRedis(bucketKey, configuration));
+            } catch (Exception e) {
+                log.warn("[RateLimit] Redis 버킷 조회 실패, 서버 메모리 버킷 사용 : key={}, {}", bucketKey, e.getMessage());
+            }
+        }
+        return localBuckets.get(bucketKey, k -> createLocalBucket(configuration))
+                .tryConsumeAndReturnRemaining(REQUEST_PER_COST);
+    }
+
+    /**
+     * Lettuce 예외는 Circuit Breaker가 집계하는 Spring 예외(연결 실패, 타임아웃)로 변환
+     */
+    private ConsumptionProbe tryConsumeRedis(String bucketKey, BucketConfiguration configuration) {
+        try {
+            return proxyManager.builder()
+                    .build(bucketKey.getBytes(StandardCharsets.UTF_8), configuration)
+                    .tryConsumeAndReturnRemaining(REQUEST_PER_COST);
+        } catch (RuntimeException e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof RedisCommandTimeoutException)
+                    throw new QueryTimeoutException(cause.getMessage(), cause);
+                if (cause instanceof RedisConnectionException)
+                    throw new DataAccessResourceFailureException(cause.getMessage(), cause);
+            }
+            throw e;
+        }
+    }
+
+    private static Bucket createLocalBucket(BucketConfiguration configuration) {
+        var builder = Bucket.builder();
+        for (Bandwidth bandwidth : configuration.getBandwidths()) builder.addLimit(bandwidth);
+        return builder.build();
+    }
+}
@@ -0,0 +1,26 @@
+package inu.codin.codin.common.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Rate Limit 적용 단위 (요청 그룹)
+ * 그룹마다 토큰 버킷을 따로 사용하며, 기본값은 rate-limit.plans.{group} 설정으로 변경 가능
+ * 요청은 AUTH, CHAT 경로를 먼저 확인하고, 나머지는 HTTP Method로 WRITE / READ 구분
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitGroup {
+
+    AUTH(10L, Duration.ofMinutes(1), List.of("/auth/**", "/email/**")),
+    CHAT(30L, Duration.ofSeconds(10), List.of("/chats/**", "/chatroom/**")),
+    WRITE(30L, Duration.ofMinutes(1), List.of()),
+    READ(10L, Duration.ofSeconds(1), List.of());
+
+    private final long defaultCapacity;
+    private final Duration defaultRefillPeriod;
+    private final List<String> defaultPaths;
+}
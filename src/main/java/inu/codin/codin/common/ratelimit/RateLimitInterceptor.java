@@ -1,66 +1,102 @@
 package inu.codin.codin.common.ratelimit;
 
 import inu.codin.codin.common.response.RateLimitResponse;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
+import inu.codin.codin.common.security.util.SecurityUtils;
 import io.github.bucket4j.ConsumptionProbe;
-import io.github.bucket4j.Refill;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
-import static inu.codin.codin.common.ratelimit.RateLimitBucketConstants.*;
+import static inu.codin.codin.common.ratelimit.RateLimitBucketConstants.IP_KEY_PREFIX;
+import static inu.codin.codin.common.ratelimit.RateLimitBucketConstants.USER_KEY_PREFIX;
 
 /**
  * Reference : https://velog.io/@whcksdud8/%ED%94%84%EB%A1%9C%EC%A0%9D%ED%8A%B8-Rate-limit-%ED%95%B8%EB%93%A4%EB%A7%81-%EB%B0%8F-%EB%AA%A8%EB%8B%88%ED%84%B0%EB%A7%81
+ *
+ * 요청 그룹(RateLimitGroup)과 요청자별로 토큰 버킷을 적용
+ * 요청자는 인증된 유저라면 userId, 아니라면 IP로 구분 (같은 NAT를 사용하는 유저끼리 버킷을 공유하지 않도록)
+ * 차단된 요청자는 같은 Key로 RateLimitBanFilter에서 먼저 거부
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RateLimitInterceptor implements HandlerInterceptor {
 
-    // todo : Redis로 변경
-    private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
+    private final RateLimitBucketProvider rateLimitBucketProvider;
     private final RateLimitService rateLimitService;
+    private final RateLimitProperties rateLimitProperties;
+    private final ClientIpResolver clientIpResolver;
+    private final Map<RateLimitGroup, List<PathPattern>> groupPaths = new EnumMap<>(RateLimitGroup.class);
+
+    public RateLimitInterceptor(RateLimitBucketProvider rateLimitBucketProvider, RateLimitService rateLimitService,
+                                RateLimitProperties rateLimitProperties, ClientIpResolver clientIpResolver) {
+        this.rateLimitBucketProvider = rateLimitBucketProvider;
+        this.rateLimitService = rateLimitService;
+        this.rateLimitProperties = rateLimitProperties;
+        this.clientIpResolver = clientIpResolver;
+        for (RateLimitGroup group : RateLimitGroup.values()) {
+            List<PathPattern> patterns = rateLimitProperties.getPaths(group).stream()
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            if (!patterns.isEmpty()) groupPaths.put(group, patterns);
+        }
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String clientIp = ClientIpUtil.getClientIp(request);
-        Bucket bucket = cache.computeIfAbsent(clientIp, key -> createNewBucket());
-        ConsumptionProbe consumptionProbe = bucket.tryConsumeAndReturnRemaining(REQUEST_PER_COST);
+        RateLimitGroup group = resolveGroup(request);
+        String clientIp = clientIpResolver.resolve(request);
+        ObjectId userId = SecurityUtils.getCurrentUserIdOrNull();
+        String key = userId != null ? USER_KEY_PREFIX + userId : IP_KEY_PREFIX + clientIp;
 
-        if (isRateLimitExceeded(request, response, clientIp, consumptionProbe)) {
+        ConsumptionProbe consumptionProbe = rateLimitBucketProvider.tryConsume(group, key);
+
+        if (isRateLimitExceeded(response, group, key, consumptionProbe)) {
             return false;
         }
         return true;
     }
 
-    private boolean isRateLimitExceeded(HttpServletRequest request, HttpServletResponse response, String clientIp, ConsumptionProbe consumptionProbe) {
+    /**
+     * AUTH, CHAT 등 경로가 지정된 그룹을 먼저 확인하고, 나머지는 조회(GET, HEAD, OPTIONS)라면 READ, 아니라면 WRITE
+     */
+    RateLimitGroup resolveGroup(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (Map.Entry<RateLimitGroup, List<PathPattern>> entry : groupPaths.entrySet()) {
+            for (PathPattern pattern : entry.getValue()) {
+                if (pattern.matches(path)) return entry.getKey();
+            }
+        }
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)) {
+            return RateLimitGroup.READ;
+        }
+        return RateLimitGroup.WRITE;
+    }
+
+    private boolean isRateLimitExceeded(HttpServletResponse response, RateLimitGroup group, String key, ConsumptionProbe consumptionProbe) {
+        long capacity = rateLimitProperties.getCapacity(group);
 
         if (consumptionProbe.isConsumed()) {
-            log.info("IP: {}, remaining tokens: {}", clientIp, consumptionProbe.getRemainingTokens());
-            RateLimitResponse.successResponse(response, consumptionProbe.getRemainingTokens(), BUCKET_CAPACITY, REFILL_DURATION);
+            log.debug("group: {}, key: {}, remaining tokens: {}", group, key, consumptionProbe.getRemainingTokens());
+            RateLimitResponse.successResponse(response, consumptionProbe.getRemainingTokens(), capacity, rateLimitProperties.getRefillPeriod(group));
             return false;
         } else {
-            log.warn("IP: {}, rate limit exceeded", clientIp);
-            RateLimitResponse.errorResponse(response, BUCKET_CAPACITY, REFILL_DURATION, 1);
-            rateLimitService.isLimitReachedThreshold(clientIp);
+            log.warn("group: {}, key: {}, rate limit exceeded", group, key);
+            RateLimitResponse.errorResponse(response, capacity, rateLimitProperties.getRefillPeriod(group),
+                    consumptionProbe.getNanosToWaitForRefill() / 1_000_000_000f);
+            rateLimitService.isLimitReachedThreshold(key);
             return true;
         }
     }
-
-    private Bucket createNewBucket() {
-        return Bucket.builder()
-                .addLimit(Bandwidth.classic(
-                        BUCKET_CAPACITY,
-                        Refill.intervally(BUCKET_TOKEN, REFILL_DURATION)
-                ))
-                .build();
-    }
 }
@@ -0,0 +1,64 @@
+package inu.codin.codin.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate Limit 설정
+ * - enabled : RateLimitInterceptor 등록 여부
+ * - redis : true라면 Redis에 버킷을 저장하여 모든 서버가 같은 버킷을 사용, false라면 서버별 메모리 버킷
+ * - idle-timeout : 버킷이 가득 찬 뒤 사용되지 않으면 제거되기까지의 시간
+ * - max-local-buckets : 서버 메모리에 보관하는 최대 버킷 수 (LRU)
+ * - violation-window, violation-threshold : violation-window 동안 Rate Limit을 violation-threshold번 넘으면 차단
+ * - ban-duration : 차단 시간
+ * - max-tracked-violators : 위반 횟수를 보관하는 최대 요청자 수 (LRU)
+ * - trusted-proxies : X-Forwarded-For를 덧붙이는 신뢰하는 Proxy 주소 혹은 CIDR (ClientIpResolver)
+ * - plans.{group} : 그룹별 버킷 용량(capacity), 채워지는 주기(refill-period), 적용 경로(paths)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = false;
+    private boolean redis = false;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private int maxLocalBuckets = 100_000;
+    private Duration violationWindow = Duration.ofHours(1);
+    private int violationThreshold = 10;
+    private Duration banDuration = Duration.ofHours(1);
+    private int maxTrackedViolators = 10_000;
+    private List<String> trustedProxies = List.of("127.0.0.0/8", "::1", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16");
+    private Map<RateLimitGroup, Plan> plans = new EnumMap<>(RateLimitGroup.class);
+
+    public long getCapacity(RateLimitGroup group) {
+        Plan plan = plans.get(group);
+        return plan != null && plan.getCapacity() != null ? plan.getCapacity() : group.getDefaultCapacity();
+    }
+
+    public Duration getRefillPeriod(RateLimitGroup group) {
+        Plan plan = plans.get(group);
+        return plan != null && plan.getRefillPeriod() != null ? plan.getRefillPeriod() : group.getDefaultRefillPeriod();
+    }
+
+    public List<String> getPaths(RateLimitGroup group) {
+        Plan plan = plans.get(group);
+        return plan != null && plan.getPaths() != null ? plan.getPaths() : group.getDefaultPaths();
+    }
+
+    @Getter
+    @Setter
+    public static class Plan {
+        private Long capacity;
+        private Duration refillPeriod;
+        private List<String> paths;
+    }
+}
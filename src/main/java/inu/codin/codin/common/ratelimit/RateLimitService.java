@@ -1,80 +1,78 @@
 package inu.codin.codin.common.ratelimit;
 
-import lombok.RequiredArgsConstructor;
+import inu.codin.codin.common.util.LocalCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-
+/**
+ * Rate Limit 위반 횟수 집계 및 반복 위반자 차단
+ * 요청자별 위반 횟수는 Sliding Window(직전 구간 + 현재 구간 가중 합)로 집계하고,
+ * 최대 max-tracked-violators명까지만 메모리에 보관 (LRU, 두 구간이 지나면 만료)
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class RateLimitService {
 
-    // IP 별로 요청 횟수를 저장하는 Map
-    private Map<String, RequestInfo> rateLimitErrorCounter = new ConcurrentHashMap<>();
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimitBanList rateLimitBanList;
+    private final long windowMillis;
 
-    public boolean isLimitReachedThreshold(String clientIp) {
-        RequestInfo requestInfo = rateLimitErrorCounter.computeIfAbsent(clientIp, key -> new RequestInfo());
-        if (!isApplyHandling(clientIp, requestInfo)) {
-            requestInfo.saveCount();
-            return false;
-        }
-        return true;
+    // 요청자 Key 별 위반 횟수
+    private final LocalCache<String, ViolationWindow> violations;
+
+    public RateLimitService(RateLimitProperties rateLimitProperties, RateLimitBanList rateLimitBanList) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.rateLimitBanList = rateLimitBanList;
+        this.windowMillis = rateLimitProperties.getViolationWindow().toMillis();
+        this.violations = new LocalCache<>(rateLimitProperties.getMaxTrackedViolators(), windowMillis * 2);
     }
 
-    private boolean isApplyHandling(String clientIp, RequestInfo requestInfo) {
-        if (requestInfo.isWithinTimeWindow()) {
-            int count = requestInfo.incrementCount();
-            log.info("IP: {}, remaining tokens: {}", clientIp, count);
-            checkAndResetIfLimitExceeded(clientIp, requestInfo, count);
+    /**
+     * Rate Limit 위반 기록, violation-window 동안 violation-threshold번 이상 위반하면 차단
+     * @param key 요청자 Key (ip:{clientIp}, user:{userId})
+     * @return 차단되었다면 true
+     */
+    public boolean isLimitReachedThreshold(String key) {
+        ViolationWindow window = violations.get(key, k -> new ViolationWindow(System.currentTimeMillis()));
+        int count = window.increment(System.currentTimeMillis(), windowMillis);
+        log.info("key: {}, rate limit violation count: {}", key, count);
+
+        if (count >= rateLimitProperties.getViolationThreshold()) {
+            log.warn("key: {}, rate limit exceeded, Count : {}", key, count);
+            violations.evict(key);
+            rateLimitBanList.ban(key);
             return true;
         }
         return false;
     }
 
-    private void checkAndResetIfLimitExceeded(String clientIp, RequestInfo requestInfo, int count) {
-        if (count >= 10) {
-            log.warn("IP: {}, rate limit exceeded, Count : {}", clientIp, count);
-            requestInfo.resetCount();
-            // todo : 지속적으로 rate limit을 넘는 IP Ban 처리 또는 계정 Ban 처리 필요.
-        }
-    }
-
-    private static class RequestInfo {
-        private AtomicInteger count = new AtomicInteger(0);
-        private LocalDateTime lastRequestTime;
+    /**
+     * 위반 횟수 Sliding Window
+     * 현재 구간의 횟수에 직전 구간의 횟수를 남은 비율만큼 더하여 근사
+     */
+    static class ViolationWindow {
+        private long windowStart;
+        private int previous;
+        private int current;
 
-        // 요청 횟수 증가
-        public int incrementCount() {
-            return this.count.incrementAndGet();
+        ViolationWindow(long now) {
+            this.windowStart = now;
         }
 
-        // 1시간 이내에 요청이 있는지 확인
-        public boolean isWithinTimeWindow() {
-            LocalDateTime now = LocalDateTime.now();
-            if (this.lastRequestTime == null || ChronoUnit.HOURS.between(this.lastRequestTime, now) >= 1) {
-                this.lastRequestTime = now;
-                return false;
+        synchronized int increment(long now, long windowMillis) {
+            long elapsed = now - windowStart;
+            if (elapsed >= windowMillis * 2) {
+                previous = 0;
+                current = 0;
+                windowStart = now;
+            } else if (elapsed >= windowMillis) {
+                previous = current;
+                current = 0;
+                windowStart += windowMillis;
             }
-            return true;
-        }
-
-        // 요청 횟수 초기화
-        public void saveCount() {
-            this.count.set(1);
-            lastRequestTime = LocalDateTime.now();
-        }
-
-        // 요청 횟수 초기화
-        public void resetCount() {
-            this.count.set(0);
-            lastRequestTime = LocalDateTime.now();
+            current++;
+            double previousWeight = 1 - (double) (now - windowStart) / windowMillis;
+            return (int) (previous * previousWeight) + current;
         }
     }
-
 }
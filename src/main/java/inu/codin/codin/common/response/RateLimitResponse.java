@@ -17,4 +17,9 @@ public class RateLimitResponse {
         response.setHeader("X-RateLimit-Limit", bucketCapacity + ";w=" + callsInSeconds.getSeconds());
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
     }
+
+    public static void bannedResponse(HttpServletResponse response, long remainingBanMillis) {
+        response.setHeader("Retry-After", Long.toString((remainingBanMillis + 999) / 1000));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
 }
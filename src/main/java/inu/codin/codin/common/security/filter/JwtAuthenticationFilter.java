@@ -1,72 +1,52 @@
 package inu.codin.codin.common.security.filter;
 
-import inu.codin.codin.common.dto.PermitAllProperties;
-import inu.codin.codin.common.dto.PublicApiProperties;
+import inu.codin.codin.common.security.filter.RequestPathClassifier.PathType;
 import inu.codin.codin.common.security.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 /**
  * JWT 토큰을 검증하여 인증하는 필터
+ * 요청 URI의 인증 유형은 RequestPathClassifier로 분류
  */
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final PermitAllProperties permitAllProperties;
-    private final PublicApiProperties publicApiProperties;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-
-    private final String [] SWAGGER_AUTH_PATHS = {
-            "/swagger-ui/**",
-            "/v3/api-docs/**",
-            "/v3/api-docs",
-            "/swagger-resources/**"
-    };
+    private final RequestPathClassifier requestPathClassifier;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        String requestURI = request.getRequestURI();
-
-        final boolean isPermitAll = permitAllProperties.getUrls().stream()
-                .anyMatch(url -> pathMatcher.match(url, requestURI));
+        PathType pathType = requestPathClassifier.classify(request.getRequestURI());
 
-        final boolean isPublicApi = publicApiProperties.getUrls().stream()
-                .anyMatch(url -> pathMatcher.match(url, requestURI));
-
-        if (isPermitAll) {
+        if (pathType == PathType.PERMIT_ALL) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String token = null;
-        if (Arrays.stream(SWAGGER_AUTH_PATHS).anyMatch(url -> pathMatcher.match(url, requestURI))) {
-            token = jwtService.getRefreshToken(request);
+        // 토큰은 한 번만 파싱하고, 검증된 Claims로 인증
+        Claims claims;
+        if (pathType == PathType.SWAGGER) {
+            claims = jwtService.getRefreshClaims(request);
         } else {
-            token = jwtService.getAccessToken(request);
+            claims = jwtService.getAccessClaims(request);
         }
 
         // Access Token이 있는 경우
-         if (StringUtils.hasText(token)) {
-            jwtService.getUserDetailsAndSetAuthentication(token);
+        if (claims != null) {
+            jwtService.setAuthentication(claims);
         } else {
+            // Access Token이 없는 경우, PUBLIC 요청은 인증 없이 진행하고 PROTECTED 요청은 Security 인가 단계에서 거부
             SecurityContextHolder.clearContext();
-
-             if (isPublicApi) {
-                 filterChain.doFilter(request, response);
-                 return;
-             }
         }
 
         filterChain.doFilter(request, response);
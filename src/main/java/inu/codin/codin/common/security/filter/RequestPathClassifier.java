@@ -0,0 +1,80 @@
+package inu.codin.codin.common.security.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 URI의 인증 유형 분류
+ * 서버 시작 시 permit-all, swagger, public-api 패턴을 PathPattern으로 한 번만 컴파일하고,
+ * 요청마다 우선순위 순서대로 한 번만 순회하여 분류 (PERMIT_ALL -> SWAGGER -> PUBLIC -> PROTECTED)
+ * 컴파일한 패턴은 생성 이후 변경하지 않으므로 요청 스레드 간 잠금 없이 매칭
+ * 요청 URI에는 ID 등 경로 변수가 포함되어 종류가 제한되지 않으므로 분류 결과는 캐싱하지 않음 (src/jmh RequestPathClassifierBenchmark 참고)
+ */
+@Slf4j
+public class RequestPathClassifier {
+
+    public enum PathType {
+        PERMIT_ALL, // 토큰 검사 없음
+        SWAGGER,    // Refresh Token으로 인증
+        PUBLIC,     // Access Token이 있을 때만 인증
+        PROTECTED   // Access Token으로 인증
+    }
+
+    public static final List<String> SWAGGER_AUTH_PATHS = List.of(
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/v3/api-docs",
+            "/swagger-resources/**"
+    );
+
+    private static final AntPathMatcher ANT_PATH_MATCHER = new AntPathMatcher();
+
+    private final List<CompiledPattern> patterns;
+
+    public RequestPathClassifier(List<String> permitAllUrls, List<String> publicApiUrls) {
+        List<CompiledPattern> compiled = new ArrayList<>();
+        compile(compiled, PathType.PERMIT_ALL, permitAllUrls);
+        compile(compiled, PathType.SWAGGER, SWAGGER_AUTH_PATHS);
+        compile(compiled, PathType.PUBLIC, publicApiUrls);
+        this.patterns = List.copyOf(compiled);
+    }
+
+    /**
+     * @return 요청 URI의 인증 유형, 어떤 패턴에도 해당하지 않으면 PROTECTED
+     */
+    public PathType classify(String requestURI) {
+        PathContainer path = PathContainer.parsePath(requestURI);
+        for (CompiledPattern pattern : patterns) {
+            if (pattern.matches(requestURI, path)) return pattern.type();
+        }
+        return PathType.PROTECTED;
+    }
+
+    private static void compile(List<CompiledPattern> patterns, PathType type, List<String> urls) {
+        if (urls == null) return;
+        for (String url : urls) {
+            try {
+                patterns.add(new CompiledPattern(type, PathPatternParser.defaultInstance.parse(url), url));
+            } catch (PatternParseException e) {
+                // PathPattern이 지원하지 않는 형식(중간의 ** 등)은 AntPathMatcher로 매칭
+                log.warn("[RequestPathClassifier] PathPattern으로 컴파일할 수 없는 패턴, AntPathMatcher 사용 : {}", url);
+                patterns.add(new CompiledPattern(type, null, url));
+            }
+        }
+    }
+
+    private record CompiledPattern(PathType type, PathPattern pathPattern, String antPattern) {
+
+        private boolean matches(String requestURI, PathContainer path) {
+            if (pathPattern != null) return pathPattern.matches(path);
+            return ANT_PATH_MATCHER.match(antPattern, requestURI);
+        }
+    }
+}
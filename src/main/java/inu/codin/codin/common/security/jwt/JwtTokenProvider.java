@@ -6,6 +6,7 @@ import inu.codin.codin.domain.user.security.CustomUserDetails;
 import inu.codin.codin.infra.redis.RedisStorageService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -41,14 +42,24 @@ public class JwtTokenProvider {
      * bytes[], String 키는 deprecated 되었기 때문에 Key 타입으로 변경
      */
     private Key SECRET_KEY;
+    private JwtParser parser;
+    private JwtParser validatingParser;
     private final RedisStorageService redisStorageService;
 
     /**
      * 양방향 대칭키 방식인 HS512로 사용
+     * Parser는 요청마다 생성하지 않고 재사용 (thread-safe)
      */
     @PostConstruct
     protected void init() {
         SECRET_KEY = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(SECRET_KEY)
+                .build();
+        validatingParser = Jwts.parserBuilder()
+                .setSigningKey(SECRET_KEY)
+                .setAllowedClockSkewSeconds(60)
+                .build();
     }
 
     public TokenDto createToken(Authentication authentication) {
@@ -110,13 +121,19 @@ public class JwtTokenProvider {
      * @return true: 유효한 토큰, false: 유효하지 않은 토큰
      */
     public boolean validateToken(String token) {
+        parseClaims(token);
+        return true;
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 유효성 검사 (토큰 변조, 만료) 후 Claims 반환
+     * 요청마다 서명 검증이 한 번만 일어나도록 반환된 Claims로 type, subject를 확인
+     * @param token
+     * @return 검증된 토큰의 Claims
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .setAllowedClockSkewSeconds(60)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return validatingParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) { // 토큰 만료
             log.error("[validateAccessToken] 토큰 만료 : {}", e.getMessage());
             throw new JwtException(SecurityErrorCode.EXPIRED_TOKEN, "access_token");
@@ -186,10 +203,6 @@ public class JwtTokenProvider {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 }
@@ -195,21 +195,24 @@ public class JwtService {
     }
 
     public void setAuthentication(HttpServletRequest request){
-        String accessToken = getAccessToken(request);
+        Claims claims = getAccessClaims(request);
 
         // Access Token이 있는 경우
-        if (accessToken != null) {
-            getUserDetailsAndSetAuthentication(accessToken);
+        if (claims != null) {
+            setAuthentication(claims);
         } else {
             SecurityContextHolder.clearContext();
             throw new MalformedJwtException("[Chatting] JWT를 찾을 수 없습니다.");
         }
     }
 
-    public void getUserDetailsAndSetAuthentication(String token) {
-        jwtTokenProvider.validateToken(token);
-        String email = jwtTokenProvider.getUsername(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+    /**
+     * 검증된 토큰의 유저로 인증
+     * 유저 정보는 짧은 시간 동안 Cache된 값을 사용 (CustomUserDetailsService.loadAuthenticatedUser)
+     * @param claims JwtTokenProvider.parseClaims로 검증된 Claims
+     */
+    public void setAuthentication(Claims claims) {
+        UserDetails userDetails = userDetailsService.loadAuthenticatedUser(claims.getSubject());
 
         // 토큰이 유효하고, SecurityContext에 Authentication 객체가 없는 경우
         if (userDetails != null) {
@@ -219,6 +222,40 @@ public class JwtService {
         }
     }
 
+    /**
+     * 요청의 Access Token을 한 번만 파싱하여 검증 (서명, 만료, type)
+     * @return 검증된 Claims, Access Token이 없다면 null
+     */
+    public Claims getAccessClaims(HttpServletRequest request) {
+        String accessToken = jwtUtils.getAccessToken(request);
+        if (!StringUtils.hasText(accessToken)) {
+            return null;
+        }
+        return getClaims(accessToken, "access");
+    }
+
+    /**
+     * 요청의 Refresh Token을 한 번만 파싱하여 검증 (서명, 만료, type)
+     * @return 검증된 Claims
+     */
+    public Claims getRefreshClaims(HttpServletRequest request) {
+        String refreshToken = jwtUtils.getRefreshToken(request);
+        if (!StringUtils.hasText(refreshToken)) {
+            log.error("[getRefreshClaims] Refresh Token이 없습니다.");
+            throw new JwtException(SecurityErrorCode.INVALID_TOKEN, "Refresh Token이 없습니다.");
+        }
+        return getClaims(refreshToken, "refresh");
+    }
+
+    private Claims getClaims(String token, String type) {
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        if (!type.equals(claims.get("type", String.class))) {
+            log.error("[getClaims] {} Token이 아닙니다.", type);
+            throw new JwtException(SecurityErrorCode.INVALID_TYPE, type + " Token이 아닙니다.");
+        }
+        return claims;
+    }
+
     public String getAccessToken(HttpServletRequest request) {
         String accessToken = jwtUtils.getAccessToken(request);
 
@@ -1,108 +1,148 @@
 package inu.codin.codin.common.stomp;
 
-import inu.codin.codin.common.exception.NotFoundException;
 import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
 import inu.codin.codin.domain.chat.chatroom.repository.ChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.service.ChatInboxService;
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
 import inu.codin.codin.domain.chat.chatting.dto.event.UpdateUnreadCountEvent;
-import inu.codin.codin.domain.chat.chatting.entity.Chatting;
-import inu.codin.codin.domain.chat.chatting.repository.ChattingRepository;
+import inu.codin.codin.domain.chat.chatting.repository.ChattingStore;
 import inu.codin.codin.domain.user.entity.UserEntity;
 import inu.codin.codin.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StompMessageService {
 
-    private final Map<String, String> sessionStore = new ConcurrentHashMap<>();
+    private static final int MAX_UNREAD_UPDATES = 300; // 입장 시 unread 값을 갱신하는 최근 채팅 수 상한
 
     private final ChatRoomRepository chatRoomRepository;
+    private final CustomChatRoomRepository customChatRoomRepository;
     private final UserRepository userRepository;
-    private final ChattingRepository chattingRepository;
+    private final ChattingStore chattingStore;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatInboxService chatInboxService;
+    private final StompPrincipalResolver stompPrincipalResolver;
     private final ApplicationEventPublisher eventPublisher;
 
     public void connectSession(StompHeaderAccessor headerAccessor) {
-        String sessionId = headerAccessor.getSessionId();
-        sessionStore.put(sessionId, "");
-        log.info("[STOMP CONNECT] session 연결 : {}", sessionId);
+        stompPrincipalResolver.register(headerAccessor.getUser());
+        log.info("[STOMP CONNECT] session 연결 : {}", headerAccessor.getSessionId());
     }
 
+    /*
+        채팅방 구독 시 접속 상태는 메모리(ChatPresenceService)에만 기록
+        마지막으로 읽은 이후 새 채팅이 있을 때만 읽음 위치를 갱신하므로 재접속이 반복되어도 채팅방 문서를 다시 쓰지 않음
+     */
     public void enterToChatRoom(StompHeaderAccessor headerAccessor){
         Result result = getResult(headerAccessor);
-        sessionStore.put(headerAccessor.getSessionId(), result.chatroom().get_id().toString());
-        log.info("[STOMP SUBSCRIBE] session : {}, chatRoomId : {} ", headerAccessor.getSessionId(), result.chatroom().get_id().toString());
-
-        List<Chatting> chattings = updateUnreadCount(result.chatroom.get_id(), result.user.get_id());
-        result.chatroom.getParticipants().enter(result.user.get_id());
-        chatRoomRepository.save(result.chatroom);
-        if (!chattings.isEmpty())
-            eventPublisher.publishEvent(new UpdateUnreadCountEvent(this, chattings, result.chatroom.get_id().toString()));
+        if (result == null) return;
+        ObjectId chatRoomId = result.chatroom().get_id();
+        ObjectId userId = result.userId();
+        ParticipantInfo participantInfo = result.chatroom().getParticipants().getInfo().get(userId);
+        if (participantInfo == null) return;
+
+        String subscriptionId = Objects.requireNonNullElse(headerAccessor.getSubscriptionId(), headerAccessor.getDestination());
+        chatPresenceService.join(headerAccessor.getSessionId(), subscriptionId, chatRoomId, userId);
+        log.info("[STOMP SUBSCRIBE] session : {}, chatRoomId : {} ", headerAccessor.getSessionId(), chatRoomId);
+
+        if (participantInfo.getLastReadSeq() >= result.chatroom().getLastSeq()) return;
+        ChatRoom chatRoom = customChatRoomRepository.enter(chatRoomId, userId);
+        if (chatRoom == null) return;
+        chatInboxService.markRead(chatRoomId, userId, chatRoom.getLastSeq());
+        Map<String, Integer> unreadCounts = updateUnreadCount(chatRoom, userId, participantInfo.getLastReadSeq());
+        if (!unreadCounts.isEmpty())
+            eventPublisher.publishEvent(new UpdateUnreadCountEvent(this, unreadCounts, chatRoom.get_id().toString()));
     }
 
     public void exitToChatRoom(StompHeaderAccessor headerAccessor) {
-        Result result = getResult(headerAccessor);
-        if (result == null) throw new NotFoundException("[exitToChatRoom] UNSUBSCRIBE 실패");
-        result.chatroom().getParticipants().exit(result.user().get_id());
-        chatRoomRepository.save(result.chatroom());
-        log.info("[STOMP UNSUBSCRIBE] session : {}, chatRoomId : {} ", headerAccessor.getSessionId(), result.chatroom().get_id().toString());
+        ObjectId chatRoomId = chatPresenceService.leave(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId());
+        if (chatRoomId == null) return; //채팅방이 아닌 구독의 해제
+        log.info("[STOMP UNSUBSCRIBE] session : {}, chatRoomId : {} ", headerAccessor.getSessionId(), chatRoomId);
     }
 
     public void disconnectSession(StompHeaderAccessor headerAccessor){
-        sessionStore.remove(headerAccessor.getSessionId());
+        chatPresenceService.disconnect(headerAccessor.getSessionId());
         log.info("[STOMP DISCONNECT] session : {} ", headerAccessor.getSessionId());
 
     }
 
+    /*
+        DISCONNECT 프레임 없이 연결이 끊긴 경우(네트워크 단절, 앱 종료)에도 접속 상태 정리
+     */
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        chatPresenceService.disconnect(event.getSessionId());
+    }
+
     private Result getResult(StompHeaderAccessor headerAccessor) {
-        String email = null;
-        if (headerAccessor.getUser() != null) email = headerAccessor.getUser().getName();
-        else log.error("헤더에서 유저를 찾을 수 없습니다. command : {}, sessionId : {}", headerAccessor.getCommand(), headerAccessor.getSessionId());
+        ObjectId userId = stompPrincipalResolver.register(headerAccessor.getUser());
+        if (userId == null) userId = findUserId(headerAccessor);
+        if (userId == null) return null;
 
         String chatroomId = headerAccessor.getFirstNativeHeader("chatRoomId");
         if (chatroomId == null || !ObjectId.isValid(chatroomId)) {
             log.error("chatRoomId을 찾을 수 없습니다. command : {}, sessionId : {}, chatRoomId : {}",
                     headerAccessor.getCommand(), headerAccessor.getSessionId(), chatroomId);
             return null;
-        } else {
-            Optional<ChatRoom> chatroom = chatRoomRepository.findById(new ObjectId(chatroomId));
-            if (chatroom.isEmpty()) log.error("채팅방을 찾을 수 없습니다. command : {}, sessionId : {}, chatroomId : {}",
+        }
+        Optional<ChatRoom> chatroom = chatRoomRepository.findById(new ObjectId(chatroomId));
+        if (chatroom.isEmpty()) {
+            log.error("채팅방을 찾을 수 없습니다. command : {}, sessionId : {}, chatroomId : {}",
                     headerAccessor.getCommand(), headerAccessor.getSessionId(), chatroomId);
-            Optional<UserEntity> user = userRepository.findByEmailAndStatusAll(email);
-            if (user.isEmpty()) log.error("유저를 찾을 수 없습니다. command : {}, sessionId : {}, email : {}",
-                                headerAccessor.getCommand(), headerAccessor.getSessionId(), email);
-            if (chatroom.isPresent() && user.isPresent())
-                return new Result(chatroom.get(), user.get());
+            return null;
         }
-        return null;
+        return new Result(chatroom.get(), userId);
     }
 
+    /*
+        인증 정보에 유저 _id가 없는 경우에만 email로 유저 조회
+     */
+    private ObjectId findUserId(StompHeaderAccessor headerAccessor) {
+        String email = null;
+        if (headerAccessor.getUser() != null) email = headerAccessor.getUser().getName();
+        else log.error("헤더에서 유저를 찾을 수 없습니다. command : {}, sessionId : {}", headerAccessor.getCommand(), headerAccessor.getSessionId());
 
-
-    private record Result(ChatRoom chatroom, UserEntity user) {
+        Optional<UserEntity> user = userRepository.findByEmailAndStatusAll(email);
+        if (user.isEmpty()) {
+            log.error("유저를 찾을 수 없습니다. command : {}, sessionId : {}, email : {}",
+                    headerAccessor.getCommand(), headerAccessor.getSessionId(), email);
+            return null;
+        }
+        return user.get().get_id();
     }
 
-    private List<Chatting> updateUnreadCount(ObjectId chatRoomId, ObjectId userId){
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(()-> new NotFoundException("채팅방을 찾을 수 없습니다."));
-        List<Chatting> chattings = chattingRepository.findAllByChatRoomIdOrderByCreatedAtDesc(chatRoomId)
-                .stream()
-                .limit(chatRoom.getParticipants().getInfo().get(userId).getUnreadMessage())
-                .map(chatting -> {
-                    chatting.minusUnread();
-                    return chattingRepository.save(chatting);
-                }).toList();
-        return chattings;
+    private record Result(ChatRoom chatroom, ObjectId userId) {
+    }
 
+    /**
+     * 입장으로 읽음 처리된 채팅의 unread 값 계산, 채팅 문서는 수정하지 않음
+     * 이전 읽음 위치 이후의 채팅만 조회하므로 채팅방의 전체 채팅 수와 관계없음
+     * @param previousReadSeq 입장 전 유저의 읽음 위치
+     * @return Key : 채팅 _id, Value : 채팅을 읽지 않은 참여자 수
+     */
+    private Map<String, Integer> updateUnreadCount(ChatRoom chatRoom, ObjectId userId, long previousReadSeq){
+        if (chatRoom.getLastSeq() <= previousReadSeq) return Map.of();
+
+        Map<String, Integer> unreadCounts = new LinkedHashMap<>();
+        chattingStore.findBySeqRange(chatRoom.get_id(), previousReadSeq, chatRoom.getLastSeq(), userId, MAX_UNREAD_UPDATES)
+                .forEach(chatting -> unreadCounts.put(chatting.get_id().toString(),
+                        chatRoom.getParticipants().countUnread(chatting.getSeq(), chatting.getSenderId())));
+        return unreadCounts;
     }
 }
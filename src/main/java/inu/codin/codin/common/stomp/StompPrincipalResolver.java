@@ -0,0 +1,50 @@
+package inu.codin.codin.common.stomp;
+
+import inu.codin.codin.common.util.LocalCache;
+import inu.codin.codin.domain.user.entity.UserEntity;
+import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.user.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 유저 destination(convertAndSendToUser)에 사용하는 principal 이름(email) Cache
+ * 웹소켓 연결 시 인증 정보로 미리 채워 두고, Cache miss 시에만 유저를 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class StompPrincipalResolver {
+
+    private static final int MAX_SIZE = 10_000;
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private final UserRepository userRepository;
+    private final LocalCache<ObjectId, String> principalNames = new LocalCache<>(MAX_SIZE, TTL_MILLIS);
+
+    /**
+     * 인증 정보에서 유저 _id 추출 후 principal 이름 Cache
+     * @return 유저 _id, 인증 정보가 없다면 null
+     */
+    public ObjectId register(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            principalNames.put(userDetails.getId(), principal.getName());
+            return userDetails.getId();
+        }
+        return null;
+    }
+
+    /**
+     * @return 유저의 principal 이름, 유저가 없다면 null
+     */
+    public String resolve(ObjectId userId) {
+        return principalNames.get(userId, id -> userRepository.findByUserId(id)
+                .map(UserEntity::getEmail)
+                .orElse(null));
+    }
+}
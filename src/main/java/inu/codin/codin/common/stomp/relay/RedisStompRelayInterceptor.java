@@ -0,0 +1,82 @@
+package inu.codin.codin.common.stomp.relay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * brokerChannel로 들어온 서버 발행 메세지를 Redis Pub/Sub으로 다른 서버에 전달
+ * 메세지는 현재 서버의 Simple Broker에도 그대로 전달되므로 각 서버는 자신에게 연결된 세션에만 fan-out
+ *
+ * 전달 대상
+ * - /queue/**, /topic/** : 모든 서버의 구독자에게 전달
+ * - /user/{principal}/** : 모든 서버가 각자의 세션 기준으로 유저 destination을 다시 해석 (세션이 없는 서버는 무시)
+ * 전달 제외
+ * - 이미 세션 destination으로 해석된 유저 메세지 (simpOrigDestination native 헤더), 다른 서버에서 전달받은 메세지
+ */
+@Slf4j
+public class RedisStompRelayInterceptor implements ChannelInterceptor {
+
+    public static final String RELAYED_HEADER = "relayed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final String nodeId;
+
+    public RedisStompRelayInterceptor(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                                      String channel, String nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel messageChannel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (!isRelayTarget(accessor)) return message;
+
+        byte[] payload = toBytes(message.getPayload());
+        if (payload == null) {
+            log.warn("[RedisStompRelay] 전달할 수 없는 payload 타입입니다. destination : {}, type : {}",
+                    accessor.getDestination(), message.getPayload().getClass().getSimpleName());
+            return message;
+        }
+        MimeType contentType = accessor.getContentType();
+        StompRelayMessage relayMessage = new StompRelayMessage(nodeId, accessor.getDestination(),
+                contentType != null ? contentType.toString() : null, payload);
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(relayMessage));
+        } catch (JsonProcessingException e) {
+            log.error("[RedisStompRelay] 메세지 직렬화 실패 : destination : {}, {}", accessor.getDestination(), e.getMessage());
+        } catch (Exception e) {
+            // Redis 장애 시에도 현재 서버의 구독자에게는 전달
+            log.warn("[RedisStompRelay] 메세지 발행 실패 : destination : {}, {}", accessor.getDestination(), e.getMessage());
+        }
+        return message;
+    }
+
+    private static boolean isRelayTarget(SimpMessageHeaderAccessor accessor) {
+        return SimpMessageType.MESSAGE.equals(accessor.getMessageType())
+                && accessor.getDestination() != null
+                // UserDestinationMessageHandler는 원래 destination을 native 헤더로 저장
+                && accessor.getFirstNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION) == null
+                && accessor.getHeader(RELAYED_HEADER) == null;
+    }
+
+    private static byte[] toBytes(Object payload) {
+        if (payload instanceof byte[] bytes) return bytes;
+        if (payload instanceof String text) return text.getBytes(StandardCharsets.UTF_8);
+        return null;
+    }
+}
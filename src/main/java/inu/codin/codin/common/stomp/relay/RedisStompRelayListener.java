@@ -0,0 +1,55 @@
+package inu.codin.codin.common.stomp.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * 다른 서버가 발행한 STOMP 메세지를 현재 서버의 brokerChannel로 전달
+ * 유저 destination(/user/**)은 현재 서버의 UserDestinationMessageHandler가 연결된 세션 기준으로 해석
+ */
+@Slf4j
+public class RedisStompRelayListener implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final Supplier<MessageChannel> brokerChannel;
+    private final String nodeId;
+
+    /**
+     * @param brokerChannel brokerChannel은 Relay 설정 이후에 생성되므로 메세지 수신 시점에 조회
+     */
+    public RedisStompRelayListener(ObjectMapper objectMapper, Supplier<MessageChannel> brokerChannel, String nodeId) {
+        this.objectMapper = objectMapper;
+        this.brokerChannel = brokerChannel;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        StompRelayMessage relayMessage;
+        try {
+            relayMessage = objectMapper.readValue(message.getBody(), StompRelayMessage.class);
+        } catch (Exception e) {
+            log.error("[RedisStompRelay] 메세지 역직렬화 실패 : {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(relayMessage.origin()) || relayMessage.destination() == null) return;
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(relayMessage.destination());
+        if (relayMessage.contentType() != null)
+            accessor.setContentType(MimeTypeUtils.parseMimeType(relayMessage.contentType()));
+        accessor.setHeader(RedisStompRelayInterceptor.RELAYED_HEADER, Boolean.TRUE);
+        accessor.setLeaveMutable(true);
+
+        brokerChannel.get().send(MessageBuilder.createMessage(relayMessage.payload(), accessor.getMessageHeaders()));
+    }
+}
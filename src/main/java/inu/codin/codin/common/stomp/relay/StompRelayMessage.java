@@ -0,0 +1,11 @@
+package inu.codin.codin.common.stomp.relay;
+
+/**
+ * Redis Pub/Sub으로 다른 서버에 전달하는 STOMP 메세지
+ * @param origin 메세지를 발행한 서버 ID, 발행한 서버는 다시 전달받지 않음
+ * @param destination 브로커 destination (/queue/**, /topic/**, /user/{principal}/**)
+ * @param contentType 메세지 content-type
+ * @param payload 변환이 끝난 메세지 본문
+ */
+public record StompRelayMessage(String origin, String destination, String contentType, byte[] payload) {
+}
@@ -0,0 +1,104 @@
+package inu.codin.codin.common.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 크기 제한과 만료 시간이 있는 메모리 Cache (LRU)
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거하고, 만료 시간이 지난 항목은 조회 시 제거
+ * 서버별 Cache이므로 여러 서버 간 일관성이 필요한 값은 변경 시 evict 하거나 짧은 만료 시간을 사용
+ * loader 실행 중 evict된 Key는 조회 결과를 저장하지 않아, evict 이전 상태로 조회한 값이 다시 저장되지 않도록 함
+ */
+public class LocalCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    // Key : 조회 중인 Key, Value : 조회 시작 시 발급한 Token, evict 시 제거되어 진행 중인 조회 결과를 무효화
+    private final Map<K, Object> loading = new HashMap<>();
+
+    /**
+     * @param maxSize 최대 항목 수
+     * @param ttlMillis 항목 만료 시간, 0 이하라면 만료되지 않음
+     */
+    public LocalCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LocalCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return Cache 값, 없거나 만료되었다면 null
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.isExpired()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        if (value == null) return;
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * Cache 값이 없다면 loader로 조회 후 저장, loader는 잠금 밖에서 실행되므로 동시 miss 시 중복 조회될 수 있음
+     * 동시 miss로 다른 스레드가 먼저 저장했다면 먼저 저장된 값을 반환하여 같은 Key의 값을 공유하고,
+     * 조회 중 evict 되었다면 조회 결과를 저장하지 않고 반환만 함
+     * @return Cache 값 또는 조회 결과, 조회 결과가 null이라면 저장하지 않음
+     */
+    public V get(K key, Function<K, V> loader) {
+        Object token;
+        synchronized (this) {
+            V cached = get(key);
+            if (cached != null) return cached;
+            token = loading.computeIfAbsent(key, k -> new Object());
+        }
+
+        V value = null;
+        try {
+            value = loader.apply(key);
+        } finally {
+            synchronized (this) {
+                V cached = get(key);
+                boolean current = loading.get(key) == token;
+                if (current) loading.remove(key);
+                if (cached != null) value = cached;
+                else if (current) put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public synchronized void evict(K key) {
+        entries.remove(key);
+        loading.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        loading.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -4,6 +4,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 public class NoticeCreateUpdateRequestDTO {
 
@@ -14,4 +17,7 @@ public class NoticeCreateUpdateRequestDTO {
     @Schema(description = "게시물 내용", example = "example content")
     @NotBlank
     private String content;
+
+    @Schema(description = "직접 업로드한 이미지 key (POST /images/presigned, purpose = NOTICE)", example = "[\"notice/111111/uuid.png\"]")
+    private List<String> imageKeys = new ArrayList<>();
 }
\ No newline at end of file
@@ -17,7 +17,9 @@ import inu.codin.codin.domain.scrap.service.ScrapService;
 import inu.codin.codin.domain.user.entity.UserEntity;
 import inu.codin.codin.domain.user.entity.UserRole;
 import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.infra.s3.S3PresignedUploadService;
 import inu.codin.codin.infra.s3.S3Service;
+import inu.codin.codin.infra.s3.UploadPurpose;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
@@ -27,6 +29,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +46,7 @@ public class NoticeService {
     private final ScrapService scrapService;
     private final HitsService hitsService;
     private final S3Service s3Service;
+    private final S3PresignedUploadService s3PresignedUploadService;
 
     /**
      * 공지사항 페이징 조회
@@ -80,11 +84,11 @@ public class NoticeService {
      * @return Map<String, String> 공지사항 ID를 포함한 응답
      */
     public Map<String, String> createNotice(NoticeCreateUpdateRequestDTO noticeCreateUpdateRequestDTO, List<MultipartFile> noticeImages) {
-        List<String> imageUrls = s3Service.handleImageUpload(noticeImages);
         ObjectId userId = SecurityUtils.getCurrentUserId();
 
         validateUserAndPost(userId);
         UserEntity user = getUserEntity(userId);
+        List<String> imageUrls = handleImageUpload(userId, noticeImages, noticeCreateUpdateRequestDTO.getImageKeys());
 
         validateDepartment(user.getDepartment());
         String prefixOfTitle = "[" + user.getDepartment().getAbbreviation() + "]"; //작성자의 학과에 따라 title의 prefix를 붙여줌
@@ -116,11 +120,20 @@ public class NoticeService {
 
         validateUserAndPost(post.getUserId());
 
-        List<String> imageUrls = s3Service.handleImageUpload(noticeImages);
+        List<String> imageUrls = handleImageUpload(SecurityUtils.getCurrentUserId(), noticeImages, noticeCreateUpdateRequestDTO.getImageKeys());
         post.updateNotice(noticeCreateUpdateRequestDTO.getTitle(), noticeCreateUpdateRequestDTO.getContent(), imageUrls);
         noticeRepository.save(post);
     }
 
+    /**
+     * 서버를 거쳐 업로드한 이미지와 직접 업로드한 이미지(key)의 URL
+     */
+    private List<String> handleImageUpload(ObjectId userId, List<MultipartFile> noticeImages, List<String> imageKeys) {
+        List<String> imageUrls = new ArrayList<>(s3Service.handleImageUpload(noticeImages));
+        imageUrls.addAll(s3PresignedUploadService.register(userId, UploadPurpose.NOTICE, imageKeys));
+        return imageUrls;
+    }
+
     private List<NoticeListResponseDto> getNoticeListResponse(List<PostEntity> content) {
         return content.stream().map(post -> {
                     UserEntity user = getUserEntity(post.getUserId());
@@ -4,6 +4,8 @@ import inu.codin.codin.common.response.ListResponse;
 import inu.codin.codin.common.response.SingleResponse;
 import inu.codin.codin.domain.chat.chatroom.dto.request.ChatRoomCreateRequestDto;
 import inu.codin.codin.domain.chat.chatroom.dto.response.ChatRoomListResponseDto;
+import inu.codin.codin.domain.chat.chatroom.dto.response.ChatRoomPageResponse;
+import inu.codin.codin.domain.chat.chatroom.service.ChatInboxService;
 import inu.codin.codin.domain.chat.chatroom.service.ChatRoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
+    private final ChatInboxService chatInboxService;
 
     @Operation(
             summary = "채팅방 생성"
@@ -40,6 +44,16 @@ public class ChatRoomController {
                 .body(new ListResponse<>(200, "채팅방 리스트 반환 완료", chatRoomService.getAllChatRoomByUser()));
     }
 
+    @Operation(
+            summary = "사용자가 나가지 않은 채팅방 커서 기반 조회",
+            description = "cursor : 첫 페이지는 빈 값, 이후 응답의 nextCursor 전달"
+    )
+    @GetMapping("/page")
+    public ResponseEntity<SingleResponse<ChatRoomPageResponse>> getChatRoomsByCursor(@RequestParam(value = "cursor", required = false) String cursor){
+        return ResponseEntity.ok()
+                .body(new SingleResponse<>(200, "채팅방 리스트 반환 완료", chatRoomService.getChatRoomsByCursor(cursor)));
+    }
+
     @Operation(
             summary = "채팅방 나가기"
     )
@@ -59,4 +73,14 @@ public class ChatRoomController {
         return ResponseEntity.ok()
                 .body(new SingleResponse<>(200, "채팅방 알림 여부 수정 완료", null));
     }
+
+    @Operation(
+            summary = "[ADMIN] 기존 채팅방으로 유저별 채팅방 목록(Inbox) 생성"
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/admin/inbox/migration")
+    public ResponseEntity<SingleResponse<?>> rebuildInbox(){
+        return ResponseEntity.ok()
+                .body(new SingleResponse<>(200, "채팅방 목록 Migration 완료", chatInboxService.rebuildAll()));
+    }
 }
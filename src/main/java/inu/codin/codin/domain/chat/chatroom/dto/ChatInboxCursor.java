@@ -0,0 +1,54 @@
+package inu.codin.codin.domain.chat.chatroom.dto;
+
+import inu.codin.codin.domain.chat.chatroom.entity.ChatInbox;
+import inu.codin.codin.domain.chat.exception.ChatRoomErrorCode;
+import inu.codin.codin.domain.chat.exception.ChatRoomException;
+import lombok.Getter;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 채팅방 목록 Keyset(Cursor) 페이지네이션용 커서
+ * (lastMessageAt, _id) 쌍을 Base64 URL-safe 문자열로 인코딩하여 클라이언트에는 불투명한 토큰으로 전달
+ */
+@Getter
+public class ChatInboxCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime lastMessageAt;
+    private final ObjectId id;
+
+    private ChatInboxCursor(LocalDateTime lastMessageAt, ObjectId id) {
+        this.lastMessageAt = lastMessageAt;
+        this.id = id;
+    }
+
+    public static ChatInboxCursor from(ChatInbox inbox) {
+        return new ChatInboxCursor(inbox.getLastMessageAt(), inbox.get_id());
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 토큰 해석
+     * @param token 커서 토큰, 비어있다면 첫 페이지
+     * @return ChatInboxCursor, 첫 페이지의 경우 null
+     */
+    public static ChatInboxCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            return new ChatInboxCursor(LocalDateTime.parse(parts[0]), new ObjectId(parts[1]));
+        } catch (RuntimeException e) {
+            throw new ChatRoomException(ChatRoomErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = lastMessageAt.toString() + DELIMITER + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
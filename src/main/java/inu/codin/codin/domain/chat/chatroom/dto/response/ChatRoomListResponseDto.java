@@ -1,6 +1,7 @@
 package inu.codin.codin.domain.chat.chatroom.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatInbox;
 import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
@@ -48,7 +49,17 @@ public class ChatRoomListResponseDto {
                 .roomName(chatRoom.getRoomName())
                 .lastMessage(chatRoom.getLastMessage()==null ? null : chatRoom.getLastMessage())
                 .currentMessageDate(chatRoom.getCurrentMessageDate()==null ? null : chatRoom.getCurrentMessageDate())
-                .unread(chatRoom.getParticipants().getInfo().get(userId).getUnreadMessage())
+                .unread(chatRoom.getUnread(userId))
+                .build();
+    }
+
+    public static ChatRoomListResponseDto of(ChatInbox inbox) {
+        return ChatRoomListResponseDto.builder()
+                .chatRoomId(inbox.getChatRoomId().toString())
+                .roomName(inbox.getRoomName())
+                .lastMessage(inbox.getLastMessage())
+                .currentMessageDate(inbox.getLastMessageAt())
+                .unread(inbox.getUnread())
                 .build();
     }
 }
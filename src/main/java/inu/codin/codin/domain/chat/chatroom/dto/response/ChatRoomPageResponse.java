@@ -0,0 +1,20 @@
+package inu.codin.codin.domain.chat.chatroom.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ChatRoomPageResponse {
+
+    private final List<ChatRoomListResponseDto> contents;
+
+    @Schema(description = "다음 페이지 조회용 커서, 마지막 페이지라면 null", nullable = true)
+    private final String nextCursor;
+
+    public ChatRoomPageResponse(List<ChatRoomListResponseDto> contents, String nextCursor) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,57 @@
+package inu.codin.codin.domain.chat.chatroom.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 유저별 채팅방 목록 (Inbox)
+ * 유저가 참여한 채팅방마다 문서 하나, 채팅 전송/채팅방 입장/나가기 시 부분 갱신
+ * 나간 채팅방은 삭제하지 않고 나간 시점의 채팅 번호(leftAtSeq)를 남겨 목록에서 숨김
+ * 채팅방 목록 조회 시 모든 채팅방을 읽어 정렬하지 않고 (userId, lastMessageAt desc) 인덱스 순서대로 조회
+ */
+@Getter
+@Document(collection = "chat_inbox")
+@CompoundIndexes({
+        @CompoundIndex(name = "user_chatroom_idx", def = "{'userId': 1, 'chatRoomId': 1}", unique = true),
+        @CompoundIndex(name = "user_last_message_idx", def = "{'userId': 1, 'lastMessageAt': -1, '_id': -1}")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatInbox {
+
+    @Id
+    private ObjectId _id;
+
+    private ObjectId userId;
+
+    private ObjectId chatRoomId;
+
+    private String roomName;
+
+    private List<ObjectId> partnerIds; // 상대 참여자, 차단 유저 필터링에 사용
+
+    private String lastMessage;
+
+    private LocalDateTime lastMessageAt;
+
+    private long lastSeq; // 채팅방의 마지막 채팅 번호
+
+    private long lastReadSeq; // 유저의 읽음 위치
+
+    private Long leftAtSeq; // 채팅방을 나간 시점의 채팅 번호, 이보다 큰 채팅이 도착하거나 다시 참여하기 전까지 목록에서 숨김
+
+    /**
+     * 유저가 읽지 않은 채팅 수 = 마지막 채팅 번호 - 유저의 읽음 위치
+     */
+    public int getUnread() {
+        return (int) Math.max(0, lastSeq - lastReadSeq);
+    }
+}
@@ -34,6 +34,8 @@ public class ChatRoom extends BaseTimeEntity {
 
     private LocalDateTime currentMessageDate;
 
+    private long lastSeq; // 마지막으로 발급된 채팅 번호
+
 
     @Builder
     public ChatRoom(String roomName, ObjectId referenceId, Participants participants, String lastMessage, LocalDateTime currentMessageDate) {
@@ -56,6 +58,15 @@ public class ChatRoom extends BaseTimeEntity {
                 .build();
     }
 
+    /**
+     * 유저가 읽지 않은 채팅 수 = 마지막 채팅 번호 - 유저의 읽음 위치
+     */
+    public int getUnread(ObjectId userId) {
+        ParticipantInfo participantInfo = participants.getInfo().get(userId);
+        if (participantInfo == null) return 0;
+        return (int) Math.max(0, lastSeq - participantInfo.getLastReadSeq());
+    }
+
     public void updateLastMessage(String message){
         this.lastMessage = message;
         this.currentMessageDate = LocalDateTime.now();
@@ -13,18 +13,16 @@ import java.time.LocalDateTime;
 public class ParticipantInfo extends BaseTimeEntity {
 
     private ObjectId userId;
-    private boolean isConnected = false;
-    private int unreadMessage = 0;
+    private long lastReadSeq = 0; // 마지막으로 읽은 채팅 번호
 
     private boolean isLeaved = false;
     private LocalDateTime whenLeaved;
     private boolean notificationsEnabled = true;
 
     @Builder
-    public ParticipantInfo(ObjectId userId, boolean isConnected, int unreadMessage, boolean notificationsEnabled, boolean isLeaved, LocalDateTime whenLeaved) {
+    public ParticipantInfo(ObjectId userId, long lastReadSeq, boolean notificationsEnabled, boolean isLeaved, LocalDateTime whenLeaved) {
         this.userId = userId;
-        this.isConnected = isConnected;
-        this.unreadMessage = unreadMessage;
+        this.lastReadSeq = lastReadSeq;
         this.notificationsEnabled = notificationsEnabled;
         this.isLeaved = isLeaved;
         this.whenLeaved = whenLeaved;
@@ -37,29 +35,13 @@ public class ParticipantInfo extends BaseTimeEntity {
     public static ParticipantInfo enter(ObjectId userId){
         return ParticipantInfo.builder()
                 .userId(userId)
-                .isConnected(false)
-                .unreadMessage(0)
+                .lastReadSeq(0)
                 .isLeaved(false)
                 .whenLeaved(null)
                 .notificationsEnabled(true)
                 .build();
     }
 
-    public void plusUnread(){
-        this.unreadMessage++;
-    }
-
-    public void connect(){
-        this.isConnected = true;
-        this.unreadMessage = 0;
-    }
-
-    public void disconnect(){
-        this.isConnected = false;
-        this.unreadMessage = 0;
-        setUpdatedAt();
-    }
-
     public void leave(){
         this.isLeaved = true;
         this.whenLeaved = LocalDateTime.now();
@@ -17,32 +17,15 @@ public class Participants {
         info.put(memberId, ParticipantInfo.enter(memberId));
     }
 
-    public boolean getMessage(ObjectId receiver) {
-        ParticipantInfo member;
-        if((member=info.get(receiver))==null) {
-            return false;
-        }
-        member.plusUnread();
-        return true;
-    }
-
-    public void enter(ObjectId memberId){
-        ParticipantInfo participantInfo;
-        if ((participantInfo = info.get(memberId))==null) {
-            return;
-        }
-
-        participantInfo.connect();
-        info.put(memberId, participantInfo);
-    }
-
-    public void exit(ObjectId memberId) {
-        ParticipantInfo participantInfo;
-        if ((participantInfo = info.get(memberId))==null) {
-            return;
-        }
-
-        participantInfo.disconnect();
-        info.put(memberId, participantInfo);
+    /**
+     * 채팅을 아직 읽지 않은 참여자 수, 송신자를 제외하고 읽음 위치가 채팅 번호보다 앞선 참여자를 셈
+     * @param seq 채팅 번호
+     * @param senderId 채팅 송신자 _id
+     */
+    public int countUnread(long seq, ObjectId senderId) {
+        return (int) info.values().stream()
+                .filter(participantInfo -> !participantInfo.getUserId().equals(senderId))
+                .filter(participantInfo -> participantInfo.getLastReadSeq() < seq)
+                .count();
     }
 }
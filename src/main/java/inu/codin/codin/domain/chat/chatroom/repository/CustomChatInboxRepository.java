@@ -0,0 +1,153 @@
+package inu.codin.codin.domain.chat.chatroom.repository;
+
+import inu.codin.codin.domain.chat.chatroom.dto.ChatInboxCursor;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatInbox;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 유저별 채팅방 목록(Inbox) 갱신 및 Keyset(Cursor) 페이지네이션 조회 Repository
+ * 채팅 전송은 여러 서버에서 동시에 반영되므로 채팅 번호(lastSeq)가 더 큰 경우에만 마지막 채팅을 덮어씀
+ */
+@Repository
+public class CustomChatInboxRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomChatInboxRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 채팅방의 현재 상태를 유저들의 Inbox에 반영, Inbox가 없다면 생성
+     * 1. (유저, 채팅방) Inbox upsert, 읽음 위치는 더 큰 값으로만 이동
+     * 2. Inbox의 채팅 번호가 채팅방보다 작거나 없을 때만 마지막 채팅, 시각, 채팅 번호 갱신
+     * 3. 나간 채팅방이라면 나간 뒤의 채팅(leftAtSeq보다 큰 채팅 번호)이거나 다시 참여한 경우에만 목록에 다시 표시
+     *    나가기 전에 만들어진 채팅방 상태가 나가기 이후 비동기로 반영되어도 다시 나타나지 않음
+     * @param chatRoom 갱신된 채팅방 (채팅 번호, 마지막 채팅, 참여자별 읽음 위치)
+     * @param userIds Inbox를 갱신할 유저, 채팅방 참여자가 아니라면 무시
+     * @param rejoin 다시 참여한 유저라면 true, 나간 시점과 관계없이 목록에 다시 표시
+     */
+    public void apply(ChatRoom chatRoom, Collection<ObjectId> userIds, boolean rejoin) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ChatInbox.class);
+        LocalDateTime lastMessageAt = Objects.requireNonNullElse(chatRoom.getCurrentMessageDate(), chatRoom.getCreatedAt());
+        int operations = 0;
+        for (ObjectId userId : userIds) {
+            ParticipantInfo participantInfo = chatRoom.getParticipants().getInfo().get(userId);
+            if (participantInfo == null) continue;
+            List<ObjectId> partnerIds = chatRoom.getParticipants().getInfo().keySet().stream()
+                    .filter(participantId -> !participantId.equals(userId))
+                    .toList();
+
+            bulkOps.upsert(inboxOf(userId, chatRoom.get_id()), new Update()
+                    .setOnInsert("roomName", chatRoom.getRoomName())
+                    .setOnInsert("partnerIds", partnerIds)
+                    .setOnInsert("lastSeq", -1L)
+                    .max("lastReadSeq", participantInfo.getLastReadSeq()));
+            bulkOps.updateOne(new Query(Criteria.where("userId").is(userId)
+                            .and("chatRoomId").is(chatRoom.get_id())
+                            .and("lastSeq").not().gte(chatRoom.getLastSeq())),
+                    new Update()
+                            .set("lastSeq", chatRoom.getLastSeq())
+                            .set("lastMessage", chatRoom.getLastMessage())
+                            .set("lastMessageAt", lastMessageAt));
+            Criteria left = Criteria.where("userId").is(userId).and("chatRoomId").is(chatRoom.get_id());
+            left = rejoin ? left.and("leftAtSeq").exists(true) : left.and("leftAtSeq").lt(chatRoom.getLastSeq());
+            bulkOps.updateOne(new Query(left), new Update()
+                    .set("roomName", chatRoom.getRoomName())
+                    .set("partnerIds", partnerIds)
+                    .unset("leftAtSeq"));
+            operations++;
+        }
+        if (operations > 0) bulkOps.execute();
+    }
+
+    /**
+     * 읽음 위치를 더 큰 값으로만 이동
+     */
+    public void markRead(ObjectId chatRoomId, ObjectId userId, long lastReadSeq) {
+        mongoTemplate.updateFirst(inboxOf(userId, chatRoomId), new Update().max("lastReadSeq", lastReadSeq), ChatInbox.class);
+    }
+
+    /**
+     * 채팅방 나가기, Inbox를 삭제하지 않고 나간 시점의 채팅 번호를 남겨 목록에서 숨김
+     * Inbox가 없더라도 기록하여 나가기 전의 채팅방 상태로 다시 생성되지 않도록 함
+     * 새로 생성된 Inbox는 apply에서 생성한 Inbox와 같은 기본값을 가져 이후 채팅이 반영됨
+     */
+    public void hide(ObjectId chatRoomId, ObjectId userId, long leftAtSeq) {
+        mongoTemplate.upsert(inboxOf(userId, chatRoomId), new Update()
+                .max("leftAtSeq", leftAtSeq)
+                .setOnInsert("lastSeq", -1L)
+                .setOnInsert("lastReadSeq", 0L), ChatInbox.class);
+    }
+
+    /**
+     * 삭제되지 않은 모든 채팅방으로 Inbox 생성 (기존 채팅방 Migration)
+     * 이미 Inbox가 있다면 더 최신 상태일 때만 갱신하므로 여러 번 실행해도 안전
+     * @param participantIds 채팅방에서 Inbox를 만들 유저
+     * @return [반영한 채팅방 수, Inbox 수]
+     */
+    public long[] rebuildAll(Function<ChatRoom, List<ObjectId>> participantIds) {
+        long chatRooms = 0;
+        long inboxes = 0;
+        try (Stream<ChatRoom> stream = mongoTemplate.stream(new Query(Criteria.where("deletedAt").is(null)), ChatRoom.class)) {
+            Iterator<ChatRoom> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                ChatRoom chatRoom = iterator.next();
+                List<ObjectId> userIds = participantIds.apply(chatRoom);
+                apply(chatRoom, userIds, false);
+                chatRooms++;
+                inboxes += userIds.size();
+            }
+        }
+        return new long[]{chatRooms, inboxes};
+    }
+
+    /**
+     * 커서 이후의 Inbox를 (lastMessageAt desc, _id desc) 순으로 size+1개 조회하여 다음 페이지 존재 여부 판단
+     * @param blockedUsersId 차단한 유저, 차단한 유저와의 채팅방은 제외
+     * @param size 조회 개수, 0 이하라면 전체 조회
+     */
+    public Slice<ChatInbox> findSlice(ObjectId userId, List<ObjectId> blockedUsersId, ChatInboxCursor cursor, int size) {
+        Criteria criteria = Criteria.where("userId").is(userId).and("leftAtSeq").exists(false);
+        if (!blockedUsersId.isEmpty()) criteria.and("partnerIds").nin(blockedUsersId);
+        if (cursor != null) {
+            Criteria afterCursor = new Criteria().orOperator(
+                    Criteria.where("lastMessageAt").lt(cursor.getLastMessageAt()),
+                    Criteria.where("lastMessageAt").is(cursor.getLastMessageAt()).and("_id").lt(cursor.getId())
+            );
+            criteria = new Criteria().andOperator(criteria, afterCursor);
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.DESC, "lastMessageAt", "_id"));
+        if (size > 0) query.limit(size + 1);
+
+        List<ChatInbox> inboxes = new ArrayList<>(mongoTemplate.find(query, ChatInbox.class));
+        boolean hasNext = size > 0 && inboxes.size() > size;
+        if (hasNext) inboxes.remove(size);
+        return new SliceImpl<>(inboxes, PageRequest.of(0, Math.max(size, 1)), hasNext);
+    }
+
+    private static Query inboxOf(ObjectId userId, ObjectId chatRoomId) {
+        return new Query(Criteria.where("userId").is(userId).and("chatRoomId").is(chatRoomId));
+    }
+}
@@ -0,0 +1,162 @@
+package inu.codin.codin.domain.chat.chatroom.repository;
+
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.aggregation.LiteralOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방 부분 갱신 Repository
+ * 채팅 번호(lastSeq)와 참여자별 읽음 위치(lastReadSeq)는 동시에 갱신되므로 채팅방 전체를 save하지 않고 필요한 필드만 갱신
+ */
+@Repository
+public class CustomChatRoomRepository {
+
+    private static final String INFO = "participants.info.";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomChatRoomRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 채팅 번호 발급과 채팅방 갱신을 한 번의 원자적 연산으로 처리
+     * 1. lastSeq 1 증가 (채팅 번호 발급)
+     * 2. 마지막 채팅 내용, 시각 갱신 ($로 시작하는 채팅이 필드 경로로 해석되지 않도록 literal로 저장)
+     * 3. 송신자 및 채팅방에 접속 중인 참여자의 lastReadSeq를 발급된 번호로 이동
+     * 4. 채팅방을 나간 참여자를 다시 참여 상태로 변경
+     * @param senderId 송신자, 채팅방 참여자가 아니라면 갱신하지 않음
+     * @param readerIds 채팅을 바로 읽는 참여자 (송신자, 접속 중인 참여자)
+     * @param rejoinIds 다시 참여 상태로 변경할 참여자
+     * @return 갱신된 채팅방, 채팅방이 없거나 송신자가 참여자가 아니라면 null
+     */
+    public ChatRoom appendMessage(ObjectId chatRoomId, ObjectId senderId, String lastMessage, Collection<ObjectId> readerIds, Collection<ObjectId> rejoinIds) {
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("lastSeq").toValue(ArithmeticOperators.valueOf(ConditionalOperators.ifNull("lastSeq").then(0)).add(1))
+                .set("lastMessage").toValue(LiteralOperators.Literal.asLiteral(lastMessage))
+                .set("currentMessageDate").toValue(new Date());
+        readerIds.forEach(readerId -> update.set(INFO + readerId + ".lastReadSeq").toValue(Fields.field("lastSeq")));
+        rejoinIds.forEach(rejoinId -> update.set(INFO + rejoinId + ".isLeaved").toValue(false));
+
+        return mongoTemplate.findAndModify(participantOf(chatRoomId, senderId), update,
+                FindAndModifyOptions.options().returnNew(true), ChatRoom.class);
+    }
+
+    /**
+     * 채팅방 입장, 읽음 위치를 마지막 채팅 번호로 이동
+     * 접속 상태는 저장하지 않음 (ChatPresenceService)
+     * @return 갱신된 채팅방, 채팅방이 없거나 참여자가 아니라면 null
+     */
+    public ChatRoom enter(ObjectId chatRoomId, ObjectId userId) {
+        AggregationUpdate update = AggregationUpdate.update()
+                .set(INFO + userId + ".lastReadSeq").toValue(ConditionalOperators.ifNull("lastSeq").then(0));
+
+        return mongoTemplate.findAndModify(participantOf(chatRoomId, userId), update,
+                FindAndModifyOptions.options().returnNew(true), ChatRoom.class);
+    }
+
+    /**
+     * 나간 채팅방에 다시 참여
+     */
+    public void rejoin(ObjectId chatRoomId, ObjectId userId) {
+        mongoTemplate.updateFirst(participantOf(chatRoomId, userId),
+                new Update().set(INFO + userId + ".isLeaved", false), ChatRoom.class);
+    }
+
+    /**
+     * 채팅방 나가기, 모든 참여자가 나갔다면 채팅방 삭제
+     * @return 갱신된 채팅방, 채팅방이 없거나 참여자가 아니라면 null
+     */
+    public ChatRoom leave(ObjectId chatRoomId, ObjectId userId) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .set(INFO + userId + ".isLeaved", true)
+                .set(INFO + userId + ".whenLeaved", now)
+                .set(INFO + userId + ".updated_at", now);
+        ChatRoom chatRoom = mongoTemplate.findAndModify(participantOf(chatRoomId, userId), update,
+                FindAndModifyOptions.options().returnNew(true), ChatRoom.class);
+
+        if (chatRoom != null && chatRoom.getParticipants().getInfo().values().stream().allMatch(ParticipantInfo::isLeaved)) {
+            mongoTemplate.updateFirst(activeRoom(chatRoomId), new Update().set("deletedAt", now), ChatRoom.class);
+            chatRoom.delete();
+        }
+        return chatRoom;
+    }
+
+    /**
+     * 채팅방 알림 설정 변경
+     */
+    public void updateNotification(ObjectId chatRoomId, ObjectId userId, boolean notificationsEnabled) {
+        mongoTemplate.updateFirst(participantOf(chatRoomId, userId),
+                new Update().set(INFO + userId + ".notificationsEnabled", notificationsEnabled), ChatRoom.class);
+    }
+
+    /**
+     * 읽음 위치 도입 전 채팅방의 안 읽은 채팅 수(unreadMessage)를 채팅 번호와 읽음 위치로 옮김
+     * lastSeq = 참여자 unreadMessage 중 최댓값, 참여자 lastReadSeq = lastSeq - unreadMessage
+     * lastSeq가 없는 채팅방만 갱신하므로 여러 번 실행해도 결과가 같고, 그 사이 채팅이 전송된 채팅방은 덮어쓰지 않음
+     * @return 갱신한 채팅방 수
+     */
+    public long seedReadCursors() {
+        Query query = new Query(Criteria.where("lastSeq").exists(false).and("deletedAt").is(null));
+        query.fields().include("participants.info");
+
+        long seeded = 0;
+        try (Stream<Document> chatRooms = mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(ChatRoom.class))) {
+            Iterator<Document> iterator = chatRooms.iterator();
+            while (iterator.hasNext()) {
+                Document chatRoom = iterator.next();
+                Document participants = chatRoom.get("participants", Document.class);
+                Document info = participants == null ? null : participants.get("info", Document.class);
+                if (info == null) continue;
+
+                long lastSeq = info.values().stream()
+                        .mapToLong(CustomChatRoomRepository::unreadMessageOf)
+                        .max().orElse(0);
+                Update update = new Update().set("lastSeq", lastSeq);
+                info.forEach((userId, participantInfo) ->
+                        update.set(INFO + userId + ".lastReadSeq", lastSeq - unreadMessageOf(participantInfo)));
+
+                seeded += mongoTemplate.updateFirst(
+                        new Query(Criteria.where("_id").is(chatRoom.get("_id")).and("lastSeq").exists(false)),
+                        update, ChatRoom.class).getModifiedCount();
+            }
+        }
+        return seeded;
+    }
+
+    private static long unreadMessageOf(Object participantInfo) {
+        if (participantInfo instanceof Document document && document.get("unreadMessage") instanceof Number unreadMessage) {
+            return Math.max(0, unreadMessage.longValue());
+        }
+        return 0;
+    }
+
+    private static Query activeRoom(ObjectId chatRoomId) {
+        return new Query(Criteria.where("_id").is(chatRoomId).and("deletedAt").is(null));
+    }
+
+    private static Query participantOf(ObjectId chatRoomId, ObjectId userId) {
+        return new Query(Criteria.where("_id").is(chatRoomId)
+                .and("deletedAt").is(null)
+                .and(INFO + userId + ".userId").is(userId));
+    }
+}
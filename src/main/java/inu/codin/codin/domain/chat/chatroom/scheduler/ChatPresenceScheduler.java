@@ -0,0 +1,21 @@
+package inu.codin.codin.domain.chat.chatroom.scheduler;
+
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    현재 서버의 채팅방 접속 상태 만료 시각 연장 (만료 시간 60초)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceScheduler {
+
+    private final ChatPresenceService chatPresenceService;
+
+    @Scheduled(fixedRate = 20000) // 20초 마다 실행
+    public void refreshPresence() {
+        chatPresenceService.refreshRemote();
+    }
+}
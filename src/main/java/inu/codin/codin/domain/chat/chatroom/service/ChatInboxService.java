@@ -0,0 +1,110 @@
+package inu.codin.codin.domain.chat.chatroom.service;
+
+import inu.codin.codin.common.config.AsyncConfig;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatInboxRepository;
+import inu.codin.codin.domain.chat.chatting.dto.event.ChattingArrivedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저별 채팅방 목록(Inbox) 갱신 Service
+ * 채팅방 생성/재참여, 채팅 전송, 채팅방 입장, 나가기 시 해당 유저의 Inbox만 부분 갱신
+ * Inbox 갱신이 실패해도 채팅방과 채팅은 이미 저장되었으므로 요청은 실패시키지 않고, 다음 채팅 전송 시 다시 반영됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatInboxService {
+
+    private final CustomChatInboxRepository customChatInboxRepository;
+
+    /**
+     * 채팅방의 현재 상태를 유저들의 Inbox에 반영 (채팅방 생성, 채팅 전송)
+     * 나간 채팅방은 나간 이후의 채팅이 반영될 때만 다시 표시
+     */
+    public void sync(ChatRoom chatRoom, Collection<ObjectId> userIds) {
+        apply(chatRoom, userIds, false);
+    }
+
+    /**
+     * 나간 채팅방에 다시 참여한 유저의 Inbox를 다시 표시
+     */
+    public void rejoin(ChatRoom chatRoom, Collection<ObjectId> userIds) {
+        apply(chatRoom, userIds, true);
+    }
+
+    private void apply(ChatRoom chatRoom, Collection<ObjectId> userIds, boolean rejoin) {
+        try {
+            customChatInboxRepository.apply(chatRoom, userIds, rejoin);
+        } catch (Exception e) {
+            log.warn("[Inbox 갱신 실패] 채팅방 ID: {}, 유저 ID: {}, {}", chatRoom.get_id(), userIds, e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅 전송 시 채팅방에 남아있는 참여자의 Inbox에 마지막 채팅 반영
+     * 채팅 번호가 더 큰 경우에만 덮어쓰므로 비동기로 순서가 바뀌어 처리되어도 최신 채팅이 남음
+     */
+    @Async(AsyncConfig.CHAT_EXECUTOR)
+    @EventListener
+    public void handleChattingArrivedEvent(ChattingArrivedEvent event) {
+        ChatRoom chatRoom = event.getChatRoom();
+        sync(chatRoom, activeParticipantIds(chatRoom));
+    }
+
+    /**
+     * 채팅방 입장 시 읽음 위치 반영
+     */
+    public void markRead(ObjectId chatRoomId, ObjectId userId, long lastReadSeq) {
+        try {
+            customChatInboxRepository.markRead(chatRoomId, userId, lastReadSeq);
+        } catch (Exception e) {
+            log.warn("[Inbox 읽음 갱신 실패] 채팅방 ID: {}, 유저 ID: {}, {}", chatRoomId, userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅방 나가기 시 유저의 Inbox 숨김
+     * @param leftAtSeq 나간 시점의 채팅 번호, 이 번호까지의 채팅방 상태로는 다시 표시하지 않음
+     */
+    public void remove(ObjectId chatRoomId, ObjectId userId, long leftAtSeq) {
+        try {
+            customChatInboxRepository.hide(chatRoomId, userId, leftAtSeq);
+        } catch (Exception e) {
+            log.warn("[Inbox 삭제 실패] 채팅방 ID: {}, 유저 ID: {}, {}", chatRoomId, userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제되지 않은 모든 채팅방으로 Inbox 생성 (기존 채팅방 Migration)
+     * 이미 Inbox가 있다면 더 최신 상태일 때만 갱신하므로 여러 번 실행해도 안전
+     * @return 반영한 채팅방 수, Inbox 수
+     */
+    public Map<String, Long> rebuildAll() {
+        long[] result = customChatInboxRepository.rebuildAll(ChatInboxService::activeParticipantIds);
+        log.info("[Inbox Migration 완료] 채팅방 수: {}, Inbox 수: {}", result[0], result[1]);
+
+        Map<String, Long> response = new LinkedHashMap<>();
+        response.put("chatRooms", result[0]);
+        response.put("inboxes", result[1]);
+        return response;
+    }
+
+    private static List<ObjectId> activeParticipantIds(ChatRoom chatRoom) {
+        return chatRoom.getParticipants().getInfo().values().stream()
+                .filter(participantInfo -> !participantInfo.isLeaved())
+                .map(ParticipantInfo::getUserId)
+                .toList();
+    }
+}
@@ -0,0 +1,146 @@
+package inu.codin.codin.domain.chat.chatroom.service;
+
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisPresenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 접속 상태(Presence) 관리 Service
+ * 접속 여부를 채팅방 문서에 저장하지 않고, STOMP 세션 단위로 메모리에서 관리
+ * 같은 유저가 여러 세션(기기) 또는 여러 구독으로 접속해도 (채팅방, 유저) 별 구독 수를 세어 마지막 구독이 끊길 때만 퇴장 처리
+ * 다른 서버의 접속 상태는 RedisPresenceService를 통해 공유, Redis 장애 시 현재 서버의 접속 상태만 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatPresenceService {
+
+    private final RedisPresenceService redisPresenceService;
+    private final RedisHealthChecker redisHealthChecker;
+
+    // Key : STOMP 세션 ID, Value : 세션의 유저와 구독 중인 채팅방
+    private final Map<String, SessionPresence> sessionStore = new ConcurrentHashMap<>();
+    // Key : 채팅방 _id, Value : (유저 _id, 현재 서버의 구독 수)
+    private final Map<ObjectId, Map<ObjectId, Integer>> presences = new ConcurrentHashMap<>();
+
+    /**
+     * 세션이 채팅방 구독, 유저의 첫 구독이라면 입장 처리
+     * @param subscriptionId STOMP 구독 ID, 같은 구독 ID로 다시 구독하면 무시
+     */
+    public void join(String sessionId, String subscriptionId, ObjectId chatRoomId, ObjectId userId) {
+        SessionPresence session = sessionStore.computeIfAbsent(sessionId, id -> new SessionPresence(userId));
+        if (session.subscriptions().putIfAbsent(subscriptionId, chatRoomId) != null) return;
+        if (increase(chatRoomId, session.userId(), 1) == 1) addRemote(chatRoomId, session.userId());
+    }
+
+    /**
+     * 세션의 채팅방 구독 해제, 유저의 마지막 구독이라면 퇴장 처리
+     * @return 구독 해제한 채팅방 _id, 알 수 없는 구독이라면 null
+     */
+    public ObjectId leave(String sessionId, String subscriptionId) {
+        SessionPresence session = sessionStore.get(sessionId);
+        if (session == null || subscriptionId == null) return null;
+        ObjectId chatRoomId = session.subscriptions().remove(subscriptionId);
+        if (chatRoomId != null) release(chatRoomId, session.userId());
+        return chatRoomId;
+    }
+
+    /**
+     * 세션 종료, 세션의 모든 구독 해제
+     * DISCONNECT 프레임과 세션 종료 이벤트가 모두 호출해도 한 번만 처리
+     */
+    public void disconnect(String sessionId) {
+        SessionPresence session = sessionStore.remove(sessionId);
+        if (session == null) return;
+        session.subscriptions().values().forEach(chatRoomId -> release(chatRoomId, session.userId()));
+        session.subscriptions().clear();
+    }
+
+    /**
+     * 모든 서버에서 채팅방에 접속 중인 유저 조회
+     */
+    public Set<ObjectId> getConnectedUserIds(ObjectId chatRoomId) {
+        Set<ObjectId> userIds = new HashSet<>(getRemoteUserIds(chatRoomId));
+        Map<ObjectId, Integer> users = presences.get(chatRoomId);
+        if (users != null) userIds.addAll(users.keySet());
+        return userIds;
+    }
+
+    /**
+     * 현재 서버의 접속 상태를 Redis에 다시 기록하여 만료 시각 연장
+     */
+    public void refreshRemote() {
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        Map<ObjectId, Set<ObjectId>> snapshot = new HashMap<>();
+        presences.forEach((chatRoomId, users) -> snapshot.put(chatRoomId, new HashSet<>(users.keySet())));
+        try {
+            redisPresenceService.refresh(snapshot);
+        } catch (Exception e) {
+            log.warn("[refreshRemote] 채팅방 접속 상태 갱신 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void release(ObjectId chatRoomId, ObjectId userId) {
+        if (increase(chatRoomId, userId, -1) == 0) removeRemote(chatRoomId, userId);
+    }
+
+    /**
+     * (채팅방, 유저)의 구독 수 변경, 채팅방 단위로 잠금
+     * @return 변경 후 구독 수
+     */
+    private int increase(ObjectId chatRoomId, ObjectId userId, int delta) {
+        int[] result = new int[1];
+        presences.compute(chatRoomId, (id, users) -> {
+            if (users == null) users = new ConcurrentHashMap<>();
+            int count = users.getOrDefault(userId, 0) + delta;
+            if (count > 0) users.put(userId, count);
+            else users.remove(userId);
+            result[0] = Math.max(count, 0);
+            return users.isEmpty() ? null : users;
+        });
+        return result[0];
+    }
+
+    private void addRemote(ObjectId chatRoomId, ObjectId userId) {
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        try {
+            redisPresenceService.add(chatRoomId, userId);
+        } catch (Exception e) {
+            log.warn("[addRemote] 채팅방 접속 상태 기록 실패 : chatRoomId={}, userId={}, {}", chatRoomId, userId, e.getMessage());
+        }
+    }
+
+    private void removeRemote(ObjectId chatRoomId, ObjectId userId) {
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        try {
+            redisPresenceService.remove(chatRoomId, userId);
+        } catch (Exception e) {
+            log.warn("[removeRemote] 채팅방 접속 상태 삭제 실패 : chatRoomId={}, userId={}, {}", chatRoomId, userId, e.getMessage());
+        }
+    }
+
+    private Set<ObjectId> getRemoteUserIds(ObjectId chatRoomId) {
+        if (!redisHealthChecker.isRedisAvailable()) return Set.of();
+        try {
+            return redisPresenceService.getUserIds(chatRoomId);
+        } catch (Exception e) {
+            log.warn("[getRemoteUserIds] 채팅방 접속 상태 조회 실패 : chatRoomId={}, {}", chatRoomId, e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private record SessionPresence(ObjectId userId, Map<String, ObjectId> subscriptions) {
+        private SessionPresence(ObjectId userId) {
+            this(userId, new ConcurrentHashMap<>());
+        }
+    }
+}
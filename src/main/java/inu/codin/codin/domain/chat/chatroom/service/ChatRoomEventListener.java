@@ -1,5 +1,6 @@
 package inu.codin.codin.domain.chat.chatroom.service;
 
+import inu.codin.codin.common.config.AsyncConfig;
 import inu.codin.codin.domain.chat.chatroom.dto.event.ChatRoomNotificationEvent;
 import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
 import inu.codin.codin.domain.notification.service.NotificationService;
@@ -14,7 +15,7 @@ public class ChatRoomEventListener {
 
     private final NotificationService notificationService;
 
-    @Async
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     @EventListener
     public void handleChatRoomNotification(ChatRoomNotificationEvent event){
         if (event.getParticipants().getInfo().containsKey(event.getReceiverId())){
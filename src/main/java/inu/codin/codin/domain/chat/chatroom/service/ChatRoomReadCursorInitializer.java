@@ -0,0 +1,37 @@
+package inu.codin.codin.domain.chat.chatroom.service;
+
+import inu.codin.codin.common.config.AsyncConfig;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 후 읽음 위치(lastReadSeq)가 없는 기존 채팅방에 안 읽은 채팅 수를 옮김
+ * lastSeq가 없는 채팅방을 index 없이 전체 조회하므로 시작을 막지 않도록 시작 완료 후 schedulerExecutor에서 실행
+ * 옮기기 전에 채팅이 전송된 채팅방과 배포 중 이전 버전 서버가 unreadMessage만 올린 채팅은 옮겨지지 않음
+ * 실패하면 다음 시작 시 다시 시도 (이미 옮긴 채팅방은 건너뜀)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRoomReadCursorInitializer {
+
+    private final CustomChatRoomRepository customChatRoomRepository;
+
+    @Async(AsyncConfig.SCHEDULER_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedReadCursors() {
+        try {
+            long seeded = customChatRoomRepository.seedReadCursors();
+            if (seeded > 0) {
+                log.info("[채팅방 읽음 위치 초기화] 채팅방 수: {}", seeded);
+            }
+        } catch (Exception e) {
+            log.error("[채팅방 읽음 위치 초기화 실패] {}", e.getMessage(), e);
+        }
+    }
+}
@@ -3,20 +3,26 @@ package inu.codin.codin.domain.chat.chatroom.service;
 import inu.codin.codin.common.exception.NotFoundException;
 import inu.codin.codin.common.security.util.SecurityUtils;
 import inu.codin.codin.domain.block.service.BlockService;
+import inu.codin.codin.domain.chat.chatroom.dto.ChatInboxCursor;
 import inu.codin.codin.domain.chat.chatroom.dto.request.ChatRoomCreateRequestDto;
 import inu.codin.codin.domain.chat.chatroom.dto.response.ChatRoomListResponseDto;
+import inu.codin.codin.domain.chat.chatroom.dto.response.ChatRoomPageResponse;
 import inu.codin.codin.domain.chat.chatroom.dto.event.ChatRoomNotificationEvent;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatInbox;
 import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
 import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
 import inu.codin.codin.domain.chat.chatroom.exception.ChatRoomCreateFailException;
 import inu.codin.codin.domain.chat.chatroom.exception.ChatRoomExistedException;
 import inu.codin.codin.domain.chat.chatroom.exception.ChatRoomNotFoundException;
 import inu.codin.codin.domain.chat.chatroom.repository.ChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatInboxRepository;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
 import inu.codin.codin.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -27,11 +33,16 @@ import java.util.*;
 public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
+    private final CustomChatRoomRepository customChatRoomRepository;
+    private final CustomChatInboxRepository customChatInboxRepository;
+    private final ChatInboxService chatInboxService;
     private final UserRepository userRepository;
 
     private final BlockService blockService;
     private final ApplicationEventPublisher eventPublisher;
 
+    private static final int PAGE_SIZE = 20;
+
 
     public Map<String, String> createChatRoom(ChatRoomCreateRequestDto chatRoomCreateRequestDto) {
         ObjectId senderId = SecurityUtils.getCurrentUserId();
@@ -47,6 +58,7 @@ public class ChatRoomService {
 
         ChatRoom chatRoom = ChatRoom.of(chatRoomCreateRequestDto, senderId);
         chatRoomRepository.save(chatRoom);
+        chatInboxService.sync(chatRoom, chatRoom.getParticipants().getInfo().keySet());
         log.info("[채팅방 생성 완료] 채팅방 ID: {}, 송신자 ID: {}, 수신자 ID: {}", chatRoom.get_id(), senderId, chatRoomCreateRequestDto.getReceiverId());
 
         eventPublisher.publishEvent(new ChatRoomNotificationEvent(this,
@@ -68,27 +80,41 @@ public class ChatRoomService {
         if (existedChatroom.isPresent()){
             ParticipantInfo participantInfo= existedChatroom.get().getParticipants().getInfo().get(senderId);
             if (participantInfo.isLeaved()){
-                participantInfo.remain();
-                chatRoomRepository.save(existedChatroom.get());
+                customChatRoomRepository.rejoin(existedChatroom.get().get_id(), senderId);
+                chatInboxService.rejoin(existedChatroom.get(), List.of(senderId));
             }
             throw new ChatRoomExistedException("해당 reference에서 시작된 채팅방이 존재합니다.", 403, existedChatroom.get().get_id());
         }
     }
 
+    /*
+        유저의 Inbox를 마지막 채팅 시각 역순 인덱스로 조회, 차단한 유저와의 채팅방은 조회 조건에서 제외
+     */
     public List<ChatRoomListResponseDto> getAllChatRoomByUser() {
         ObjectId userId = SecurityUtils.getCurrentUserId();
         log.info("[유저의 채팅방 조회] 유저 ID: {}", userId);
         // 차단 목록 조회
         List<ObjectId> blockedUsersId = blockService.getBlockedUsers();
 
-        List<ChatRoom> chatRooms = chatRoomRepository.findByParticipantIsNotLeavedAndDeletedIsNull(userId);
-        log.info("[채팅방 조회 결과] 유저 ID: {}가 참여 중인 채팅방 개수: {}", userId, chatRooms.size());
-        return chatRooms.stream()
-                .filter(chatRoom -> chatRoom.getParticipants().getInfo().keySet().stream()
-                        .noneMatch(blockedUsersId::contains))
-                .sorted(Comparator.comparing(ChatRoom::getCurrentMessageDate,Comparator.nullsLast(Comparator.reverseOrder())))
-                .map(chatRoom -> ChatRoomListResponseDto.of(chatRoom, userId)).toList();
+        List<ChatInbox> inboxes = customChatInboxRepository.findSlice(userId, blockedUsersId, null, 0).getContent();
+        log.info("[채팅방 조회 결과] 유저 ID: {}가 참여 중인 채팅방 개수: {}", userId, inboxes.size());
+        return inboxes.stream().map(ChatRoomListResponseDto::of).toList();
+    }
 
+    /**
+     * 채팅방 목록 커서 기반 조회
+     * @param cursor 이전 응답의 nextCursor, 비어있다면 첫 페이지
+     */
+    public ChatRoomPageResponse getChatRoomsByCursor(String cursor) {
+        ObjectId userId = SecurityUtils.getCurrentUserId();
+        List<ObjectId> blockedUsersId = blockService.getBlockedUsers();
+
+        Slice<ChatInbox> slice = customChatInboxRepository.findSlice(userId, blockedUsersId, ChatInboxCursor.decode(cursor), PAGE_SIZE);
+        log.info("[채팅방 커서 조회] 유저 ID: {}, 채팅방 개수: {}, hasNext: {}", userId, slice.getNumberOfElements(), slice.hasNext());
+
+        List<ChatInbox> inboxes = slice.getContent();
+        String nextCursor = slice.hasNext() ? ChatInboxCursor.from(inboxes.get(inboxes.size() - 1)).encode() : null;
+        return new ChatRoomPageResponse(inboxes.stream().map(ChatRoomListResponseDto::of).toList(), nextCursor);
     }
 
     public void leaveChatRoom(String chatRoomId) {
@@ -102,24 +128,19 @@ public class ChatRoomService {
                 });
 
         Map<ObjectId, ParticipantInfo> info = chatRoom.getParticipants().getInfo();
-        if (info.containsKey(userId)){
-            info.get(userId).leave();
-            info.get(userId).disconnect();
-        } else {
+        if (!info.containsKey(userId)){
             log.warn("[채팅방 탈퇴 실패] 유저 ID: {}는 채팅방에 참여하지 않았습니다.", userId);
             throw new ChatRoomNotFoundException("회원이 포함된 채팅방을 찾을 수 없습니다.");
         }
 
-        boolean isAllLeaved = chatRoom.getParticipants().getInfo().values()
-                .stream()
-                .allMatch(ParticipantInfo::isLeaved);  // 모든 참가자가 떠났는지 확인
-
-        if (isAllLeaved){
-            chatRoom.delete();
+        ChatRoom leavedChatRoom = customChatRoomRepository.leave(chatRoom.get_id(), userId); // 모든 참가자가 떠났다면 삭제
+        // 나간 시점의 채팅 번호보다 오래된 채팅방 상태로는 Inbox가 다시 표시되지 않음
+        long leftAtSeq = (leavedChatRoom != null ? leavedChatRoom : chatRoom).getLastSeq();
+        chatInboxService.remove(chatRoom.get_id(), userId, leftAtSeq);
+        if (leavedChatRoom != null && leavedChatRoom.getDeletedAt() != null){
             log.info("[채팅방 삭제] 채팅방 ID: {}에 더 이상 참여자가 없어 채팅방을 삭제합니다.", chatRoomId);
         }
-        chatRoomRepository.save(chatRoom);
-        }
+    }
 
     public void setNotificationChatRoom(String chatRoomId) {
         ObjectId userId = SecurityUtils.getCurrentUserId();
@@ -134,18 +155,7 @@ public class ChatRoomService {
         Map<ObjectId, ParticipantInfo> info = chatRoom.getParticipants().getInfo();
         log.info("[채팅방 확인] 채팅방 ID: {}, 참여자 수: {}", chatRoomId, info.size());
 
-        info.get(userId).updateNotification();
-        chatRoomRepository.save(chatRoom);
+        customChatRoomRepository.updateNotification(chatRoom.get_id(), userId, !info.get(userId).isNotificationsEnabled());
         log.info("[알림 설정 완료] 채팅방 ID: {}에 알림 설정 완료", chatRoomId);
     }
-
-    public Integer countOfParticipating(ObjectId chatRoomId){
-        ChatRoom chatroom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new NotFoundException("채팅방을 찾을 수 없습니다."));
-        int count = 0;
-        for (ParticipantInfo info : chatroom.getParticipants().getInfo().values()){
-            if (info.isConnected()) count++;
-        }
-        return count;
-    }
 }
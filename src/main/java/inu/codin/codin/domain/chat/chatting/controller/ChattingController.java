@@ -1,7 +1,9 @@
 package inu.codin.codin.domain.chat.chatting.controller;
 
 import inu.codin.codin.common.response.SingleResponse;
+import inu.codin.codin.domain.chat.chatting.dto.request.ChattingImageRequestDto;
 import inu.codin.codin.domain.chat.chatting.dto.request.ChattingRequestDto;
+import inu.codin.codin.domain.chat.chatting.service.ChattingBucketMigrationService;
 import inu.codin.codin.domain.chat.chatting.service.ChattingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -26,6 +29,7 @@ import java.util.List;
 public class ChattingController {
 
     private final ChattingService chattingService;
+    private final ChattingBucketMigrationService chattingBucketMigrationService;
 
     @Operation(
             summary = "채팅 보내기"
@@ -46,6 +50,16 @@ public class ChattingController {
                 .body(new SingleResponse<>(200, "채팅 사진 업로드 완료", chattingService.sendImageMessage(chatImages)));
     }
 
+    @Operation(
+            summary = "직접 업로드한 사진을 채팅으로 보내기",
+            description = "POST /images/presigned (purpose = CHAT) 로 업로드한 이미지의 key 전달, 반환된 URL을 IMAGE 채팅으로 전송"
+    )
+    @PostMapping("/chats/image/keys")
+    public ResponseEntity<SingleResponse<?>> registerImageMessage(@RequestBody @Valid ChattingImageRequestDto chattingImageRequestDto){
+        return ResponseEntity.ok()
+                .body(new SingleResponse<>(200, "채팅 사진 등록 완료", chattingService.registerImageMessage(chattingImageRequestDto.getImageKeys())));
+    }
+
     @Operation(
             summary = "채팅 내용 리스트 가져오기",
             description = "Pageable에 해당하는 page, size, sort 내역에 맞게 반환"
@@ -56,6 +70,16 @@ public class ChattingController {
         return ResponseEntity.ok().body(new SingleResponse<>(200, "채팅 내용 리스트 반환 완료", chattingService.getAllMessage(id, page)));
     }
 
+    @Operation(
+            summary = "[관리자] 기존 채팅을 채팅 묶음 저장소로 옮기기",
+            description = "chat.storage=bucket 전환 전에만 실행 가능, 전환 전에는 여러 번 실행해도 결과가 같음"
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/admin/chats/buckets/migration")
+    public ResponseEntity<SingleResponse<?>> migrateToBuckets(){
+        return ResponseEntity.ok().body(new SingleResponse<>(200, "채팅 묶음 Migration 완료", chattingBucketMigrationService.migrateAll()));
+    }
+
     //채팅 테스트를 위한 MVC
     @GetMapping("/chat")
     public String chatHtml(){
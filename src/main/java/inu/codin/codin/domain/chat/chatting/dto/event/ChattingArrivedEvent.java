@@ -1,16 +1,24 @@
 package inu.codin.codin.domain.chat.chatting.dto.event;
 
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
 import inu.codin.codin.domain.chat.chatting.entity.Chatting;
 import lombok.Getter;
+import org.bson.types.ObjectId;
 import org.springframework.context.ApplicationEvent;
 
+import java.util.Set;
+
 @Getter
 public class ChattingArrivedEvent extends ApplicationEvent {
 
     private final Chatting chatting;
+    private final ChatRoom chatRoom; // 채팅 번호 발급 후의 채팅방
+    private final Set<ObjectId> connectedIds; // 채팅 전송 시점에 채팅방에 접속해 있던 유저
 
-    public ChattingArrivedEvent(Object source, Chatting chatting) {
+    public ChattingArrivedEvent(Object source, Chatting chatting, ChatRoom chatRoom, Set<ObjectId> connectedIds) {
         super(source);
         this.chatting = chatting;
+        this.chatRoom = chatRoom;
+        this.connectedIds = connectedIds;
     }
 }
@@ -4,16 +4,21 @@ import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
 import lombok.Getter;
 import org.bson.types.ObjectId;
 import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
 @Getter
 public class ChattingNotificationEvent extends ApplicationEvent {
 
     private final ChatRoom chatRoom;
     private final ObjectId userId;
+    private final Set<ObjectId> connectedIds; // 채팅 전송 시점에 채팅방에 접속해 있던 유저
 
 
-    public ChattingNotificationEvent(Object source, ObjectId userId, ChatRoom chatRoom) {
+    public ChattingNotificationEvent(Object source, ObjectId userId, ChatRoom chatRoom, Set<ObjectId> connectedIds) {
         super(source);
         this.userId = userId;
         this.chatRoom = chatRoom;
+        this.connectedIds = connectedIds;
     }
 }
@@ -1,20 +1,19 @@
 package inu.codin.codin.domain.chat.chatting.dto.event;
 
-import inu.codin.codin.domain.chat.chatting.entity.Chatting;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
-import java.util.List;
+import java.util.Map;
 
 @Getter
 public class UpdateUnreadCountEvent extends ApplicationEvent {
 
-    private final List<Chatting> chattingList;
+    private final Map<String, Integer> unreadCounts; // Key : 채팅 _id, Value : 채팅을 읽지 않은 참여자 수
     private final String chatRoomId;
 
-    public UpdateUnreadCountEvent(Object source, List<Chatting> chattingList, String chatRoomId) {
+    public UpdateUnreadCountEvent(Object source, Map<String, Integer> unreadCounts, String chatRoomId) {
         super(source);
-        this.chattingList = chattingList;
+        this.unreadCounts = unreadCounts;
         this.chatRoomId = chatRoomId;
     }
 }
@@ -0,0 +1,17 @@
+package inu.codin.codin.domain.chat.chatting.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ChattingImageRequestDto {
+
+    @NotEmpty
+    @Schema(description = "직접 업로드한 이미지 key (POST /images/presigned, purpose = CHAT)", example = "[\"chat/111111/uuid.png\"]")
+    private List<String> imageKeys;
+}
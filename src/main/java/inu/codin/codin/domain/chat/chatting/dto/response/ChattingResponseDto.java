@@ -52,7 +52,10 @@ public class ChattingResponseDto {
         this.unread = unread;
     }
 
-    public static ChattingResponseDto of(Chatting chatting){
+    /**
+     * @param unread 채팅을 읽지 않은 참여자 수
+     */
+    public static ChattingResponseDto of(Chatting chatting, int unread){
         return ChattingResponseDto.builder()
                 .id(chatting.get_id().toString())
                 .senderId(chatting.getSenderId().toString())
@@ -60,11 +63,11 @@ public class ChattingResponseDto {
                 .createdAt(chatting.getCreatedAt())
                 .contentType(chatting.getContentType())
                 .chatRoomId(chatting.getChatRoomId().toString())
-                .unread(chatting.getUnreadCount())
+                .unread(unread)
                 .build();
     }
 
-    public static ChattingResponseDto of(Chatting chatting, ObjectId currentUserId){
+    public static ChattingResponseDto of(Chatting chatting, ObjectId currentUserId, int unread){
         return ChattingResponseDto.builder()
                 .id(chatting.get_id().toString())
                 .senderId(chatting.getSenderId().toString())
@@ -73,7 +76,7 @@ public class ChattingResponseDto {
                 .contentType(chatting.getContentType())
                 .chatRoomId(chatting.getChatRoomId().toString())
                 .currentUserId(currentUserId.toString())
-                .unread(chatting.getUnreadCount())
+                .unread(unread)
                 .build();
     }
 }
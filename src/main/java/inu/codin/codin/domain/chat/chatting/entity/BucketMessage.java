@@ -0,0 +1,49 @@
+package inu.codin.codin.domain.chat.chatting.entity;
+
+import inu.codin.codin.domain.chat.chatting.dto.ContentType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 묶음에 저장되는 채팅, 묶음 문서 크기를 줄이기 위해 짧은 필드명으로 저장
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BucketMessage {
+
+    public static final String SEQ_FIELD = "s";
+
+    @Field("i")
+    private ObjectId id;
+
+    @Field("u")
+    private ObjectId senderId;
+
+    @Field("c")
+    private String content;
+
+    @Field("t")
+    private ContentType contentType;
+
+    @Field(SEQ_FIELD)
+    private long seq;
+
+    @Field("at")
+    private LocalDateTime createdAt;
+
+    public static BucketMessage from(Chatting chatting) {
+        BucketMessage message = new BucketMessage();
+        message.id = chatting.get_id();
+        message.senderId = chatting.getSenderId();
+        message.content = chatting.getContent();
+        message.contentType = chatting.getContentType();
+        message.seq = chatting.getSeq();
+        message.createdAt = chatting.getCreatedAt();
+        return message;
+    }
+}
@@ -10,10 +10,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Document(collection = "chatting")
+@CompoundIndexes({
+        @CompoundIndex(name = "chatroom_created_idx", def = "{'chatRoomId': 1, 'created_at': -1}"),
+        @CompoundIndex(name = "chatroom_seq_idx", def = "{'chatRoomId': 1, 'seq': -1}")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Chatting extends BaseTimeEntity {
 
@@ -30,28 +38,58 @@ public class Chatting extends BaseTimeEntity {
 
     private ContentType contentType;
 
-    private int unreadCount;
+    private long seq; // 채팅방 내 채팅 번호, 읽음 여부는 참여자의 lastReadSeq와 비교하여 계산
 
     @Builder
-    public Chatting(ObjectId senderId, String content, ObjectId chatRoomId, ContentType contentType, int unreadCount) {
+    public Chatting(ObjectId senderId, String content, ObjectId chatRoomId, ContentType contentType, long seq) {
         this.senderId = senderId;
         this.content = content;
         this.chatRoomId = chatRoomId;
         this.contentType = contentType;
-        this.unreadCount = unreadCount;
+        this.seq = seq;
     }
 
-    public static Chatting of(ObjectId chatRoomId, ChattingRequestDto chattingRequestDto, ObjectId senderId, int unreadCount) {
+    public static Chatting of(ObjectId chatRoomId, ChattingRequestDto chattingRequestDto, ObjectId senderId, long seq) {
         return Chatting.builder()
                 .senderId(senderId)
                 .content(chattingRequestDto.getContent())
                 .chatRoomId(chatRoomId)
                 .contentType(chattingRequestDto.getContentType())
-                .unreadCount(unreadCount)
+                .seq(seq)
                 .build();
     }
 
-    public void minusUnread(){
-        this.unreadCount--;
+    /**
+     * 묶음 저장소는 채팅 문서를 따로 저장하지 않으므로 _id와 생성 시각을 직접 발급
+     */
+    public void issueId() {
+        if (this._id != null) return;
+        this._id = new ObjectId();
+        recreatedAt();
+    }
+
+    /**
+     * 묶음에 저장된 채팅을 채팅으로 변환
+     */
+    public static Chatting from(ObjectId chatRoomId, BucketMessage message) {
+        return restore(message.getId(), chatRoomId, message.getSenderId(), message.getContent(),
+                message.getContentType(), message.getSeq(), message.getCreatedAt());
+    }
+
+    /**
+     * chatting 컬렉션 밖(묶음, Cache)에 저장된 채팅을 채팅으로 변환
+     */
+    public static Chatting restore(ObjectId id, ObjectId chatRoomId, ObjectId senderId, String content,
+                                   ContentType contentType, long seq, LocalDateTime createdAt) {
+        Chatting chatting = Chatting.builder()
+                .senderId(senderId)
+                .content(content)
+                .chatRoomId(chatRoomId)
+                .contentType(contentType)
+                .seq(seq)
+                .build();
+        chatting._id = id;
+        chatting.restoreCreatedAt(createdAt);
+        return chatting;
     }
 }
@@ -0,0 +1,49 @@
+package inu.codin.codin.domain.chat.chatting.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅 묶음 저장 (chat.storage=bucket)
+ * 채팅방의 채팅을 채팅 번호 기준 BUCKET_SIZE개씩 한 문서에 모아 저장
+ * bucketNo = (seq - 1) / BUCKET_SIZE, 채팅 번호가 없는 기존 채팅은 이전 migration에서 음수 bucketNo로 저장
+ * 채팅 번호로 묶음이 정해지므로 한 묶음의 채팅 수는 BUCKET_SIZE를 넘지 않음
+ */
+@Getter
+@Document(collection = "chatting_bucket")
+@CompoundIndex(name = "chatroom_bucket_idx", def = "{'chatRoomId': 1, 'bucketNo': -1}", unique = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChattingBucket {
+
+    public static final int BUCKET_SIZE = 100;
+
+    @Id
+    private ObjectId _id;
+
+    private ObjectId chatRoomId;
+
+    private long bucketNo;
+
+    private int count;
+
+    private List<BucketMessage> messages = new ArrayList<>(); // 채팅 번호 오름차순
+
+    public ChattingBucket(ObjectId chatRoomId, long bucketNo, List<BucketMessage> messages) {
+        this.chatRoomId = chatRoomId;
+        this.bucketNo = bucketNo;
+        this.messages = messages;
+        this.count = messages.size();
+    }
+
+    public static long bucketNoOf(long seq) {
+        return (seq - 1) / BUCKET_SIZE;
+    }
+}
@@ -0,0 +1,133 @@
+package inu.codin.codin.domain.chat.chatting.repository;
+
+import inu.codin.codin.domain.chat.chatting.entity.BucketMessage;
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.chat.chatting.entity.ChattingBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 채팅을 채팅 번호 기준 묶음으로 저장 (chat.storage=bucket)
+ * 채팅 저장은 묶음 문서에 $push 한 번, 내역 조회는 최대 두 개의 묶음 문서를 순서대로 읽음
+ * 기존 chatting 컬렉션의 채팅은 ChattingBucketMigrationService로 옮긴 뒤 사용
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "chat.storage", havingValue = "bucket")
+public class BucketChattingStore implements ChattingStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    public BucketChattingStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 채팅 번호에 해당하는 묶음에 채팅 추가, 묶음이 없다면 생성
+     * 동시에 추가되어도 묶음 안의 채팅은 채팅 번호 순으로 정렬
+     */
+    @Override
+    public void append(Chatting chatting) {
+        chatting.issueId();
+        Query query = bucketOf(chatting.getChatRoomId(), ChattingBucket.bucketNoOf(chatting.getSeq()));
+        Update update = new Update()
+                .inc("count", 1);
+        update.push("messages").sort(Sort.by(BucketMessage.SEQ_FIELD)).each(BucketMessage.from(chatting));
+        try {
+            mongoTemplate.upsert(query, update, ChattingBucket.class);
+        } catch (DuplicateKeyException e) {
+            // 같은 묶음을 동시에 생성한 경우, 이미 생성된 묶음에 다시 추가
+            mongoTemplate.upsert(query, update, ChattingBucket.class);
+        }
+    }
+
+    /**
+     * 최근 묶음부터 채팅 수를 더해가며 페이지에 해당하는 묶음만 조회
+     */
+    @Override
+    public List<Chatting> findPage(ObjectId chatRoomId, LocalDateTime after, int page, int size) {
+        Query summaryQuery = new Query(Criteria.where("chatRoomId").is(chatRoomId))
+                .with(Sort.by(Sort.Direction.DESC, "bucketNo"));
+        summaryQuery.fields().include("bucketNo").include("count");
+
+        long skip = (long) page * size;
+        List<Long> bucketNos = new ArrayList<>();
+        long skipInFirstBucket = 0;
+        long collected = 0;
+        for (ChattingBucket summary : mongoTemplate.find(summaryQuery, ChattingBucket.class)) {
+            if (bucketNos.isEmpty() && skip >= summary.getCount()) {
+                skip -= summary.getCount();
+                continue;
+            }
+            if (bucketNos.isEmpty()) {
+                skipInFirstBucket = skip;
+                collected = summary.getCount() - skip;
+            } else collected += summary.getCount();
+            bucketNos.add(summary.getBucketNo());
+            if (collected >= size) break;
+        }
+        if (bucketNos.isEmpty()) return List.of();
+
+        Query bucketQuery = new Query(Criteria.where("chatRoomId").is(chatRoomId).and("bucketNo").in(bucketNos))
+                .with(Sort.by(Sort.Direction.DESC, "bucketNo"));
+        List<Chatting> chattings = new ArrayList<>(size);
+        long skipped = 0;
+        for (ChattingBucket bucket : mongoTemplate.find(bucketQuery, ChattingBucket.class)) {
+            List<BucketMessage> messages = bucket.getMessages();
+            for (int i = messages.size() - 1; i >= 0 && chattings.size() < size; i--) {
+                if (skipped < skipInFirstBucket) {
+                    skipped++;
+                    continue;
+                }
+                Chatting chatting = Chatting.from(chatRoomId, messages.get(i));
+                if (after == null || chatting.getCreatedAt().isAfter(after)) chattings.add(chatting);
+            }
+        }
+        return chattings;
+    }
+
+    /**
+     * 범위의 마지막 묶음부터 역순으로 읽으며 limit개를 채우면 중단
+     */
+    @Override
+    public List<Chatting> findBySeqRange(ObjectId chatRoomId, long afterSeq, long uptoSeq, ObjectId excludeSenderId, int limit) {
+        if (uptoSeq <= afterSeq) return List.of();
+        Query query = new Query(Criteria.where("chatRoomId").is(chatRoomId)
+                .and("bucketNo").gte(ChattingBucket.bucketNoOf(afterSeq + 1)).lte(ChattingBucket.bucketNoOf(uptoSeq)))
+                .with(Sort.by(Sort.Direction.DESC, "bucketNo"));
+
+        List<Chatting> chattings = new ArrayList<>();
+        try (Stream<ChattingBucket> buckets = mongoTemplate.stream(query, ChattingBucket.class)) {
+            Iterator<ChattingBucket> iterator = buckets.iterator();
+            while (iterator.hasNext()) {
+                ChattingBucket bucket = iterator.next();
+                List<BucketMessage> messages = bucket.getMessages();
+                for (int i = messages.size() - 1; i >= 0; i--) {
+                    BucketMessage message = messages.get(i);
+                    if (message.getSeq() <= afterSeq || message.getSeq() > uptoSeq || message.getSenderId().equals(excludeSenderId)) continue;
+                    chattings.add(Chatting.from(chatRoomId, message));
+                    if (chattings.size() >= limit) return chattings;
+                }
+            }
+        }
+        return chattings;
+    }
+
+    private static Query bucketOf(ObjectId chatRoomId, long bucketNo) {
+        return new Query(Criteria.where("chatRoomId").is(chatRoomId).and("bucketNo").is(bucketNo));
+    }
+}
@@ -10,8 +10,6 @@ import java.util.List;
 
 public interface ChattingRepository extends MongoRepository<Chatting, String> {
 
-    List<Chatting> findAllByChatRoomIdOrderByCreatedAtDesc(ObjectId chatRoomId);
-
     List<Chatting> findAllByChatRoomId(ObjectId id, Pageable pageable);
 
     List<Chatting> findAllByChatRoomIdAndCreatedAtAfter(ObjectId id, LocalDateTime whenLeaved, Pageable pageable);
@@ -0,0 +1,32 @@
+package inu.codin.codin.domain.chat.chatting.repository;
+
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅 저장소, chat.storage 설정으로 저장 방식 선택
+ * document(기본값) - 채팅 하나당 문서 하나 (chatting)
+ * bucket - 채팅 번호 기준으로 묶어 한 문서에 저장 (chatting_bucket)
+ */
+public interface ChattingStore {
+
+    /**
+     * 채팅 저장, 저장 후 채팅의 _id와 생성 시각이 발급됨
+     */
+    void append(Chatting chatting);
+
+    /**
+     * 채팅 내역을 최근 순으로 페이지 조회
+     * @param after 이 시각 이후의 채팅만 조회, null이라면 전체
+     */
+    List<Chatting> findPage(ObjectId chatRoomId, LocalDateTime after, int page, int size);
+
+    /**
+     * 채팅 번호 범위 (afterSeq, uptoSeq] 의 채팅을 최근 순으로 최대 limit개 조회
+     * @param excludeSenderId 제외할 송신자 _id
+     */
+    List<Chatting> findBySeqRange(ObjectId chatRoomId, long afterSeq, long uptoSeq, ObjectId excludeSenderId, int limit);
+}
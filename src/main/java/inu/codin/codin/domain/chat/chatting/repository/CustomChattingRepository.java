@@ -8,6 +8,8 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public class CustomChattingRepository {
 
@@ -24,4 +26,18 @@ public class CustomChattingRepository {
         return mongoTemplate.findOne(query, Chatting.class);
     }
 
+    /**
+     * 채팅 번호 범위 (afterSeq, uptoSeq] 의 채팅을 최근 순으로 최대 limit개 조회 (채팅방의 전체 채팅을 읽지 않음)
+     * unread 갱신 전송에 필요한 _id, seq, senderId만 조회
+     * @param excludeSenderId 제외할 송신자 _id
+     */
+    public List<Chatting> findBySeqRange(ObjectId chatRoomId, long afterSeq, long uptoSeq, ObjectId excludeSenderId, int limit) {
+        Query query = new Query(Criteria.where("chatRoomId").is(chatRoomId)
+                .and("seq").gt(afterSeq).lte(uptoSeq)
+                .and("senderId").ne(excludeSenderId))
+                .with(Sort.by(Sort.Direction.DESC, "seq"))
+                .limit(limit);
+        query.fields().include("_id").include("seq").include("senderId");
+        return mongoTemplate.find(query, Chatting.class);
+    }
 }
@@ -0,0 +1,42 @@
+package inu.codin.codin.domain.chat.chatting.repository;
+
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅 하나당 문서 하나로 저장 (chat.storage=document)
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.storage", havingValue = "document", matchIfMissing = true)
+public class DocumentChattingStore implements ChattingStore {
+
+    private final ChattingRepository chattingRepository;
+    private final CustomChattingRepository customChattingRepository;
+
+    @Override
+    public void append(Chatting chatting) {
+        chattingRepository.insert(chatting);
+    }
+
+    @Override
+    public List<Chatting> findPage(ObjectId chatRoomId, LocalDateTime after, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        if (after != null) return chattingRepository.findAllByChatRoomIdAndCreatedAtAfter(chatRoomId, after, pageable);
+        return chattingRepository.findAllByChatRoomId(chatRoomId, pageable);
+    }
+
+    @Override
+    public List<Chatting> findBySeqRange(ObjectId chatRoomId, long afterSeq, long uptoSeq, ObjectId excludeSenderId, int limit) {
+        return customChattingRepository.findBySeqRange(chatRoomId, afterSeq, uptoSeq, excludeSenderId, limit);
+    }
+}
@@ -0,0 +1,167 @@
+package inu.codin.codin.domain.chat.chatting.service;
+
+import inu.codin.codin.domain.chat.chatting.entity.BucketMessage;
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.chat.chatting.entity.ChattingBucket;
+import inu.codin.codin.domain.chat.exception.ChattingErrorCode;
+import inu.codin.codin.domain.chat.exception.ChattingException;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * chatting 컬렉션의 채팅을 채팅 묶음(chatting_bucket)으로 옮기는 Migration
+ * 채팅 번호가 있는 채팅은 (seq - 1) / BUCKET_SIZE 묶음에,
+ * 채팅 번호가 없는 기존 채팅(seq 필드 없음 또는 0)은 최근 채팅부터 BUCKET_SIZE개씩 -1, -2, ... 묶음에 저장
+ * 기존 채팅 묶음은 항상 음수이므로 채팅 번호 묶음(0 이상)과 겹치지 않음
+ * 묶음 단위로 덮어쓰므로 chat.storage=bucket 으로 전환하기 전에는 여러 번 실행해도 결과가 같음
+ * 전환 후에는 새 채팅이 묶음에 바로 추가되어 덮어쓰면 유실되므로 실행하지 않음
+ */
+@Service
+@Slf4j
+public class ChattingBucketMigrationService {
+
+    private static final String BUCKET_STORAGE = "bucket";
+
+    private final MongoTemplate mongoTemplate;
+    private final String chatStorage;
+
+    public ChattingBucketMigrationService(MongoTemplate mongoTemplate,
+                                          @Value("${chat.storage:document}") String chatStorage) {
+        this.mongoTemplate = mongoTemplate;
+        this.chatStorage = chatStorage;
+    }
+
+    /**
+     * 모든 채팅방의 채팅 옮기기
+     * @return 옮긴 채팅방 수, 채팅 수, 묶음 수
+     */
+    public Map<String, Long> migrateAll() {
+        if (BUCKET_STORAGE.equals(chatStorage))
+            throw new ChattingException(ChattingErrorCode.BUCKET_MIGRATION_NOT_ALLOWED, null);
+
+        List<ObjectId> chatRoomIds = mongoTemplate.findDistinct(new Query(), "chatRoomId", Chatting.class, ObjectId.class);
+        long messages = 0;
+        long buckets = 0;
+        for (ObjectId chatRoomId : chatRoomIds) {
+            long[] result = migrate(chatRoomId);
+            messages += result[0];
+            buckets += result[1];
+        }
+        log.info("[채팅 묶음 Migration 완료] 채팅방 수: {}, 채팅 수: {}, 묶음 수: {}", chatRoomIds.size(), messages, buckets);
+
+        Map<String, Long> response = new LinkedHashMap<>();
+        response.put("chatRooms", (long) chatRoomIds.size());
+        response.put("messages", messages);
+        response.put("buckets", buckets);
+        return response;
+    }
+
+    /**
+     * 채팅방 하나의 채팅 옮기기
+     * 기존 채팅은 최근 채팅부터 읽으며 BUCKET_SIZE개마다, 채팅 번호 채팅은 번호 순으로 읽으며 묶음이 바뀔 때마다 저장
+     * @return [옮긴 채팅 수, 저장한 묶음 수]
+     */
+    public long[] migrate(ObjectId chatRoomId) {
+        long[] legacy = migrateLegacy(chatRoomId);
+        long[] sequenced = migrateSequenced(chatRoomId);
+        return new long[]{legacy[0] + sequenced[0], legacy[1] + sequenced[1]};
+    }
+
+    /**
+     * 채팅 번호가 없는 기존 채팅을 최근 순으로 읽어 -1, -2, ... 묶음에 BUCKET_SIZE개씩 저장
+     * 미리 개수를 세지 않으므로 Migration 중 채팅이 늘어나도 묶음 크기를 넘지 않음
+     */
+    private long[] migrateLegacy(ObjectId chatRoomId) {
+        // seq 필드가 생기기 전에 저장된 채팅은 seq가 없으므로 lte(0)만으로는 찾을 수 없음
+        Criteria legacyCriteria = new Criteria().orOperator(
+                Criteria.where("seq").exists(false),
+                Criteria.where("seq").lte(0));
+        Query query = new Query(new Criteria().andOperator(Criteria.where("chatRoomId").is(chatRoomId), legacyCriteria))
+                .with(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("_id")));
+
+        long messages = 0;
+        long buckets = 0;
+        List<BucketMessage> current = new ArrayList<>();
+        try (Stream<Chatting> chattings = mongoTemplate.stream(query, Chatting.class)) {
+            Iterator<Chatting> iterator = chattings.iterator();
+            while (iterator.hasNext()) {
+                current.add(BucketMessage.from(iterator.next()));
+                messages++;
+                if (current.size() == ChattingBucket.BUCKET_SIZE) {
+                    saveLegacy(chatRoomId, -1 - buckets, current);
+                    buckets++;
+                    current = new ArrayList<>();
+                }
+            }
+        }
+        if (!current.isEmpty()) {
+            saveLegacy(chatRoomId, -1 - buckets, current);
+            buckets++;
+        }
+        return new long[]{messages, buckets};
+    }
+
+    /**
+     * 채팅 번호가 있는 채팅을 번호 순으로 읽어 (seq - 1) / BUCKET_SIZE 묶음에 저장
+     */
+    private long[] migrateSequenced(ObjectId chatRoomId) {
+        Query query = new Query(Criteria.where("chatRoomId").is(chatRoomId).and("seq").gt(0))
+                .with(Sort.by(Sort.Order.asc("seq")));
+
+        long messages = 0;
+        long buckets = 0;
+        Long currentBucketNo = null;
+        List<BucketMessage> current = new ArrayList<>();
+        try (Stream<Chatting> chattings = mongoTemplate.stream(query, Chatting.class)) {
+            Iterator<Chatting> iterator = chattings.iterator();
+            while (iterator.hasNext()) {
+                Chatting chatting = iterator.next();
+                long bucketNo = ChattingBucket.bucketNoOf(chatting.getSeq());
+                if (currentBucketNo != null && bucketNo != currentBucketNo) {
+                    save(chatRoomId, currentBucketNo, current);
+                    buckets++;
+                    current = new ArrayList<>();
+                }
+                currentBucketNo = bucketNo;
+                current.add(BucketMessage.from(chatting));
+                messages++;
+            }
+        }
+        if (currentBucketNo != null) {
+            save(chatRoomId, currentBucketNo, current);
+            buckets++;
+        }
+        return new long[]{messages, buckets};
+    }
+
+    /**
+     * 최근 순으로 읽은 기존 채팅을 오래된 순으로 뒤집어 저장
+     */
+    private void saveLegacy(ObjectId chatRoomId, long bucketNo, List<BucketMessage> latestFirst) {
+        Collections.reverse(latestFirst);
+        save(chatRoomId, bucketNo, latestFirst);
+    }
+
+    private void save(ObjectId chatRoomId, long bucketNo, List<BucketMessage> messages) {
+        Query query = new Query(Criteria.where("chatRoomId").is(chatRoomId).and("bucketNo").is(bucketNo));
+        Update update = new Update()
+                .set("messages", messages)
+                .set("count", messages.size());
+        mongoTemplate.upsert(query, update, ChattingBucket.class);
+    }
+}
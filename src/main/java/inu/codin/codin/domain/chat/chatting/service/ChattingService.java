@@ -1,34 +1,36 @@
 package inu.codin.codin.domain.chat.chatting.service;
 
 import inu.codin.codin.common.security.util.SecurityUtils;
+import inu.codin.codin.common.util.LocalCache;
 import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
-import inu.codin.codin.domain.chat.chatroom.entity.ParticipantInfo;
 import inu.codin.codin.domain.chat.chatroom.exception.ChatRoomNotFoundException;
 import inu.codin.codin.domain.chat.chatroom.repository.ChatRoomRepository;
-import inu.codin.codin.domain.chat.chatroom.service.ChatRoomService;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
 import inu.codin.codin.domain.chat.chatting.dto.event.ChattingArrivedEvent;
 import inu.codin.codin.domain.chat.chatting.dto.event.ChattingNotificationEvent;
 import inu.codin.codin.domain.chat.chatting.dto.request.ChattingRequestDto;
 import inu.codin.codin.domain.chat.chatting.dto.response.ChattingAndUserIdResponseDto;
 import inu.codin.codin.domain.chat.chatting.dto.response.ChattingResponseDto;
 import inu.codin.codin.domain.chat.chatting.entity.Chatting;
-import inu.codin.codin.domain.chat.chatting.repository.ChattingRepository;
+import inu.codin.codin.domain.chat.chatting.repository.ChattingStore;
 import inu.codin.codin.domain.notification.service.NotificationService;
 import inu.codin.codin.domain.user.security.CustomUserDetails;
+import inu.codin.codin.infra.s3.S3PresignedUploadService;
 import inu.codin.codin.infra.s3.S3Service;
+import inu.codin.codin.infra.s3.UploadPurpose;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -36,39 +38,69 @@ import java.util.List;
 public class ChattingService {
 
     private final ChatRoomRepository chatRoomRepository;
-    private final ChattingRepository chattingRepository;
+    private final CustomChatRoomRepository customChatRoomRepository;
+    private final ChatPresenceService chatPresenceService;
+    private final ChattingStore chattingStore;
+    private final RecentChattingCache recentChattingCache;
     private final S3Service s3Service;
+    private final S3PresignedUploadService s3PresignedUploadService;
     private final NotificationService notificationService;
-    private final ChatRoomService chatRoomService;
     private final ApplicationEventPublisher eventPublisher;
 
+    private static final int PAGE_SIZE = 20;
+    private static final int PARTICIPANT_CACHE_SIZE = 10_000;
+    private static final long PARTICIPANT_CACHE_TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+    // Key : 채팅방 _id, Value : 참여자 _id
+    private final LocalCache<ObjectId, Set<ObjectId>> participantCache = new LocalCache<>(PARTICIPANT_CACHE_SIZE, PARTICIPANT_CACHE_TTL_MILLIS);
+
+    /*
+        채팅 전송 : 채팅방 참여자 Cache 조회 -> 채팅방 원자적 갱신(채팅 번호 발급, 읽음 위치, 마지막 채팅) -> 채팅 저장
+        참여자는 채팅방 생성 이후 바뀌지 않으므로 Cache miss일 때만 채팅방을 조회
+     */
     public ChattingResponseDto sendMessage(String id, ChattingRequestDto chattingRequestDto, Authentication authentication) {
-        ChatRoom chatRoom = chatRoomRepository.findById(new ObjectId(id))
-                .orElseThrow(() -> {
-                    log.warn("[채팅방 조회 실패] 채팅방 ID: {}를 찾을 수 없습니다.", id);
-                    return new ChatRoomNotFoundException("채팅방을 찾을 수 없습니다.");
-                });
+        ObjectId chatRoomId = new ObjectId(id);
         ObjectId userId = ((CustomUserDetails) authentication.getPrincipal()).getId();
-        Integer countOfParticipating = chatRoomService.countOfParticipating(chatRoom.get_id()); //접속해 있는 사람 수 빼기 (읽은 count)
-        Chatting chatting = Chatting.of(chatRoom.get_id(), chattingRequestDto, userId,
-                chatRoom.getParticipants().getInfo().size()-countOfParticipating);
+        Set<ObjectId> participantIds = getParticipantIds(chatRoomId);
+
+        //송신자와 접속해 있는 참여자는 바로 읽음 처리, 상대가 채팅방을 나간 상태라면 다시 불러와서 채팅 시작
+        Set<ObjectId> connectedIds = chatPresenceService.getConnectedUserIds(chatRoomId);
+        List<ObjectId> readerIds = participantIds.stream()
+                .filter(participantId -> participantId.equals(userId) || connectedIds.contains(participantId))
+                .toList();
+        List<ObjectId> rejoinIds = participantIds.stream()
+                .filter(participantId -> !participantId.equals(userId))
+                .toList();
+
+        //채팅 번호 발급 및 마지막 대화 내용, 읽음 위치 업데이트
+        ChatRoom updatedChatRoom = customChatRoomRepository.appendMessage(chatRoomId, userId, chattingRequestDto.getContent(), readerIds, rejoinIds);
+        if (updatedChatRoom == null) {
+            participantCache.evict(chatRoomId);
+            log.warn("[메시지 전송 실패] 채팅방 ID: {}를 찾을 수 없거나 참여자가 아닙니다. 송신자 ID: {}", id, userId);
+            throw new ChatRoomNotFoundException("채팅방을 찾을 수 없습니다.");
+        }
+        Chatting chatting = Chatting.of(chatRoomId, chattingRequestDto, userId, updatedChatRoom.getLastSeq());
+        chattingStore.append(chatting);
+        recentChattingCache.append(chatting);
 
         log.info("[메시지 전송 성공] 메시지: [{}], 송신자 ID: {}, 채팅방 ID: {}", chattingRequestDto.getContent(), userId, id);
 
-        chattingRepository.save(chatting);
-
-        //상대가 채팅방을 나간 상태라면 다시 불러와서 채팅 시작
-        chatRoom.getParticipants().getInfo().values().stream()
-                .filter(info -> !info.getUserId().equals(userId) && info.isLeaved())
-                .forEach(ParticipantInfo::remain);
-        chatRoomRepository.save(chatRoom);
-
-        //상대 유저가 접속하지 않은 상태라면 unread 개수 업데이트 및 마지막 대화 내용 업데이트
-        eventPublisher.publishEvent(new ChattingArrivedEvent(this, chatting));
+        //상대 유저가 접속하지 않은 상태라면 채팅방 목록 업데이트
+        eventPublisher.publishEvent(new ChattingArrivedEvent(this, chatting, updatedChatRoom, connectedIds));
         //알림 보내기
-        eventPublisher.publishEvent(new ChattingNotificationEvent(this, userId, chatRoom));
+        eventPublisher.publishEvent(new ChattingNotificationEvent(this, userId, updatedChatRoom, connectedIds));
 
-        return ChattingResponseDto.of(chatting);
+        return ChattingResponseDto.of(chatting, updatedChatRoom.getParticipants().countUnread(chatting.getSeq(), userId));
+    }
+
+    private Set<ObjectId> getParticipantIds(ObjectId chatRoomId) {
+        Set<ObjectId> participantIds = participantCache.get(chatRoomId, id -> chatRoomRepository.findById(id)
+                .map(chatRoom -> Set.copyOf(chatRoom.getParticipants().getInfo().keySet()))
+                .orElse(null));
+        if (participantIds == null) {
+            log.warn("[채팅방 조회 실패] 채팅방 ID: {}를 찾을 수 없습니다.", chatRoomId);
+            throw new ChatRoomNotFoundException("채팅방을 찾을 수 없습니다.");
+        }
+        return participantIds;
     }
 
     public ChattingAndUserIdResponseDto getAllMessage(String id, int page) {
@@ -79,27 +111,23 @@ public class ChattingService {
                     return new ChatRoomNotFoundException("채팅방을 찾을 수 없습니다.");
                 });
 
-        Pageable pageable = PageRequest.of(page, 20, Sort.by("createdAt").descending());
-        chatRoomRepository.findById(new ObjectId(id))
-                .orElseThrow(() -> {
-                    log.error("[채팅방 조회 실패] 채팅방 ID: {}를 찾을 수 없습니다.", id);
-                    return new ChatRoomNotFoundException("채팅방을 찾을 수 없습니다.");
-                });
-
-        List<ChattingResponseDto> chattingResponseDto;
+        //나간 적이 있다면 그 이후의 채팅 내역만 반환, 첫 페이지는 최근 채팅 Buffer에서 조회
         LocalDateTime whenLeaved = chatRoom.getParticipants().getInfo().get(userId).getWhenLeaved();
-        if (whenLeaved!= null) //나간 적이 있다면 그 이후의 채팅 내역만 반환
-            chattingResponseDto = chattingRepository.findAllByChatRoomIdAndCreatedAtAfter(new ObjectId(id), whenLeaved, pageable)
-                    .stream().map(ChattingResponseDto::of).toList();
-        else chattingResponseDto = chattingRepository.findAllByChatRoomId(new ObjectId(id), pageable)
-                .stream().map(ChattingResponseDto::of).toList();
-
+        List<Chatting> chattings = page == 0
+                ? recentChattingCache.findRecent(chatRoom, whenLeaved, PAGE_SIZE)
+                : chattingStore.findPage(chatRoom.get_id(), whenLeaved, page, PAGE_SIZE);
+        List<ChattingResponseDto> chattingResponseDto = chattings.stream()
+                .map(chatting -> toResponse(chatRoom, chatting)).toList();
 
         log.info("[메시지 조회 성공] 채팅방 ID: {}, 메시지 개수: {}", id, chattingResponseDto.size());
 
         return new ChattingAndUserIdResponseDto(chattingResponseDto, SecurityUtils.getCurrentUserId().toString());
     }
 
+    private static ChattingResponseDto toResponse(ChatRoom chatRoom, Chatting chatting) {
+        return ChattingResponseDto.of(chatting, chatRoom.getParticipants().countUnread(chatting.getSeq(), chatting.getSenderId()));
+    }
+
     public List<String> sendImageMessage(List<MultipartFile> chatImages) {
         log.info("[이미지 메시지 전송] 이미지 개수: {}", chatImages.size());
 
@@ -109,4 +137,15 @@ public class ChattingService {
 
         return imageUrls;
     }
+
+    /*
+        직접 업로드(Presigned URL)한 이미지 확인 후 URL 반환, 클라이언트는 반환된 URL을 IMAGE 타입 채팅으로 전송
+     */
+    public List<String> registerImageMessage(List<String> imageKeys) {
+        List<String> imageUrls = s3PresignedUploadService.register(SecurityUtils.getCurrentUserId(), UploadPurpose.CHAT, imageKeys);
+
+        log.info("[이미지 메시지 등록 성공] 이미지 URL 개수: {}", imageUrls.size());
+
+        return imageUrls;
+    }
 }
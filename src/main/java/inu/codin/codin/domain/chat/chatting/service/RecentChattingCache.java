@@ -0,0 +1,202 @@
+package inu.codin.codin.domain.chat.chatting.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inu.codin.codin.common.util.LocalCache;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatting.dto.ContentType;
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.chat.chatting.repository.ChattingStore;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisRecentChattingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방별 최근 채팅 Buffer (첫 페이지 조회용)
+ * 서버 메모리(LRU) -> Redis List -> DB 순으로 조회하며, 채팅 전송 시 메모리와 Redis Buffer에 추가
+ * Buffer는 DB의 최근 페이지로 채운 시점의 채팅 번호(loadedSeq)를 함께 보관하고, 그 이후 추가된 채팅이 채팅방의 마지막 채팅 번호까지
+ * 빠짐없이 이어질 때만 사용하며, 아니라면 다음 단계에서 다시 채움
+ * 채팅 번호가 없는(seq = 0) 이전 채팅만 있는 채팅방도 loadedSeq로 최신 여부를 판단하므로 DB를 다시 조회하지 않음
+ * 읽음 수(unread)는 참여자의 읽음 위치로 매번 계산하므로 채팅 내용만 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentChattingCache {
+
+    public static final int CAPACITY = 50; // 첫 페이지(20개)보다 커야 whenLeaved로 걸러도 한 페이지를 채울 수 있음
+    private static final int MAX_ROOMS = 2_000;
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private final ChattingStore chattingStore;
+    private final RedisRecentChattingService redisRecentChattingService;
+    private final RedisHealthChecker redisHealthChecker;
+    private final ObjectMapper objectMapper;
+
+    private final LocalCache<ObjectId, RecentBuffer> buffers = new LocalCache<>(MAX_ROOMS, TTL_MILLIS);
+
+    /**
+     * 전송된 채팅을 Buffer에 추가, Buffer가 없는 채팅방은 다음 조회 시 DB에서 채움
+     */
+    public void append(Chatting chatting) {
+        CachedMessage message = CachedMessage.from(chatting);
+        RecentBuffer buffer = buffers.get(chatting.getChatRoomId());
+        if (buffer != null) buffer.add(message);
+
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        try {
+            redisRecentChattingService.push(chatting.getChatRoomId(), objectMapper.writeValueAsString(message), CAPACITY);
+        } catch (Exception e) {
+            log.warn("[RecentChattingCache] 최근 채팅 추가 실패 : chatRoomId={}, {}", chatting.getChatRoomId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 채팅 조회
+     * @param after 이 시각 이후의 채팅만 조회 (whenLeaved), null이라면 전체
+     * @return 최근 순 채팅 최대 size개
+     */
+    public List<Chatting> findRecent(ChatRoom chatRoom, LocalDateTime after, int size) {
+        ObjectId chatRoomId = chatRoom.get_id();
+        List<CachedMessage> messages = null;
+
+        RecentBuffer buffer = buffers.get(chatRoomId);
+        if (buffer != null) messages = valid(buffer.snapshot(), buffer.loadedSeq, chatRoom.getLastSeq());
+        if (messages == null) {
+            RecentBuffer cached = fromRedis(chatRoomId);
+            if (cached != null) messages = valid(cached.snapshot(), cached.loadedSeq, chatRoom.getLastSeq());
+            if (messages != null) buffers.put(chatRoomId, new RecentBuffer(messages, cached.loadedSeq));
+        }
+        if (messages == null) messages = load(chatRoom);
+
+        List<Chatting> chattings = new ArrayList<>(size);
+        for (int i = messages.size() - 1; i >= 0 && chattings.size() < size; i--) {
+            CachedMessage message = messages.get(i);
+            if (after == null || (message.createdAt() != null && message.createdAt().isAfter(after)))
+                chattings.add(message.toChatting(chatRoomId));
+        }
+        return chattings;
+    }
+
+    /**
+     * DB에서 최근 채팅을 조회하여 메모리와 Redis Buffer를 다시 채움
+     * 조회한 가장 최근 채팅 번호를 loadedSeq로 보관하고, 채팅 번호가 있는 채팅이 없다면(이전 채팅만 있는 채팅방) 채팅방의 마지막 채팅 번호를 보관
+     * 채팅방 번호는 채팅 저장 전에 증가하므로, 채팅 번호가 있는 채팅방에서 채팅방 번호를 쓰면 아직 저장되지 않은 채팅까지 담았다고 판단할 수 있음
+     */
+    private List<CachedMessage> load(ChatRoom chatRoom) {
+        ObjectId chatRoomId = chatRoom.get_id();
+        List<CachedMessage> messages = new ArrayList<>(chattingStore.findPage(chatRoomId, null, 0, CAPACITY).stream()
+                .map(CachedMessage::from)
+                .toList());
+        messages.sort(ORDER);
+        long newestSeq = messages.isEmpty() ? 0 : messages.get(messages.size() - 1).seq();
+        long loadedSeq = newestSeq > 0 ? newestSeq : chatRoom.getLastSeq();
+        buffers.put(chatRoomId, new RecentBuffer(messages, loadedSeq));
+
+        if (redisHealthChecker.isRedisAvailable()) {
+            try {
+                List<String> values = new ArrayList<>(messages.size());
+                for (CachedMessage message : messages) values.add(objectMapper.writeValueAsString(message));
+                redisRecentChattingService.seed(chatRoomId, loadedSeq, values);
+            } catch (Exception e) {
+                log.warn("[RecentChattingCache] 최근 채팅 저장 실패 : chatRoomId={}, {}", chatRoomId, e.getMessage());
+            }
+        }
+        return messages;
+    }
+
+    private RecentBuffer fromRedis(ObjectId chatRoomId) {
+        if (!redisHealthChecker.isRedisAvailable()) return null;
+        try {
+            List<String> values = redisRecentChattingService.range(chatRoomId);
+            if (values.isEmpty()) return null;
+            long loadedSeq = Long.parseLong(values.get(0));
+            List<CachedMessage> messages = new ArrayList<>(values.size() - 1);
+            for (String value : values.subList(1, values.size())) messages.add(objectMapper.readValue(value, CachedMessage.class));
+            messages.sort(ORDER);
+            return new RecentBuffer(messages, loadedSeq);
+        } catch (JsonProcessingException e) {
+            log.warn("[RecentChattingCache] 최근 채팅 역직렬화 실패 : chatRoomId={}, {}", chatRoomId, e.getMessage());
+            return null;
+        } catch (Exception e) {
+            log.warn("[RecentChattingCache] 최근 채팅 조회 실패 : chatRoomId={}, {}", chatRoomId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Buffer가 채팅방의 마지막 채팅 번호까지 빠짐없이 담고 있는지 확인
+     * loadedSeq까지는 DB에서 채운 채팅이므로 그대로 믿고, 이후 추가된 채팅은 loadedSeq + 1부터 빠짐없이 이어져야 함
+     * 채운 채팅이 CAPACITY를 넘겨 모두 밀려났다면 가장 오래된 채팅부터 이어지면 됨
+     * 동시에 전송된 채팅이 순서가 바뀌어 들어오거나 일부 서버에서 빠진 경우를 걸러냄
+     * @return 중복을 제거한 채팅 (오래된 순), 사용할 수 없다면 null
+     */
+    private static List<CachedMessage> valid(List<CachedMessage> messages, long loadedSeq, long lastSeq) {
+        boolean trimmed = messages.size() >= CAPACITY;
+        List<CachedMessage> distinct = new ArrayList<>(messages.size());
+        long previousSeq = -1;
+        for (CachedMessage message : messages) {
+            if (message.seq() > 0 && message.seq() == previousSeq) continue;
+            if (message.seq() > 0 && previousSeq > 0 && message.seq() != previousSeq + 1) return null;
+            boolean firstAppended = message.seq() > loadedSeq && previousSeq <= 0;
+            if (firstAppended && message.seq() != loadedSeq + 1 && !(trimmed && distinct.isEmpty())) return null;
+            distinct.add(message);
+            previousSeq = message.seq();
+        }
+        long coveredSeq = Math.max(loadedSeq, previousSeq);
+        return coveredSeq >= lastSeq ? distinct : null;
+    }
+
+    private static final Comparator<CachedMessage> ORDER = Comparator
+            .comparingLong(CachedMessage::seq)
+            .thenComparing(CachedMessage::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    /**
+     * Buffer에 보관하는 채팅, Redis에는 JSON으로 저장
+     */
+    record CachedMessage(String id, String senderId, String content, ContentType contentType, long seq, LocalDateTime createdAt) {
+
+        static CachedMessage from(Chatting chatting) {
+            return new CachedMessage(chatting.get_id().toString(), chatting.getSenderId().toString(), chatting.getContent(),
+                    chatting.getContentType(), chatting.getSeq(), chatting.getCreatedAt());
+        }
+
+        Chatting toChatting(ObjectId chatRoomId) {
+            return Chatting.restore(new ObjectId(id), chatRoomId, new ObjectId(senderId), content, contentType, seq, createdAt);
+        }
+    }
+
+    /**
+     * 채팅방 하나의 최근 채팅, 채팅 번호 순으로 최대 CAPACITY개 보관
+     */
+    private static class RecentBuffer {
+
+        private final List<CachedMessage> messages;
+        private final long loadedSeq;
+
+        private RecentBuffer(List<CachedMessage> messages, long loadedSeq) {
+            this.messages = new ArrayList<>(messages);
+            this.loadedSeq = loadedSeq;
+        }
+
+        private synchronized void add(CachedMessage message) {
+            int index = messages.size();
+            while (index > 0 && messages.get(index - 1).seq() > message.seq()) index--;
+            messages.add(index, message);
+            if (messages.size() > CAPACITY) messages.remove(0);
+        }
+
+        private synchronized List<CachedMessage> snapshot() {
+            return new ArrayList<>(messages);
+        }
+    }
+}
@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 public enum ChattingErrorCode implements GlobalErrorCode {
 
     CHATTING_USER_NOT_FOUND(HttpStatus.UNAUTHORIZED, "헤더에서 유저(email)을 찾을 수 없습니다."),
-    CHATTING_ID_NOT_FOUND(HttpStatus.NOT_FOUND, "헤더에서 채팅방 _id를 찾을 수 없습니다.");
+    CHATTING_ID_NOT_FOUND(HttpStatus.NOT_FOUND, "헤더에서 채팅방 _id를 찾을 수 없습니다."),
+    BUCKET_MIGRATION_NOT_ALLOWED(HttpStatus.CONFLICT, "채팅 묶음 저장소를 사용 중일 때는 Migration을 실행할 수 없습니다.");
 
     private final HttpStatus httpStatus;
 
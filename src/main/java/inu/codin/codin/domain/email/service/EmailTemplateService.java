@@ -1,5 +1,6 @@
 package inu.codin.codin.domain.email.service;
 
+import inu.codin.codin.common.config.AsyncConfig;
 import inu.codin.codin.domain.email.exception.EmailTemplateFailException;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -31,7 +32,7 @@ public class EmailTemplateService {
      * @param templateName 템플릿 이름
      * @param authNum 인증번호
      */
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendTemplateEmail(String email, String subject, String templateName, String authNum) {
         try {
             MimeMessage message = javaMailSender.createMimeMessage();
@@ -10,6 +10,7 @@ import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+// (likeType, likeTypeId, userId) unique index는 중복 문서 정리 후 LikeIndexInitializer가 생성
 @Document(collection = "likes")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -26,6 +27,8 @@ public class LikeEntity extends BaseTimeEntity {
     @NotNull
     private ObjectId userId; // 좋아요를 누른 사용자 ID
 
+    private long toggleVersion; // 마지막으로 반영된 Redis 토글 버전, 더 오래된 토글은 반영하지 않음
+
     @Builder
     public LikeEntity(String likeTypeId, LikeType likeType, ObjectId userId) {
         this.likeTypeId = likeTypeId;
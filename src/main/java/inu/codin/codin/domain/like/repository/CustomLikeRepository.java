@@ -0,0 +1,126 @@
+package inu.codin.codin.domain.like.repository;
+
+import inu.codin.codin.domain.like.entity.LikeEntity;
+import inu.codin.codin.domain.like.entity.LikeType;
+import com.mongodb.client.result.UpdateResult;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Repository
+public class CustomLikeRepository {
+
+    private static final String TARGET_USER_INDEX = "like_target_user_idx";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomLikeRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 여러 엔티티의 좋아요 개수를 한 번의 Aggregation으로 조회
+     * 좋아요가 없는 엔티티는 결과 Map에 포함되지 않음
+     * @return Key : likeTypeId, Value : 좋아요 개수
+     */
+    public Map<String, Integer> countByLikeTypeIds(LikeType likeType, Collection<String> likeTypeIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("likeType").is(likeType)
+                        .and("likeTypeId").in(likeTypeIds)
+                        .and("deletedAt").is(null)),
+                Aggregation.group("likeTypeId").count().as("count")
+        );
+
+        Map<String, Integer> result = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, LikeEntity.class, Document.class)
+                .getMappedResults()
+                .forEach(doc -> result.put(doc.getString("_id"), doc.get("count", Number.class).intValue()));
+        return result;
+    }
+
+    /**
+     * Redis 토글 결과를 토글 버전 순서대로 반영
+     * 같은 유저의 토글이 요청 스레드에서 순서 없이 반영되더라도, 저장된 버전보다 오래된 토글은 무시
+     * 더 새로운 토글이 이미 반영된 상태에서 문서가 없다고 판단해 upsert하면 unique index로 실패하므로 무시
+     * (unique index는 LikeIndexInitializer가 기존 중복 문서를 정리한 뒤 생성)
+     * @param liked 토글 후 좋아요 여부
+     * @param version Redis 토글 버전
+     * @return 좋아요 문서가 새로 생성되었다면 true
+     */
+    public boolean applyToggle(LikeType likeType, String likeTypeId, ObjectId userId, boolean liked, long version) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = likeQuery(likeType, likeTypeId, userId)
+                .addCriteria(new Criteria().orOperator(
+                        Criteria.where("toggleVersion").exists(false),
+                        Criteria.where("toggleVersion").lt(version)));
+        Update update = new Update()
+                .set("deletedAt", liked ? null : now)
+                .set("updatedAt", now)
+                .set("toggleVersion", version);
+        if (liked) update.set("createdAt", now);
+        else update.setOnInsert("createdAt", now);
+        try {
+            UpdateResult result = mongoTemplate.upsert(query, update, LikeEntity.class);
+            return liked && result.getUpsertedId() != null;
+        } catch (DuplicateKeyException e) {
+            log.info("[applyToggle] 더 새로운 토글이 먼저 반영되어 무시 - likeType: {}, likeId: {}, userId: {}, version: {}",
+                    likeType, likeTypeId, userId, version);
+            return false;
+        }
+    }
+
+    /**
+     * 같은 (likeType, likeTypeId, userId) 좋아요 문서가 여러 개라면 하나만 남기고 삭제
+     * 토글 버전이 가장 높고, 같다면 가장 최근에 수정된 문서를 남김
+     * @return 삭제한 문서 수
+     */
+    public long removeDuplicates() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "toggleVersion", "updatedAt", "_id")),
+                Aggregation.group("likeType", "likeTypeId", "userId").push("_id").as("ids").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1))
+        ).withOptions(Aggregation.newAggregationOptions().allowDiskUse(true).build());
+
+        long removed = 0;
+        for (Document group : mongoTemplate.aggregate(aggregation, LikeEntity.class, Document.class)) {
+            List<ObjectId> ids = group.getList("ids", ObjectId.class);
+            List<ObjectId> duplicates = ids.subList(1, ids.size());
+            removed += mongoTemplate.remove(new Query(Criteria.where("_id").in(duplicates)), LikeEntity.class).getDeletedCount();
+        }
+        return removed;
+    }
+
+    /**
+     * (likeType, likeTypeId, userId) unique index 생성, 이미 있다면 무시
+     */
+    public void ensureTargetUserIndex() {
+        mongoTemplate.indexOps(LikeEntity.class).ensureIndex(new Index()
+                .on("likeType", Sort.Direction.ASC)
+                .on("likeTypeId", Sort.Direction.ASC)
+                .on("userId", Sort.Direction.ASC)
+                .unique()
+                .named(TARGET_USER_INDEX));
+    }
+
+    private Query likeQuery(LikeType likeType, String likeTypeId, ObjectId userId) {
+        return new Query(Criteria.where("likeType").is(likeType)
+                .and("likeTypeId").is(likeTypeId)
+                .and("userId").is(userId));
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,8 +21,12 @@ public interface LikeRepository extends MongoRepository<LikeEntity, ObjectId> {
     int countByLikeTypeAndLikeTypeIdAndDeletedAtIsNull(LikeType likeType, String likeTypeId);
     boolean existsByLikeTypeAndLikeTypeIdAndUserIdAndDeletedAtIsNull(LikeType likeType, String id, ObjectId userId);
     Optional<LikeEntity> findByLikeTypeAndLikeTypeIdAndUserId(LikeType likeType, String likeTypeId, ObjectId userId);
+    List<LikeEntity> findAllByLikeTypeAndLikeTypeIdInAndUserIdAndDeletedAtIsNull(LikeType likeType, Collection<String> likeTypeIds, ObjectId userId);
     Page<LikeEntity> findAllByUserIdAndLikeTypeAndDeletedAtIsNullOrderByCreatedAt(ObjectId userId, LikeType likeType, Pageable pageable);
 
+    @Query(value = "{ 'likeType': ?0, 'likeTypeId': ?1, 'deletedAt': null }", fields = "{ 'userId': 1 }")
+    List<LikeEntity> findUserIdsByLikeTypeAndLikeTypeId(LikeType likeType, String likeTypeId);
+
     @Query(value = "{ 'likeType': ?0, 'userId': ?1, 'deletedAt': null }", fields = "{ 'likeTypeId': 1, '_id': 0 }")
     List<LikedResponseDto> findLikeTypeIdByLikeTypeAndUserId(LikeType likeType, ObjectId userId);
 }
@@ -1,5 +1,6 @@
 package inu.codin.codin.domain.like.service;
 
+import inu.codin.codin.common.config.AsyncConfig;
 import inu.codin.codin.domain.like.dto.event.LikeNotificationEvent;
 import inu.codin.codin.domain.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +15,7 @@ public class LikeEventListener {
 
     private final NotificationService notificationService;
 
-    @Async
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     @EventListener
     public void handleLikeNotificationEvent(LikeNotificationEvent event){
         notificationService.sendNotificationMessageByLike(event.getLikeType(), event.getLikeTypeId());
@@ -0,0 +1,37 @@
+package inu.codin.codin.domain.like.service;
+
+import inu.codin.codin.common.config.AsyncConfig;
+import inu.codin.codin.domain.like.repository.CustomLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 후 중복 좋아요 문서를 정리하고 (likeType, likeTypeId, userId) unique index 생성
+ * 중복 문서가 남아 있으면 unique index 생성이 실패하므로 Entity 어노테이션 대신 정리 후 직접 생성
+ * 요청 처리를 막지 않도록 시작 완료 후 schedulerExecutor에서 실행, 실패하면 다음 시작 시 다시 시도
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeIndexInitializer {
+
+    private final CustomLikeRepository customLikeRepository;
+
+    @Async(AsyncConfig.SCHEDULER_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void createTargetUserIndex() {
+        try {
+            long removed = customLikeRepository.removeDuplicates();
+            if (removed > 0) {
+                log.info("[좋아요 중복 정리] 삭제한 문서 수: {}", removed);
+            }
+            customLikeRepository.ensureTargetUserIndex();
+        } catch (Exception e) {
+            log.error("[좋아요 unique index 생성 실패] {}", e.getMessage(), e);
+        }
+    }
+}
@@ -7,35 +7,43 @@ import inu.codin.codin.domain.like.dto.LikedResponseDto;
 import inu.codin.codin.domain.like.dto.request.LikeRequestDto;
 import inu.codin.codin.domain.like.entity.LikeEntity;
 import inu.codin.codin.domain.like.entity.LikeType;
+import inu.codin.codin.domain.like.repository.CustomLikeRepository;
 import inu.codin.codin.domain.like.repository.LikeRepository;
+import inu.codin.codin.domain.outbox.service.OutboxService;
 import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
 import inu.codin.codin.domain.post.domain.comment.reply.repository.ReplyCommentRepository;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.infra.redis.config.RedisHealthChecker;
-import inu.codin.codin.infra.redis.service.RedisBestService;
+import inu.codin.codin.infra.redis.service.CacheRecoveryLoader;
 import inu.codin.codin.infra.redis.service.RedisLikeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LikeService {
     private final LikeRepository likeRepository;
+    private final CustomLikeRepository customLikeRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final ReplyCommentRepository replyCommentRepository;
 
     private final RedisLikeService redisLikeService;
-    private final RedisBestService redisBestService;
     private final RedisHealthChecker redisHealthChecker;
+    private final CacheRecoveryLoader cacheRecoveryLoader;
+    private final OutboxService outboxService;
 
 
     public LikeResponseType toggleLike(LikeRequestDto likeRequestDto) {
@@ -43,9 +51,48 @@ public class LikeService {
         ObjectId userId = SecurityUtils.getCurrentUserId();
         isEntityNotDeleted(likeRequestDto); // 해당 entity가 삭제되었는지 확인
 
+        if (redisHealthChecker.isRedisAvailable())
+            return toggleLikeAtomically(likeRequestDto.getLikeType(), likeId, userId);
+
         // 이미 좋아요를 눌렀으면 취소, 그렇지 않으면 추가
         Optional<LikeEntity> like = likeRepository.findByLikeTypeAndLikeTypeIdAndUserId(likeRequestDto.getLikeType(), likeId, userId);
-        return controlLike(likeRequestDto, like, likeId, userId);
+        LikeResponseType response = controlLike(likeRequestDto, like, likeId, userId);
+        // Redis 복구 시 이전 좋아요 개수, 유저 Set이 조회되지 않도록 삭제 대상으로 기록
+        redisLikeService.markStale(likeRequestDto.getLikeType().name(), likeId);
+        return response;
+    }
+
+    /**
+     * Redis Lua 스크립트로 좋아요 상태와 개수를 원자적으로 토글한 뒤, 결과 상태를 토글 버전 순서대로 DB에 반영
+     * 빠르게 연속으로 토글하여 DB 반영 순서가 바뀌어도 마지막 토글 상태가 남음
+     * 좋아요 유저 Set이 Cache에 없다면 DB 기준으로 복구 후 토글
+     */
+    private LikeResponseType toggleLikeAtomically(LikeType likeType, String likeTypeId, ObjectId userId) {
+        List<Long> result = redisLikeService.toggleLike(likeType.name(), likeTypeId, userId.toString());
+        if (result == null) {
+            List<String> likedUserIds = likeRepository.findUserIdsByLikeTypeAndLikeTypeId(likeType, likeTypeId).stream()
+                    .map(like -> like.getUserId().toString())
+                    .toList();
+            redisLikeService.loadLikeMembers(likeType.name(), likeTypeId, likedUserIds);
+            result = redisLikeService.toggleLike(likeType.name(), likeTypeId, userId.toString());
+            if (result == null) throw new IllegalStateException("좋아요 상태를 토글할 수 없습니다.");
+        }
+
+        boolean liked = result.get(0) == 1L;
+        boolean created = customLikeRepository.applyToggle(likeType, likeTypeId, userId, liked, result.get(2));
+        if (!liked) {
+            log.info("좋아요 삭제 완료 - likeType: {}, likeId: {}, userId: {}, count: {}", likeType, likeTypeId, userId, result.get(1));
+            return LikeResponseType.REMOVE;
+        }
+
+        log.info("좋아요 {} 완료 - likeType: {}, likeId: {}, userId: {}, count: {}", created ? "추가" : "복구", likeType, likeTypeId, userId, result.get(1));
+        if (!created) return LikeResponseType.RECOVER;
+
+        if (likeType == LikeType.POST) {
+            //유저별 첫 좋아요에만 Best 점수 반영, Outbox를 통해 비동기로 처리
+            outboxService.publishPostLiked(likeTypeId + ":" + userId, new ObjectId(likeTypeId));
+        }
+        return LikeResponseType.ADD;
     }
 
     private LikeResponseType controlLike(LikeRequestDto likeRequestDto, Optional<LikeEntity> like, String likeId, ObjectId userId) {
@@ -78,8 +125,8 @@ public class LikeService {
                 .userId(userId)
                 .build());
         if (likeType == LikeType.POST) {
-            redisBestService.applyBestScore(1, new ObjectId(likeTypeId));
-            log.info("Redis에 Best Score 적용 - postId: {}", likeTypeId);
+            //Redis 경로와 같은 멱등키로 Outbox에 기록, 유저별 첫 좋아요에만 Best 점수 반영
+            outboxService.publishPostLiked(likeTypeId + ":" + userId, new ObjectId(likeTypeId));
         }
     }
 
@@ -119,17 +166,65 @@ public class LikeService {
                 return Integer.parseInt(String.valueOf(redisResult));
         }
 
-        //Redis가 꺼져 있거나 cache가 없을 경우 -> DB 조회
-        int likeCount = likeRepository.countByLikeTypeAndLikeTypeIdAndDeletedAtIsNull(likeType, likeTypeId);
-        recoveryLike(likeType, likeTypeId, likeCount);
-        return likeCount;
+        //Redis가 꺼져 있거나 cache가 없을 경우 -> DB 조회, 동시 Cache miss는 DB 조회 1회로 합쳐짐
+        return cacheRecoveryLoader.load(
+                likeType.name() + ":likes:" + likeTypeId,
+                () -> likeRepository.countByLikeTypeAndLikeTypeIdAndDeletedAtIsNull(likeType, likeTypeId),
+                likeCount -> recoveryLike(likeType, likeTypeId, likeCount));
     }
 
-    @Async
-    protected void recoveryLike(LikeType entityType, String entityId, int likeCount) {
+    /**
+     * DB로부터 좋아요 개수 Cache 복구, CacheRecoveryLoader의 Executor에서 실행
+     */
+    private void recoveryLike(LikeType entityType, String entityId, int likeCount) {
+        if (!redisHealthChecker.isRedisAvailable()) return;
         redisLikeService.recoveryLike(entityType.name(), entityId, likeCount);
     }
 
+    /**
+     * 여러 엔티티의 좋아요 개수를 일괄 조회
+     * Redis MGET 한 번으로 조회 후, Cache miss된 엔티티만 DB Aggregation 한 번으로 조회 및 Cache 복구
+     * @return Key : likeTypeId, Value : 좋아요 개수
+     */
+    public Map<String, Integer> getLikeCounts(LikeType likeType, List<String> likeTypeIds) {
+        Map<String, Integer> likeCounts = new HashMap<>();
+        if (likeTypeIds.isEmpty()) return likeCounts;
+        List<String> missedIds = likeTypeIds;
+
+        if (redisHealthChecker.isRedisAvailable()) {
+            List<String> redisResults = redisLikeService.getLikeCounts(likeType.name(), likeTypeIds);
+            if (redisResults != null) {
+                missedIds = new ArrayList<>();
+                for (int i = 0; i < likeTypeIds.size(); i++) {
+                    String redisResult = redisResults.get(i);
+                    if (redisResult != null) likeCounts.put(likeTypeIds.get(i), Integer.parseInt(redisResult));
+                    else missedIds.add(likeTypeIds.get(i));
+                }
+            }
+        }
+        if (missedIds.isEmpty()) return likeCounts;
+
+        //Redis가 꺼져 있거나 cache가 없는 엔티티 -> DB 조회
+        Map<String, Integer> dbCounts = customLikeRepository.countByLikeTypeIds(likeType, missedIds);
+        Map<String, Integer> recovered = new HashMap<>();
+        missedIds.forEach(id -> recovered.put(id, dbCounts.getOrDefault(id, 0)));
+        likeCounts.putAll(recovered);
+        if (redisHealthChecker.isRedisAvailable())
+            cacheRecoveryLoader.recoverAsync(() -> redisLikeService.recoveryLikes(likeType.name(), recovered));
+        return likeCounts;
+    }
+
+    /**
+     * 여러 엔티티 중 유저가 좋아요를 누른 엔티티 _id를 일괄 조회
+     * @return 좋아요를 누른 likeTypeId Set
+     */
+    public Set<String> getLikedIds(LikeType likeType, List<String> likeTypeIds, ObjectId userId) {
+        return likeRepository.findAllByLikeTypeAndLikeTypeIdInAndUserIdAndDeletedAtIsNull(likeType, likeTypeIds, userId)
+                .stream()
+                .map(LikeEntity::getLikeTypeId)
+                .collect(Collectors.toSet());
+    }
+
     public boolean isLiked(LikeType likeType, String likeTypeId, ObjectId userId){
         return likeRepository.existsByLikeTypeAndLikeTypeIdAndUserIdAndDeletedAtIsNull(likeType, likeTypeId, userId);
     }
@@ -0,0 +1,12 @@
+package inu.codin.codin.domain.notification.entity;
+
+/**
+ * 묶어서 전송하는 알림 종류
+ * (수신자, 대상, 종류)가 같은 알림은 묶음 대기 시간 동안 하나로 합쳐서 전송
+ */
+public enum NotificationKind {
+    LIKE,
+    COMMENT,
+    REPLY,
+    CHAT
+}
@@ -0,0 +1,43 @@
+package inu.codin.codin.domain.notification.scheduler;
+
+import inu.codin.codin.common.config.AsyncConfig;
+import inu.codin.codin.domain.notification.service.NotificationService;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+    묶음 대기 시간이 지난 알림 묶음 전송
+    전송은 notificationExecutor에서 수행하고, 이전 전송이 끝나지 않았다면 이번 실행은 건너뜀 (Single-flight)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationScheduler {
+
+    private static final int FLUSH_BATCH_SIZE = 100;
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final NotificationService notificationService;
+    private final RedisHealthChecker redisHealthChecker;
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+    @Scheduled(fixedDelay = 1000) // 1초 마다 실행
+    public void flushCoalescedNotifications() {
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        if (!flushing.compareAndSet(false, true)) return;
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (notificationService.flushCoalescedNotifications(FLUSH_BATCH_SIZE) < FLUSH_BATCH_SIZE) return;
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import inu.codin.codin.domain.like.entity.LikeType;
 import inu.codin.codin.domain.notification.dto.request.OneCharNameRequestDto;
 import inu.codin.codin.domain.notification.dto.response.NotificationListResponseDto;
 import inu.codin.codin.domain.notification.entity.NotificationEntity;
+import inu.codin.codin.domain.notification.entity.NotificationKind;
 import inu.codin.codin.domain.notification.repository.NotificationRepository;
 import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
 import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
@@ -18,10 +19,14 @@ import inu.codin.codin.domain.user.entity.UserEntity;
 import inu.codin.codin.domain.user.repository.UserRepository;
 import inu.codin.codin.infra.fcm.dto.FcmMessageTopicDto;
 import inu.codin.codin.infra.fcm.dto.FcmMessageUserDto;
+import inu.codin.codin.infra.fcm.exception.FcmTokenNotFoundException;
 import inu.codin.codin.infra.fcm.service.FcmService;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisNotificationBufferService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
@@ -41,6 +46,12 @@ public class NotificationService {
     private final ReplyCommentRepository replyCommentRepository;
 
     private final FcmService fcmService;
+    private final RedisNotificationBufferService redisNotificationBufferService;
+    private final RedisHealthChecker redisHealthChecker;
+
+    @Value("${notification.coalesce.window-ms:30000}")
+    private long coalesceWindowMillis;
+
     private final String NOTI_COMMENT = "댓글이 달렸습니다: ";
     private final String NOTI_REPLY = "대댓글이 달렸습니다: ";
     private final String NOTI_LIKE = "좋아요가 달렸습니다";
@@ -107,12 +118,35 @@ public class NotificationService {
         }
     }
 
+    /**
+     * FCM 메시지를 여러 사용자에게 묶음 전송하는 로직
+     * 유저별 조회/전송 대신 토큰을 한 번에 조회해 최대 500개씩 전송하고, 알림 로그도 한 번에 저장
+     * @param users 메시지를 받을 사용자 목록
+     * @return 한 개 이상의 기기에 전송된 사용자 수
+     */
+    public int sendFcmMessageToUsers(String title, String body, Map<String, String> data, List<UserEntity> users) {
+        int success = 0;
+        try {
+            success = fcmService.sendFcmMessageToUsers(users, title, body, data).size();
+        } catch (Exception e) {
+            log.error("[sendFcmMessageToUsers] 알림 전송 실패 : {}", e.getMessage());
+        }
+        notificationRepository.saveAll(users.stream()
+                .map(user -> createNotificationLog(user.get_id(), title, body, data))
+                .toList());
+        return success;
+    }
+
     // 알림 로그를 저장하는 로직 (특정 사용자 대상)
     private void saveNotificationLog(FcmMessageUserDto msgDto, Map<String, String> data) {
-        NotificationEntity notificationEntity = NotificationEntity.builder()
-                .userId(msgDto.getUserId())
-                .title(msgDto.getTitle())
-                .message(msgDto.getBody())
+        notificationRepository.save(createNotificationLog(msgDto.getUserId(), msgDto.getTitle(), msgDto.getBody(), data));
+    }
+
+    private NotificationEntity createNotificationLog(ObjectId userId, String title, String body, Map<String, String> data) {
+        return NotificationEntity.builder()
+                .userId(userId)
+                .title(title)
+                .message(body)
                 // id가 존재하고 비어있지 않으면 ObjectId로 변환, 아니면 null
                 .targetId(
                         (data != null && data.get("id") != null && !data.get("id").isBlank())
@@ -122,7 +156,6 @@ public class NotificationService {
                 .type("push")
                 .priority("high")
                 .build();
-        notificationRepository.save(notificationEntity);
     }
 
     // 알림 로그를 저장하는 로직 (토픽 대상)
@@ -137,21 +170,31 @@ public class NotificationService {
     }
 
     public void sendNotificationMessageByComment(PostCategory postCategory, ObjectId userId, String postId, String content) {
+        sendNotificationMessageByComment(postCategory, userId, postId, content, null);
+    }
+
+    /**
+     * @param eventKey Outbox 작업 Key, 같은 작업의 알림은 한 번만 묶음에 추가
+     */
+    public void sendNotificationMessageByComment(PostCategory postCategory, ObjectId userId, String postId, String content, String eventKey) {
         userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("유저를 찾을 수 없습니다."));
-        Map<String, String> post = new HashMap<>();
-        post.put("id", postId);
         String title = postCategory.getDescription().split("_")[0];
-        sendFcmMessageToUser(title, NOTI_COMMENT+content, post, userId);
+        coalesce(NotificationKind.COMMENT, userId, postId, postId, title, content, eventKey);
     }
 
     public void sendNotificationMessageByReply(PostCategory postCategory, ObjectId userId, String postId, String content) {
+        sendNotificationMessageByReply(postCategory, userId, postId, content, null);
+    }
+
+    /**
+     * @param eventKey Outbox 작업 Key, 같은 작업의 알림은 한 번만 묶음에 추가
+     */
+    public void sendNotificationMessageByReply(PostCategory postCategory, ObjectId userId, String postId, String content, String eventKey) {
         userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("유저를 찾을 수 없습니다."));
-        Map<String, String> post = new HashMap<>();
-        post.put("id", postId);
         String title = postCategory.getDescription().split("_")[0];
-        sendFcmMessageToUser(title, NOTI_REPLY+content, post, userId);
+        coalesce(NotificationKind.REPLY, userId, postId, postId, title, content, eventKey);
     }
 
     public void sendNotificationMessageByLike(LikeType likeType, ObjectId likeTypeId) {
@@ -161,9 +204,8 @@ public class NotificationService {
                         .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
                 userRepository.findById(postEntity.getUserId())
                         .orElseThrow(() -> new NotFoundException("유저 정보를 찾을 수 없습니다."));
-                Map<String, String> post = new HashMap<>();
-                post.put("id", postEntity.get_id().toString());
-                sendFcmMessageToUser(NOTI_LIKE, "내 게시글 보러 가기", post, postEntity.getUserId());
+                coalesce(NotificationKind.LIKE, postEntity.getUserId(), likeTypeId.toString(),
+                        postEntity.get_id().toString(), NOTI_LIKE, "내 게시글 보러 가기", null);
             }
             case REPLY -> {
                 ReplyCommentEntity replyCommentEntity = replyCommentRepository.findByIdAndNotDeleted(likeTypeId)
@@ -174,9 +216,8 @@ public class NotificationService {
                         .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
                 userRepository.findById(replyCommentEntity.getUserId())
                         .orElseThrow(() -> new NotFoundException("유저 정보를 찾을 수 없습니다."));
-                Map<String, String> post = new HashMap<>();
-                post.put("id", postEntity.get_id().toString());
-                sendFcmMessageToUser(NOTI_LIKE, "내 답글 보러 가기", post, replyCommentEntity.getUserId());
+                coalesce(NotificationKind.LIKE, replyCommentEntity.getUserId(), likeTypeId.toString(),
+                        postEntity.get_id().toString(), NOTI_LIKE, "내 답글 보러 가기", null);
             }
             case COMMENT -> {
                 CommentEntity commentEntity = commentRepository.findByIdAndNotDeleted(likeTypeId)
@@ -185,9 +226,8 @@ public class NotificationService {
                         .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
                 userRepository.findById(commentEntity.getUserId())
                         .orElseThrow(() -> new NotFoundException("유저 정보를 찾을 수 없습니다."));
-                Map<String, String> post = new HashMap<>();
-                post.put("id", postEntity.get_id().toString());
-                sendFcmMessageToUser(NOTI_LIKE, "내 댓글 보러 가기", post, commentEntity.getUserId());
+                coalesce(NotificationKind.LIKE, commentEntity.getUserId(), likeTypeId.toString(),
+                        postEntity.get_id().toString(), NOTI_LIKE, "내 댓글 보러 가기", null);
             }
         }
     }
@@ -195,9 +235,108 @@ public class NotificationService {
     public void sendNotificationMessageByChat(ObjectId userId, ObjectId chatRoomId) {
         userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("유저 정보를 찾을 수 없습니다."));
-        Map<String, String> chat = new HashMap<>();
-        chat.put("id", chatRoomId.toString());
-        sendFcmMessageToUser("익명 채팅방", NOTI_CHAT, chat, userId);
+        coalesce(NotificationKind.CHAT, userId, chatRoomId.toString(), chatRoomId.toString(), "익명 채팅방", NOTI_CHAT, null);
+    }
+
+    /**
+     * (수신자, 대상, 종류)가 같은 알림을 묶음 대기 시간 동안 모아서 한 번에 전송하도록 Buffer에 추가
+     * Redis를 사용할 수 없다면 바로 전송
+     * @param kind 알림 종류
+     * @param userId 알림 수신자 _id
+     * @param targetId 알림 대상 _id (게시글, 댓글, 대댓글, 채팅방)
+     * @param dataId 알림 클릭 시 이동할 _id
+     * @param title 알림 제목
+     * @param content 마지막 알림 내용
+     * @param eventKey Outbox 작업 Key, 같은 작업은 한 번만 추가 (Redis 장애로 바로 전송하는 경우는 확인하지 않음)
+     */
+    private void coalesce(NotificationKind kind, ObjectId userId, String targetId, String dataId, String title, String content, String eventKey) {
+        if (redisHealthChecker.isRedisAvailable()) {
+            try {
+                String bufferKey = String.join(":", kind.name(), userId.toString(), targetId);
+                redisNotificationBufferService.add(bufferKey, coalesceWindowMillis, Map.of(
+                        "dataId", dataId,
+                        "title", title,
+                        "content", content), eventKey);
+                return;
+            } catch (Exception e) {
+                log.warn("[coalesce] 알림 Buffer 추가 실패, 바로 전송합니다 : {}", e.getMessage());
+            }
+        }
+        sendCoalescedNotification(kind, userId, dataId, title, content, 1);
+    }
+
+    /**
+     * 묶음 대기 시간이 지난 알림 묶음을 꺼내 묶음당 한 번의 푸시 알림과 한 개의 알림 로그로 전송
+     * 푸시 알림 전송에 실패한 묶음은 Buffer에 되돌려 다음 실행에서 다시 전송
+     * @param limit 한 번에 꺼낼 최대 묶음 수
+     * @return 꺼낸 묶음 수
+     */
+    public int flushCoalescedNotifications(int limit) {
+        Map<String, Map<String, String>> buffers = redisNotificationBufferService.popDue(limit);
+        buffers.forEach((bufferKey, fields) -> {
+            try {
+                String[] key = bufferKey.split(":");
+                FcmMessageUserDto msgDto = createCoalescedMessage(NotificationKind.valueOf(key[0]), new ObjectId(key[1]),
+                        fields.get("dataId"), fields.get("title"), fields.get("content"),
+                        Integer.parseInt(fields.get(RedisNotificationBufferService.COUNT_FIELD)));
+                sendCoalescedMessage(msgDto);
+            } catch (Exception e) {
+                log.error("[flushCoalescedNotifications] 알림 묶음 전송 실패, Buffer에 되돌립니다. key : {}, msg : {}", bufferKey, e.getMessage());
+                restoreBuffer(bufferKey, fields);
+            }
+        });
+        return buffers.size();
+    }
+
+    private void restoreBuffer(String bufferKey, Map<String, String> fields) {
+        try {
+            if (!redisNotificationBufferService.restore(bufferKey, fields))
+                log.error("[flushCoalescedNotifications] 재시도 횟수 초과로 알림 묶음 폐기, key : {}", bufferKey);
+        } catch (Exception e) {
+            log.error("[flushCoalescedNotifications] 알림 묶음 되돌리기 실패, key : {}, msg : {}", bufferKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 꺼낸 알림 묶음 전송, 일시적인 전송 실패는 호출한 곳으로 던져서 묶음을 되돌리도록 함
+     * 유저 또는 FCM 토큰이 없는 경우는 다시 시도해도 실패하므로 전송하지 않고 알림 로그만 저장
+     * 푸시 알림 전송 후의 로그 저장 실패는 되돌리면 푸시 알림이 중복 전송되므로 기록만 남김
+     */
+    private void sendCoalescedMessage(FcmMessageUserDto msgDto) {
+        try {
+            fcmService.sendFcmMessage(msgDto);
+            log.info("[sendFcmMessage] 알림 전송 성공");
+        } catch (NotFoundException | FcmTokenNotFoundException e) {
+            log.warn("[sendFcmMessage] 알림 전송 불가 : {}", e.getMessage());
+        }
+        try {
+            saveNotificationLog(msgDto, msgDto.getData());
+        } catch (Exception e) {
+            log.error("[sendFcmMessage] 알림 로그 저장 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void sendCoalescedNotification(NotificationKind kind, ObjectId userId, String dataId, String title, String content, int count) {
+        FcmMessageUserDto msgDto = createCoalescedMessage(kind, userId, dataId, title, content, count);
+        sendFcmMessageToUser(msgDto.getTitle(), msgDto.getBody(), msgDto.getData(), userId);
+    }
+
+    private FcmMessageUserDto createCoalescedMessage(NotificationKind kind, ObjectId userId, String dataId, String title, String content, int count) {
+        Map<String, String> data = new HashMap<>();
+        data.put("id", dataId);
+        String body = content;
+        switch (kind) {
+            case LIKE -> title = count > 1 ? count + "명이 좋아요를 눌렀습니다" : title;
+            case COMMENT -> body = count > 1 ? "댓글 " + count + "개가 달렸습니다: " + content : NOTI_COMMENT + content;
+            case REPLY -> body = count > 1 ? "대댓글 " + count + "개가 달렸습니다: " + content : NOTI_REPLY + content;
+            case CHAT -> body = count > 1 ? "새로운 채팅 " + count + "개가 있습니다." : content;
+        }
+        return FcmMessageUserDto.builder()
+                .userId(userId)
+                .title(title)
+                .body(body)
+                .data(data)
+                .build();
     }
 
     public void readNotification(String notificationId){
@@ -233,15 +372,7 @@ public class NotificationService {
         Map<String, String> data = new HashMap<>();
         data.put("route", "/mypage/edit"); // 클릭 시 이동 경로(프론트에서 처리)
 
-        int success = 0;
-        for (UserEntity u : targets) {
-            try {
-                sendFcmMessageToUser(title, body, data, u.get_id());
-                success++;
-            } catch (Exception e) {
-                log.info("[이름 1글자 알림] 전송 실패 userId={}", u.get_id(), e);
-            }
-        }
+        int success = sendFcmMessageToUsers(title, body, data, targets);
         log.info("[이름 1글자 알림] 전송 완료: total={}, success={}", targets.size(), success);
         return success;
     }
@@ -267,15 +398,7 @@ public class NotificationService {
         Map<String, String> data = new HashMap<>();
         data.put("route", "/mypage/edit"); // 클릭 시 이동 경로(프론트에서 처리)
 
-        int success = 0;
-        for (UserEntity u : adminTargets) {
-            try {
-                sendFcmMessageToUser(title, body, data, u.get_id());
-                success++;
-            } catch (Exception e) {
-                log.info("[이름 1글자 알림] 전송 실패 userId={}", u.get_id(), e);
-            }
-        }
+        int success = sendFcmMessageToUsers(title, body, data, adminTargets);
         log.info("[이름 1글자 알림] 전송 완료: total={}, success={}", adminTargets.size(), success);
         return success;
     }
@@ -0,0 +1,81 @@
+package inu.codin.codin.domain.outbox.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 요청 스레드에서 분리할 부가 작업 (Transactional Outbox)
+ * 원본 데이터 저장 직후 함께 기록하고, OutboxRelay가 주기적으로 꺼내 처리
+ * idempotencyKey가 같은 작업은 한 번만 기록됨
+ */
+@Document(collection = "outbox")
+@CompoundIndex(name = "outbox_poll_idx", def = "{'status': 1, 'nextAttemptAt': 1}")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEntity {
+
+    @Id
+    private ObjectId _id;
+
+    @Indexed(unique = true)
+    private String idempotencyKey;
+
+    private OutboxEventType eventType;
+
+    private Map<String, String> payload;
+
+    private OutboxStatus status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime lockedUntil;
+
+    // 마지막으로 점유한 Relay 실행의 Token, 여러 작업을 한 번에 점유한 뒤 점유에 성공한 작업만 조회하는 데 사용
+    private String claimToken;
+
+    private String lastError;
+
+    // 효과를 반영한 시각, 다시 점유되어도 이 값이 있으면 반영하지 않음 (댓글 수 증가처럼 멱등하지 않은 작업)
+    private LocalDateTime appliedAt;
+
+    private LocalDateTime createdAt;
+
+    // 처리 완료 후 7일이 지나면 삭제
+    @Indexed(name = "outbox_processed_ttl_idx", expireAfter = "7d")
+    private LocalDateTime processedAt;
+
+    @Builder
+    public OutboxEntity(String idempotencyKey, OutboxEventType eventType, Map<String, String> payload) {
+        LocalDateTime now = LocalDateTime.now();
+        this.idempotencyKey = idempotencyKey;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    /**
+     * @param sourceId 작업을 발생시킨 데이터의 _id (댓글, 좋아요 등)
+     */
+    public static OutboxEntity of(OutboxEventType eventType, ObjectId sourceId, Map<String, String> payload) {
+        return OutboxEntity.builder()
+                .idempotencyKey(sourceId.toString() + ":" + eventType.name())
+                .eventType(eventType)
+                .payload(payload)
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package inu.codin.codin.domain.outbox.entity;
+
+/**
+ * Outbox로 처리하는 부가 작업 종류
+ */
+public enum OutboxEventType {
+    BEST_SCORE,           // Best 게시글 점수 반영
+    COMMENT_COUNT,        // 게시글 댓글 수 증가
+    COMMENT_NOTIFICATION, // 댓글 알림
+    REPLY_NOTIFICATION    // 대댓글 알림
+}
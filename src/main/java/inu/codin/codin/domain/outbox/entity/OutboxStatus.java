@@ -0,0 +1,8 @@
+package inu.codin.codin.domain.outbox.entity;
+
+public enum OutboxStatus {
+    PENDING,    // 처리 대기 (재시도 대기 포함)
+    PROCESSING, // Worker가 점유 중, lockedUntil이 지나면 다시 점유 가능
+    DONE,       // 처리 완료
+    FAILED      // 최대 재시도 횟수 초과
+}
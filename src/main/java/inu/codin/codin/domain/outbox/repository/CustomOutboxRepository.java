@@ -0,0 +1,177 @@
+package inu.codin.codin.domain.outbox.repository;
+
+import inu.codin.codin.domain.outbox.entity.OutboxEntity;
+import inu.codin.codin.domain.outbox.entity.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@Repository
+public class CustomOutboxRepository {
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+    private static final String SOURCE_PENDING = "outboxPending";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomOutboxRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 여러 작업을 한 번의 insertMany로 기록, 이미 기록된 idempotencyKey는 무시
+     */
+    public void insertAll(List<OutboxEntity> events) {
+        if (events.isEmpty()) return;
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OutboxEntity.class)
+                    .insert(events)
+                    .execute();
+        } catch (BulkOperationException e) {
+            boolean onlyDuplicates = e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY_ERROR);
+            if (!onlyDuplicates) throw e;
+            log.info("[insertAll] 이미 기록된 Outbox 작업 {}건 무시", e.getErrors().size());
+        }
+    }
+
+    /**
+     * 처리할 작업을 최대 limit개 점유
+     * 대기 중이면서 재시도 시각이 지났거나, 점유 시간이 만료된 작업이 대상
+     * 후보를 조회한 뒤 한 번의 updateMulti로 점유하고, 이번 점유 Token이 기록된 작업만 다시 조회
+     * (그 사이 다른 Worker가 먼저 점유한 작업은 조건에서 제외되어 Token이 기록되지 않음)
+     * @param lease 점유 유지 시간, 이 시간 안에 완료 처리되지 않으면 다른 Worker가 다시 점유
+     * @return 점유한 작업 목록
+     */
+    public List<OutboxEntity> claimBatch(Duration lease, int limit) {
+        if (limit <= 0) return List.of();
+        LocalDateTime now = LocalDateTime.now();
+        Query candidates = new Query(claimable(now))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"))
+                .limit(limit);
+        candidates.fields().include("_id");
+        List<ObjectId> ids = mongoTemplate.find(candidates, OutboxEntity.class).stream()
+                .map(OutboxEntity::get_id)
+                .toList();
+        if (ids.isEmpty()) return List.of();
+
+        String claimToken = new ObjectId().toHexString();
+        mongoTemplate.updateMulti(
+                new Query(new Criteria().andOperator(Criteria.where("_id").in(ids), claimable(now))),
+                new Update().set("status", OutboxStatus.PROCESSING)
+                        .set("lockedUntil", now.plus(lease))
+                        .set("claimToken", claimToken)
+                        .inc("attempts", 1),
+                OutboxEntity.class);
+        return mongoTemplate.find(
+                new Query(Criteria.where("_id").in(ids).and("claimToken").is(claimToken)), OutboxEntity.class);
+    }
+
+    private static Criteria claimable(LocalDateTime now) {
+        return new Criteria().orOperator(
+                Criteria.where("status").is(OutboxStatus.PENDING).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(OutboxStatus.PROCESSING).and("lockedUntil").lte(now));
+    }
+
+    /**
+     * 처리하지 못한 작업의 점유 해제, 시도 횟수를 되돌리고 바로 다시 점유될 수 있도록 대기 상태로 변경
+     * 다른 Worker가 다시 점유한 작업이라면 변경하지 않음
+     */
+    public void release(OutboxEntity event) {
+        mongoTemplate.updateFirst(
+                leaseOf(event),
+                new Update().set("status", OutboxStatus.PENDING)
+                        .set("nextAttemptAt", LocalDateTime.now())
+                        .unset("lockedUntil")
+                        .inc("attempts", -1),
+                OutboxEntity.class);
+    }
+
+    /**
+     * 처리 중인 작업들의 점유 시간 연장, Executor 대기열이나 처리 중에 점유가 만료되어 다시 점유되는 것을 방지
+     * 이미 다른 Worker가 다시 점유한 작업(attempts 변경)은 연장하지 않음
+     */
+    public void extendLeases(Collection<OutboxEntity> events, Duration lease) {
+        if (events.isEmpty()) return;
+        LocalDateTime lockedUntil = LocalDateTime.now().plus(lease);
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OutboxEntity.class);
+        events.forEach(event -> bulkOps.updateOne(leaseOf(event), new Update().set("lockedUntil", lockedUntil)));
+        bulkOps.execute();
+    }
+
+    /**
+     * 작업의 효과를 반영하기 전에 반영 표시, 이미 반영했거나 다른 Worker가 다시 점유한 작업이라면 false
+     * 표시한 Worker만 효과를 반영하므로 다시 점유되어도 한 번만 반영됨
+     * @return 이번 점유에서 처음 표시했다면 true
+     */
+    public boolean markApplied(OutboxEntity event) {
+        Query query = leaseOf(event);
+        query.addCriteria(Criteria.where("appliedAt").exists(false));
+        return mongoTemplate.updateFirst(query, new Update().set("appliedAt", LocalDateTime.now()), OutboxEntity.class)
+                .getModifiedCount() > 0;
+    }
+
+    /**
+     * 처리 완료 기록, 다른 Worker가 다시 점유한 작업이라면 기록하지 않음
+     */
+    public void markDone(OutboxEntity event) {
+        mongoTemplate.updateFirst(
+                leaseOf(event),
+                new Update().set("status", OutboxStatus.DONE)
+                        .set("processedAt", LocalDateTime.now())
+                        .unset("lockedUntil"),
+                OutboxEntity.class);
+    }
+
+    /**
+     * 처리 실패 기록, 재시도 가능하다면 nextAttemptAt 이후 다시 점유됨
+     * 다른 Worker가 다시 점유한 작업이라면 기록하지 않음
+     */
+    public void markFailed(OutboxEntity event, String error, LocalDateTime nextAttemptAt, boolean retryable) {
+        Update update = new Update()
+                .set("status", retryable ? OutboxStatus.PENDING : OutboxStatus.FAILED)
+                .set("lastError", error)
+                .unset("lockedUntil");
+        if (retryable) update.set("nextAttemptAt", nextAttemptAt);
+        mongoTemplate.updateFirst(leaseOf(event), update, OutboxEntity.class);
+    }
+
+    /**
+     * Outbox 작업 기록 전에 남은 원본 데이터 조회 (댓글, 대댓글)
+     * @param sourceType 원본 Entity 타입
+     * @param createdBefore 이 시각 이전에 저장된 원본만 조회, 요청 스레드에서 기록 중인 원본 제외
+     */
+    public <T> List<T> findPendingSources(Class<T> sourceType, LocalDateTime createdBefore, int limit) {
+        Query query = new Query(Criteria.where(SOURCE_PENDING).is(true).and("createdAt").lt(createdBefore))
+                .limit(limit);
+        return mongoTemplate.find(query, sourceType);
+    }
+
+    /**
+     * 원본 데이터의 Outbox 작업 기록 완료 표시
+     */
+    public void clearSourcePending(Class<?> sourceType, ObjectId sourceId) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(sourceId)), new Update().unset(SOURCE_PENDING), sourceType);
+    }
+
+    /**
+     * 점유할 때마다 attempts가 증가하므로 점유 당시의 attempts가 그대로인 경우에만 같은 점유로 판단
+     */
+    private static Query leaseOf(OutboxEntity event) {
+        return new Query(Criteria.where("_id").is(event.get_id())
+                .and("status").is(OutboxStatus.PROCESSING)
+                .and("attempts").is(event.getAttempts()));
+    }
+}
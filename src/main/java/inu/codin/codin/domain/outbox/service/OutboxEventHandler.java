@@ -0,0 +1,49 @@
+package inu.codin.codin.domain.outbox.service;
+
+import inu.codin.codin.domain.notification.service.NotificationService;
+import inu.codin.codin.domain.outbox.entity.OutboxEntity;
+import inu.codin.codin.domain.outbox.repository.CustomOutboxRepository;
+import inu.codin.codin.domain.post.entity.PostCategory;
+import inu.codin.codin.domain.post.service.PostCommandService;
+import inu.codin.codin.infra.redis.service.RedisBestService;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Outbox 작업 종류별 실제 처리
+ * 같은 작업이 다시 점유되어 여러 번 처리될 수 있으므로 모든 작업은 한 번만 반영
+ * - Best 점수, 알림: Redis에 idempotencyKey를 함께 기록
+ * - 댓글 수: Outbox 작업에 반영 표시(appliedAt)를 남긴 뒤 $inc
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventHandler {
+
+    private final RedisBestService redisBestService;
+    private final PostCommandService postCommandService;
+    private final NotificationService notificationService;
+    private final CustomOutboxRepository customOutboxRepository;
+
+    public void handle(OutboxEntity event) {
+        Map<String, String> payload = event.getPayload();
+        String eventKey = event.getIdempotencyKey();
+        switch (event.getEventType()) {
+            case BEST_SCORE -> redisBestService.applyBestScore(
+                    Integer.parseInt(payload.get("score")), new ObjectId(payload.get("postId")), eventKey);
+            case COMMENT_COUNT -> {
+                // 반영 표시 후 서버가 종료되면 댓글 수 1 증가가 누락될 수 있지만 중복 증가는 발생하지 않음
+                if (customOutboxRepository.markApplied(event))
+                    postCommandService.increaseCommentCount(new ObjectId(payload.get("postId")));
+            }
+            case COMMENT_NOTIFICATION -> notificationService.sendNotificationMessageByComment(
+                    PostCategory.valueOf(payload.get("postCategory")), new ObjectId(payload.get("receiverId")),
+                    payload.get("postId"), payload.get("content"), eventKey);
+            case REPLY_NOTIFICATION -> notificationService.sendNotificationMessageByReply(
+                    PostCategory.valueOf(payload.get("postCategory")), new ObjectId(payload.get("receiverId")),
+                    payload.get("postId"), payload.get("content"), eventKey);
+        }
+    }
+}
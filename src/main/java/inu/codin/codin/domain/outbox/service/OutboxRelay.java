@@ -0,0 +1,101 @@
+package inu.codin.codin.domain.outbox.service;
+
+import inu.codin.codin.common.config.AsyncConfig;
+import inu.codin.codin.domain.outbox.entity.OutboxEntity;
+import inu.codin.codin.domain.outbox.repository.CustomOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Outbox 작업을 주기적으로 점유하여 outboxExecutor에서 처리
+ * - 한 번에 Executor 대기열의 남은 자리만큼(최대 BATCH_SIZE개) 묶어서 점유
+ * - Executor가 작업을 거부하면 남은 작업의 점유를 풀어 다음 실행에서 다시 점유 (스케줄러 스레드에서 직접 처리하지 않음)
+ * - 실패 시 지수 백오프로 재시도, MAX_ATTEMPTS회 실패하면 FAILED로 남김
+ * - 처리 중이거나 Executor 대기열에 있는 작업은 LEASE_RENEW_INTERVAL마다 점유 시간을 연장
+ * - 점유가 연장되지 않은 작업(서버 종료 등)은 LEASE 이후 다시 점유되어 처리되므로 최소 1회 처리 보장
+ * - 다시 처리되더라도 OutboxEventHandler가 중복 반영을 막음
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final long LEASE_RENEW_INTERVAL = 10000;
+
+    private final CustomOutboxRepository customOutboxRepository;
+    private final OutboxEventHandler outboxEventHandler;
+    private final ThreadPoolTaskExecutor outboxExecutor;
+    private final Map<ObjectId, OutboxEntity> inFlight = new ConcurrentHashMap<>();
+
+    public OutboxRelay(CustomOutboxRepository customOutboxRepository, OutboxEventHandler outboxEventHandler,
+                       @Qualifier(AsyncConfig.OUTBOX_EXECUTOR) ThreadPoolTaskExecutor outboxExecutor) {
+        this.customOutboxRepository = customOutboxRepository;
+        this.outboxEventHandler = outboxEventHandler;
+        this.outboxExecutor = outboxExecutor;
+    }
+
+    @Scheduled(fixedDelay = 500)
+    public void relay() {
+        int capacity = outboxExecutor.getThreadPoolExecutor().getQueue().remainingCapacity();
+        List<OutboxEntity> events = customOutboxRepository.claimBatch(LEASE, Math.min(BATCH_SIZE, capacity));
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEntity event = events.get(i);
+            inFlight.put(event.get_id(), event);
+            try {
+                outboxExecutor.execute(() -> process(event));
+            } catch (RejectedExecutionException e) {
+                List<OutboxEntity> rejected = events.subList(i, events.size());
+                rejected.forEach(this::release);
+                log.warn("[Outbox] Executor 대기열 포화로 {}건 점유 해제", rejected.size());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이 서버가 점유한 작업의 점유 시간 연장
+     */
+    @Scheduled(fixedDelay = LEASE_RENEW_INTERVAL)
+    public void renewLeases() {
+        if (inFlight.isEmpty()) return;
+        customOutboxRepository.extendLeases(inFlight.values(), LEASE);
+    }
+
+    void process(OutboxEntity event) {
+        try {
+            outboxEventHandler.handle(event);
+            customOutboxRepository.markDone(event);
+        } catch (Exception e) {
+            boolean retryable = event.getAttempts() < MAX_ATTEMPTS;
+            customOutboxRepository.markFailed(event, e.getMessage(), nextAttemptAt(event.getAttempts()), retryable);
+            log.warn("[Outbox] {} 처리 실패 - key: {}, 시도: {}/{}, 원인: {}",
+                    event.getEventType(), event.getIdempotencyKey(), event.getAttempts(), MAX_ATTEMPTS, e.getMessage());
+        } finally {
+            inFlight.remove(event.get_id());
+        }
+    }
+
+    private void release(OutboxEntity event) {
+        inFlight.remove(event.get_id());
+        customOutboxRepository.release(event);
+    }
+
+    private LocalDateTime nextAttemptAt(int attempts) {
+        Duration backoff = Duration.ofSeconds(1L << Math.min(attempts, 16));
+        return LocalDateTime.now().plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff);
+    }
+}
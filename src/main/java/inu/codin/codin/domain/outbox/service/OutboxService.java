@@ -0,0 +1,68 @@
+package inu.codin.codin.domain.outbox.service;
+
+import inu.codin.codin.domain.outbox.entity.OutboxEntity;
+import inu.codin.codin.domain.outbox.entity.OutboxEventType;
+import inu.codin.codin.domain.outbox.repository.CustomOutboxRepository;
+import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
+import inu.codin.codin.domain.post.domain.comment.reply.entity.ReplyCommentEntity;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글, 대댓글, 좋아요 저장 후 수행해야 하는 부가 작업을 Outbox에 기록
+ * 실제 처리는 OutboxRelay가 담당
+ * Mongo 트랜잭션을 사용하지 않으므로 댓글/대댓글은 outboxPending 표시와 함께 저장하고, Outbox 기록 후 표시를 제거
+ * 기록 전에 서버가 종료되어 표시가 남은 댓글은 OutboxSweeper가 다시 기록 (idempotencyKey로 중복 기록 방지)
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final CustomOutboxRepository customOutboxRepository;
+
+    /**
+     * 댓글/대댓글 작성 후 작업 기록 - Best 점수, 댓글 수, 게시글 작성자 알림
+     * @param sourceId 댓글 혹은 대댓글 _id
+     * @param notificationType 알림 종류 (COMMENT_NOTIFICATION: 댓글, REPLY_NOTIFICATION: 대댓글)
+     * @param post 댓글이 달린 게시글
+     * @param writerId 댓글 작성자 _id
+     * @param content 댓글 내용
+     */
+    public void publishCommentCreated(ObjectId sourceId, OutboxEventType notificationType, PostEntity post, ObjectId writerId, String content) {
+        String postId = post.get_id().toString();
+        List<OutboxEntity> events = new ArrayList<>();
+        events.add(OutboxEntity.of(OutboxEventType.BEST_SCORE, sourceId, Map.of("postId", postId, "score", "1")));
+        events.add(OutboxEntity.of(OutboxEventType.COMMENT_COUNT, sourceId, Map.of("postId", postId)));
+        if (!writerId.equals(post.getUserId())) {
+            events.add(OutboxEntity.of(notificationType, sourceId, Map.of(
+                    "postId", postId,
+                    "postCategory", post.getPostCategory().name(),
+                    "receiverId", post.getUserId().toString(),
+                    "content", content)));
+        }
+        customOutboxRepository.insertAll(events);
+        customOutboxRepository.clearSourcePending(sourceTypeOf(notificationType), sourceId);
+    }
+
+    /**
+     * 게시글 좋아요 추가 후 작업 기록 - Best 점수
+     * @param sourceId 좋아요 _id 혹은 (게시글 _id + 유저 _id) 조합 키
+     */
+    public void publishPostLiked(String sourceId, ObjectId postId) {
+        customOutboxRepository.insertAll(List.of(OutboxEntity.builder()
+                .idempotencyKey(sourceId + ":" + OutboxEventType.BEST_SCORE.name())
+                .eventType(OutboxEventType.BEST_SCORE)
+                .payload(Map.of("postId", postId.toString(), "score", "1"))
+                .build()));
+    }
+
+    private static Class<?> sourceTypeOf(OutboxEventType notificationType) {
+        return notificationType == OutboxEventType.REPLY_NOTIFICATION ? ReplyCommentEntity.class : CommentEntity.class;
+    }
+}
@@ -0,0 +1,71 @@
+package inu.codin.codin.domain.outbox.service;
+
+import inu.codin.codin.domain.outbox.entity.OutboxEventType;
+import inu.codin.codin.domain.outbox.repository.CustomOutboxRepository;
+import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
+import inu.codin.codin.domain.post.domain.comment.reply.entity.ReplyCommentEntity;
+import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 저장 후 Outbox 기록 전에 서버가 종료되어 outboxPending 표시가 남은 댓글/대댓글의 작업을 다시 기록
+ * 요청 스레드에서 기록 중인 댓글과 겹치지 않도록 GRACE 이전에 저장된 댓글만 대상
+ * 이미 기록된 작업은 idempotencyKey로 무시되므로 중복 기록되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxSweeper {
+
+    private static final int BATCH_SIZE = 100;
+    private static final Duration GRACE = Duration.ofMinutes(1);
+
+    private final CustomOutboxRepository customOutboxRepository;
+    private final OutboxService outboxService;
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+
+    @Scheduled(fixedDelay = 60000)
+    public void sweep() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(GRACE);
+
+        List<CommentEntity> comments = customOutboxRepository.findPendingSources(CommentEntity.class, createdBefore, BATCH_SIZE);
+        for (CommentEntity comment : comments) {
+            republish(CommentEntity.class, comment.get_id(), OutboxEventType.COMMENT_NOTIFICATION,
+                    comment.getPostId(), comment.getUserId(), comment.getContent());
+        }
+
+        List<ReplyCommentEntity> replies = customOutboxRepository.findPendingSources(ReplyCommentEntity.class, createdBefore, BATCH_SIZE);
+        for (ReplyCommentEntity reply : replies) {
+            ObjectId postId = commentRepository.findById(reply.getCommentId())
+                    .map(CommentEntity::getPostId)
+                    .orElse(null);
+            republish(ReplyCommentEntity.class, reply.get_id(), OutboxEventType.REPLY_NOTIFICATION,
+                    postId, reply.getUserId(), reply.getContent());
+        }
+
+        if (!comments.isEmpty() || !replies.isEmpty())
+            log.info("[OutboxSweeper] Outbox 작업 다시 기록 - 댓글: {}, 대댓글: {}", comments.size(), replies.size());
+    }
+
+    private void republish(Class<?> sourceType, ObjectId sourceId, OutboxEventType notificationType,
+                           ObjectId postId, ObjectId writerId, String content) {
+        PostEntity post = postId != null ? postRepository.findById(postId).orElse(null) : null;
+        if (post == null) {
+            // 게시글이 없다면 반영할 작업이 없으므로 표시만 제거
+            customOutboxRepository.clearSourcePending(sourceType, sourceId);
+            return;
+        }
+        outboxService.publishCommentCreated(sourceId, notificationType, post, writerId, content);
+    }
+}
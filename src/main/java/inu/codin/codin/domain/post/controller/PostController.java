@@ -14,7 +14,6 @@ import inu.codin.codin.domain.post.service.PostQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -91,12 +90,17 @@ public class PostController {
 
 
     @Operation(
-            summary = "카테고리별 삭제 되지 않은 모든 게시물 조회"
+            summary = "카테고리별 삭제 되지 않은 모든 게시물 조회",
+            description = "page : 페이지 번호 기반 조회<br>" +
+                    "cursor : 커서 기반 조회 (첫 페이지는 빈 값, 이후 응답의 nextCursor 전달), cursor가 존재하면 page는 무시"
     )
     @GetMapping("/category")
     public ResponseEntity<SingleResponse<PostPageResponse>> getAllPosts(@RequestParam PostCategory postCategory,
-                                                                        @RequestParam("page") @NotNull int pageNumber) {
-        PostPageResponse postpages= postQueryService.getAllPosts(postCategory, pageNumber);
+                                                                        @RequestParam(value = "page", required = false, defaultValue = "0") int pageNumber,
+                                                                        @RequestParam(value = "cursor", required = false) String cursor) {
+        PostPageResponse postpages = (cursor != null)
+                ? postQueryService.getAllPostsByCursor(postCategory, cursor)
+                : postQueryService.getAllPosts(postCategory, pageNumber);
         return ResponseEntity.ok()
                 .body(new SingleResponse<>(200, "카테고리별 삭제 되지 않은 모든 게시물 조회 성공", postpages));
     }
@@ -131,13 +135,19 @@ public class PostController {
     }
 
     @Operation(
-            summary = "검색 엔진"
+            summary = "검색 엔진",
+            description = "pageNumber : 페이지 번호 기반 조회<br>" +
+                    "cursor : 커서 기반 조회 (첫 페이지는 빈 값, 이후 응답의 nextCursor 전달), cursor가 존재하면 pageNumber는 무시"
     )
     @GetMapping("/search")
     public ResponseEntity<SingleResponse<PostPageResponse>> searchPosts(@RequestParam("keyword") @Size(min = 2) String keyword,
-                                                         @RequestParam("pageNumber") @NotNull int pageNumber){
+                                                         @RequestParam(value = "pageNumber", required = false, defaultValue = "0") int pageNumber,
+                                                         @RequestParam(value = "cursor", required = false) String cursor){
+        PostPageResponse posts = (cursor != null)
+                ? postQueryService.searchPostsByCursor(keyword, cursor)
+                : postQueryService.searchPosts(keyword, pageNumber);
         return ResponseEntity.ok()
-                .body(new SingleResponse<>(200, "'"+keyword+"'"+"으로 검색된 게시글 반환 완료", postQueryService.searchPosts(keyword, pageNumber)));
+                .body(new SingleResponse<>(200, "'"+keyword+"'"+"으로 검색된 게시글 반환 완료", posts));
     }
 
     @Operation(summary = "Top 3 베스트 게시글 가져오기")
@@ -10,6 +10,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "replies")
@@ -31,12 +32,17 @@ public class ReplyCommentEntity extends BaseTimeEntity {
 
     private boolean anonymous;
 
+    // Outbox 작업 기록 전이면 true, 기록 후 제거 (저장 직후 서버가 종료되어도 OutboxSweeper가 다시 기록)
+    @Indexed(sparse = true)
+    private Boolean outboxPending;
+
     @Builder
     public ReplyCommentEntity(ObjectId commentId, ObjectId userId,String content,  boolean anonymous) {
         this.commentId = commentId;
         this.userId = userId;
         this.content = content;
         this.anonymous = anonymous;
+        this.outboxPending = true;
     }
 
     public static ReplyCommentEntity create(ObjectId commentId, ObjectId userId, ReplyCreateRequestDTO requestDTO) {
@@ -2,8 +2,8 @@ package inu.codin.codin.domain.post.domain.comment.reply.service;
 
 import inu.codin.codin.common.security.util.SecurityUtils;
 import inu.codin.codin.common.util.ObjectIdUtil;
-import inu.codin.codin.domain.notification.service.NotificationService;
-import inu.codin.codin.domain.post.domain.best.BestService;
+import inu.codin.codin.domain.outbox.entity.OutboxEventType;
+import inu.codin.codin.domain.outbox.service.OutboxService;
 import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
 import inu.codin.codin.domain.post.domain.comment.service.CommentQueryService;
 import inu.codin.codin.domain.post.domain.comment.reply.dto.request.ReplyCreateRequestDTO;
@@ -29,8 +29,7 @@ public class ReplyCommandService {
     private final PostCommandService postCommandService;
     private final PostQueryService postQueryService;
 
-    private final NotificationService notificationService;
-    private final BestService bestService;
+    private final OutboxService outboxService;
     private final CommentQueryService commentQueryService;
     private final ReplyQueryService replyQueryService;
     private final OwnershipPolicy ownershipPolicy;
@@ -38,7 +37,7 @@ public class ReplyCommandService {
     /**
      *Command Method
      */
-    // 대댓글 추가
+    // 대댓글 추가, Best 점수 / 댓글 수 / 알림은 Outbox를 통해 비동기로 처리
     public void addReply(String id, ReplyCreateRequestDTO requestDTO) {
 
         CommentEntity comment = commentQueryService.findCommentById(ObjectIdUtil.toObjectId(id));
@@ -49,12 +48,10 @@ public class ReplyCommandService {
         ReplyCommentEntity reply = ReplyCommentEntity.create(comment.get_id(), userId, requestDTO);
         replyCommentRepository.save(reply);
 
+        outboxService.publishCommentCreated(reply.get_id(), OutboxEventType.REPLY_NOTIFICATION, post, userId, reply.getContent());
         postCommandService.handleCommentCreation(post, userId);
-        bestService.applyBestScore(post.get_id());
 
-        log.info("대댓글 추가 완료 - replyId: {}, postId: {}, commentCount: {}",
-                reply.get_id(), post.get_id(), post.getCommentCount());
-        if (!userId.equals(post.getUserId())) notificationService.sendNotificationMessageByReply(post.getPostCategory(), post.getUserId(), post.get_id().toString(), reply.getContent());
+        log.info("대댓글 추가 완료 - replyId: {}, postId: {}", reply.get_id(), post.get_id());
     }
 
     public void updateReply(String replyId, @Valid ReplyUpdateRequestDTO requestDTO) {
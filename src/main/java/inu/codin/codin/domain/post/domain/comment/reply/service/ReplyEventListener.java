@@ -1,5 +1,6 @@
 package inu.codin.codin.domain.post.domain.comment.reply.service;
 
+import inu.codin.codin.common.config.AsyncConfig;
 import inu.codin.codin.domain.notification.service.NotificationService;
 import inu.codin.codin.domain.post.domain.comment.reply.dto.event.ReplyNotificationEvent;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,7 @@ public class ReplyEventListener {
 
     private final NotificationService notificationService;
 
-    @Async
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     @EventListener
     public void handleReplyNotificationEvent(ReplyNotificationEvent event){
         notificationService.sendNotificationMessageByReply(event.getPostCategory(), event.getUserId(), event.getPostId(), event.getContent());
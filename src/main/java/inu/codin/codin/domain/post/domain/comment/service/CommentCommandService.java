@@ -2,13 +2,13 @@ package inu.codin.codin.domain.post.domain.comment.service;
 
 import inu.codin.codin.common.security.util.SecurityUtils;
 import inu.codin.codin.common.util.ObjectIdUtil;
-import inu.codin.codin.domain.notification.service.NotificationService;
+import inu.codin.codin.domain.outbox.entity.OutboxEventType;
+import inu.codin.codin.domain.outbox.service.OutboxService;
 import inu.codin.codin.domain.post.domain.comment.dto.request.CommentCreateRequestDTO;
 import inu.codin.codin.domain.post.domain.comment.dto.request.CommentUpdateRequestDTO;
 import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
 import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
 import inu.codin.codin.domain.post.entity.PostEntity;
-import inu.codin.codin.domain.post.domain.best.BestService;
 import inu.codin.codin.domain.post.security.OwnershipPolicy;
 import inu.codin.codin.domain.post.service.PostCommandService;
 import inu.codin.codin.domain.post.service.PostQueryService;
@@ -22,13 +22,12 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class CommentCommandService {
     private final CommentRepository commentRepository;
-    private final NotificationService notificationService;
+    private final OutboxService outboxService;
     private final PostCommandService postCommandService;
     private final PostQueryService postQueryService;
     private final OwnershipPolicy ownershipPolicy;
-    private final BestService bestService;
 
-    // 댓글 추가
+    // 댓글 추가, Best 점수 / 댓글 수 / 알림은 Outbox를 통해 비동기로 처리
     public void addComment(String id, CommentCreateRequestDTO requestDTO) {
 
         ObjectId postId = ObjectIdUtil.toObjectId(id);
@@ -39,11 +38,10 @@ public class CommentCommandService {
         CommentEntity comment = CommentEntity.create(postId, userId, requestDTO);
         commentRepository.save(comment);
 
+        outboxService.publishCommentCreated(comment.get_id(), OutboxEventType.COMMENT_NOTIFICATION, post, userId, comment.getContent());
         postCommandService.handleCommentCreation(post, userId);
-        bestService.applyBestScore(postId);
 
         log.info("댓글 추가완료 postId: {} commentId : {}", postId, comment.get_id());
-        if (!userId.equals(post.getUserId())) notificationService.sendNotificationMessageByComment(post.getPostCategory(), post.getUserId(), post.get_id().toString(), comment.getContent());
 
     }
 
@@ -1,5 +1,6 @@
 package inu.codin.codin.domain.post.domain.comment.service;
 
+import inu.codin.codin.common.config.AsyncConfig;
 import inu.codin.codin.domain.notification.service.NotificationService;
 import inu.codin.codin.domain.post.domain.comment.dto.event.CommentNotificationEvent;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,7 @@ public class CommentEventListener {
 
     private final NotificationService notificationService;
 
-    @Async
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     @EventListener
     public void handleCommentNotificationEvent(CommentNotificationEvent event){
         notificationService.sendNotificationMessageByComment(event.getPostCategory(), event.getUserId(), event.getPostId(), event.getContent());
@@ -0,0 +1,32 @@
+package inu.codin.codin.domain.post.domain.hits.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 조회수 스냅샷
+ * 조회 중복 판단과 집계는 Redis HyperLogLog에서 처리하고, DB에는 주기적으로 조회수만 저장
+ * Cache miss 시 조회수 복구의 기준 값
+ */
+@Document(collection = "hits_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HitsSnapshotEntity {
+
+    @Id
+    private ObjectId _id;
+
+    @Indexed(unique = true)
+    private ObjectId postId;
+
+    private int count;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,86 @@
+package inu.codin.codin.domain.post.domain.hits.repository;
+
+import inu.codin.codin.domain.post.domain.hits.entity.HitsEntity;
+import inu.codin.codin.domain.post.domain.hits.entity.HitsSnapshotEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class CustomHitsRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomHitsRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 이전 hits Collection 기준 여러 게시글의 조회수를 한 번의 Aggregation으로 조회
+     * 스냅샷이 없는 게시글의 조회수 이관용
+     * @return Key : postId, Value : 조회수
+     */
+    public Map<ObjectId, Integer> countByPostIds(Collection<ObjectId> postIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("postId").in(postIds)),
+                Aggregation.group("postId").count().as("count")
+        );
+
+        Map<ObjectId, Integer> result = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, HitsEntity.class, Document.class)
+                .getMappedResults()
+                .forEach(doc -> result.put(doc.getObjectId("_id"), doc.get("count", Number.class).intValue()));
+        return result;
+    }
+
+    /**
+     * 이전 hits Collection 기준 게시글을 조회한 유저, 조회한 유저 HyperLogLog 복구용
+     * @return 조회한 유저 _id (중복 제거)
+     */
+    public List<String> findViewerIds(ObjectId postId) {
+        return mongoTemplate.findDistinct(new Query(Criteria.where("postId").is(postId)), "userId", HitsEntity.class, ObjectId.class)
+                .stream()
+                .map(ObjectId::toString)
+                .toList();
+    }
+
+    /**
+     * 여러 게시글의 조회수 스냅샷 조회
+     * @return Key : postId, Value : 스냅샷 조회수 (스냅샷이 없는 게시글은 제외)
+     */
+    public Map<ObjectId, Integer> findSnapshotCounts(Collection<ObjectId> postIds) {
+        Query query = new Query(Criteria.where("postId").in(postIds));
+        query.fields().include("postId").include("count");
+
+        Map<ObjectId, Integer> result = new HashMap<>();
+        mongoTemplate.find(query, HitsSnapshotEntity.class)
+                .forEach(snapshot -> result.put(snapshot.getPostId(), snapshot.getCount()));
+        return result;
+    }
+
+    /**
+     * 여러 게시글의 조회수 스냅샷을 한 번의 Bulk 연산으로 저장
+     * @param hitsCounts Key : postId, Value : 조회수
+     */
+    public void upsertSnapshots(Map<ObjectId, Integer> hitsCounts) {
+        if (hitsCounts.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, HitsSnapshotEntity.class);
+        hitsCounts.forEach((postId, count) -> bulkOps.upsert(
+                new Query(Criteria.where("postId").is(postId)),
+                new Update().set("count", count).set("updatedAt", now)));
+        bulkOps.execute();
+    }
+}
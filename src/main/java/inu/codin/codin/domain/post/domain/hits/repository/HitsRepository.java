@@ -7,6 +7,4 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 public interface HitsRepository extends MongoRepository<HitsEntity, ObjectId> {
 
     int countAllByPostId(ObjectId postId);
-
-    boolean existsByPostIdAndUserId(ObjectId postId, ObjectId userId);
 }
@@ -1,21 +1,26 @@
 package inu.codin.codin.domain.post.domain.hits.service;
 
-import inu.codin.codin.domain.post.domain.hits.entity.HitsEntity;
+import inu.codin.codin.domain.post.domain.hits.repository.CustomHitsRepository;
 import inu.codin.codin.domain.post.domain.hits.repository.HitsRepository;
 import inu.codin.codin.domain.post.domain.hits.exception.HitsException;
 import inu.codin.codin.domain.post.domain.hits.exception.HitsErrorCode;
 import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.CacheRecoveryLoader;
 import inu.codin.codin.infra.redis.service.RedisHitsService;
 import lombok.RequiredArgsConstructor;
 import org.bson.types.ObjectId;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Look Aside
  * - Cache miss -> DB 조회 및 Cache 등록
  * Write Back
- * - SyncScheduler 동기화
+ * - 조회수 증가는 Cache(HyperLogLog)에만 반영, SyncScheduler가 주기적으로 스냅샷 저장
  */
 @Service
 @RequiredArgsConstructor
@@ -25,35 +30,45 @@ public class HitsService {
     private final RedisHealthChecker redisHealthChecker;
 
     private final HitsRepository hitsRepository;
+    private final CustomHitsRepository customHitsRepository;
+    private final CacheRecoveryLoader cacheRecoveryLoader;
+
+    private static final String HITS_KEY = "post:hits:";
+    private static final String HITS_HLL_KEY = "post:hits:hll:";
+    private static final long CACHE_MISS = -1L;
+    private static final long VIEWERS_MISS = -2L;
+    private static final int FLUSH_BATCH_SIZE = 500;
 
     /**
      * 게시글 조회수 추가
-     * Cache 업데이트 후 DB 업데이트
+     * 유저별 HyperLogLog로 중복 조회를 판단하고, 처음 조회한 유저라면 Cache의 조회수 증가
+     * 비로그인 유저는 식별할 수 없어 중복 조회를 판단할 수 없으므로 반영하지 않음
+     * Cache miss라면 스냅샷으로 조회수를, HyperLogLog가 없다면 이전 hits Collection의 유저를 복구한 뒤 다시 반영
+     * (복구하지 않으면 이미 조회수에 포함된 유저가 다시 집계됨), Redis 사용 불가 시 조회수 반영 생략
      * @param postId 게시글 _id
-     * @param userId 유저 _id
+     * @param userId 유저 _id, 비로그인이라면 null
      */
     public void addHits(ObjectId postId, ObjectId userId){
-        if (redisHealthChecker.isRedisAvailable())
-            redisHitsService.addHits(postId);
-        HitsEntity hitsEntity = HitsEntity.builder()
-                .postId(postId).userId(userId).build();
-        hitsRepository.save(hitsEntity);
-    }
+        if (userId == null || !redisHealthChecker.isRedisAvailable()) return;
 
-    /**
-     * 게시글 조회 여부 판단
-     * @param postId 게시글 _id
-     * @param userId 유저 _id
-     * @return true : 게시글 조회 유 , false : 게시글 조회 무 / 인증X (비로그인)
-     */
-    public boolean validateHits(ObjectId postId, ObjectId userId) {
-        if (userId == null) return false;
-        return hitsRepository.existsByPostIdAndUserId(postId, userId);
+        String viewerId = userId.toString();
+        Long result = redisHitsService.addUniqueHit(postId, viewerId);
+        if (result != null && result == CACHE_MISS) {
+            redisHitsService.recoveryHits(postId, cacheRecoveryLoader.load(HITS_KEY + postId, () -> loadHitsCount(postId)));
+            result = redisHitsService.addUniqueHit(postId, viewerId);
+        }
+        if (result != null && result == VIEWERS_MISS) {
+            cacheRecoveryLoader.load(HITS_HLL_KEY + postId, () -> {
+                redisHitsService.seedViewers(postId, customHitsRepository.findViewerIds(postId));
+                return Boolean.TRUE;
+            });
+            redisHitsService.addUniqueHit(postId, viewerId);
+        }
     }
 
     /**
      * 게시글 조회수 반환
-     * null : Cache miss로 @Async로 Cache 복구 및 DB 조회
+     * null : Cache miss로 DB 조회 후 Cache 비동기 복구, 동시 Cache miss는 DB 조회 1회로 합쳐짐
      * @param postId 게시글 _id
      * @return 게시글 조회수
      */
@@ -62,20 +77,96 @@ public class HitsService {
         if (redisHealthChecker.isRedisAvailable())
             hits = redisHitsService.getHitsCount(postId);
         if (hits == null) {
-            recoveryHits(postId);
-            return hitsRepository.countAllByPostId(postId);
+            return cacheRecoveryLoader.load(HITS_KEY + postId, () -> loadHitsCount(postId), count -> recoveryHits(postId, count));
         }
         else return Integer.parseInt((String)hits);
     }
 
     /**
-     * Cache miss로 인한 DB로부터 Cache 복구
+     * 여러 게시글의 조회수를 일괄 반환
+     * Redis MGET 한 번으로 조회 후, Cache miss된 게시글만 스냅샷 조회 및 Cache 복구
+     * 스냅샷이 없는 게시글은 이전 hits Collection Aggregation 한 번으로 조회
+     * @param postIds 게시글 _id 리스트
+     * @return Key : 게시글 _id, Value : 조회수
+     */
+    public Map<ObjectId, Integer> getHitsCounts(List<ObjectId> postIds) {
+        Map<ObjectId, Integer> hitsCounts = new HashMap<>();
+        if (postIds.isEmpty()) return hitsCounts;
+        List<ObjectId> missedIds = postIds;
+
+        if (redisHealthChecker.isRedisAvailable()) {
+            List<String> redisResults = redisHitsService.getHitsCounts(postIds);
+            if (redisResults != null) {
+                missedIds = new ArrayList<>();
+                for (int i = 0; i < postIds.size(); i++) {
+                    String hits = redisResults.get(i);
+                    if (hits != null) hitsCounts.put(postIds.get(i), Integer.parseInt(hits));
+                    else missedIds.add(postIds.get(i));
+                }
+            }
+        }
+        if (missedIds.isEmpty()) return hitsCounts;
+
+        Map<ObjectId, Integer> dbCounts = new HashMap<>(customHitsRepository.findSnapshotCounts(missedIds));
+        List<ObjectId> legacyIds = missedIds.stream()
+                .filter(postId -> !dbCounts.containsKey(postId))
+                .toList();
+        if (!legacyIds.isEmpty())
+            dbCounts.putAll(customHitsRepository.countByPostIds(legacyIds));
+        Map<ObjectId, Integer> recovered = new HashMap<>();
+        missedIds.forEach(postId -> recovered.put(postId, dbCounts.getOrDefault(postId, 0)));
+        hitsCounts.putAll(recovered);
+        if (redisHealthChecker.isRedisAvailable())
+            cacheRecoveryLoader.recoverAsync(() -> redisHitsService.recoveryHits(recovered));
+        return hitsCounts;
+    }
+
+    /**
+     * Cache miss로 인한 DB로부터 Cache 복구, CacheRecoveryLoader의 Executor에서 실행
      * @param postId 게시글 _id
+     * @param hits DB 기준 조회수
      */
-    @Async
-    protected void recoveryHits(ObjectId postId) {
-        int hits = hitsRepository.countAllByPostId(postId);
+    private void recoveryHits(ObjectId postId, int hits) {
+        if (!redisHealthChecker.isRedisAvailable()) return;
         redisHitsService.recoveryHits(postId, hits);
     }
 
+    /**
+     * 조회수가 변경된 게시글의 Cache 조회수를 스냅샷으로 저장
+     * 한 번에 최대 FLUSH_BATCH_SIZE개씩, 변경된 게시글이 없을 때까지 반복
+     * 꺼낸 뒤 저장하지 못한 게시글은 다시 스냅샷 대상에 추가하여 다음 실행에서 저장
+     */
+    public void flushHitsSnapshots() {
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        List<String> dirtyIds;
+        while (!(dirtyIds = redisHitsService.popDirtyPosts(FLUSH_BATCH_SIZE)).isEmpty()) {
+            try {
+                List<ObjectId> postIds = dirtyIds.stream().map(ObjectId::new).toList();
+                List<String> counts = redisHitsService.getHitsCounts(postIds);
+                if (counts == null) {
+                    redisHitsService.markDirty(dirtyIds);
+                    return;
+                }
+
+                Map<ObjectId, Integer> snapshots = new HashMap<>();
+                for (int i = 0; i < postIds.size(); i++) {
+                    if (counts.get(i) != null) snapshots.put(postIds.get(i), Integer.parseInt(counts.get(i)));
+                }
+                customHitsRepository.upsertSnapshots(snapshots);
+            } catch (RuntimeException e) {
+                redisHitsService.markDirty(dirtyIds);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * DB 기준 게시글 조회수, 스냅샷이 없다면 이전 hits Collection 기준으로 집계
+     */
+    private int loadHitsCount(ObjectId postId) {
+        Integer snapshot = customHitsRepository.findSnapshotCounts(List.of(postId)).get(postId);
+        if (snapshot != null) return snapshot;
+        return hitsRepository.countAllByPostId(postId);
+    }
+
 }
@@ -0,0 +1,40 @@
+package inu.codin.codin.domain.post.domain.poll.repository;
+
+import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+public class CustomPollVoteRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomPollVoteRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 여러 투표의 참여자 수를 한 번의 Aggregation으로 조회
+     * @return Key : pollId, Value : 참여자 수
+     */
+    public Map<ObjectId, Long> countByPollIds(Collection<ObjectId> pollIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("pollId").in(pollIds)),
+                Aggregation.group("pollId").count().as("count")
+        );
+
+        Map<ObjectId, Long> result = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, PollVoteEntity.class, Document.class)
+                .getMappedResults()
+                .forEach(doc -> result.put(doc.getObjectId("_id"), doc.get("count", Number.class).longValue()));
+        return result;
+    }
+}
@@ -9,12 +9,16 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PollRepository extends MongoRepository<PollEntity, ObjectId> {
     Optional<PollEntity> findByPostId(ObjectId postId);
 
+    List<PollEntity> findAllByPostIdIn(Collection<ObjectId> postIds);
+
     @Query("{ '_id': ?0 }")
     @Update("{ '$inc' : { 'pollVotesCounts.?1' : 1 } }")
     long incOption(ObjectId pollId, int optionIndex);
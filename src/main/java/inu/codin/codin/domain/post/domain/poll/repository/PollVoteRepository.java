@@ -6,6 +6,8 @@ import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +17,6 @@ public interface PollVoteRepository extends MongoRepository<PollVoteEntity, Obje
     long countByPollId(@NotBlank ObjectId id);
 
     Optional<PollVoteEntity> findByPollIdAndUserId(@NotBlank ObjectId id, ObjectId userId);
+
+    List<PollVoteEntity> findAllByPollIdInAndUserId(Collection<ObjectId> pollIds, ObjectId userId);
 }
@@ -4,10 +4,12 @@ import inu.codin.codin.domain.post.domain.poll.entity.PollEntity;
 import inu.codin.codin.domain.post.domain.poll.entity.PollVoteEntity;
 import inu.codin.codin.domain.post.domain.poll.exception.PollErrorCode;
 import inu.codin.codin.domain.post.domain.poll.exception.PollException;
+import inu.codin.codin.domain.post.domain.poll.repository.CustomPollVoteRepository;
 import inu.codin.codin.domain.post.domain.poll.repository.PollRepository;
 import inu.codin.codin.domain.post.domain.poll.repository.PollVoteRepository;
 import inu.codin.codin.domain.post.dto.response.PollInfoResponseDTO;
 import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.infra.redis.service.CacheRecoveryLoader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
@@ -15,7 +17,11 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,11 +30,14 @@ public class PollQueryService {
 
     private final PollRepository pollRepository;
     private final PollVoteRepository pollVoteRepository;
+    private final CustomPollVoteRepository customPollVoteRepository;
+    private final CacheRecoveryLoader cacheRecoveryLoader;
 
     public PollInfoResponseDTO getPollInfo(PostEntity post, ObjectId userId) {
         PollEntity poll = pollRepository.findByPostId(post.get_id())
                 .orElseThrow(() -> new PollException(PollErrorCode.POLL_NOT_FOUND));
-        long totalParticipants = pollVoteRepository.countByPollId(poll.get_id());
+        long totalParticipants = cacheRecoveryLoader.load("poll:votes:" + poll.get_id(),
+                () -> pollVoteRepository.countByPollId(poll.get_id()));
         List<Integer> userVotes = pollVoteRepository.findByPollIdAndUserId(poll.get_id(), userId)
                 .map(PollVoteEntity::getSelectedOptions)
                 .orElse(Collections.emptyList());
@@ -38,4 +47,38 @@ public class PollQueryService {
                 poll.getPollOptions(), poll.getPollEndTime(), poll.isMultipleChoice(),
                 poll.getPollVotesCounts(), userVotes, totalParticipants, hasUserVoted, pollFinished);
     }
+
+    /**
+     * 여러 투표 게시글의 투표 정보를 일괄 조회
+     * 투표, 참여자 수, 유저의 투표 내역을 각각 한 번의 쿼리로 조회
+     * @param posts 투표 게시글 리스트
+     * @param userId 현재 유저 _id, 비로그인의 경우 null
+     * @return Key : 게시글 _id, Value : 투표 정보
+     */
+    public Map<ObjectId, PollInfoResponseDTO> getPollInfos(List<PostEntity> posts, ObjectId userId) {
+        if (posts.isEmpty()) return Collections.emptyMap();
+
+        List<ObjectId> postIds = posts.stream().map(PostEntity::get_id).toList();
+        Map<ObjectId, PollEntity> polls = pollRepository.findAllByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(PollEntity::getPostId, Function.identity(), (existing, replacement) -> existing));
+        List<ObjectId> pollIds = polls.values().stream().map(PollEntity::get_id).toList();
+
+        Map<ObjectId, Long> participants = customPollVoteRepository.countByPollIds(pollIds);
+        Map<ObjectId, List<Integer>> userVotes = userId == null ? Collections.emptyMap() :
+                pollVoteRepository.findAllByPollIdInAndUserId(pollIds, userId).stream()
+                        .collect(Collectors.toMap(PollVoteEntity::getPollId, PollVoteEntity::getSelectedOptions, (existing, replacement) -> existing));
+
+        Map<ObjectId, PollInfoResponseDTO> pollInfos = new HashMap<>();
+        for (ObjectId postId : postIds) {
+            PollEntity poll = polls.get(postId);
+            if (poll == null) throw new PollException(PollErrorCode.POLL_NOT_FOUND);
+            boolean pollFinished = poll.getPollEndTime() != null && LocalDateTime.now().isAfter(poll.getPollEndTime());
+            boolean hasUserVoted = userVotes.containsKey(poll.get_id());
+            pollInfos.put(postId, PollInfoResponseDTO.of(
+                    poll.getPollOptions(), poll.getPollEndTime(), poll.isMultipleChoice(),
+                    poll.getPollVotesCounts(), userVotes.getOrDefault(poll.get_id(), Collections.emptyList()),
+                    participants.getOrDefault(poll.get_id(), 0L), hasUserVoted, pollFinished));
+        }
+        return pollInfos;
+    }
 }
@@ -0,0 +1,54 @@
+package inu.codin.codin.domain.post.dto;
+
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.exception.PostErrorCode;
+import inu.codin.codin.domain.post.exception.PostException;
+import lombok.Getter;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 Keyset(Cursor) 페이지네이션용 커서
+ * (createdAt, _id) 쌍을 Base64 URL-safe 문자열로 인코딩하여 클라이언트에는 불투명한 토큰으로 전달
+ */
+@Getter
+public class PostCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime createdAt;
+    private final ObjectId id;
+
+    private PostCursor(LocalDateTime createdAt, ObjectId id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static PostCursor from(PostEntity post) {
+        return new PostCursor(post.getCreatedAt(), post.get_id());
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 토큰 해석
+     * @param token 커서 토큰, 비어있다면 첫 페이지
+     * @return PostCursor, 첫 페이지의 경우 null
+     */
+    public static PostCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            return new PostCursor(LocalDateTime.parse(parts[0]), new ObjectId(parts[1]));
+        } catch (RuntimeException e) {
+            throw new PostException(PostErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
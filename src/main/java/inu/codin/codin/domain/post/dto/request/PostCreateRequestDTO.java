@@ -9,6 +9,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @NoArgsConstructor
 public class PostCreateRequestDTO {
@@ -30,6 +33,9 @@ public class PostCreateRequestDTO {
     private PostCategory postCategory;
     //STATUS 필드 - DEFAULT :: ACTIVE
 
+    @Schema(description = "직접 업로드한 이미지 key (POST /images/presigned, purpose = POST)", example = "[\"post/111111/uuid.png\"]")
+    private List<String> imageKeys = new ArrayList<>();
+
     public PostCreateRequestDTO(String title, String content, boolean anonymous, PostCategory postCategory) {
         this.title = title;
         this.content = content;
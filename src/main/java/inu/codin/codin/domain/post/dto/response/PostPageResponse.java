@@ -1,5 +1,7 @@
 package inu.codin.codin.domain.post.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,11 +17,17 @@ public class PostPageResponse {
     private long lastPage;
     private long nextPage;
 
+    //커서 기반 조회에서만 사용, 다음 페이지가 없거나 페이지 번호 기반 조회라면 필드 제외
+    @Schema(description = "다음 페이지 조회용 커서, 마지막 페이지라면 null", nullable = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     @Builder
-    private PostPageResponse(List<PostPageItemResponseDTO> contents, long lastPage, long nextPage) {
+    private PostPageResponse(List<PostPageItemResponseDTO> contents, long lastPage, long nextPage, String nextCursor) {
         this.contents = contents;
         this.lastPage = lastPage;
         this.nextPage = nextPage;
+        this.nextCursor = nextCursor;
     }
 
     public static PostPageResponse of(List<PostPageItemResponseDTO> postPaging, long totalElements, long nextPage) {
@@ -30,4 +38,16 @@ public class PostPageResponse {
                 .build();
     }
 
-}
\ No newline at end of file
+    /**
+     * 커서 기반 조회 결과, 전체 페이지 수를 계산하지 않으므로 lastPage, nextPage는 -1
+     */
+    public static PostPageResponse ofCursor(List<PostPageItemResponseDTO> postPaging, String nextCursor) {
+        return PostPageResponse.builder()
+                .contents(postPaging)
+                .lastPage(-1)
+                .nextPage(-1)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+}
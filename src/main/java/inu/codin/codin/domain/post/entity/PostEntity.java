@@ -14,12 +14,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Document(collection = "posts")
+@CompoundIndexes({
+        // 커서 기반 조회 (createdAt, _id) Keyset 탐색용
+        @CompoundIndex(name = "category_cursor_idx", def = "{'postCategory': 1, 'created_at': -1, '_id': -1}"),
+        @CompoundIndex(name = "user_cursor_idx", def = "{'userId': 1, 'created_at': -1, '_id': -1}")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class PostEntity extends BaseTimeEntity {
@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 public enum PostErrorCode implements GlobalErrorCode {
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게시물을 찾을 수 없습니다."),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "유저를 찾을 수 없습니다."),
-    DUPLICATE_ANONYMOUS_STATE(HttpStatus.CONFLICT, "현재 익명 상태와 동일한 상태로 변경할 수 없습니다.");
+    DUPLICATE_ANONYMOUS_STATE(HttpStatus.CONFLICT, "현재 익명 상태와 동일한 상태로 변경할 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,135 @@
+package inu.codin.codin.domain.post.repository;
+
+import inu.codin.codin.domain.post.dto.PostCursor;
+import inu.codin.codin.domain.post.entity.PostAnonymous;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.entity.PostStatus;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 Keyset(Cursor) 페이지네이션 조회
+ * skip/limit 대신 (createdAt, _id) 기준으로 인덱스를 탐색하고, count 쿼리를 수행하지 않음
+ *
+ * 게시글 부분 업데이트
+ * 게시글 전체를 다시 저장하지 않고 필요한 필드만 원자적으로 변경
+ */
+@Repository
+public class CustomPostRepository {
+
+    private static final String ANON_USERS = "anonymous.userAnonymousMap.";
+    private static final String ANON_NUMBER = "anonymous.anonymousNumber";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomPostRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public Slice<PostEntity> findSliceByCategory(String postCategory, List<ObjectId> blockedUsersId, PostCursor cursor, int size) {
+        Criteria criteria = activePosts()
+                .and("postCategory").regex("^" + postCategory)
+                .and("userId").nin(blockedUsersId);
+        return findSlice(criteria, cursor, size);
+    }
+
+    public Slice<PostEntity> findSliceByKeyword(String keyword, List<ObjectId> blockedUsersId, PostCursor cursor, int size) {
+        Pattern pattern = Pattern.compile(keyword, Pattern.CASE_INSENSITIVE);
+        Criteria criteria = activePosts()
+                .and("userId").nin(blockedUsersId)
+                .orOperator(
+                        Criteria.where("content").regex(pattern),
+                        Criteria.where("title").regex(pattern)
+                );
+        return findSlice(criteria, cursor, size);
+    }
+
+    public Slice<PostEntity> findSliceByUserId(ObjectId userId, PostCursor cursor, int size) {
+        Criteria criteria = activePosts()
+                .and("userId").is(userId);
+        return findSlice(criteria, cursor, size);
+    }
+
+    private Criteria activePosts() {
+        return Criteria.where("deletedAt").is(null)
+                .and("postStatus").in(PostStatus.ACTIVE);
+    }
+
+    /**
+     * 커서 이후의 게시글을 (createdAt desc, _id desc) 순으로 size+1개 조회하여 다음 페이지 존재 여부 판단
+     */
+    private Slice<PostEntity> findSlice(Criteria criteria, PostCursor cursor, int size) {
+        if (cursor != null) {
+            Criteria afterCursor = new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(cursor.getCreatedAt()),
+                    Criteria.where("createdAt").is(cursor.getCreatedAt()).and("_id").lt(cursor.getId())
+            );
+            criteria = new Criteria().andOperator(criteria, afterCursor);
+        }
+        Query query = new Query(criteria);
+        query.with(Sort.by(Sort.Direction.DESC, "createdAt", "_id")).limit(size + 1);
+
+        List<PostEntity> posts = new ArrayList<>(mongoTemplate.find(query, PostEntity.class));
+        boolean hasNext = posts.size() > size;
+        if (hasNext) posts.remove(size);
+        return new SliceImpl<>(posts, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * 댓글 수를 원자적으로 증감, 감소 시 0 미만으로 내려가지 않음
+     * @param delta 증감량
+     */
+    public void incrementCommentCount(ObjectId postId, int delta) {
+        Criteria criteria = Criteria.where("_id").is(postId);
+        if (delta < 0) criteria.and("commentCount").gte(-delta);
+        mongoTemplate.updateFirst(new Query(criteria), new Update().inc("commentCount", delta), PostEntity.class);
+    }
+
+    /**
+     * 익명 번호를 원자적으로 할당
+     * 유저에게 아직 번호가 없고 게시글의 다음 번호가 anonNumber일 때만 번호를 저장하고 다음 번호를 $inc
+     * @return 할당했다면 true, 다른 요청이 먼저 번호를 가져갔다면 false
+     */
+    public boolean assignAnonNumber(ObjectId postId, ObjectId userId, int anonNumber) {
+        Query query = new Query(Criteria.where("_id").is(postId)
+                .and(ANON_USERS + userId).exists(false)
+                .and(ANON_NUMBER).is(anonNumber));
+        Update update = new Update()
+                .set(ANON_USERS + userId, anonNumber)
+                .inc(ANON_NUMBER, 1);
+        return mongoTemplate.updateFirst(query, update, PostEntity.class).getModifiedCount() > 0;
+    }
+
+    /**
+     * 글쓴이 익명 번호(0) 저장, 이미 저장되어 있다면 무시
+     * @return 저장했다면 true
+     */
+    public boolean assignWriterAnonNumber(ObjectId postId, ObjectId userId) {
+        Query query = new Query(Criteria.where("_id").is(postId).and(ANON_USERS + userId).exists(false));
+        return mongoTemplate.updateFirst(query, new Update().set(ANON_USERS + userId, 0), PostEntity.class)
+                .getModifiedCount() > 0;
+    }
+
+    /**
+     * 게시글의 익명 번호 정보만 조회
+     * @return 익명 번호 정보, 게시글이 없다면 null
+     */
+    public PostAnonymous findAnonymous(ObjectId postId) {
+        Query query = new Query(Criteria.where("_id").is(postId));
+        query.fields().include("anonymous");
+        PostEntity post = mongoTemplate.findOne(query, PostEntity.class);
+        return post != null ? post.getAnonymous() : null;
+    }
+}
@@ -1,5 +1,6 @@
 package inu.codin.codin.domain.post.scheduler;
 
+import inu.codin.codin.common.config.AsyncConfig;
 import inu.codin.codin.domain.post.scheduler.exception.SchedulerErrorCode;
 import inu.codin.codin.domain.post.scheduler.exception.SchedulerException;
 import lombok.extern.slf4j.Slf4j;
@@ -24,13 +25,13 @@ public class PostsScheduler {
     private String PYTHON_DIR;
 
     @Scheduled(cron = "${schedule.department.cron}", zone = "Asia/Seoul")
-    @Async
+    @Async(AsyncConfig.SCHEDULER_EXECUTOR)
     public void departmentPostsScheduler() {
         runPythonScript("department.py", "학과 공지사항");
     }
 
     @Scheduled(cron = "${schedule.starinu.cron}", zone = "Asia/Seoul")
-    @Async
+    @Async(AsyncConfig.SCHEDULER_EXECUTOR)
     public void starinuPostsScheduler() {
         runPythonScript("starinu.py", "STARINU 공지사항");
     }
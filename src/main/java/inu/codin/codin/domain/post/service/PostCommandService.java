@@ -11,6 +11,7 @@ import inu.codin.codin.domain.post.dto.request.PostStatusUpdateRequestDTO;
 import inu.codin.codin.domain.post.entity.PostAnonymous;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.domain.post.security.OwnershipPolicy;
 import inu.codin.codin.domain.user.entity.UserRole;
@@ -20,13 +21,17 @@ import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostCommandService {
+    private static final int MAX_ANON_ASSIGN_ATTEMPTS = 5;
+
     private final PostRepository postRepository;
+    private final CustomPostRepository customPostRepository;
     private final PostInteractionService postInteractionService;
     private final OwnershipPolicy ownershipPolicy;
 
@@ -37,10 +42,11 @@ public class PostCommandService {
      */
     public void createPost(PostCreateRequestDTO postCreateRequestDTO, List<MultipartFile> postImages) {
         log.info("게시물 생성 시작. UserId: {}, 제목: {}", SecurityUtils.getCurrentUserId(), postCreateRequestDTO.getTitle());
-        List<String> imageUrls = postInteractionService.handleImageUpload(postImages);
-
         ObjectId userId = validateUserAndPost(postCreateRequestDTO.getPostCategory());
 
+        List<String> imageUrls = new ArrayList<>(postInteractionService.handleImageUpload(postImages));
+        imageUrls.addAll(postInteractionService.registerUploadedImages(userId, postCreateRequestDTO.getImageKeys()));
+
         PostEntity postEntity = PostEntity.create(userId, postCreateRequestDTO, imageUrls);
         postRepository.save(postEntity);
 
@@ -110,46 +116,64 @@ public class PostCommandService {
     }
 
     /**
-     * 댓글 생성시 필요한 모든 처리를 한 번에
+     * 댓글 생성시 요청 안에서 처리해야 하는 작업 (익명 번호 할당)
+     * 게시글의 다음 번호를 조건으로 $inc 하므로 동시에 댓글이 달려도 같은 번호가 할당되지 않음
+     * 다른 요청이 먼저 번호를 가져갔다면 익명 정보를 다시 읽고 재시도
+     * 댓글 수 증가는 Outbox를 통해 비동기로 처리
      */
     public void handleCommentCreation(PostEntity post, ObjectId userId) {
-        assignAnonymousNumber(post, userId);
-        increaseCommentCount(post);
-        postRepository.save(post);
+        if (!post.isAnonymous()) return;
+
+        PostAnonymous anonymous = post.getAnonymous();
+        for (int attempt = 0; attempt < MAX_ANON_ASSIGN_ATTEMPTS; attempt++) {
+            if (anonymous == null || anonymous.hasAnonNumber(userId)) return;
+
+            boolean assigned = post.isWriter(userId)
+                    ? customPostRepository.assignWriterAnonNumber(post.get_id(), userId)
+                    : customPostRepository.assignAnonNumber(post.get_id(), userId, anonymous.getAnonymousNumber());
+            if (assigned) {
+                log.info("익명 번호 할당. PostId: {}, UserId: {}", post.get_id(), userId);
+                return;
+            }
+            anonymous = customPostRepository.findAnonymous(post.get_id());
+        }
+        log.warn("익명 번호 할당 실패. PostId: {}, UserId: {}", post.get_id(), userId);
     }
 
     /**
      * 댓글/ 대댓글 작성시 댓글/대댓글 작성수 증가
-     * @param post - postEntity
+     * 게시글 전체를 다시 저장하지 않고 $inc로 원자적으로 증가, 중복 반영 방지는 Outbox 작업에서 처리
+     * @param postId - 게시글 _id
      */
-    public void increaseCommentCount(PostEntity post) {
-        post.plusCommentCount();
-        log.info("댓글 수 증가. PostId: {}, 현재: {}", post.get_id(), post.getCommentCount());
+    public void increaseCommentCount(ObjectId postId) {
+        customPostRepository.incrementCommentCount(postId, 1);
+        log.info("댓글 수 증가. PostId: {}", postId);
     }
 
     /**
-     * 댓글/ 대댓글 작성시 댓글/대댓글 작성수 감소
+     * 댓글/ 대댓글 삭제시 댓글/대댓글 작성수 감소
      * @param post - postEntity
      */
     public void decreaseCommentCount(PostEntity post) {
         post.minusCommentCount();
-        postRepository.save(post);
+        customPostRepository.incrementCommentCount(post.get_id(), -1);
         log.info("댓글 수 감소. PostId: {}, 현재: {}", post.get_id(), post.getCommentCount());
     }
 
     /**
      * 익명 번호 할당
+     * @return 새로 익명 번호를 할당했다면 true
      */
-    public void assignAnonymousNumber(PostEntity post, ObjectId userId) {
+    public boolean assignAnonymousNumber(PostEntity post, ObjectId userId) {
         if (!post.isAnonymous()) {
-            return;
+            return false;
         }
 
         PostAnonymous anonymous = post.getAnonymous();
 
         // 이미 익명 번호가 있으면 할당하지 않음
         if (anonymous.hasAnonNumber(userId)) {
-            return;
+            return false;
         }
 
         if (post.isWriter(userId)) {
@@ -157,6 +181,7 @@ public class PostCommandService {
         } else {anonymous.setAnonNumber(userId);
         }
         log.info("익명 번호 할당. PostId: {}, UserId: {}", post.get_id(), userId);
+        return true;
     }
 
 
@@ -5,11 +5,13 @@ import inu.codin.codin.domain.like.entity.LikeType;
 import inu.codin.codin.domain.like.service.LikeService;
 import inu.codin.codin.domain.post.domain.hits.service.HitsService;
 import inu.codin.codin.domain.post.domain.poll.service.PollQueryService;
+import inu.codin.codin.domain.post.dto.PostCursor;
 import inu.codin.codin.domain.post.dto.UserDto;
 import inu.codin.codin.domain.post.dto.UserInfo;
 import inu.codin.codin.domain.post.dto.response.PollInfoResponseDTO;
 import inu.codin.codin.domain.post.dto.response.PostDetailResponseDTO;
 import inu.codin.codin.domain.post.dto.response.PostPageItemResponseDTO;
+import inu.codin.codin.domain.post.dto.response.PostPageResponse;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.exception.PostErrorCode;
@@ -21,10 +23,16 @@ import inu.codin.codin.infra.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * PostEntity를 다양한 Response DTO로 변환하는 책임을 담당하는 어셈블러
@@ -68,14 +76,75 @@ public class PostDtoAssembler {
 
     /**
      * PostEntity 리스트를 PostPageItemResponseDTO 리스트로 변환
+     * 게시글 단위 조회 대신 페이지 전체의 postId, userId를 모아 일괄 조회 후 메모리에서 조립
+     * - 작성자, 좋아요/스크랩/조회수, 유저의 좋아요/스크랩 여부, 투표 정보를 각각 한 번씩 조회
      */
     public List<PostPageItemResponseDTO> toPageItemList(List<PostEntity> posts) {
+        if (posts.isEmpty()) return List.of();
         ObjectId currentUserId = SecurityUtils.getCurrentUserIdOrNull();
+
+        List<ObjectId> postIds = posts.stream().map(PostEntity::get_id).toList();
+        List<String> postIdStrings = postIds.stream().map(ObjectId::toString).toList();
+
+        Map<ObjectId, UserEntity> users = findUsers(posts);
+        Map<String, Integer> likeCounts = likeService.getLikeCounts(LikeType.POST, postIdStrings);
+        Map<ObjectId, Integer> scrapCounts = scrapService.getScrapCounts(postIds);
+        Map<ObjectId, Integer> hitsCounts = hitsService.getHitsCounts(postIds);
+        Set<String> likedIds = (currentUserId != null) ? likeService.getLikedIds(LikeType.POST, postIdStrings, currentUserId) : Collections.emptySet();
+        Set<ObjectId> scrapedIds = (currentUserId != null) ? scrapService.getScrapedPostIds(postIds, currentUserId) : Collections.emptySet();
+
+        List<PostEntity> pollPosts = posts.stream()
+                .filter(post -> post.getPostCategory() == PostCategory.POLL)
+                .toList();
+        Map<ObjectId, PollInfoResponseDTO> pollInfos = pollQueryService.getPollInfos(pollPosts, currentUserId);
+
+        String defaultProfileImageUrl = s3Service.getDefaultProfileImageUrl();
         return posts.stream()
-                .map(post -> toPageItem(post, currentUserId))
+                .map(post -> {
+                    ObjectId postId = post.get_id();
+                    UserEntity user = users.get(post.getUserId());
+                    if (user == null) throw new PostException(PostErrorCode.USER_NOT_FOUND);
+
+                    UserInfo userInfo = UserInfo.ofPost(
+                            likedIds.contains(postId.toString()),
+                            scrapedIds.contains(postId),
+                            Objects.equals(post.getUserId(), currentUserId));
+                    PostDetailResponseDTO postDTO = PostDetailResponseDTO.of(
+                            post, UserDto.forPost(post, user, defaultProfileImageUrl),
+                            likeCounts.getOrDefault(postId.toString(), 0),
+                            scrapCounts.getOrDefault(postId, 0),
+                            hitsCounts.getOrDefault(postId, 0),
+                            post.getCommentCount(), userInfo
+                    );
+                    return PostPageItemResponseDTO.of(postDTO, pollInfos.get(postId));
+                })
                 .toList();
     }
 
+    /**
+     * 커서 기반으로 조회한 Slice를 PostPageResponse로 변환
+     * 다음 페이지가 존재하면 마지막 게시물의 (createdAt, _id)로 다음 커서 생성
+     */
+    public PostPageResponse toCursorPage(Slice<PostEntity> slice) {
+        List<PostEntity> posts = slice.getContent();
+        String nextCursor = (slice.hasNext() && !posts.isEmpty())
+                ? PostCursor.from(posts.get(posts.size() - 1)).encode()
+                : null;
+        return PostPageResponse.ofCursor(toPageItemList(posts), nextCursor);
+    }
+
+    /**
+     * 게시글 작성자 일괄 조회
+     * @return Key : userId, Value : UserEntity
+     */
+    private Map<ObjectId, UserEntity> findUsers(List<PostEntity> posts) {
+        Set<ObjectId> userIds = posts.stream()
+                .map(PostEntity::getUserId)
+                .collect(Collectors.toSet());
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserEntity::get_id, Function.identity()));
+    }
+
     /**
      * 사용자 프로필 정보 결정 (익명/실명, 닉네임/이미지)
      */
@@ -2,7 +2,9 @@ package inu.codin.codin.domain.post.service;
 import inu.codin.codin.domain.post.domain.hits.service.HitsService;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.repository.PostRepository;
+import inu.codin.codin.infra.s3.S3PresignedUploadService;
 import inu.codin.codin.infra.s3.S3Service;
+import inu.codin.codin.infra.s3.UploadPurpose;
 import inu.codin.codin.infra.s3.exception.ImageRemoveException;
 import inu.codin.codin.domain.post.exception.PostException;
 import inu.codin.codin.domain.post.exception.PostErrorCode;
@@ -20,6 +22,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostInteractionService {
     private final S3Service s3Service;
+    private final S3PresignedUploadService s3PresignedUploadService;
     private final PostRepository postRepository;
     private final HitsService hitsService;
 
@@ -29,6 +32,11 @@ public class PostInteractionService {
         return s3Service.handleImageUpload(postImages);
     }
 
+    // [ImageService] - 직접 업로드한 이미지 key 확인 후 URL 반환
+    public List<String> registerUploadedImages(ObjectId userId, List<String> imageKeys) {
+        return s3PresignedUploadService.register(userId, UploadPurpose.POST, imageKeys);
+    }
+
     // [ImageService] - 게시글 이미지 삭제 처리
     public void deletePostImageInternal(PostEntity post, String imageUrl) {
         if (!post.getPostImageUrls().contains(imageUrl)) {
@@ -47,12 +55,9 @@ public class PostInteractionService {
     }
 
     // [HitsService] - 조회수 증가 처리
-    // 비로그인(null) → 무조건 증가, 로그인 → 중복 아닐 때만 증가
+    // 비로그인(null) → 무조건 증가, 로그인 → 중복 아닐 때만 증가 (중복 판단은 HitsService에서 처리)
     public void increaseHits(PostEntity post, ObjectId userId) {
-        if (userId==null || !hitsService.validateHits(post.get_id(), userId)) {
-            hitsService.addHits(post.get_id(), userId);
-            log.info("조회수 업데이트. PostId: {}, UserId: {}", post.get_id(), userId);
-        }
+        hitsService.addHits(post.get_id(), userId);
     }
 
 }
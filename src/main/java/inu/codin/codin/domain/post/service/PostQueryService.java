@@ -5,6 +5,7 @@ import inu.codin.codin.common.util.ObjectIdUtil;
 import inu.codin.codin.domain.block.service.BlockService;
 import inu.codin.codin.domain.post.domain.best.BestEntity;
 import inu.codin.codin.domain.post.domain.best.BestService;
+import inu.codin.codin.domain.post.dto.PostCursor;
 import inu.codin.codin.domain.post.dto.response.PostPageItemResponseDTO;
 import inu.codin.codin.domain.post.dto.response.PostPageResponse;
 import inu.codin.codin.domain.post.entity.PostAnonymous;
@@ -12,12 +13,14 @@ import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.exception.PostException;
 import inu.codin.codin.domain.post.exception.PostErrorCode;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
@@ -32,6 +35,7 @@ import java.util.regex.Pattern;
 public class PostQueryService
 {
     private final PostRepository postRepository;
+    private final CustomPostRepository customPostRepository;
     private final BlockService blockService;
     private final PostInteractionService postInteractionService;
     private final BestService bestService;
@@ -48,6 +52,16 @@ public class PostQueryService
         return PostPageResponse.of(postDtoAssembler.toPageItemList(page.getContent()), page.getTotalPages() - 1, page.hasNext() ? page.getPageable().getPageNumber() + 1 : -1);
     }
 
+    /**
+     * 카테고리별 삭제되지 않은 게시물 목록 커서 기반 조회
+     * @param cursor 이전 응답의 nextCursor, 비어있다면 첫 페이지
+     */
+    public PostPageResponse getAllPostsByCursor(PostCategory postCategory, String cursor) {
+        List<ObjectId> blockedUsersId = blockService.getBlockedUsers();
+        Slice<PostEntity> slice = customPostRepository.findSliceByCategory(postCategory.toString(), blockedUsersId, PostCursor.decode(cursor), 20);
+        log.info("모든 글 커서 기반 반환 성공 Category: {}, hasNext: {}", postCategory, slice.hasNext());
+        return postDtoAssembler.toCursorPage(slice);
+    }
 
     /**
      * 게시물 상세 조회
@@ -86,6 +100,19 @@ public class PostQueryService
         return PostPageResponse.of(postDtoAssembler.toPageItemList(page.getContent()), page.getTotalPages() - 1, page.hasNext() ? page.getPageable().getPageNumber() + 1 : -1);
     }
 
+    /**
+     * 키워드 기반 게시물 커서 기반 검색
+     * @param cursor 이전 응답의 nextCursor, 비어있다면 첫 페이지
+     */
+    public PostPageResponse searchPostsByCursor(String keyword, String cursor) {
+        List<ObjectId> blockedUsersId = blockService.getBlockedUsers();
+        String pattern = Pattern.quote(keyword);
+
+        Slice<PostEntity> slice = customPostRepository.findSliceByKeyword(pattern, blockedUsersId, PostCursor.decode(cursor), 20);
+        log.info("키워드 기반 게시물 커서 검색: {}, hasNext: {}", pattern, slice.hasNext());
+        return postDtoAssembler.toCursorPage(slice);
+    }
+
     /**
      * Top 3 베스트 게시물 조회 (불변 리스트)
      */
@@ -0,0 +1,41 @@
+package inu.codin.codin.domain.scrap.repository;
+
+import inu.codin.codin.domain.scrap.entity.ScrapEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+public class CustomScrapRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomScrapRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 여러 게시글의 스크랩 개수를 한 번의 Aggregation으로 조회
+     * @return Key : postId, Value : 스크랩 개수
+     */
+    public Map<ObjectId, Integer> countByPostIds(Collection<ObjectId> postIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("postId").in(postIds)
+                        .and("deletedAt").is(null)),
+                Aggregation.group("postId").count().as("count")
+        );
+
+        Map<ObjectId, Integer> result = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, ScrapEntity.class, Document.class)
+                .getMappedResults()
+                .forEach(doc -> result.put(doc.getObjectId("_id"), doc.get("count", Number.class).intValue()));
+        return result;
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,6 +16,8 @@ public interface ScrapRepository extends MongoRepository<ScrapEntity, ObjectId>
 
     boolean existsByPostIdAndUserId(ObjectId postId, ObjectId userId);
 
+    List<ScrapEntity> findAllByPostIdInAndUserId(Collection<ObjectId> postIds, ObjectId userId);
+
     int countByPostIdAndDeletedAtIsNull(ObjectId postId);
 
     Optional<ScrapEntity> findByPostIdAndUserId(ObjectId postId, ObjectId userId);
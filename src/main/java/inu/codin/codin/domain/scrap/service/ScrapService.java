@@ -4,23 +4,32 @@ import inu.codin.codin.common.exception.NotFoundException;
 import inu.codin.codin.common.security.util.SecurityUtils;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.domain.scrap.entity.ScrapEntity;
+import inu.codin.codin.domain.scrap.repository.CustomScrapRepository;
 import inu.codin.codin.domain.scrap.repository.ScrapRepository;
+import inu.codin.codin.infra.redis.service.CacheRecoveryLoader;
 import inu.codin.codin.infra.redis.service.RedisBestService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ScrapService {
     private final ScrapRepository scrapRepository;
+    private final CustomScrapRepository customScrapRepository;
     private final PostRepository postRepository;
 
     private final RedisBestService redisBestService;
+    private final CacheRecoveryLoader cacheRecoveryLoader;
 
     /**
      * 하나의 모듈로 스크랩 추가, 삭제 toggle 동작
@@ -91,11 +100,37 @@ public class ScrapService {
         log.info("스크랩 삭제 완료 - postId: {}, userId: {}", scrap.getPostId(), scrap.getUserId());
     }
 
+    /**
+     * 게시글 스크랩 수 반환, 동시 요청은 DB 조회 1회로 합쳐짐
+     */
     public int getScrapCount(ObjectId postId) {
-        return scrapRepository.countByPostIdAndDeletedAtIsNull(postId);
+        return cacheRecoveryLoader.load("post:scraps:" + postId,
+                () -> scrapRepository.countByPostIdAndDeletedAtIsNull(postId));
     }
 
     public boolean isPostScraped(ObjectId postId, ObjectId userId){
         return scrapRepository.existsByPostIdAndUserId(postId, userId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 게시글의 스크랩 수를 일괄 조회
+     * @return Key : postId, Value : 스크랩 수 (스크랩이 없는 게시글은 0)
+     */
+    public Map<ObjectId, Integer> getScrapCounts(List<ObjectId> postIds) {
+        Map<ObjectId, Integer> dbCounts = customScrapRepository.countByPostIds(postIds);
+        Map<ObjectId, Integer> scrapCounts = new HashMap<>();
+        postIds.forEach(postId -> scrapCounts.put(postId, dbCounts.getOrDefault(postId, 0)));
+        return scrapCounts;
+    }
+
+    /**
+     * 여러 게시글 중 유저가 스크랩한 게시글 _id를 일괄 조회
+     * @return 스크랩한 postId Set
+     */
+    public Set<ObjectId> getScrapedPostIds(List<ObjectId> postIds, ObjectId userId) {
+        return scrapRepository.findAllByPostIdInAndUserId(postIds, userId)
+                .stream()
+                .map(ScrapEntity::getPostId)
+                .collect(Collectors.toSet());
+    }
+}
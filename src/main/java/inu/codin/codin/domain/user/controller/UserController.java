@@ -4,6 +4,7 @@ import inu.codin.codin.common.response.SingleResponse;
 import inu.codin.codin.domain.post.dto.response.PostPageResponse;
 import inu.codin.codin.domain.user.dto.request.UserNameUpdateRequestDto;
 import inu.codin.codin.domain.user.dto.request.UserNicknameRequestDto;
+import inu.codin.codin.domain.user.dto.request.UserProfileImageRequestDto;
 import inu.codin.codin.domain.user.dto.request.UserTicketingParticipationInfoUpdateRequest;
 import inu.codin.codin.domain.user.dto.response.UserInfoResponseDto;
 import inu.codin.codin.domain.user.dto.response.UserTicketingParticipationInfoResponse;
@@ -27,11 +28,16 @@ public class UserController {
     private final UserService userService;
 
     @Operation(
-            summary = "해당 사용자 게시물 전체 조회"
+            summary = "해당 사용자 게시물 전체 조회",
+            description = "page : 페이지 번호 기반 조회<br>" +
+                    "cursor : 커서 기반 조회 (첫 페이지는 빈 값, 이후 응답의 nextCursor 전달), cursor가 존재하면 page는 무시"
     )
     @GetMapping("/post")
-    public ResponseEntity<SingleResponse<PostPageResponse>> getAllUserPosts(@RequestParam("page") int pageNumber) {
-        PostPageResponse posts = userService.getAllUserPosts(pageNumber);
+    public ResponseEntity<SingleResponse<PostPageResponse>> getAllUserPosts(@RequestParam(value = "page", required = false, defaultValue = "0") int pageNumber,
+                                                                            @RequestParam(value = "cursor", required = false) String cursor) {
+        PostPageResponse posts = (cursor != null)
+                ? userService.getAllUserPostsByCursor(cursor)
+                : userService.getAllUserPosts(pageNumber);
         return ResponseEntity.ok()
                 .body(new SingleResponse<>(200, "사용자 게시물 조회 성공", posts));
     }
@@ -105,6 +111,17 @@ public class UserController {
                 .body(new SingleResponse<>(200, "유저 사진 수정 완료", null));
     }
 
+    @Operation(
+            summary = "직접 업로드한 사진으로 유저 사진 수정",
+            description = "POST /images/presigned (purpose = PROFILE) 로 업로드한 이미지의 key 전달"
+    )
+    @PutMapping("/profile/key")
+    public ResponseEntity<SingleResponse<?>> updateUserProfileByKey(@RequestBody @Valid UserProfileImageRequestDto userProfileImageRequestDto){
+        userService.updateUserProfileByKey(userProfileImageRequestDto.getImageKey());
+        return ResponseEntity.ok()
+                .body(new SingleResponse<>(200, "유저 사진 수정 완료", null));
+    }
+
     @Operation(
             summary = "유저 이름 수정"
     )
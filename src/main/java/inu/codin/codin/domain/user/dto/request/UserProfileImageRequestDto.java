@@ -0,0 +1,20 @@
+package inu.codin.codin.domain.user.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+
+import java.beans.ConstructorProperties;
+
+@Getter
+public class UserProfileImageRequestDto {
+
+    @Schema(description = "직접 업로드한 이미지 key (POST /images/presigned, purpose = PROFILE)", example = "profile/111111/uuid.png")
+    @NotBlank
+    private String imageKey;
+
+    @ConstructorProperties({"imageKey"})
+    public UserProfileImageRequestDto(String imageKey) {
+        this.imageKey = imageKey;
+    }
+}
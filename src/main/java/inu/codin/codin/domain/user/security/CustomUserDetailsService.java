@@ -1,21 +1,35 @@
 package inu.codin.codin.domain.user.security;
 
+import inu.codin.codin.common.util.LocalCache;
 import inu.codin.codin.domain.user.entity.UserEntity;
 import inu.codin.codin.domain.user.entity.UserStatus;
 import inu.codin.codin.domain.user.exception.UserDisabledException;
 import inu.codin.codin.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    /**
+     * JWT 인증용 유저 정보 Cache, Key : email (토큰 subject)
+     * 유저 정보가 저장되면 현재 서버의 Cache는 바로 제거하고 (UserDetailsCacheEvictListener),
+     * 다른 서버의 Cache는 만료 시간이 지나면 다시 조회
+     */
+    private final LocalCache<String, CustomUserDetails> authenticatedUsers;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${security.user-details-cache.max-size:10000}") int maxSize,
+                                    @Value("${security.user-details-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.authenticatedUsers = new LocalCache<>(maxSize, ttlSeconds * 1000);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
@@ -29,4 +43,18 @@ public class CustomUserDetailsService implements UserDetailsService {
         return CustomUserDetails.from(user);
     }
 
+    /**
+     * JWT 인증 시 유저 정보 조회, Cache에 없을 때만 DB 조회
+     * 활성화된 유저만 Cache에 저장되므로 정지, 탈퇴한 유저는 매번 DB에서 확인
+     */
+    public CustomUserDetails loadAuthenticatedUser(String email) {
+        return authenticatedUsers.get(email, key -> (CustomUserDetails) loadUserByUsername(key));
+    }
+
+    /**
+     * 유저 정보(상태, 권한, 닉네임 등)가 변경되었을 때 Cache 제거
+     */
+    public void evict(String email) {
+        if (email != null) authenticatedUsers.evict(email);
+    }
 }
@@ -0,0 +1,23 @@
+package inu.codin.codin.domain.user.security;
+
+import inu.codin.codin.domain.user.entity.UserEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 저장 시 JWT 인증용 유저 정보 Cache 제거
+ * 정지(suspendUser), 정지 해제, 탈퇴, 닉네임/권한 변경 모두 UserRepository.save로 반영되므로 저장 시점에 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCacheEvictListener extends AbstractMongoEventListener<UserEntity> {
+
+    private final CustomUserDetailsService customUserDetailsService;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<UserEntity> event) {
+        customUserDetailsService.evict(event.getSource().getEmail());
+    }
+}
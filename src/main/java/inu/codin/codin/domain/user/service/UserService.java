@@ -8,8 +8,10 @@ import inu.codin.codin.domain.like.entity.LikeType;
 import inu.codin.codin.domain.like.repository.LikeRepository;
 import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
 import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
+import inu.codin.codin.domain.post.dto.PostCursor;
 import inu.codin.codin.domain.post.dto.response.PostPageResponse;
 import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.domain.post.service.PostDtoAssembler;
 import inu.codin.codin.domain.scrap.entity.ScrapEntity;
@@ -22,7 +24,9 @@ import inu.codin.codin.domain.user.dto.response.UserTicketingParticipationInfoRe
 import inu.codin.codin.domain.user.entity.UserEntity;
 import inu.codin.codin.domain.user.exception.UserNicknameDuplicateException;
 import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.infra.s3.S3PresignedUploadService;
 import inu.codin.codin.infra.s3.S3Service;
+import inu.codin.codin.infra.s3.UploadPurpose;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -44,11 +49,13 @@ public class UserService {
     private final UserRepository userRepository;
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
+    private final CustomPostRepository customPostRepository;
     private final ScrapRepository scrapRepository;
     private final CommentRepository commentRepository;
 
     private final PostDtoAssembler postDtoAssembler;
     private final S3Service s3Service;
+    private final S3PresignedUploadService s3PresignedUploadService;
     private final JwtService jwtService;
 
 
@@ -68,6 +75,17 @@ public class UserService {
         );
     }
 
+    //해당 유저가 작성한 모든 글 커서 기반 반환, cursor가 비어있다면 첫 페이지
+    public PostPageResponse getAllUserPostsByCursor(String cursor) {
+        ObjectId userId = SecurityUtils.getCurrentUserId();
+        log.info("[게시글 커서 조회] 유저 ID: {}", userId);
+
+        Slice<PostEntity> slice = customPostRepository.findSliceByUserId(userId, PostCursor.decode(cursor), 20);
+
+        log.info("[게시글 커서 조회 성공] 조회된 게시글 수: {}, 다음 페이지 여부: {}", slice.getContent().size(), slice.hasNext());
+        return postDtoAssembler.toCursorPage(slice);
+    }
+
     public PostPageResponse getPostUserInteraction(int pageNumber, InteractionType interactionType) {
         ObjectId userId = SecurityUtils.getCurrentUserId();
         log.info("[유저 상호작용 조회] 유저 ID: {}, 타입: {}, 페이지 번호: {}", userId, interactionType, pageNumber);
@@ -185,6 +203,26 @@ public class UserService {
         log.info("[프로필 이미지 업데이트 성공] 사용자 ID: {}, 프로필 이미지 URL: {}", userId, profileImageUrl);
     }
 
+    /**
+     * 직접 업로드한 이미지로 프로필 이미지 변경
+     * @param imageKey POST /images/presigned (purpose = PROFILE) 로 발급받아 업로드한 Object key
+     */
+    public void updateUserProfileByKey(String imageKey) {
+        ObjectId userId = SecurityUtils.getCurrentUserId();
+        log.info("[프로필 이미지 업데이트] 현재 사용자 ID: {}, key: {}", userId, imageKey);
+
+        UserEntity user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    log.warn("[유저 정보 찾기 실패] 유저 정보를 찾을 수 없음. 사용자 ID: {}", userId);
+                    return new NotFoundException("유저 정보를 찾을 수 없습니다.");
+                });
+
+        String profileImageUrl = s3PresignedUploadService.register(userId, UploadPurpose.PROFILE, List.of(imageKey)).get(0);
+        user.updateProfileImageUrl(profileImageUrl);
+        userRepository.save(user);
+        log.info("[프로필 이미지 업데이트 성공] 사용자 ID: {}, 프로필 이미지 URL: {}", userId, profileImageUrl);
+    }
+
     public void updateUserName(@Valid UserNameUpdateRequestDto request){
         ObjectId userId = SecurityUtils.getCurrentUserId();
         log.info("[유저 실명 수정] 현재 사용자 ID: {}, 요청 이름: {}", userId, request.getName());
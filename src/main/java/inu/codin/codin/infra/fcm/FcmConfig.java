@@ -6,6 +6,7 @@ import com.google.firebase.FirebaseOptions;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -13,6 +14,7 @@ import java.io.InputStream;
 
 @Component
 @Slf4j
+@ConditionalOnProperty(name = "fcm.transport", havingValue = "firebase", matchIfMissing = true)
 public class FcmConfig {
 
     @Value("${google.firebase.key-path}")
@@ -0,0 +1,42 @@
+package inu.codin.codin.infra.fcm.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 FCM 토큰에 대한 전송 결과 모음
+ */
+@Getter
+public class FcmDispatchResult {
+
+    private final List<FcmSendResult> results;
+
+    public FcmDispatchResult(List<FcmSendResult> results) {
+        this.results = results;
+    }
+
+    public long getSuccessCount() {
+        return results.stream().filter(FcmSendResult::isSuccess).count();
+    }
+
+    public long getFailureCount() {
+        return results.size() - getSuccessCount();
+    }
+
+    public Set<String> getDeliveredTokens() {
+        return results.stream()
+                .filter(FcmSendResult::isSuccess)
+                .map(FcmSendResult::getToken)
+                .collect(Collectors.toSet());
+    }
+
+    public List<String> getUnregisteredTokens() {
+        return results.stream()
+                .filter(FcmSendResult::isUnregistered)
+                .map(FcmSendResult::getToken)
+                .toList();
+    }
+}
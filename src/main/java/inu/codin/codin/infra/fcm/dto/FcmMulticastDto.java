@@ -0,0 +1,30 @@
+package inu.codin.codin.infra.fcm.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fcm 메시지 DTO to Tokens
+ * 같은 내용을 여러 FCM 토큰에 전송할 때 사용 (최대 500개씩 묶어서 전송)
+ */
+@Data
+public class FcmMulticastDto {
+
+    private String title;
+    private String body;
+    private String imageUrl;
+    private Map<String, String> data;
+    private List<String> tokens;
+
+    @Builder
+    public FcmMulticastDto(String title, String body, String imageUrl, Map<String, String> data, List<String> tokens) {
+        this.title = title;
+        this.body = body;
+        this.imageUrl = imageUrl;
+        this.data = data;
+        this.tokens = tokens;
+    }
+}
@@ -0,0 +1,43 @@
+package inu.codin.codin.infra.fcm.dto;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * FCM 토큰 하나에 대한 전송 결과
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FcmSendResult {
+
+    private final String token;
+    private final boolean success;
+    private final String messageId;
+    private final MessagingErrorCode errorCode;
+
+    public static FcmSendResult success(String token, String messageId) {
+        return new FcmSendResult(token, true, messageId, null);
+    }
+
+    public static FcmSendResult failure(String token, MessagingErrorCode errorCode) {
+        return new FcmSendResult(token, false, null, errorCode);
+    }
+
+    /**
+     * 일시적인 오류(전송량 초과, FCM 서버 장애)로 재시도 가능한지 여부
+     */
+    public boolean isRetryable() {
+        return errorCode == MessagingErrorCode.QUOTA_EXCEEDED
+                || errorCode == MessagingErrorCode.UNAVAILABLE
+                || errorCode == MessagingErrorCode.INTERNAL;
+    }
+
+    /**
+     * 앱 삭제 등으로 더 이상 유효하지 않은 토큰인지 여부
+     */
+    public boolean isUnregistered() {
+        return errorCode == MessagingErrorCode.UNREGISTERED;
+    }
+}
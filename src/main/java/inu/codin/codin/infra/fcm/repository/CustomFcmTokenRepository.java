@@ -0,0 +1,32 @@
+package inu.codin.codin.infra.fcm.repository;
+
+import inu.codin.codin.infra.fcm.entity.FcmTokenEntity;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public class CustomFcmTokenRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomFcmTokenRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 만료된 FCM 토큰들을 한 번의 updateMany로 모든 유저에게서 제거
+     * @param fcmTokens 제거할 FCM 토큰 목록
+     * @return 토큰이 제거된 유저 수
+     */
+    public long removeFcmTokens(Collection<String> fcmTokens) {
+        if (fcmTokens.isEmpty()) return 0;
+        Query query = new Query(Criteria.where("fcmTokenList").in(fcmTokens));
+        Update update = new Update().pullAll("fcmTokenList", fcmTokens.toArray());
+        return mongoTemplate.updateMulti(query, update, FcmTokenEntity.class).getModifiedCount();
+    }
+}
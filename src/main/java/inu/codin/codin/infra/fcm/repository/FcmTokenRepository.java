@@ -6,10 +6,15 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FcmTokenRepository extends MongoRepository<FcmTokenEntity, ObjectId> {
     @Query("{ 'userId': ?0, deletedAt: null }")
     Optional<FcmTokenEntity> findByUserId(ObjectId user);
+
+    @Query("{ 'userId': { $in: ?0 }, deletedAt: null }")
+    List<FcmTokenEntity> findAllByUserIdIn(Collection<ObjectId> userIds);
 }
@@ -0,0 +1,169 @@
+package inu.codin.codin.infra.fcm.service;
+
+import inu.codin.codin.common.config.AsyncConfig;
+import inu.codin.codin.infra.fcm.dto.FcmDispatchResult;
+import inu.codin.codin.infra.fcm.dto.FcmMulticastDto;
+import inu.codin.codin.infra.fcm.dto.FcmSendResult;
+import inu.codin.codin.infra.fcm.repository.CustomFcmTokenRepository;
+import inu.codin.codin.infra.fcm.transport.FcmTransport;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * FCM 묶음 전송 Dispatcher
+ * 토큰을 최대 500개씩 묶어 fcmExecutor에서 병렬로 전송
+ * 초당 전송량을 제한하고, 일시적 오류(QUOTA_EXCEEDED, UNAVAILABLE, INTERNAL)는 지수 백오프로 재시도
+ * 등록 해제된(UNREGISTERED) 토큰은 전송이 끝난 뒤 한 번에 제거
+ */
+@Component
+@Slf4j
+public class FcmDispatcher {
+
+    public static final int MAX_TOKENS_PER_BATCH = 500;
+    private static final int MAX_ATTEMPTS = 4;
+
+    private final FcmTransport fcmTransport;
+    private final CustomFcmTokenRepository customFcmTokenRepository;
+    private final Executor fcmExecutor;
+    private final Bucket rateLimiter;
+    private final long retryBaseDelayMillis;
+
+    public FcmDispatcher(FcmTransport fcmTransport,
+                         CustomFcmTokenRepository customFcmTokenRepository,
+                         @Qualifier(AsyncConfig.FCM_EXECUTOR) Executor fcmExecutor,
+                         @Value("${fcm.rate-limit.per-second:1000}") long messagesPerSecond,
+                         @Value("${fcm.retry.base-delay-ms:1000}") long retryBaseDelayMillis) {
+        this.fcmTransport = fcmTransport;
+        this.customFcmTokenRepository = customFcmTokenRepository;
+        this.fcmExecutor = fcmExecutor;
+        this.retryBaseDelayMillis = retryBaseDelayMillis;
+        // 한 묶음은 한 번에 소비해야 하므로 용량은 최소 한 묶음 크기
+        long capacity = Math.max(messagesPerSecond, MAX_TOKENS_PER_BATCH);
+        this.rateLimiter = Bucket.builder()
+                .addLimit(Bandwidth.classic(capacity, Refill.greedy(messagesPerSecond, Duration.ofSeconds(1))))
+                .build();
+    }
+
+    /**
+     * 같은 메시지를 여러 토큰에 전송
+     * @param message 전송할 메시지, 토큰 수 제한 없음 (중복 토큰은 한 번만 전송)
+     * @return 모든 묶음의 전송이 끝나면 완료되는 토큰별 전송 결과
+     */
+    public CompletableFuture<FcmDispatchResult> dispatch(FcmMulticastDto message) {
+        List<String> tokens = message.getTokens().stream().distinct().toList();
+        List<CompletableFuture<List<FcmSendResult>>> batches = new ArrayList<>();
+        for (int from = 0; from < tokens.size(); from += MAX_TOKENS_PER_BATCH) {
+            FcmMulticastDto batch = withTokens(message, tokens.subList(from, Math.min(from + MAX_TOKENS_PER_BATCH, tokens.size())));
+            batches.add(CompletableFuture.supplyAsync(() -> sendBatch(batch), fcmExecutor));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<FcmSendResult> results = new ArrayList<>(tokens.size());
+                    batches.forEach(batch -> results.addAll(batch.join()));
+                    FcmDispatchResult dispatchResult = new FcmDispatchResult(results);
+                    pruneUnregisteredTokens(dispatchResult.getUnregisteredTokens());
+                    return dispatchResult;
+                });
+    }
+
+    /**
+     * 토큰 묶음 하나를 전송, 일시적 오류로 실패한 토큰만 모아 재시도
+     */
+    private List<FcmSendResult> sendBatch(FcmMulticastDto batch) {
+        List<FcmSendResult> results = new ArrayList<>(batch.getTokens().size());
+        FcmMulticastDto pending = batch;
+        for (int attempt = 1; ; attempt++) {
+            if (!acquire(pending.getTokens().size())) {
+                pending.getTokens().forEach(token -> results.add(FcmSendResult.failure(token, null)));
+                return results;
+            }
+
+            List<String> retryTokens = new ArrayList<>();
+            for (FcmSendResult result : sendSafely(pending)) {
+                if (result.isRetryable() && attempt < MAX_ATTEMPTS) retryTokens.add(result.getToken());
+                else results.add(result);
+            }
+            if (retryTokens.isEmpty()) return results;
+
+            long delay = backoffMillis(attempt);
+            log.warn("[sendBatch] FCM 일시적 오류, {}ms 후 재시도 : attempt={}, tokens={}", delay, attempt, retryTokens.size());
+            if (!sleep(delay)) {
+                retryTokens.forEach(token -> results.add(FcmSendResult.failure(token, null)));
+                return results;
+            }
+            pending = withTokens(batch, retryTokens);
+        }
+    }
+
+    private List<FcmSendResult> sendSafely(FcmMulticastDto batch) {
+        try {
+            return fcmTransport.sendMulticast(batch);
+        } catch (Exception e) {
+            log.error("[sendBatch] FCM 전송 중 예외 발생 : {}", e.getMessage());
+            return batch.getTokens().stream()
+                    .map(token -> FcmSendResult.failure(token, null))
+                    .toList();
+        }
+    }
+
+    private void pruneUnregisteredTokens(List<String> unregisteredTokens) {
+        if (unregisteredTokens.isEmpty()) return;
+        try {
+            long modified = customFcmTokenRepository.removeFcmTokens(unregisteredTokens);
+            log.info("[pruneUnregisteredTokens] 만료된 FCM 토큰 {}개 제거, 대상 유저 {}명", unregisteredTokens.size(), modified);
+        } catch (Exception e) {
+            log.error("[pruneUnregisteredTokens] 만료된 FCM 토큰 제거 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 2^(attempt-1) * 기본 지연 + 최대 기본 지연만큼의 jitter
+     */
+    private long backoffMillis(int attempt) {
+        long jitter = retryBaseDelayMillis > 0 ? ThreadLocalRandom.current().nextLong(retryBaseDelayMillis) : 0;
+        return retryBaseDelayMillis * (1L << (attempt - 1)) + jitter;
+    }
+
+    private boolean acquire(int messages) {
+        try {
+            rateLimiter.asBlocking().consume(messages);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static FcmMulticastDto withTokens(FcmMulticastDto message, List<String> tokens) {
+        return FcmMulticastDto.builder()
+                .title(message.getTitle())
+                .body(message.getBody())
+                .imageUrl(message.getImageUrl())
+                .data(message.getData())
+                .tokens(tokens)
+                .build();
+    }
+}
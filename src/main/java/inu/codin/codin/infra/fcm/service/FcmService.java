@@ -6,8 +6,10 @@ import inu.codin.codin.common.security.util.SecurityUtils;
 import inu.codin.codin.domain.notification.entity.NotificationPreference;
 import inu.codin.codin.domain.user.entity.UserEntity;
 import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.infra.fcm.dto.FcmDispatchResult;
 import inu.codin.codin.infra.fcm.dto.FcmMessageTopicDto;
 import inu.codin.codin.infra.fcm.dto.FcmMessageUserDto;
+import inu.codin.codin.infra.fcm.dto.FcmMulticastDto;
 import inu.codin.codin.infra.fcm.dto.request.FcmTokenRequest;
 import inu.codin.codin.infra.fcm.entity.FcmTokenEntity;
 import inu.codin.codin.infra.fcm.exception.FcmTokenNotFoundException;
@@ -18,8 +20,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -28,6 +35,7 @@ public class FcmService {
 
     private final FcmTokenRepository fcmTokenRepository;
     private final UserRepository userRepository;
+    private final FcmDispatcher fcmDispatcher;
 
     /**
      * 클라이언트로부터 받은 FCM 토큰을 저장하는 로직
@@ -72,28 +80,50 @@ public class FcmService {
             log.info("[sendFcmMessage] 알림 설정에서 푸시 알림을 허용하지 않았습니다. : {}", user.getEmail());
             return;
         }
-        for (String fcmToken : fcmTokenEntity.getFcmTokenList()) {
-            try {
-                Message message = Message.builder()
-                        .setNotification(Notification.builder()
-                                .setTitle(fcmMessageUserDto.getTitle())
-                                .setBody(fcmMessageUserDto.getBody())
-                                .setImage(fcmMessageUserDto.getImageUrl())
-                                .build())
-                        .setToken(fcmToken)
-                        .putAllData(fcmMessageUserDto.getData())
-                        .build();
-
-                String response = FirebaseMessaging.getInstance().send(message);
-                log.info("[sendFcmMessage] 알림 전송 성공 : {}", response);
-            } catch (FirebaseMessagingException e) {
-                log.error("[sendFcmMessage] 알림 전송 실패, errorCode : {}, msg : {}", e.getErrorCode(), e.getMessage());
-                handleFirebaseMessagingException(e, fcmTokenEntity, fcmToken);
-            }
+        FcmDispatchResult result = fcmDispatcher.dispatch(FcmMulticastDto.builder()
+                .title(fcmMessageUserDto.getTitle())
+                .body(fcmMessageUserDto.getBody())
+                .imageUrl(fcmMessageUserDto.getImageUrl())
+                .data(fcmMessageUserDto.getData())
+                .tokens(fcmTokenEntity.getFcmTokenList())
+                .build()).join();
+        log.info("[sendFcmMessage] 알림 전송 완료 : success={}, failure={}", result.getSuccessCount(), result.getFailureCount());
+    }
+
+    /**
+     * 여러 유저에게 같은 FCM 메시지를 묶음 전송하는 로직 - 서버 내부 사용
+     * 푸시 알림을 허용한 유저의 토큰을 한 번에 조회하여 최대 500개씩 전송
+     * @param users 알림을 받을 유저 목록
+     * @return 한 개 이상의 기기에 전송된 유저의 _id
+     */
+    public Set<ObjectId> sendFcmMessageToUsers(List<UserEntity> users, String title, String body, Map<String, String> data) {
+        List<ObjectId> pushUserIds = users.stream()
+                .filter(user -> user.getNotificationPreference() == null || user.getNotificationPreference().isAllowPush())
+                .map(UserEntity::get_id)
+                .toList();
+        if (pushUserIds.isEmpty()) return Set.of();
+
+        Map<String, ObjectId> tokenOwners = new HashMap<>();
+        for (FcmTokenEntity fcmTokenEntity : fcmTokenRepository.findAllByUserIdIn(pushUserIds)) {
+            if (fcmTokenEntity.getFcmTokenList() == null) continue;
+            fcmTokenEntity.getFcmTokenList().forEach(token -> tokenOwners.put(token, fcmTokenEntity.getUserId()));
         }
+        if (tokenOwners.isEmpty()) return Set.of();
+
+        FcmDispatchResult result = fcmDispatcher.dispatch(FcmMulticastDto.builder()
+                .title(title)
+                .body(body)
+                .data(data)
+                .tokens(new ArrayList<>(tokenOwners.keySet()))
+                .build()).join();
+        log.info("[sendFcmMessageToUsers] 알림 전송 완료 : users={}, tokens={}, success={}, failure={}",
+                pushUserIds.size(), tokenOwners.size(), result.getSuccessCount(), result.getFailureCount());
+
+        return result.getDeliveredTokens().stream()
+                .map(tokenOwners::get)
+                .collect(Collectors.toSet());
     }
 
-    // todo : FCM Bulk 메시지 전송 로직 추가
     // todo : FCM 토칙 기반 메세지 전송 로직 추가 - 공지사항, 학과별 알림, 게시글 내 모든 댓글 인원에게 알림
 
     /**
@@ -121,39 +151,6 @@ public class FcmService {
         }
     }
 
-    /**
-     * FCM 메시지 전송 중 발생한 예외를 처리하는 로직
-     * @param e FirebaseMessagingException
-     * @param fcmTokenEntity FcmTokenEntity
-     * @param fcmToken FCM 토큰
-     */
-    private void handleFirebaseMessagingException(FirebaseMessagingException e, FcmTokenEntity fcmTokenEntity, String fcmToken) {
-        MessagingErrorCode errorCode = e.getMessagingErrorCode();
-        switch (errorCode) {
-            case INVALID_ARGUMENT -> // FCM 토큰이 유효하지 않을 때
-                    log.error("Invalid argument error for token: {}", fcmToken);
-            case UNREGISTERED -> { // FCM 토큰이 등록되지 않았을 때
-                log.warn("Unregistered token: {}. Removing from database.", fcmToken);
-                removeFcmToken(fcmTokenEntity, fcmToken);
-            }
-            case QUOTA_EXCEEDED -> // FCM 토큰의 전송량이 초과되었을 때
-                    log.error("Quota exceeded for token: {}", fcmToken);
-            // 에러관리 및 리포팅 기능 추가
-            case SENDER_ID_MISMATCH -> // FCM 토큰의 발신자 ID가 일치하지 않을 때
-                    log.error("Sender ID mismatch for token: {}", fcmToken);
-            case THIRD_PARTY_AUTH_ERROR -> // FCM 토큰의 인증이 실패했을 때
-                    log.error("Third-party authentication error for token: {}", fcmToken);
-            default -> // 그 외의 에러
-                    log.error("Unknown error for token: {}", fcmToken);
-        }
-    }
-
-    // todo : FCM 토큰 만료시 삭제 로직 추가
-    private void removeFcmToken(FcmTokenEntity fcmTokenEntity, String fcmToken) {
-        fcmTokenEntity.deleteFcmToken(fcmToken);
-        fcmTokenRepository.save(fcmTokenEntity);
-    }
-
     /**
      * FCM 토픽 구독 로직
      * @param topic 구독할 토픽 이름
@@ -0,0 +1,91 @@
+package inu.codin.codin.infra.fcm.transport;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import inu.codin.codin.infra.fcm.dto.FcmMulticastDto;
+import inu.codin.codin.infra.fcm.dto.FcmSendResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 가짜 FCM, 실제 FCM 서버 없이 전송 로직을 테스트하기 위해 사용
+ * fcm.transport=fake 설정 시 사용되며, 응답 지연 / 등록 해제된 토큰 / 일시적 오류를 흉내낼 수 있음
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "fcm.transport", havingValue = "fake")
+public class FakeFcmTransport implements FcmTransport {
+
+    private final Set<String> unregisteredTokens = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+    private volatile MessagingErrorCode failureCode = MessagingErrorCode.UNAVAILABLE;
+    private volatile long latencyMillis = 0;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicLong deliveredCount = new AtomicLong();
+
+    @Override
+    public List<FcmSendResult> sendMulticast(FcmMulticastDto message) {
+        requestCount.incrementAndGet();
+        sleepLatency();
+
+        List<FcmSendResult> results = new ArrayList<>(message.getTokens().size());
+        boolean fail = remainingFailures.getAndUpdate(count -> Math.max(0, count - 1)) > 0;
+        for (String token : message.getTokens()) {
+            if (fail) {
+                results.add(FcmSendResult.failure(token, failureCode));
+            } else if (unregisteredTokens.contains(token)) {
+                results.add(FcmSendResult.failure(token, MessagingErrorCode.UNREGISTERED));
+            } else {
+                deliveredCount.incrementAndGet();
+                results.add(FcmSendResult.success(token, "fake/" + UUID.randomUUID()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 이후 전송에서 등록 해제된 토큰으로 응답
+     */
+    public void unregister(Collection<String> tokens) {
+        unregisteredTokens.addAll(tokens);
+    }
+
+    /**
+     * 다음 times번의 요청을 모든 토큰에 대해 errorCode로 실패 처리
+     */
+    public void failNext(int times, MessagingErrorCode errorCode) {
+        this.failureCode = errorCode;
+        this.remainingFailures.set(times);
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    private void sleepLatency() {
+        if (latencyMillis <= 0) return;
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
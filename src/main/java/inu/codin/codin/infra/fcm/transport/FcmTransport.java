@@ -0,0 +1,20 @@
+package inu.codin.codin.infra.fcm.transport;
+
+import inu.codin.codin.infra.fcm.dto.FcmMulticastDto;
+import inu.codin.codin.infra.fcm.dto.FcmSendResult;
+
+import java.util.List;
+
+/**
+ * FCM 전송 수단
+ * fcm.transport 설정으로 선택 - firebase(기본값) : 실제 FCM 서버, fake : 프로세스 내 가짜 FCM (테스트, 부하 테스트용)
+ */
+public interface FcmTransport {
+
+    /**
+     * 하나의 요청으로 여러 토큰에 같은 메시지 전송
+     * @param message 전송할 메시지, tokens는 최대 500개
+     * @return tokens와 같은 순서의 토큰별 전송 결과
+     */
+    List<FcmSendResult> sendMulticast(FcmMulticastDto message);
+}
@@ -0,0 +1,52 @@
+package inu.codin.codin.infra.fcm.transport;
+
+import com.google.firebase.messaging.*;
+import inu.codin.codin.infra.fcm.dto.FcmMulticastDto;
+import inu.codin.codin.infra.fcm.dto.FcmSendResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Firebase Admin SDK의 sendEachForMulticast로 전송
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "fcm.transport", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmTransport implements FcmTransport {
+
+    @Override
+    public List<FcmSendResult> sendMulticast(FcmMulticastDto message) {
+        List<String> tokens = message.getTokens();
+        MulticastMessage.Builder builder = MulticastMessage.builder()
+                .setNotification(Notification.builder()
+                        .setTitle(message.getTitle())
+                        .setBody(message.getBody())
+                        .setImage(message.getImageUrl())
+                        .build())
+                .addAllTokens(tokens);
+        if (message.getData() != null) builder.putAllData(message.getData());
+
+        List<FcmSendResult> results = new ArrayList<>(tokens.size());
+        try {
+            List<SendResponse> responses = FirebaseMessaging.getInstance()
+                    .sendEachForMulticast(builder.build())
+                    .getResponses();
+            for (int i = 0; i < tokens.size(); i++) {
+                SendResponse response = responses.get(i);
+                results.add(response.isSuccessful()
+                        ? FcmSendResult.success(tokens.get(i), response.getMessageId())
+                        : FcmSendResult.failure(tokens.get(i), response.getException().getMessagingErrorCode()));
+            }
+        } catch (FirebaseMessagingException e) {
+            // 요청 자체가 실패한 경우 모든 토큰에 같은 결과 적용, 오류 코드가 없다면 재시도 대상으로 처리
+            log.error("[sendMulticast] 알림 전송 실패, errorCode : {}, msg : {}", e.getErrorCode(), e.getMessage());
+            MessagingErrorCode errorCode = e.getMessagingErrorCode() != null ? e.getMessagingErrorCode() : MessagingErrorCode.INTERNAL;
+            tokens.forEach(token -> results.add(FcmSendResult.failure(token, errorCode)));
+        }
+        return results;
+    }
+}
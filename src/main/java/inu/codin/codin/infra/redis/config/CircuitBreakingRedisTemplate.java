@@ -0,0 +1,22 @@
+package inu.codin.codin.infra.redis.config;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 모든 명령을 RedisHealthChecker(Circuit Breaker)를 거쳐 실행하는 RedisTemplate
+ * opsForValue, opsForZSet, execute(RedisScript), executePipelined 등은 모두 execute(RedisCallback, ...)로 실행됨
+ */
+public class CircuitBreakingRedisTemplate<K, V> extends RedisTemplate<K, V> {
+
+    private final RedisHealthChecker redisHealthChecker;
+
+    public CircuitBreakingRedisTemplate(RedisHealthChecker redisHealthChecker) {
+        this.redisHealthChecker = redisHealthChecker;
+    }
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        return redisHealthChecker.execute(() -> super.execute(action, exposeConnection, pipeline));
+    }
+}
@@ -0,0 +1,24 @@
+package inu.codin.codin.infra.redis.config;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 모든 명령을 RedisHealthChecker(Circuit Breaker)를 거쳐 실행하는 StringRedisTemplate
+ * RedisTemplate<String, String>을 주입받는 Redis Service는 모두 이 Template을 사용
+ */
+public class CircuitBreakingStringRedisTemplate extends StringRedisTemplate {
+
+    private final RedisHealthChecker redisHealthChecker;
+
+    public CircuitBreakingStringRedisTemplate(RedisConnectionFactory redisConnectionFactory, RedisHealthChecker redisHealthChecker) {
+        super(redisConnectionFactory);
+        this.redisHealthChecker = redisHealthChecker;
+    }
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        return redisHealthChecker.execute(() -> super.execute(action, exposeConnection, pipeline));
+    }
+}
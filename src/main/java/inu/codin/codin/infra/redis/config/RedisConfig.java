@@ -10,6 +10,7 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -44,8 +45,8 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
-        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory, RedisHealthChecker redisHealthChecker) {
+        RedisTemplate<String, Object> redisTemplate = new CircuitBreakingRedisTemplate<>(redisHealthChecker);
         redisTemplate.setConnectionFactory(redisConnectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setDefaultSerializer(RedisSerializer.string());
@@ -53,5 +54,13 @@ public class RedisConfig {
         redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer()); // 객체를 JSON으로 직렬화
         return redisTemplate;
     }
-}
 
+    /**
+     * Redis Service에서 사용하는 RedisTemplate<String, String>
+     * 모든 명령은 Circuit Breaker(RedisHealthChecker)를 거쳐 Redis 장애 시 타임아웃을 기다리지 않고 바로 실패
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory, RedisHealthChecker redisHealthChecker) {
+        return new CircuitBreakingStringRedisTemplate(redisConnectionFactory, redisHealthChecker);
+    }
+}
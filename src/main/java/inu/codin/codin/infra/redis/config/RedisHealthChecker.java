@@ -1,67 +1,378 @@
 package inu.codin.codin.infra.redis.config;
 
+import inu.codin.codin.common.config.AsyncConfig;
+import inu.codin.codin.infra.redis.dto.RedisCircuitMetrics;
 import inu.codin.codin.infra.redis.exception.RedisUnavailableException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+/**
+ * Redis Circuit Breaker
+ * 1. CLOSED : 모든 Redis 명령 허용, 연속 실패 횟수와 최근 명령의 지연 시간을 집계
+ *    - 연결 실패, 타임아웃이 failure-threshold번 연속되면 OPEN
+ *    - 최근 window-size개 명령의 latency-percentile 지연 시간이 latency-threshold-millis를 넘으면 OPEN
+ * 2. OPEN : Redis 명령을 보내지 않고 바로 실패, 호출자는 isRedisAvailable()로 확인하여 MongoDB로 우회
+ * 3. HALF_OPEN : open-duration-millis가 지나면 RedisRecoverSyncScheduler가 주기적으로 PING,
+ *    half-open-successes번 연속 성공하면 CLOSED, 실패하면 다시 OPEN
+ *    CLOSED로 전환하기 전에 OPEN 동안 MongoDB에만 반영된 데이터의 Redis Key(markStale)를 삭제하여 이전 값이 조회되지 않도록 함
+ *    Key 삭제(SCAN, DEL)는 오래 걸릴 수 있으므로 스케줄러 스레드와 상태 잠금 밖에서 Cache 복구 Executor로 실행
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RedisHealthChecker {
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private volatile boolean redisAvailable = true; // Redis의 현재 상태
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final Executor recoveryExecutor;
+    private final int failureThreshold;
+    private final long latencyThresholdNanos;
+    private final int maxSlowCalls;
+    private final long openDurationMillis;
+    private final int halfOpenSuccesses;
+
+    private volatile State state = State.CLOSED;
+    private volatile boolean redisAvailable = true; // Redis의 현재 상태 (state == CLOSED)
+    private volatile long openedAt;
+    private int halfOpenSuccessCount;
+    private volatile boolean recovering; // Key 삭제 작업 실행 중 여부
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final boolean[] slowCalls; // 최근 명령의 지연 여부 (Ring Buffer)
+    private int slowCallIndex;
+    private int slowCallCount;
+    private int recordedCalls;
+
+    private final AtomicLong tripCount = new AtomicLong();
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    private static final int MAX_STALE_KEYS = 100000;
+    private static final int DELETE_BATCH_SIZE = 500;
+    private final Set<String> staleKeys = ConcurrentHashMap.newKeySet();
+    private final Set<String> stalePatterns = ConcurrentHashMap.newKeySet();
+    private volatile boolean staleKeysOverflowed; // 기록한 Key가 너무 많아 패턴으로 삭제해야 하는 경우
+
+    public RedisHealthChecker(RedisConnectionFactory redisConnectionFactory,
+                              @Value("${redis.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                              @Value("${redis.circuit-breaker.latency-threshold-millis:250}") long latencyThresholdMillis,
+                              @Value("${redis.circuit-breaker.latency-percentile:0.9}") double latencyPercentile,
+                              @Value("${redis.circuit-breaker.window-size:100}") int windowSize,
+                              @Value("${redis.circuit-breaker.open-duration-millis:5000}") long openDurationMillis,
+                              @Value("${redis.circuit-breaker.half-open-successes:3}") int halfOpenSuccesses,
+                              @Qualifier(AsyncConfig.CACHE_RECOVERY_EXECUTOR) Executor recoveryExecutor) {
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.recoveryExecutor = recoveryExecutor;
+        this.failureThreshold = failureThreshold;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.slowCalls = new boolean[windowSize];
+        // 지연된 명령이 (1 - percentile) 비율을 넘으면 percentile 지연 시간이 기준을 넘은 것
+        this.maxSlowCalls = (int) Math.floor(windowSize * (1 - latencyPercentile));
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenSuccesses = halfOpenSuccesses;
+    }
 
     /**
-     * Redis 상태를 확인하고 사용 가능 여부를 갱신합니다.
-     * 장애 발생 시 예외를 던져 호출자가 처리하도록 합니다.
-     *
-     * @throws RedisUnavailableException Redis 장애 발생 시 예외
+     * Redis 상태를 확인하고 사용 가능 여부를 갱신합니다. (RedisRecoverSyncScheduler에서 주기적으로 호출)
+     * CLOSED라면 PING 결과를 일반 명령처럼 집계하고, OPEN이라면 open-duration이 지난 뒤 HALF_OPEN으로 전환하여 PING
      */
     public void checkRedisStatus() {
-        try {
-            boolean status = "PONG".equals(redisTemplate.getConnectionFactory().getConnection().ping());
-            if (status && !redisAvailable) {
-                handleRedisRecovery(); // 복구 처리
-            } else if (!status && redisAvailable) {
-                handleRedisFailure(new RuntimeException("Redis가 응답하지 않습니다."));
-            }
-            redisAvailable = status;
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis) return;
+            toHalfOpen();
+        }
+
+        long start = System.nanoTime();
+        Exception failure = null;
+        boolean status;
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            status = "PONG".equals(connection.ping());
         } catch (Exception e) {
-            handleRedisFailure(e);
+            status = false;
+            failure = e;
+        }
+        long latency = System.nanoTime() - start;
+
+        if (state == State.HALF_OPEN) {
+            if (status && latency < latencyThresholdNanos) onHalfOpenSuccess();
+            else handleRedisFailure(failure != null ? failure : new RuntimeException("Redis가 응답하지 않습니다."));
+        } else if (status) {
+            recordSuccess(latency);
+        } else {
+            recordFailure(failure != null ? failure : new DataAccessResourceFailureException("Redis가 응답하지 않습니다."));
         }
     }
 
     /**
      * Redis의 현재 사용 가능 여부를 반환합니다.
      *
-     * @return Redis가 활성화 상태라면 true
+     * @return Redis가 활성화 상태(CLOSED)라면 true
      */
     public boolean isRedisAvailable() {
         return redisAvailable;
     }
 
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Circuit Breaker를 거쳐 Redis 명령 실행 (CircuitBreakingRedisTemplate)
+     * @throws RedisUnavailableException Circuit이 열려 있는 경우, Redis에 명령을 보내지 않음
+     */
+    public <T> T execute(Supplier<T> command) {
+        if (!redisAvailable) {
+            rejectedCalls.incrementAndGet();
+            throw new RedisUnavailableException("Redis Circuit Breaker가 열려 있습니다. state : " + state);
+        }
+        long start = System.nanoTime();
+        try {
+            T result = command.get();
+            recordSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            recordFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 성공한 명령의 지연 시간 집계, 지연된 명령의 비율이 기준을 넘으면 OPEN
+     */
+    public void recordSuccess(long latencyNanos) {
+        if (state != State.CLOSED) return;
+        consecutiveFailures.set(0);
+        if (recordLatency(latencyNanos >= latencyThresholdNanos)) {
+            handleRedisFailure(new QueryTimeoutException("Redis 응답 지연 : 최근 " + slowCalls.length + "개 명령 중 "
+                    + slowCallCount + "개가 " + TimeUnit.NANOSECONDS.toMillis(latencyThresholdNanos) + "ms 초과"));
+        }
+    }
+
+    /**
+     * 실패한 명령 집계, 연결 실패, 타임아웃만 집계하며 연속으로 failure-threshold번 실패하면 OPEN
+     */
+    public void recordFailure(Exception e) {
+        if (state != State.CLOSED || !isConnectionFailure(e)) return;
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            handleRedisFailure(e);
+        }
+    }
+
+    /**
+     * Circuit이 열려 있는 동안 MongoDB에만 반영되어 Redis 값이 이전 값이 된 Key 기록, 복구 시 삭제
+     * 기록한 Key가 MAX_STALE_KEYS개를 넘으면 Key 대신 pattern에 맞는 Key를 모두 삭제
+     * @param pattern Key 패턴 (SCAN MATCH)
+     * @param keys 삭제할 Key
+     */
+    public void markStale(String pattern, String... keys) {
+        stalePatterns.add(pattern);
+        if (staleKeysOverflowed) return;
+        staleKeys.addAll(Arrays.asList(keys));
+        if (staleKeys.size() > MAX_STALE_KEYS) {
+            staleKeysOverflowed = true;
+            staleKeys.clear();
+        }
+    }
+
+    public RedisCircuitMetrics getMetrics() {
+        synchronized (slowCalls) {
+            return RedisCircuitMetrics.builder()
+                    .state(state.name())
+                    .consecutiveFailures(consecutiveFailures.get())
+                    .slowCallRate(recordedCalls == 0 ? 0 : (double) slowCallCount / recordedCalls)
+                    .recordedCalls(recordedCalls)
+                    .tripCount(tripCount.get())
+                    .rejectedCalls(rejectedCalls.get())
+                    .openedAt(state == State.CLOSED ? 0 : openedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * @return 최근 window-size개 명령 중 지연된 명령이 기준을 넘었다면 true
+     */
+    private boolean recordLatency(boolean slow) {
+        synchronized (slowCalls) {
+            if (recordedCalls == slowCalls.length) {
+                if (slowCalls[slowCallIndex]) slowCallCount--;
+            } else {
+                recordedCalls++;
+            }
+            slowCalls[slowCallIndex] = slow;
+            if (slow) slowCallCount++;
+            slowCallIndex = (slowCallIndex + 1) % slowCalls.length;
+            return recordedCalls == slowCalls.length && slowCallCount > maxSlowCalls;
+        }
+    }
+
+    private void resetWindow() {
+        synchronized (slowCalls) {
+            Arrays.fill(slowCalls, false);
+            slowCallIndex = 0;
+            slowCallCount = 0;
+            recordedCalls = 0;
+        }
+        consecutiveFailures.set(0);
+    }
+
+    private static boolean isConnectionFailure(Exception e) {
+        return e instanceof DataAccessResourceFailureException || e instanceof QueryTimeoutException;
+    }
+
+    private synchronized void toHalfOpen() {
+        if (state != State.OPEN) return;
+        state = State.HALF_OPEN;
+        halfOpenSuccessCount = 0;
+        log.info("[Redis 상태 변경] Redis 복구 확인 중 (HALF_OPEN)");
+    }
+
+    private synchronized void onHalfOpenSuccess() {
+        if (state != State.HALF_OPEN) return;
+        if (++halfOpenSuccessCount < halfOpenSuccesses) return;
+        if (recovering) return;
+        recovering = true;
+        try {
+            recoveryExecutor.execute(this::recover);
+        } catch (RejectedExecutionException e) {
+            recovering = false; // 다음 확인에서 다시 등록
+            log.warn("[Redis 복구] Cache 복구 대기열이 가득 차 다음 확인에서 다시 시도합니다.");
+        }
+    }
+
+    /**
+     * 기록한 Key를 삭제한 뒤 CLOSED로 전환, 삭제에 실패하면 다시 OPEN (Cache 복구 Executor에서 실행)
+     */
+    private void recover() {
+        try {
+            try {
+                invalidateStaleKeys();
+            } catch (Exception e) {
+                handleRedisFailure(e);
+                return;
+            }
+            if (!closeIfHalfOpen()) return;
+            try {
+                invalidateStaleKeys(); // 삭제 중 HALF_OPEN 상태에서 기록된 Key
+            } catch (Exception e) {
+                recordFailure(e);
+            }
+        } finally {
+            recovering = false;
+        }
+    }
+
+    /**
+     * @return 삭제 중 다시 OPEN 되지 않아 CLOSED로 전환했다면 true
+     */
+    private synchronized boolean closeIfHalfOpen() {
+        if (state != State.HALF_OPEN) return false;
+        handleRedisRecovery();
+        return true;
+    }
+
+    /**
+     * markStale로 기록한 Key 삭제, 삭제에 성공한 Key만 기록에서 제거
+     */
+    private void invalidateStaleKeys() {
+        if (!staleKeysOverflowed && staleKeys.isEmpty()) return;
+        long deleted = 0;
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            if (staleKeysOverflowed) {
+                for (String pattern : stalePatterns) {
+                    deleted += deleteByPattern(connection, pattern);
+                }
+                staleKeysOverflowed = false;
+            }
+            List<String> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+            for (String key : staleKeys) {
+                batch.add(key);
+                if (batch.size() == DELETE_BATCH_SIZE) {
+                    deleted += delete(connection, batch);
+                    staleKeys.removeAll(batch);
+                    batch.clear();
+                }
+            }
+            deleted += delete(connection, batch);
+            staleKeys.removeAll(batch);
+        }
+        if (staleKeys.isEmpty()) stalePatterns.clear();
+        log.info("[Redis 복구] 장애 중 MongoDB에만 반영된 Cache {}개 삭제", deleted);
+    }
+
+    private static long deleteByPattern(RedisConnection connection, String pattern) {
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+        try (Cursor<byte[]> cursor = connection.keyCommands()
+                .scan(ScanOptions.scanOptions().match(pattern).count(DELETE_BATCH_SIZE).build())) {
+            while (cursor.hasNext()) {
+                batch.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                if (batch.size() == DELETE_BATCH_SIZE) {
+                    deleted += delete(connection, batch);
+                    batch.clear();
+                }
+            }
+        }
+        return deleted + delete(connection, batch);
+    }
+
+    private static long delete(RedisConnection connection, List<String> keys) {
+        if (keys.isEmpty()) return 0;
+        Long deleted = connection.keyCommands().del(keys.stream()
+                .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new));
+        return deleted == null ? 0 : deleted;
+    }
+
     /**
      * Redis 복구 처리 로직.
      */
-    private void handleRedisRecovery() {
+    private synchronized void handleRedisRecovery() {
+        resetWindow();
+        state = State.CLOSED;
         redisAvailable = true;
         log.info("[Redis 상태 변경] Redis가 활성화되었습니다. 정상 상태로 전환.");
     }
 
     /**
      * Redis 장애 처리 로직.
-     * 상태를 비활성화로 설정하고, 장애 내용을 로깅합니다.
+     * 상태를 비활성화(OPEN)로 설정하고, 장애 내용을 로깅합니다.
      *
      * @param e Redis 장애 원인
      */
-    private void handleRedisFailure(Exception e) {
-        if (redisAvailable) {
-            redisAvailable = false;
+    private synchronized void handleRedisFailure(Exception e) {
+        if (state == State.OPEN) return;
+        boolean wasClosed = state == State.CLOSED;
+        state = State.OPEN;
+        redisAvailable = false;
+        openedAt = System.currentTimeMillis();
+        resetWindow();
+        if (wasClosed) {
+            tripCount.incrementAndGet();
             log.warn("[Redis 상태 변경] Redis가 비활성화되었습니다. 원인: {}", e.getMessage(), e);
+        } else {
+            log.warn("[Redis 상태 변경] Redis 복구 확인 실패, 다시 비활성화. 원인: {}", e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package inu.codin.codin.infra.redis.controller;
+
+import inu.codin.codin.common.response.SingleResponse;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.dto.RedisCircuitMetrics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/redis")
+@RequiredArgsConstructor
+@Tag(name = "Redis Monitoring API", description = "[관리자] Redis Circuit Breaker 상태 API")
+public class RedisCircuitBreakerController {
+
+    private final RedisHealthChecker redisHealthChecker;
+
+    @Operation(summary = "[관리자] Redis Circuit Breaker 상태, 연속 실패 횟수, 지연 비율 반환")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/circuit-breaker")
+    public ResponseEntity<SingleResponse<RedisCircuitMetrics>> getCircuitMetrics() {
+        return ResponseEntity.ok()
+                .body(new SingleResponse<>(200, "Redis Circuit Breaker 상태 반환 완료", redisHealthChecker.getMetrics()));
+    }
+}
@@ -0,0 +1,19 @@
+package inu.codin.codin.infra.redis.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Redis Circuit Breaker 상태 지표
+ */
+@Getter
+@Builder
+public class RedisCircuitMetrics {
+    private final String state;
+    private final int consecutiveFailures;
+    private final double slowCallRate;
+    private final int recordedCalls;
+    private final long tripCount;
+    private final long rejectedCalls;
+    private final long openedAt; // epoch millis, CLOSED라면 0
+}
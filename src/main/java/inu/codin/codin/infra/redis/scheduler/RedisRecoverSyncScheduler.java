@@ -20,8 +20,9 @@ public class RedisRecoverSyncScheduler {
 
     /**
      * Redis 상태를 주기적으로 확인하고, 필요한 경우 복구 작업을 수행합니다.
+     * Circuit이 열려 있다면 open-duration이 지난 뒤 PING으로 복구 여부를 확인 (RedisHealthChecker)
      */
-    @Scheduled(fixedRate = 21600000) // 6시간마다 실행
+    @Scheduled(fixedDelayString = "${redis.circuit-breaker.probe-interval-millis:5000}") // 5초마다 실행
     public void monitorRedisAndRecover() {
         try {
             redisHealthChecker.checkRedisStatus(); // Redis 상태 확인
@@ -1,8 +1,10 @@
 package inu.codin.codin.infra.redis.scheduler;
 
+import inu.codin.codin.common.config.AsyncConfig;
 import inu.codin.codin.domain.lecture.domain.review.entity.ReviewEntity;
 import inu.codin.codin.domain.lecture.domain.review.repository.ReviewRepository;
 import inu.codin.codin.domain.lecture.domain.review.service.ReviewService;
+import inu.codin.codin.domain.post.domain.hits.service.HitsService;
 import inu.codin.codin.infra.redis.config.RedisHealthChecker;
 import inu.codin.codin.infra.redis.service.RedisBestService;
 import jakarta.annotation.PostConstruct;
@@ -24,8 +26,9 @@ public class SyncScheduler {
     private final RedisHealthChecker redisHealthChecker;
     private final ReviewRepository reviewRepository;
     private final ReviewService reviewService;
+    private final HitsService hitsService;
 
-    @Async
+    @Async(AsyncConfig.SCHEDULER_EXECUTOR)
     @Scheduled(fixedRate = 43200000) // 12시간 마다 실행
     public void syncLikes() {
         if (!redisHealthChecker.isRedisAvailable()) {
@@ -39,7 +42,14 @@ public class SyncScheduler {
 //        syncEntityLikes("REVIEW", reviewRepository);
 //        log.info(" 동기화 작업 완료");
     }
-    @Async
+    @Async(AsyncConfig.SCHEDULER_EXECUTOR)
+    @Scheduled(fixedRate = 300000) // 5분 마다 실행
+    public void syncHits() {
+        if (!redisHealthChecker.isRedisAvailable()) return;
+        hitsService.flushHitsSnapshots();
+    }
+
+    @Async(AsyncConfig.SCHEDULER_EXECUTOR)
     @PostConstruct
     @Scheduled(cron = "0 0 * * * ?") // 1시간 마다 실행
     public void getTop3BestPosts() {
@@ -0,0 +1,93 @@
+package inu.codin.codin.infra.redis.service;
+
+import inu.codin.codin.common.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Cache miss 시 DB 조회와 Cache 복구를 담당하는 Loader
+ * 같은 Key에 대한 동시 Cache miss는 하나의 DB 조회 결과를 공유 (Single-flight)
+ * Cache 복구는 요청 스레드가 아닌 cacheRecoveryExecutor에서 수행, 대기열이 가득 찬 경우 복구 생략
+ *
+ * Key 예시 - post:hits:{postId}, {TYPE}:likes:{{id}}, post:scraps:{postId}, poll:votes:{pollId}
+ */
+@Slf4j
+@Component
+public class CacheRecoveryLoader {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Executor recoveryExecutor;
+
+    public CacheRecoveryLoader(@Qualifier(AsyncConfig.CACHE_RECOVERY_EXECUTOR) Executor recoveryExecutor) {
+        this.recoveryExecutor = recoveryExecutor;
+    }
+
+    /**
+     * DB 조회 후 Cache 복구를 비동기로 수행
+     * @param key 조회 Key, 같은 Key의 동시 요청은 DB 조회 1회로 합쳐짐
+     * @param loader DB 조회
+     * @param recovery 조회 결과로 Cache 복구, DB 조회를 수행한 요청에서만 1회 실행
+     * @return DB 조회 결과
+     */
+    public <T> T load(String key, Supplier<T> loader, Consumer<T> recovery) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) return await(existing);
+
+        try {
+            T value = loader.get();
+            created.complete(value);
+            if (recovery != null) recoverAsync(() -> recovery.accept(value));
+            return value;
+        } catch (Throwable e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Cache 복구 없이 동시 DB 조회만 합치기
+     */
+    public <T> T load(String key, Supplier<T> loader) {
+        return load(key, loader, null);
+    }
+
+    /**
+     * Cache 복구 작업을 전용 Executor에 등록, 실패하거나 Executor가 가득 차도 요청에는 영향 없음
+     */
+    public void recoverAsync(Runnable recovery) {
+        try {
+            recoveryExecutor.execute(() -> {
+                try {
+                    recovery.run();
+                } catch (Exception e) {
+                    log.warn("[recoverAsync] Cache 복구 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("[recoverAsync] Cache 복구 대기열이 가득 차 복구를 생략합니다.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(CompletableFuture<Object> future) {
+        try {
+            return (T) future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+}
@@ -4,6 +4,7 @@ package inu.codin.codin.infra.redis.service;
 import inu.codin.codin.domain.post.domain.best.BestEntity;
 import inu.codin.codin.domain.post.domain.best.BestRepository;
 import inu.codin.codin.domain.post.domain.hits.service.HitsService;
+import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.infra.redis.config.RedisHealthChecker;
 import lombok.RequiredArgsConstructor;
@@ -11,12 +12,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +29,11 @@ public class RedisBestService {
      * Best 게시글은 어떠한 게시글이 관심을 받았을 때부터 ~ 24시간 동안 게시글에 점수가 매겨짐
      * Score {좋아요, 댓글, 대댓글 : 1 / 스크랩 : 2}
      * 24시간 실시간 반영으로 3위까지 나타냄
+     *
+     * post:best:score - 게시글별 누적 점수 ZSet
+     * post:best:since - 게시글별 첫 점수 반영 시각(epoch second) ZSet, 24시간이 지나면 점수와 함께 제거
+     * post:top3 - Best 게시글 ZSet
+     * post:best:applied:{작업 Key} - 이미 반영된 Outbox 작업 표시, APPLIED_TTL_SECONDS 후 만료
      */
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisHealthChecker redisHealthChecker;
@@ -36,52 +42,114 @@ public class RedisBestService {
     private final BestRepository bestRepository;
     private final PostRepository postRepository;
     private final String BEST_KEY = "post:top3";
+    private static final String SCORE_KEY = "post:best:score";
+    private static final String SINCE_KEY = "post:best:since";
+    private static final String APPLIED_KEY = "post:best:applied:";
+    private static final long APPLIED_TTL_SECONDS = 24 * 60 * 60;
     private final int SCORE_THRESHOLD = 4;
+    private static final int TOP_N = 3;
+    private static final long WINDOW_SECONDS = 24 * 60 * 60;
+    private static final int MAX_TRACKED_POSTS = 10000; // 점수를 추적하는 게시글 수 상한
 
     /**
-     * 이전 1시간 동안의 가장 score가 높은 게시글 N개를 반환, DB 조회가 안된다면 삭제
+     * 점수 반영과 Best 게시글 갱신을 한 번의 왕복으로 원자적으로 처리하는 스크립트
+     * 0. 작업 Key(KEYS[4])가 있고 이미 반영된 작업이라면 점수를 더하지 않음
+     * 1. 24시간이 지난 게시글 점수 제거 (호출당 최대 500개)
+     * 2. 첫 점수 반영이라면 반영 시각 기록 후 점수 증가
+     * 3. 추적 게시글 수가 상한을 넘으면 점수를 반영한 게시글을 제외하고 최저 점수부터 제거
+     * 4. 기준 점수 이상이면 Best 게시글 갱신, 최소 점수와 동점이라면 기존 Best 게시글 유지
+     * @return {누적 점수, Best 게시글 변경 여부(1/0), 변경되었다면 Best 게시글 전체 (게시글 _id, 점수)...}
+     */
+    private static final RedisScript<List> APPLY_SCORE_SCRIPT = new DefaultRedisScript<>("""
+            local scoreKey, sinceKey, bestKey = KEYS[1], KEYS[2], KEYS[3]
+            local member, delta, now = ARGV[1], ARGV[2], tonumber(ARGV[3])
+            local window, threshold = tonumber(ARGV[4]), tonumber(ARGV[5])
+            local topN, maxTracked = tonumber(ARGV[6]), tonumber(ARGV[7])
+
+            if KEYS[4] and not redis.call('SET', KEYS[4], '1', 'NX', 'EX', ARGV[8]) then
+                return {redis.call('ZSCORE', scoreKey, member) or '0', 0}
+            end
+
+            local expired = redis.call('ZRANGEBYSCORE', sinceKey, '-inf', '(' .. (now - window), 'LIMIT', 0, 500)
+            if #expired > 0 then
+                redis.call('ZREM', scoreKey, unpack(expired))
+                redis.call('ZREM', sinceKey, unpack(expired))
+                redis.call('ZREM', bestKey, unpack(expired))
+            end
+
+            if not redis.call('ZSCORE', sinceKey, member) then
+                redis.call('ZADD', sinceKey, now, member)
+            end
+            local rawScore = redis.call('ZINCRBY', scoreKey, delta, member)
+            local score = tonumber(rawScore)
+
+            local tracked = redis.call('ZCARD', scoreKey)
+            if tracked > maxTracked then
+                local excess = tracked - maxTracked
+                local evicted = {}
+                for _, candidate in ipairs(redis.call('ZRANGE', scoreKey, 0, excess)) do
+                    if candidate ~= member and #evicted < excess then
+                        table.insert(evicted, candidate)
+                    end
+                end
+                redis.call('ZREM', scoreKey, unpack(evicted))
+                redis.call('ZREM', sinceKey, unpack(evicted))
+            end
+            redis.call('EXPIRE', scoreKey, window * 2)
+            redis.call('EXPIRE', sinceKey, window * 2)
+
+            local changed = 0
+            if score >= threshold then
+                if redis.call('ZSCORE', bestKey, member) or redis.call('ZCARD', bestKey) < topN then
+                    redis.call('ZADD', bestKey, score, member)
+                    changed = 1
+                else
+                    local minEntry = redis.call('ZRANGE', bestKey, 0, 0, 'WITHSCORES')
+                    if score > tonumber(minEntry[2]) then
+                        redis.call('ZADD', bestKey, score, member)
+                        redis.call('ZREMRANGEBYRANK', bestKey, 0, -(topN + 1))
+                        changed = 1
+                    end
+                end
+            end
+            local result = {rawScore, changed}
+            if changed == 1 then
+                for _, value in ipairs(redis.call('ZRANGE', bestKey, 0, -1, 'WITHSCORES')) do
+                    table.insert(result, value)
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 24시간 동안 기준 점수 이상인 게시글 중 score가 높은 게시글 N개를 반환, DB 조회가 안된다면 삭제
      * @param N 순위
      * @return N개의 Key : postId, Value : score 의 score 기준 내림차순 Map
      */
     public Map<String, Double> delicatedBestsScheduler(int N) {
-        LocalDateTime now = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd/HH");
+        removeExpiredScores();
 
-        //24시간 동안의 게시글들의 score들을 모으기
+        Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(SCORE_KEY, SCORE_THRESHOLD, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) return new LinkedHashMap<>();
+
+        List<ObjectId> postIds = members.stream()
+                .map(member -> new ObjectId(member.getValue()))
+                .toList();
+        //post가 삭제되었는지 확인하고, 삭제되었다면 지우기
+        Set<ObjectId> activePostIds = postRepository.findBy_idInAndDeletedAtIsNull(postIds).stream()
+                .map(PostEntity::get_id)
+                .collect(Collectors.toSet());
         Map<String, Double> result = new HashMap<>();
-        for (int i = 0; i < 24; i++) {
-            String redisKey = now.minusHours(i).format(formatter);
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))) { //해당 시각의 key가 존재한다면
-                Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet().reverseRangeWithScores(redisKey, 0, -1); //value 반환
-                if (members != null) {
-                    for (ZSetOperations.TypedTuple<String> member : members) {
-                        String postId = member.getValue();
-                        Double score = member.getScore();
-                        //post가 삭제되었는지 확인하고, 삭제되었다면 지우기
-                        if (!postRepository.existsBy_idAndDeletedAtIsNull(new ObjectId(postId))){
-                            redisTemplate.opsForZSet().remove(redisKey, postId);
-                            deleteBest(postId);
-                            continue;
-                        }
-                        if (score >= SCORE_THRESHOLD) {
-                            result.put(postId, score);
-                            // 만약 Best 게시글에 포함되어 있지 않다면 저장
-                        }
-                    }
-                }
+        for (ZSetOperations.TypedTuple<String> member : members) {
+            if (!activePostIds.contains(new ObjectId(member.getValue()))) {
+                deleteBest(member.getValue());
+                continue;
             }
+            result.put(member.getValue(), member.getScore());
         }
 
-        return result.entrySet().stream()
-                .sorted((e1, e2) -> {
-                    //1. 점수 기준 내림차순
-                    int scoreComparison = Double.compare(e2.getValue(), e1.getValue());
-
-                    // 2. 점수가 동일하면 조회수 기준 내림차순 정렬
-                    return scoreComparison != 0 ? scoreComparison :
-                            Integer.compare(hitsService.getHitsCount(new ObjectId(e2.getKey())),
-                                    hitsService.getHitsCount(new ObjectId(e1.getKey())));
-                })
+        return sortByScoreAndHits(result).entrySet().stream()
                 .limit(N).collect(Collectors.toMap(
                         Map.Entry::getKey,
                         Map.Entry::getValue,
@@ -96,107 +164,94 @@ public class RedisBestService {
      */
     public Map<String, Double> getBests(){
         if (redisHealthChecker.isRedisAvailable()){
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(BEST_KEY))){
-                Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet().rangeWithScores(BEST_KEY, 0, - 1);
-                if (members!=null && !members.isEmpty())
-                    return members.stream()
-                            .sorted((e1, e2) -> {
-                                //1. 점수 기준 내림차순
-                                int scoreComparison = Double.compare(Double.parseDouble(String.valueOf(e2.getScore())), Double.parseDouble(String.valueOf(e1.getScore())));
-
-                                // 2. 점수가 동일하면 조회수 기준 내림차순 정렬
-                                return scoreComparison != 0 ? scoreComparison :
-                                        Integer.compare(hitsService.getHitsCount(new ObjectId(e2.getValue())),
-                                                hitsService.getHitsCount(new ObjectId(e1.getValue())));
-                            }).collect(Collectors.toMap(
-                                    ZSetOperations.TypedTuple::getValue,
-                                    ZSetOperations.TypedTuple::getScore,
-                                    (existing, replacement) -> existing,
-                                    LinkedHashMap::new
-                            ));
-            } else log.warn("[getBests] Best 게시글이 없습니다.");
+            Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet().rangeWithScores(BEST_KEY, 0, - 1);
+            if (members!=null && !members.isEmpty())
+                return sortByScoreAndHits(members.stream()
+                        .collect(Collectors.toMap(
+                                ZSetOperations.TypedTuple::getValue,
+                                ZSetOperations.TypedTuple::getScore
+                        )));
+            else log.warn("[getBests] Best 게시글이 없습니다.");
         }
         return new HashMap<>();
     }
+
     /**
-     * Cache에 저장된 24시간 데이터 중 해당 게시글의 score가 존재하면 점수 반영
-     * 만약 새로운 게시글이라면 현재 시간대로 새로 생성하여 게시글 점수 저장
+     * 게시글에 점수를 반영하고 Best 게시글을 갱신, Redis 왕복 1회
+     * 24시간 이내 점수가 반영된 게시글이라면 기존 점수에 더하고, 아니라면 새로 점수 집계 시작
+     * Best 게시글이 변경된 경우에만 변경된 시점의 Best 게시글 전체를 DB에 반영 (다른 서버의 반영으로 바뀐 Best 게시글의 점수까지 함께 반영)
      * @param score 게시글에 더할 점수
      * @param postId 게시글 _id
      */
     public void applyBestScore(int score, ObjectId postId){
-        LocalDateTime now = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd/HH");
-
-        String redisKey;
-        if (redisHealthChecker.isRedisAvailable()) {
-            //이전 24시간대에서 해당 게시글의 score를 찾기
-            for (int i = 0; i < 24; i++) {
-                redisKey = now.minusHours(i).format(formatter);
-                if (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))) {
-                    Double scoreOfBest = redisTemplate.opsForZSet().score(redisKey, postId.toString());
-                    if (scoreOfBest != null) { //score가 존재하면 업데이트
-                        redisTemplate.opsForZSet().incrementScore(redisKey, postId.toString(), score);
-                        updateBests(redisKey, postId.toString());
-                        return;
-                    }
-                }
-            }
-            //score가 존재하지 않으면 현재 시간대로 새로 생성, 새로 생성되면 4점 미만이기 때문에 best 게시글에 포함되지 않음
-            redisKey = now.format(formatter);
-            redisTemplate.expire(redisKey, 1, TimeUnit.DAYS); //하루가 지나면 필요없는 데이터
-            redisTemplate.opsForZSet().add(redisKey, postId.toString(), score);
+        applyBestScore(score, postId, null);
+    }
+
+    /**
+     * 게시글에 점수를 반영하고 Best 게시글을 갱신, 같은 작업 Key는 한 번만 반영
+     * @param eventKey Outbox 작업 Key, null이라면 중복 확인 없이 반영
+     */
+    public void applyBestScore(int score, ObjectId postId, String eventKey){
+        if (!redisHealthChecker.isRedisAvailable()) return;
+
+        List<String> keys = eventKey == null
+                ? List.of(SCORE_KEY, SINCE_KEY, BEST_KEY)
+                : List.of(SCORE_KEY, SINCE_KEY, BEST_KEY, APPLIED_KEY + eventKey);
+        List<?> result = redisTemplate.execute(
+                APPLY_SCORE_SCRIPT,
+                keys,
+                postId.toString(),
+                String.valueOf(score),
+                String.valueOf(Instant.now().getEpochSecond()),
+                String.valueOf(WINDOW_SECONDS),
+                String.valueOf(SCORE_THRESHOLD),
+                String.valueOf(TOP_N),
+                String.valueOf(MAX_TRACKED_POSTS),
+                String.valueOf(APPLIED_TTL_SECONDS));
+
+        if (result == null || result.size() < 2 || !Long.valueOf(1L).equals(result.get(1))) return;
+        for (int i = 2; i + 1 < result.size(); i += 2) {
+            int bestScore = (int) Double.parseDouble(String.valueOf(result.get(i + 1)));
+            saveBests(String.valueOf(result.get(i)), bestScore);
         }
     }
 
     /**
-     * 게시글에 점수가 반영 될 때마다 베스트 게시글을 관리하는 ZSet에서 업데이트
-     * 4점 미만이라면 Best 게시글로 취급하지 않음
-     * 베스트 게시글에서 최소 점수보다 같거나 크거나, 베스트 게시글이 3개 이하거나 할 때 베스트 게시글에 포함
-     *
-     * 만약 포함 후 3개 초과라면
-     * 새로 적용된 게시글의 점수와 최소 점수와 같으면 조회수로 판단
-     * 상위 3개를 제외한 나머지 삭제 후 DB 저장
+     * 점수 기준 내림차순, 점수가 동일하면 조회수 기준 내림차순 정렬
+     * 조회수는 한 번에 일괄 조회
      */
-    private void updateBests(String redisKey, String postId){
-        Double score = redisTemplate.opsForZSet().score(redisKey, postId);
-        if (score < SCORE_THRESHOLD) return; //총 점수가 4점 미만이면 Best 게시글로 취급하지 않음
-
-        Set<ZSetOperations.TypedTuple<String>> minEntry = redisTemplate.opsForZSet().rangeWithScores(BEST_KEY, 0, 0);
-        if (minEntry!=null && !minEntry.isEmpty()){
-            ZSetOperations.TypedTuple<String> minTuple = minEntry.iterator().next(); //최소 score의 Tuple
-            Double min = minTuple.getScore(); //Best 게시글 중 최소 score
-            Long totalSize = redisTemplate.opsForZSet().size(BEST_KEY); //현재 Best 게시글 개수
-
-            //최소 점수보다 같거나 큰 값이거나, 총 베스트 게시글 개수가 3개 미만 이면 포함
-            if (score >= min || totalSize < 3)
-                redisTemplate.opsForZSet().add(BEST_KEY, postId, score);
-
-            totalSize = redisTemplate.opsForZSet().size(BEST_KEY);
-            if (totalSize > 3) { //3개가 넘어가면
-                if (score.equals(min)) //만약 최소값끼리 같으면 조회수로 비교
-                    checkHits(postId, minTuple.getValue());
-                else redisTemplate.opsForZSet().removeRange(BEST_KEY, 0, totalSize-4); //상위 3개를 제외하고 삭제
-            }
+    private Map<String, Double> sortByScoreAndHits(Map<String, Double> scores) {
+        Map<ObjectId, Integer> hits = hitsService.getHitsCounts(scores.keySet().stream().map(ObjectId::new).toList());
+        return scores.entrySet().stream()
+                .sorted((e1, e2) -> {
+                    //1. 점수 기준 내림차순
+                    int scoreComparison = Double.compare(e2.getValue(), e1.getValue());
 
-            Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet().rangeWithScores(BEST_KEY, 0, - 1);
-            members.forEach(member -> saveBests(member.getValue(), member.getScore().intValue()));
-        } else
-            redisTemplate.opsForZSet().add(BEST_KEY, postId, score);
+                    // 2. 점수가 동일하면 조회수 기준 내림차순 정렬
+                    return scoreComparison != 0 ? scoreComparison :
+                            Integer.compare(hits.getOrDefault(new ObjectId(e2.getKey()), 0),
+                                    hits.getOrDefault(new ObjectId(e1.getKey()), 0));
+                })
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        Map.Entry::getValue,
+                        (existing, replacement) -> existing,
+                        LinkedHashMap::new
+                ));
     }
 
     /**
-     * 베스트 게시글에 처음 적용된 게시글과 기존에 있던 최소 점수 게시글의 조회수 비교
-     * @param postId 점수가 적용된 게시글 _id
-     * @param minPostId 베스트 게시글 중에서 가장 최소 점수를 가진 게시글 _id
+     * 첫 점수 반영 후 24시간이 지난 게시글의 점수 제거
      */
-    private void checkHits(String postId, String minPostId) {
-        if (hitsService.getHitsCount(new ObjectId(minPostId)) > hitsService.getHitsCount(new ObjectId(postId))) {
-            redisTemplate.opsForZSet().remove(BEST_KEY, postId);
-        } else {
-            redisTemplate.opsForZSet().remove(BEST_KEY, minPostId);
-        }
+    private void removeExpiredScores() {
+        long expiredBefore = Instant.now().getEpochSecond() - WINDOW_SECONDS;
+        Set<String> expired = redisTemplate.opsForZSet().rangeByScore(SINCE_KEY, Double.NEGATIVE_INFINITY, expiredBefore);
+        if (expired == null || expired.isEmpty()) return;
 
+        Object[] members = expired.toArray();
+        redisTemplate.opsForZSet().remove(SCORE_KEY, members);
+        redisTemplate.opsForZSet().remove(SINCE_KEY, members);
+        log.info("[removeExpiredScores] 24시간이 지난 게시글 점수 {}개 제거", members.length);
     }
 
     /**
@@ -219,7 +274,7 @@ public class RedisBestService {
 
     /**
      * 동기화 과정에서 기존에 있던 값을 지우고 새롭게 등록
-     * 스케줄러를 통해 매 시마다 전 1시간 동안의 베스트 게시글을 등록
+     * 스케줄러를 통해 매 시마다 전 24시간 동안의 베스트 게시글을 등록
      */
     public void resetBests(Map<String, Double> posts) {
         if (Boolean.TRUE.equals(redisTemplate.hasKey(BEST_KEY))) {
@@ -229,12 +284,12 @@ public class RedisBestService {
     }
 
     /**
-     * 만약 post:top3에 포함된 게시글이 삭제되었다면 삭제
+     * 삭제된 게시글이라면 Best 게시글과 점수 집계에서 제거
      * @param postId
      */
     public void deleteBest(String postId){
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(BEST_KEY))){
-            redisTemplate.opsForZSet().remove(BEST_KEY, postId);
-        }
+        redisTemplate.opsForZSet().remove(BEST_KEY, postId);
+        redisTemplate.opsForZSet().remove(SCORE_KEY, postId);
+        redisTemplate.opsForZSet().remove(SINCE_KEY, postId);
     }
 }
@@ -4,9 +4,17 @@ package inu.codin.codin.infra.redis.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -15,23 +23,84 @@ import java.util.concurrent.TimeUnit;
 public class RedisHitsService {
     /**
      * Redis 기반 Hits(조회수) 관리 Service
+     * post:hits:{postId} - 조회수, TTL = 1DAYS (DB 스냅샷으로 복구 가능)
+     * post:hits:hll:{postId} - 조회한 유저 HyperLogLog (최대 12KB), TTL = 30DAYS, 없다면 이전 hits Collection의 유저로 채움
+     * post:hits:dirty - 스냅샷 저장이 필요한 게시글 _id Set
      */
     private final RedisTemplate<String, String> redisTemplate;
 
     private static final String HITS_KEY = "post:hits:";
+    private static final String HITS_HLL_KEY = "post:hits:hll:";
+    private static final String HITS_DIRTY_KEY = "post:hits:dirty";
+    private static final long COUNT_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+    private static final long HLL_TTL_SECONDS = TimeUnit.DAYS.toSeconds(30);
+    private static final int SEED_BATCH_SIZE = 1_000;
 
     /**
-     * 조회수 추가 (post:hits:{postId} - 조회수)
+     * 고유 조회 반영 스크립트
+     * 처음 조회한 유저라면(PFADD 결과 1) 조회수 증가 및 스냅샷 대상에 추가
+     * @return 1 : 조회수 증가, 0 : 이미 조회한 유저, -1 : 조회수 Cache가 없어 복구 필요, -2 : 조회한 유저 HyperLogLog가 없어 복구 필요
+     */
+    private static final RedisScript<Long> ADD_UNIQUE_HIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return -1
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -2
+            end
+            local added = redis.call('PFADD', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            if added == 1 then
+                redis.call('INCR', KEYS[2])
+                redis.call('SADD', KEYS[3], ARGV[2])
+            end
+            return added
+            """, Long.class);
+
+    /**
+     * 조회한 유저 HyperLogLog 복구 스크립트, 유저가 없어도 빈 HyperLogLog를 생성
+     * ARGV[1] : TTL, ARGV[2..] : 조회한 유저 식별자
+     */
+    private static final RedisScript<Long> SEED_VIEWERS_SCRIPT = new DefaultRedisScript<>("""
+            if #ARGV > 1 then
+                redis.call('PFADD', KEYS[1], unpack(ARGV, 2))
+            else
+                redis.call('PFADD', KEYS[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return #ARGV - 1
+            """, Long.class);
+
+    /**
+     * 고유 조회 반영 (post:hits:hll:{postId} PFADD)
      * @param postId 게시글 _id
+     * @param viewerId 조회한 유저 식별자
+     * @return 1 : 조회수 증가, 0 : 이미 조회한 유저, -1 : 조회수 Cache가 없어 복구 필요, -2 : 조회한 유저 HyperLogLog가 없어 복구 필요
      */
-    public void addHits(ObjectId postId){
-        String redisKey = HITS_KEY + postId.toString();
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey)))
-            redisTemplate.opsForValue().increment(redisKey);
-        else {
-            redisTemplate.opsForValue().set(redisKey, String.valueOf(1));
-        }
-        redisTemplate.expire(redisKey, 1, TimeUnit.DAYS);
+    public Long addUniqueHit(ObjectId postId, String viewerId){
+        return redisTemplate.execute(
+                ADD_UNIQUE_HIT_SCRIPT,
+                List.of(HITS_HLL_KEY + postId.toString(), HITS_KEY + postId.toString(), HITS_DIRTY_KEY),
+                viewerId, postId.toString(), String.valueOf(HLL_TTL_SECONDS), String.valueOf(COUNT_TTL_SECONDS));
+    }
+
+    /**
+     * 조회한 유저 HyperLogLog를 DB의 조회 기록으로 복구, SEED_BATCH_SIZE개씩 나누어 PFADD
+     * @param postId 게시글 _id
+     * @param viewerIds 조회한 유저 식별자
+     */
+    public void seedViewers(ObjectId postId, List<String> viewerIds){
+        List<String> keys = List.of(HITS_HLL_KEY + postId.toString());
+        int from = 0;
+        do {
+            List<String> batch = viewerIds.subList(from, Math.min(from + SEED_BATCH_SIZE, viewerIds.size()));
+            Object[] args = new Object[batch.size() + 1];
+            args[0] = String.valueOf(HLL_TTL_SECONDS);
+            for (int i = 0; i < batch.size(); i++) args[i + 1] = batch.get(i);
+            redisTemplate.execute(SEED_VIEWERS_SCRIPT, keys, args);
+            from += SEED_BATCH_SIZE;
+        } while (from < viewerIds.size());
     }
 
     /**
@@ -49,13 +118,56 @@ public class RedisHitsService {
     }
 
     /**
-     * hits Collection 기반으로 Cache 복구
+     * 스냅샷 기반으로 Cache 복구, 이미 Cache가 존재한다면 덮어쓰지 않음
      * @param postId 게시글 _id
      * @param hits 해당 게시글의 조회수
      */
     public void recoveryHits(ObjectId postId, int hits){
         String redisKey = HITS_KEY + postId.toString();
-        redisTemplate.expire(redisKey, 1, TimeUnit.DAYS);
-        redisTemplate.opsForValue().set(redisKey, String.valueOf(hits));
+        redisTemplate.opsForValue().setIfAbsent(redisKey, String.valueOf(hits), 1, TimeUnit.DAYS);
+    }
+
+    /**
+     * 여러 게시글의 조회수를 MGET 한 번으로 조회
+     * @param postIds 게시글 _id 리스트
+     * @return postIds와 같은 순서의 조회수, Cache miss인 경우 null
+     */
+    public List<String> getHitsCounts(List<ObjectId> postIds){
+        List<String> redisKeys = postIds.stream()
+                .map(postId -> HITS_KEY + postId.toString())
+                .toList();
+        return redisTemplate.opsForValue().multiGet(redisKeys);
+    }
+
+    /**
+     * 여러 게시글의 조회수를 Pipeline으로 한 번에 복구, 이미 Cache가 존재한다면 덮어쓰지 않음
+     * @param hitsCounts Key : 게시글 _id, Value : 조회수
+     */
+    public void recoveryHits(Map<ObjectId, Integer> hitsCounts){
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            hitsCounts.forEach((postId, hits) ->
+                    stringConnection.set(HITS_KEY + postId.toString(), String.valueOf(hits),
+                            Expiration.seconds(COUNT_TTL_SECONDS), RedisStringCommands.SetOption.SET_IF_ABSENT));
+            return null;
+        });
+    }
+
+    /**
+     * 스냅샷 저장이 필요한 게시글 _id를 최대 count개 꺼내기
+     * @return 게시글 _id 리스트
+     */
+    public List<String> popDirtyPosts(int count){
+        List<String> postIds = redisTemplate.opsForSet().pop(HITS_DIRTY_KEY, count);
+        return postIds == null ? List.of() : postIds;
+    }
+
+    /**
+     * 스냅샷 저장에 실패한 게시글 _id를 다시 스냅샷 대상에 추가
+     * @param postIds 게시글 _id 리스트
+     */
+    public void markDirty(List<String> postIds){
+        if (postIds.isEmpty()) return;
+        redisTemplate.opsForSet().add(HITS_DIRTY_KEY, postIds.toArray(String[]::new));
     }
 }
@@ -1,11 +1,22 @@
 package inu.codin.codin.infra.redis.service;
 
 
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -16,8 +27,61 @@ public class RedisLikeService {
      * Redis 기반 Like 관리 Service, TTL = 1DAYS
      */
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHealthChecker redisHealthChecker;
 
     private static final String LIKE_KEY=":likes:";
+    private static final String LIKE_KEY_PATTERN="*:likes:*";
+    private static final String LIKE_MEMBERS_KEY=":likes:members:";
+    private static final String LIKE_VERSION_KEY=":likes:version:";
+    private static final String EMPTY_MEMBER = "-"; // 좋아요가 없는 엔티티도 Set이 존재하도록 유지하는 placeholder
+    private static final long TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    /**
+     * 좋아요 토글 스크립트, 좋아요 유저 Set과 좋아요 개수를 한 번에 갱신
+     * 좋아요 개수는 항상 Set 크기로부터 계산하므로 음수가 되거나 중복 집계되지 않음
+     * 토글 버전은 Redis 시각(micro second) 기준으로 엔티티마다 항상 증가하며, DB에는 버전 순서대로 반영 (Cache가 만료되어도 감소하지 않음)
+     * KEYS : 좋아요 유저 Set, 좋아요 개수, 토글 버전 - 모두 같은 hash tag({entityId})를 사용하므로 Redis Cluster에서도 같은 slot
+     * @return {토글 후 좋아요 여부(1/0), 좋아요 개수, 토글 버전}, Set이 없다면 {-1, -1, -1}
+     */
+    private static final RedisScript<List> TOGGLE_LIKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {-1, -1, -1}
+            end
+            local time = redis.call('TIME')
+            local version = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local last = tonumber(redis.call('GET', KEYS[3]) or 0)
+            if version <= last then
+                version = last + 1
+            end
+            redis.call('SET', KEYS[3], version, 'EX', ARGV[2])
+            local liked = 1
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                redis.call('SREM', KEYS[1], ARGV[1])
+                liked = 0
+            else
+                redis.call('SADD', KEYS[1], ARGV[1])
+            end
+            local count = redis.call('SCARD', KEYS[1]) - 1
+            redis.call('SET', KEYS[2], count, 'EX', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return {liked, count, version}
+            """, List.class);
+
+    /**
+     * DB 기준 좋아요 유저 Set 적재 스크립트, 이미 Set이 존재한다면 덮어쓰지 않음
+     * ARGV[1] : TTL, ARGV[2..] : placeholder 및 좋아요를 누른 유저 _id
+     */
+    private static final RedisScript<Long> LOAD_MEMBERS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 2, #ARGV do
+                redis.call('SADD', KEYS[1], ARGV[i])
+            end
+            redis.call('SET', KEYS[2], redis.call('SCARD', KEYS[1]) - 1, 'EX', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
 
     //Like
     public void addLike(String entityType, String entityId) {
@@ -44,14 +108,93 @@ public class RedisLikeService {
 
     }
 
+    /**
+     * DB 기준 좋아요 개수로 Cache 복구
+     * 비동기로 복구되므로, 그 사이 토글로 Cache가 먼저 생성되었다면 덮어쓰지 않음
+     */
     public void recoveryLike(String entityType, String entityId, int likeCount) {
         String redisKey = makeRedisKey(entityType, entityId);
-        redisTemplate.expire(redisKey, 1, TimeUnit.DAYS);
-        redisTemplate.opsForValue().set(redisKey, String.valueOf(likeCount));
+        redisTemplate.opsForValue().setIfAbsent(redisKey, String.valueOf(likeCount), 1, TimeUnit.DAYS);
+    }
+
+    /**
+     * 여러 엔티티의 좋아요 개수를 MGET 한 번으로 조회
+     * @return entityIds와 같은 순서의 좋아요 개수, Cache miss인 경우 null
+     */
+    public List<String> getLikeCounts(String entityType, List<String> entityIds) {
+        List<String> redisKeys = entityIds.stream()
+                .map(entityId -> makeRedisKey(entityType, entityId))
+                .toList();
+        return redisTemplate.opsForValue().multiGet(redisKeys);
+    }
+
+    /**
+     * 여러 엔티티의 좋아요 개수를 Pipeline으로 한 번에 복구, 이미 Cache가 존재한다면 덮어쓰지 않음
+     * @param likeCounts Key : entityId, Value : 좋아요 개수
+     */
+    public void recoveryLikes(String entityType, Map<String, Integer> likeCounts) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            likeCounts.forEach((entityId, likeCount) ->
+                    stringConnection.set(makeRedisKey(entityType, entityId), String.valueOf(likeCount),
+                            Expiration.seconds(TimeUnit.DAYS.toSeconds(1)), RedisStringCommands.SetOption.SET_IF_ABSENT));
+            return null;
+        });
+    }
+
+    /**
+     * 유저의 좋아요 상태를 원자적으로 토글
+     * @return {토글 후 좋아요 여부(1/0), 좋아요 개수, 토글 버전}, 좋아요 유저 Set이 없다면 null
+     */
+    public List<Long> toggleLike(String entityType, String entityId, String userId) {
+        List<?> result = redisTemplate.execute(
+                TOGGLE_LIKE_SCRIPT,
+                List.of(makeMembersKey(entityType, entityId), makeRedisKey(entityType, entityId), makeVersionKey(entityType, entityId)),
+                userId, String.valueOf(TTL_SECONDS));
+        if (result == null || result.size() != 3 || Long.valueOf(-1L).equals(result.get(0))) return null;
+        return List.of((Long) result.get(0), (Long) result.get(1), (Long) result.get(2));
+    }
+
+    /**
+     * DB에 저장된 좋아요 유저 목록으로 좋아요 유저 Set 및 좋아요 개수 복구
+     * @param userIds 좋아요를 누른 유저 _id 목록
+     */
+    public void loadLikeMembers(String entityType, String entityId, Collection<String> userIds) {
+        List<String> args = new ArrayList<>(userIds.size() + 2);
+        args.add(String.valueOf(TTL_SECONDS));
+        args.add(EMPTY_MEMBER);
+        args.addAll(userIds);
+        redisTemplate.execute(
+                LOAD_MEMBERS_SCRIPT,
+                List.of(makeMembersKey(entityType, entityId), makeRedisKey(entityType, entityId)),
+                args.toArray());
+    }
+
+    /**
+     * Redis 장애 중 DB에만 반영된 좋아요의 개수, 유저 Set을 Redis 복구 시 삭제하도록 기록
+     */
+    public void markStale(String entityType, String entityId) {
+        redisHealthChecker.markStale(LIKE_KEY_PATTERN,
+                makeRedisKey(entityType, entityId), makeMembersKey(entityType, entityId));
+    }
+
+    /*
+        한 엔티티의 좋아요 Key는 {entityId} hash tag로 같은 slot에 저장 (스크립트에서 함께 사용)
+     */
+    private static String makeMembersKey(String entityType, String entityId) {
+        return entityType + LIKE_MEMBERS_KEY + hashTag(entityId);
+    }
+
+    private static String makeVersionKey(String entityType, String entityId) {
+        return entityType + LIKE_VERSION_KEY + hashTag(entityId);
     }
 
     private static String makeRedisKey(String entityType, String entityId) {
-        return entityType + LIKE_KEY + entityId;
+        return entityType + LIKE_KEY + hashTag(entityId);
+    }
+
+    private static String hashTag(String entityId) {
+        return "{" + entityId + "}";
     }
 
 }
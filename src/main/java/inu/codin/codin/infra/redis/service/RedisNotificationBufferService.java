@@ -0,0 +1,163 @@
+package inu.codin.codin.infra.redis.service;
+
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisNotificationBufferService {
+    /**
+     * Redis 기반 알림 묶음 Buffer
+     * 같은 묶음 Key로 들어온 알림은 첫 알림 시각 + window 동안 모았다가 한 번에 전송
+     * notification:buffer:{묶음 Key} - 묶음 개수(count), 마지막 알림 내용 Hash, TTL = window * 2 + 60s
+     * notification:buffer:due - 전송 예정 시각(epoch millis) 기준 묶음 Key ZSet
+     * notification:buffer:applied:{작업 Key} - 이미 묶음에 추가된 Outbox 작업 표시, APPLIED_TTL_SECONDS 후 만료
+     * 전송에 실패한 묶음은 RETRY_DELAY_MILLIS 후 다시 전송하도록 되돌리고, MAX_ATTEMPTS번 실패하면 폐기
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String BUFFER_KEY = "notification:buffer:";
+    private static final String DUE_KEY = "notification:buffer:due";
+    private static final String APPLIED_KEY = "notification:buffer:applied:";
+    private static final long APPLIED_TTL_SECONDS = 24 * 60 * 60;
+    private static final long RETRY_DELAY_MILLIS = 10_000;
+    private static final int MAX_ATTEMPTS = 5;
+    public static final String COUNT_FIELD = "count";
+    public static final String ATTEMPTS_FIELD = "attempts";
+
+    /**
+     * 알림 추가 스크립트, 묶음의 첫 알림이라면 전송 예정 시각 등록
+     * KEYS[3] : 작업 Key 표시 (선택), 이미 추가된 작업이라면 추가하지 않음
+     * ARGV[1] : 묶음 Key, ARGV[2] : 전송 예정 시각, ARGV[3] : TTL, ARGV[4..] : 알림 내용 field, value 쌍
+     * @return 현재까지 묶인 알림 개수
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if KEYS[3] and not redis.call('SET', KEYS[3], '1', 'NX', 'EX', %d) then
+                return tonumber(redis.call('HGET', KEYS[1], 'count') or 0)
+            end
+            local count = redis.call('HINCRBY', KEYS[1], 'count', 1)
+            for i = 4, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            if count == 1 then
+                redis.call('ZADD', KEYS[2], 'NX', ARGV[2], ARGV[1])
+            end
+            return count
+            """.formatted(APPLIED_TTL_SECONDS), Long.class);
+
+    /**
+     * 묶음 꺼내기 스크립트, ZSet에서 제거에 성공한 서버만 묶음을 가져가므로 여러 서버에서도 한 번만 전송
+     * @return 묶음 Hash (HGETALL), 이미 다른 서버가 가져갔거나 만료되었다면 빈 리스트
+     */
+    private static final RedisScript<List> POP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZREM', KEYS[2], ARGV[1]) == 0 then
+                return {}
+            end
+            local values = redis.call('HGETALL', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return values
+            """, List.class);
+
+    /**
+     * 묶음 되돌리기 스크립트, 꺼낸 뒤 새로 들어온 알림이 있다면 개수를 합치고 마지막 알림 내용은 새 알림을 유지
+     * ARGV[1] : 묶음 Key, ARGV[2] : 다시 전송할 시각, ARGV[3] : TTL, ARGV[4] : 꺼낸 묶음 개수, ARGV[5] : 실패 횟수, ARGV[6..] : 알림 내용 field, value 쌍
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HINCRBY', KEYS[1], 'count', ARGV[4])
+            redis.call('HSET', KEYS[1], 'attempts', ARGV[5])
+            for i = 6, #ARGV, 2 do
+                redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            if redis.call('TTL', KEYS[1]) < tonumber(ARGV[3]) then
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            redis.call('ZADD', KEYS[2], 'NX', ARGV[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 묶음에 알림 추가
+     * @param bufferKey 묶음 Key (수신자, 대상, 종류 조합)
+     * @param windowMillis 첫 알림부터 전송까지 대기 시간
+     * @param fields 마지막 알림 내용, 같은 field는 덮어씀
+     * @param eventKey Outbox 작업 Key, 같은 작업은 한 번만 추가, null이라면 중복 확인 없이 추가
+     * @return 현재까지 묶인 알림 개수
+     */
+    public Long add(String bufferKey, long windowMillis, Map<String, String> fields, String eventKey) {
+        long ttlSeconds = windowMillis / 1000 * 2 + 60;
+        Object[] args = new Object[3 + fields.size() * 2];
+        args[0] = bufferKey;
+        args[1] = String.valueOf(System.currentTimeMillis() + windowMillis);
+        args[2] = String.valueOf(ttlSeconds);
+        int i = 3;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            args[i++] = field.getKey();
+            args[i++] = field.getValue();
+        }
+        List<String> keys = eventKey == null
+                ? List.of(BUFFER_KEY + bufferKey, DUE_KEY)
+                : List.of(BUFFER_KEY + bufferKey, DUE_KEY, APPLIED_KEY + eventKey);
+        return redisTemplate.execute(ADD_SCRIPT, keys, args);
+    }
+
+    /**
+     * 전송 예정 시각이 지난 묶음을 최대 count개 꺼내기
+     * @return Key : 묶음 Key, Value : 묶음 Hash (count 포함)
+     */
+    public Map<String, Map<String, String>> popDue(int count) {
+        Set<String> bufferKeys = redisTemplate.opsForZSet()
+                .rangeByScore(DUE_KEY, 0, System.currentTimeMillis(), 0, count);
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        if (bufferKeys == null) return result;
+
+        for (String bufferKey : bufferKeys) {
+            List<?> values = redisTemplate.execute(POP_SCRIPT, List.of(BUFFER_KEY + bufferKey, DUE_KEY), bufferKey);
+            if (values == null || values.isEmpty()) continue;
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i + 1 < values.size(); i += 2) {
+                fields.put(String.valueOf(values.get(i)), String.valueOf(values.get(i + 1)));
+            }
+            result.put(bufferKey, fields);
+        }
+        return result;
+    }
+
+    /**
+     * 전송에 실패한 묶음을 Buffer에 되돌려 RETRY_DELAY_MILLIS 후 다시 전송
+     * @param bufferKey 묶음 Key
+     * @param fields popDue로 꺼낸 묶음 Hash
+     * @return 되돌렸다면 true, MAX_ATTEMPTS번 실패하여 폐기했다면 false
+     */
+    public boolean restore(String bufferKey, Map<String, String> fields) {
+        int attempts = Integer.parseInt(fields.getOrDefault(ATTEMPTS_FIELD, "0")) + 1;
+        if (attempts >= MAX_ATTEMPTS) return false;
+
+        List<String> args = new ArrayList<>();
+        args.add(bufferKey);
+        args.add(String.valueOf(System.currentTimeMillis() + RETRY_DELAY_MILLIS));
+        args.add(String.valueOf(RETRY_DELAY_MILLIS / 1000 * 2 + 60));
+        args.add(fields.getOrDefault(COUNT_FIELD, "1"));
+        args.add(String.valueOf(attempts));
+        fields.forEach((field, value) -> {
+            if (COUNT_FIELD.equals(field) || ATTEMPTS_FIELD.equals(field)) return;
+            args.add(field);
+            args.add(value);
+        });
+        redisTemplate.execute(RESTORE_SCRIPT, List.of(BUFFER_KEY + bufferKey, DUE_KEY), args.toArray());
+        return true;
+    }
+}
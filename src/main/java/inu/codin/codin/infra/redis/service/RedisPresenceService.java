@@ -0,0 +1,96 @@
+package inu.codin.codin.infra.redis.service;
+
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class RedisPresenceService {
+    /**
+     * Redis 기반 채팅방 접속 상태(Presence) 관리 Service
+     * 접속 여부는 각 서버가 메모리에서 세션 단위로 관리하고, Redis에는 서버별 접속 유저만 기록
+     * chat:presence:{chatRoomId} - 접속 유저 ZSet, member = {userId}:{서버 ID}, score = 만료 시각(epoch millis)
+     * 서버가 비정상 종료되어도 만료 시각이 지난 member는 조회에서 제외되므로 갱신(refresh)이 멈춘 서버의 접속 상태는 자동으로 사라짐
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long ttlMillis;
+
+    private static final String PRESENCE_KEY = "chat:presence:";
+    private static final String SEPARATOR = ":";
+
+    public RedisPresenceService(RedisTemplate<String, String> redisTemplate,
+                                @Value("${chat.presence.ttl-seconds:60}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 현재 서버에서 유저가 채팅방에 접속
+     */
+    public void add(ObjectId chatRoomId, ObjectId userId) {
+        String key = PRESENCE_KEY + chatRoomId;
+        redisTemplate.opsForZSet().add(key, member(userId), System.currentTimeMillis() + ttlMillis);
+        redisTemplate.expire(key, Duration.ofMillis(ttlMillis * 2));
+    }
+
+    /**
+     * 현재 서버에서 유저의 마지막 세션이 채팅방에서 퇴장
+     */
+    public void remove(ObjectId chatRoomId, ObjectId userId) {
+        redisTemplate.opsForZSet().remove(PRESENCE_KEY + chatRoomId, member(userId));
+    }
+
+    /**
+     * 현재 서버의 모든 접속 상태 만료 시각 갱신, 만료된 member는 함께 정리
+     * @param presences Key : 채팅방 _id, Value : 현재 서버에서 접속 중인 유저 _id
+     */
+    public void refresh(Map<ObjectId, ? extends Collection<ObjectId>> presences) {
+        if (presences.isEmpty()) return;
+        long now = System.currentTimeMillis();
+        double expireAt = now + ttlMillis;
+        long keyTtlSeconds = ttlMillis * 2 / 1000;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            presences.forEach((chatRoomId, userIds) -> {
+                String key = PRESENCE_KEY + chatRoomId;
+                stringConnection.zRemRangeByScore(key, 0, now);
+                userIds.forEach(userId -> stringConnection.zAdd(key, expireAt, member(userId)));
+                stringConnection.expire(key, keyTtlSeconds);
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 모든 서버에서 채팅방에 접속 중인 유저 조회
+     * @return 접속 중인 유저 _id
+     */
+    public Set<ObjectId> getUserIds(ObjectId chatRoomId) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(PRESENCE_KEY + chatRoomId, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        Set<ObjectId> userIds = new HashSet<>();
+        if (members == null) return userIds;
+        for (String member : members) {
+            int index = member.indexOf(SEPARATOR);
+            String userId = index < 0 ? member : member.substring(0, index);
+            if (ObjectId.isValid(userId)) userIds.add(new ObjectId(userId));
+        }
+        return userIds;
+    }
+
+    private String member(ObjectId userId) {
+        return userId + SEPARATOR + nodeId;
+    }
+}
@@ -0,0 +1,49 @@
+package inu.codin.codin.infra.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class RedisRateLimitBanService {
+    /**
+     * Redis 기반 Rate Limit 차단 목록
+     * rate-limit:bans - 차단된 요청자 ZSet, member = 요청자 Key (ip:{clientIp}, user:{userId}), score = 차단 해제 시각(epoch millis)
+     * 차단 해제 시각이 지난 member는 조회에서 제외되고, 조회 시 함께 정리
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String BAN_KEY = "rate-limit:bans";
+
+    /**
+     * 요청자 차단, 이미 차단되어 있다면 해제 시각 갱신
+     */
+    public void ban(String key, long expiresAt, Duration banDuration) {
+        redisTemplate.opsForZSet().add(BAN_KEY, key, expiresAt);
+        redisTemplate.expire(BAN_KEY, banDuration.multipliedBy(2));
+    }
+
+    /**
+     * 모든 서버에서 차단한 요청자 조회
+     * @return Key : 요청자 Key, Value : 차단 해제 시각(epoch millis)
+     */
+    public Map<String, Long> getBans() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(BAN_KEY, 0, now);
+        Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(BAN_KEY, now, Double.POSITIVE_INFINITY);
+        Map<String, Long> bans = new HashMap<>();
+        if (members == null) return bans;
+        for (ZSetOperations.TypedTuple<String> member : members) {
+            if (member.getValue() != null && member.getScore() != null) bans.put(member.getValue(), member.getScore().longValue());
+        }
+        return bans;
+    }
+}
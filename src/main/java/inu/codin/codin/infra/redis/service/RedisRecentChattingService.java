@@ -0,0 +1,104 @@
+package inu.codin.codin.infra.redis.service;
+
+
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+public class RedisRecentChattingService {
+    /**
+     * Redis 기반 채팅방 최근 채팅 Buffer
+     * chat:recent:{chatRoomId} - 최근 채팅 JSON List (오래된 순), 최대 capacity개, TTL = 6HOURS
+     * chat:recent:{chatRoomId}:loaded - List를 DB에서 채운 시점의 채팅 번호, List와 같은 TTL
+     * 두 Key는 Redis Cluster에서도 같은 slot에 있도록 채팅방 ID를 hash tag로 감쌈
+     * List는 DB에서 최근 채팅을 채운(seed) 경우에만 생성되며, 새 채팅은 List가 있을 때만 추가하여 일부만 담긴 List가 생기지 않도록 함
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String RECENT_KEY = "chat:recent:";
+    private static final String LOADED_SUFFIX = ":loaded";
+    private static final long TTL_SECONDS = TimeUnit.HOURS.toSeconds(6);
+
+    /**
+     * List가 있을 때만 채팅 추가 후 capacity개만 남김
+     * ARGV[1] : 채팅 JSON, ARGV[2] : capacity, ARGV[3] : TTL
+     * @return 1 : 추가, 0 : List가 없어 생략
+     */
+    private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('RPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], -tonumber(ARGV[2]), -1)
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 기존 List를 지우고 DB에서 조회한 최근 채팅과 채운 시점의 채팅 번호로 다시 채움
+     * ARGV[1] : TTL, ARGV[2] : 채운 시점의 채팅 번호, ARGV[3..] : 채팅 JSON (오래된 순)
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV do
+                redis.call('RPUSH', KEYS[1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[1])
+            return #ARGV - 2
+            """, Long.class);
+
+    /**
+     * 채운 시점의 채팅 번호와 List를 함께 조회, 둘 중 하나라도 없다면 빈 결과
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RANGE_SCRIPT = new DefaultRedisScript<>("""
+            local loaded = redis.call('GET', KEYS[2])
+            if not loaded or redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+            end
+            local result = redis.call('LRANGE', KEYS[1], 0, -1)
+            table.insert(result, 1, loaded)
+            return result
+            """, List.class);
+
+    public void push(ObjectId chatRoomId, String message, int capacity) {
+        redisTemplate.execute(PUSH_SCRIPT, keys(chatRoomId),
+                message, String.valueOf(capacity), String.valueOf(TTL_SECONDS));
+    }
+
+    /**
+     * @param loadedSeq List를 채운 시점의 채팅 번호
+     */
+    public void seed(ObjectId chatRoomId, long loadedSeq, List<String> messages) {
+        if (messages.isEmpty()) return;
+        Object[] args = new Object[messages.size() + 2];
+        args[0] = String.valueOf(TTL_SECONDS);
+        args[1] = String.valueOf(loadedSeq);
+        for (int i = 0; i < messages.size(); i++) args[i + 2] = messages.get(i);
+        redisTemplate.execute(SEED_SCRIPT, keys(chatRoomId), args);
+    }
+
+    /**
+     * @return 첫 번째 값은 List를 채운 시점의 채팅 번호, 이후 최근 채팅 JSON (오래된 순), List가 없다면 빈 리스트
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> range(ObjectId chatRoomId) {
+        List<String> values = redisTemplate.execute(RANGE_SCRIPT, keys(chatRoomId));
+        return values != null ? values : List.of();
+    }
+
+    private static List<String> keys(ObjectId chatRoomId) {
+        String listKey = RECENT_KEY + "{" + chatRoomId + "}";
+        return List.of(listKey, listKey + LOADED_SUFFIX);
+    }
+}
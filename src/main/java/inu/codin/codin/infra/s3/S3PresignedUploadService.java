@@ -0,0 +1,141 @@
+package inu.codin.codin.infra.s3;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import inu.codin.codin.infra.s3.dto.PresignedUploadRequestDto;
+import inu.codin.codin.infra.s3.dto.PresignedUploadResponseDto;
+import inu.codin.codin.infra.s3.exception.ImageCountException;
+import inu.codin.codin.infra.s3.exception.ImageFileSizeException;
+import inu.codin.codin.infra.s3.exception.ImageKeyException;
+import inu.codin.codin.infra.s3.exception.ImageTypeException;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이미지 직접 업로드(Presigned URL) Service
+ * 1. 서버는 파일 크기, 확장자, Content-Type을 검사하고 짧은 시간 동안만 유효한 PUT URL 발급
+ * 2. 클라이언트는 서버를 거치지 않고 S3에 직접 업로드
+ * 3. 게시물, 채팅 등의 요청에는 Object key만 전달하고, 서버는 key의 소유자와 업로드된 Object의 크기, Content-Type을 확인 후 URL로 변환
+ * Presigned PUT URL은 크기를 강제할 수 없으므로 등록 시 Object 메타데이터로 다시 검사하고, 조건을 벗어난 Object는 삭제
+ */
+@Slf4j
+@Service
+public class S3PresignedUploadService {
+
+    private final AmazonS3Client amazonS3Client;
+    private final long expirationSeconds;
+
+    @Value("codin-s3-bucket")
+    private String bucket;
+
+    public S3PresignedUploadService(AmazonS3Client amazonS3Client,
+                                    @Value("${cloud.aws.s3.presigned-expiration-seconds:300}") long expirationSeconds) {
+        this.amazonS3Client = amazonS3Client;
+        this.expirationSeconds = expirationSeconds;
+    }
+
+    /**
+     * 업로드 URL 발급
+     * @return 요청한 파일 순서대로 Object key와 업로드 URL
+     */
+    public List<PresignedUploadResponseDto> issue(ObjectId userId, PresignedUploadRequestDto requestDto) {
+        UploadPurpose purpose = requestDto.getPurpose();
+        validateFileCount(purpose, requestDto.getFiles().size());
+
+        Instant expiresAt = Instant.now().plusSeconds(expirationSeconds);
+        List<PresignedUploadResponseDto> responses = new ArrayList<>();
+        for (PresignedUploadRequestDto.FileInfo file : requestDto.getFiles()) {
+            String extension = S3Service.getExtension(file.getFileName());
+            String contentType = S3Service.CONTENT_TYPES.get(extension);
+            if (contentType == null || !contentType.equalsIgnoreCase(file.getContentType())) {
+                throw new ImageTypeException("유효한 이미지 파일(jpg, jpeg, png, gif)만 업로드 가능합니다.");
+            }
+            if (file.getSize() > S3Service.MAX_FILE_SIZE) {
+                throw new ImageFileSizeException("파일 크기가 5MB를 초과할 수 없습니다.");
+            }
+
+            String key = keyPrefix(purpose, userId) + UUID.randomUUID() + "." + extension;
+            GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                    .withExpiration(Date.from(expiresAt))
+                    .withContentType(contentType);
+            String uploadUrl = amazonS3Client.generatePresignedUrl(request).toString();
+            responses.add(new PresignedUploadResponseDto(key, uploadUrl, contentType, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+        }
+        log.info("[업로드 URL 발급] 유저 ID: {}, 용도: {}, 파일 개수: {}", userId, purpose, responses.size());
+        return responses;
+    }
+
+    /**
+     * 업로드된 Object 확인 후 URL로 변환
+     * @param keys 업로드 URL 발급 시 받은 Object key
+     * @return key 순서대로 이미지 URL, key가 없다면 빈 리스트
+     */
+    public List<String> register(ObjectId userId, UploadPurpose purpose, List<String> keys) {
+        if (keys == null || keys.isEmpty()) return List.of();
+        validateFileCount(purpose, keys.size());
+
+        List<String> urls = new ArrayList<>();
+        for (String key : keys) {
+            String extension = validateKey(userId, purpose, key);
+            ObjectMetadata metadata = getObjectMetadata(key);
+            if (metadata.getContentLength() > S3Service.MAX_FILE_SIZE) {
+                amazonS3Client.deleteObject(bucket, key);
+                throw new ImageFileSizeException("파일 크기가 5MB를 초과할 수 없습니다.");
+            }
+            if (!S3Service.CONTENT_TYPES.get(extension).equalsIgnoreCase(metadata.getContentType())) {
+                amazonS3Client.deleteObject(bucket, key);
+                throw new ImageTypeException("유효한 이미지 파일(jpg, jpeg, png, gif)만 업로드 가능합니다.");
+            }
+            urls.add(amazonS3Client.getUrl(bucket, key).toString());
+        }
+        return urls;
+    }
+
+    private void validateFileCount(UploadPurpose purpose, int count) {
+        if (count > purpose.getMaxFileCount()) {
+            throw new ImageCountException("이미지 파일 개수는 최대 " + purpose.getMaxFileCount() + "개까지 업로드 가능합니다.");
+        }
+    }
+
+    /**
+     * 현재 유저가 같은 용도로 발급받은 key인지 확인
+     * @return key의 확장자
+     */
+    private String validateKey(ObjectId userId, UploadPurpose purpose, String key) {
+        String prefix = keyPrefix(purpose, userId);
+        if (key == null || !key.startsWith(prefix) || key.indexOf('/', prefix.length()) >= 0) {
+            throw new ImageKeyException("업로드 권한이 없는 이미지입니다. key: " + key);
+        }
+        String extension = S3Service.getExtension(key);
+        if (!S3Service.CONTENT_TYPES.containsKey(extension)) {
+            throw new ImageTypeException("유효한 이미지 파일(jpg, jpeg, png, gif)만 업로드 가능합니다.");
+        }
+        return extension;
+    }
+
+    private ObjectMetadata getObjectMetadata(String key) {
+        try {
+            return amazonS3Client.getObjectMetadata(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) throw new ImageKeyException("업로드되지 않은 이미지입니다. key: " + key);
+            throw e;
+        }
+    }
+
+    private static String keyPrefix(UploadPurpose purpose, ObjectId userId) {
+        return purpose.getDirectory() + "/" + userId + "/";
+    }
+}
@@ -7,18 +7,20 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class S3Service {
 
     private final AmazonS3Client amazonS3Client;
+    private final S3UploadEngine s3UploadEngine;
 
-    public S3Service(AmazonS3Client amazonS3Client) {
+    public S3Service(AmazonS3Client amazonS3Client, S3UploadEngine s3UploadEngine) {
         this.amazonS3Client = amazonS3Client;
+        this.s3UploadEngine = s3UploadEngine;
     }
     @Value("codin-s3-bucket")
     public String bucket;
@@ -27,8 +29,14 @@ public class S3Service {
     @Value("${cloud.aws.s3.defaultProfileImageUrl}")
     private String defaultProfileImageUrl;
 
-    private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
-    private static final int MAX_FILE_COUNT = 10; // 최대 파일 개수
+    static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    static final int MAX_FILE_COUNT = 10; // 최대 파일 개수
+    // Key : 업로드 가능한 확장자, Value : Content-Type
+    static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif");
 
     //이미지 업로드 메소드
     public List<String> handleImageUpload(List<MultipartFile> postImages) {
@@ -38,17 +46,16 @@ public class S3Service {
         return List.of(); // 이미지가 없을 경우 빈 리스트 반환
     }
 
-    //모든 이미지 업로드
+    //모든 이미지 검사 후 병렬 업로드, 업로드 순서와 관계없이 요청한 순서대로 URL 반환
     private List<String> uploadFiles(List<MultipartFile> multipartFiles) {
         validateFileCount(multipartFiles);
-        List<String> uploadUrls = new ArrayList<>();
+        List<S3UploadEngine.UploadItem> items = new ArrayList<>();
         for (MultipartFile multipartFile : multipartFiles) {
             validateImageFileSize(multipartFile);
             validateImageFileExtension(multipartFile);
-            uploadUrls.add(uploadFile(multipartFile));
+            items.add(toUploadItem(multipartFile));
         }
-        return uploadUrls;
-
+        return s3UploadEngine.uploadAll(items);
     }
 
     private void validateImageFileSize(MultipartFile multipartFile) {
@@ -66,14 +73,13 @@ public class S3Service {
     //각 이미지 S3에 업로드
     public String uploadFile(MultipartFile multipartFile) {
         validateImageFileExtension(multipartFile);
+        return s3UploadEngine.uploadAll(List.of(toUploadItem(multipartFile))).get(0);
+    }
 
-        String fileName = createFileName(multipartFile.getOriginalFilename());
-        try{
-            amazonS3Client.putObject(bucket, fileName, multipartFile.getInputStream(), null);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to upload file", e);
-        }
-        return amazonS3Client.getUrl(bucket, fileName).toString();
+    //Content-Type은 클라이언트가 보낸 값이 아닌 확장자로 결정
+    private S3UploadEngine.UploadItem toUploadItem(MultipartFile multipartFile) {
+        String extension = getExtension(multipartFile.getOriginalFilename());
+        return new S3UploadEngine.UploadItem(multipartFile, createFileName(multipartFile.getOriginalFilename()), CONTENT_TYPES.get(extension));
     }
 
     //중복 방지를 위해 이미지파일명 생성
@@ -85,15 +91,14 @@ public class S3Service {
 
     //파일 유효성 검사( 이미지 관련 확장자만 업로드 가능 설정)
     public void validateImageFileExtension(MultipartFile multipartFile) {
-        List<String> validExtensions = List.of("jpg", "jpeg", "png", "gif");
         String extension = getExtension(multipartFile.getOriginalFilename());
-        if (extension == null || !validExtensions.contains(extension.toLowerCase())) {
+        if (!CONTENT_TYPES.containsKey(extension)) {
             throw new ImageTypeException("유효한 이미지 파일(jpg, jpeg, png, gif)만 업로드 가능합니다.");
         }
     }
 
     //확장자 추출
-    private String getExtension(String fileName) {
+    static String getExtension(String fileName) {
         if (fileName == null || fileName.lastIndexOf(".") == -1) {
             return ""; // 확장자가 없는 경우
         }
@@ -0,0 +1,35 @@
+package inu.codin.codin.infra.s3;
+
+import inu.codin.codin.common.response.ListResponse;
+import inu.codin.codin.common.security.util.SecurityUtils;
+import inu.codin.codin.infra.s3.dto.PresignedUploadRequestDto;
+import inu.codin.codin.infra.s3.dto.PresignedUploadResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/images")
+@RequiredArgsConstructor
+@Tag(name = "Image Upload API", description = "이미지 직접 업로드 URL 발급")
+public class S3UploadController {
+
+    private final S3PresignedUploadService s3PresignedUploadService;
+
+    @Operation(
+            summary = "이미지 업로드 URL 발급",
+            description = "발급받은 uploadUrl로 Content-Type 헤더와 함께 PUT 업로드 후, 게시물/공지사항/채팅/프로필 요청에 key 전달 <br>" +
+                    "jpg, jpeg, png, gif / 파일당 최대 5MB / URL은 발급 후 5분간 유효"
+    )
+    @PostMapping("/presigned")
+    public ResponseEntity<ListResponse<PresignedUploadResponseDto>> issueUploadUrls(@RequestBody @Valid PresignedUploadRequestDto requestDto){
+        return ResponseEntity.ok()
+                .body(new ListResponse<>(200, "이미지 업로드 URL 발급 완료", s3PresignedUploadService.issue(SecurityUtils.getCurrentUserId(), requestDto)));
+    }
+}
@@ -0,0 +1,160 @@
+package inu.codin.codin.infra.s3;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import inu.codin.codin.common.config.AsyncConfig;
+import inu.codin.codin.infra.s3.exception.ImageUploadException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 한 요청의 이미지를 병렬로 업로드하는 S3 업로드 엔진
+ * 1. 파일 크기와 Content-Type을 ObjectMetadata에 지정하여 SDK가 스트림 전체를 메모리에 버퍼링하지 않도록 함
+ * 2. 파일마다 s3UploadExecutor에서 업로드, 크기가 multipartThreshold 이상이면 partSize 단위로 멀티파트 업로드
+ * 3. 하나라도 실패하면 시작 전인 업로드와 남은 파트는 취소하고, 진행 중인 멀티파트 업로드는 중단(abort), 완료된 Object는 삭제
+ * 업로드 작업 안에서 다른 작업을 기다리지 않으므로 Executor가 가득 차도 교착 상태가 생기지 않음
+ */
+@Slf4j
+@Component
+public class S3UploadEngine {
+
+    private final AmazonS3Client amazonS3Client;
+    private final Executor executor;
+    private final long multipartThreshold;
+    private final long partSize;
+
+    @Value("codin-s3-bucket")
+    private String bucket;
+
+    public S3UploadEngine(AmazonS3Client amazonS3Client,
+                          @Qualifier(AsyncConfig.S3_UPLOAD_EXECUTOR) Executor executor,
+                          @Value("${cloud.aws.s3.multipart-threshold-bytes:16777216}") long multipartThreshold,
+                          @Value("${cloud.aws.s3.multipart-part-size-bytes:8388608}") long partSize) {
+        this.amazonS3Client = amazonS3Client;
+        this.executor = executor;
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = partSize;
+    }
+
+    /**
+     * 업로드할 파일과 저장할 Object key, Content-Type
+     */
+    public record UploadItem(MultipartFile file, String key, String contentType) {
+    }
+
+    /**
+     * 모든 파일 병렬 업로드
+     * @return 업로드 완료 순서와 관계없이 items 순서대로 이미지 URL
+     * @throws ImageUploadException 하나라도 실패한 경우, 이미 업로드된 Object는 삭제됨
+     */
+    public List<String> uploadAll(List<UploadItem> items) {
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<CompletableFuture<String>> futures = new ArrayList<>(items.size());
+        for (UploadItem item : items) {
+            futures.add(CompletableFuture.supplyAsync(() -> upload(item, failed), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            rollback(items, futures);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof ImageUploadException imageUploadException) throw imageUploadException;
+            throw new ImageUploadException("이미지 업로드에 실패했습니다.", cause);
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private String upload(UploadItem item, AtomicBoolean failed) {
+        checkNotFailed(item.key(), failed);
+        MultipartFile file = item.file();
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.getSize());
+        metadata.setContentType(item.contentType());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            if (file.getSize() >= multipartThreshold) {
+                uploadMultipart(item.key(), inputStream, file.getSize(), metadata, failed);
+            } else {
+                amazonS3Client.putObject(new PutObjectRequest(bucket, item.key(), inputStream, metadata));
+            }
+        } catch (IOException | RuntimeException e) {
+            failed.set(true);
+            if (e instanceof ImageUploadException imageUploadException) throw imageUploadException;
+            log.warn("[이미지 업로드 실패] key: {}, {}", item.key(), e.getMessage());
+            throw new ImageUploadException("이미지 업로드에 실패했습니다. key: " + item.key(), e);
+        }
+        return amazonS3Client.getUrl(bucket, item.key()).toString();
+    }
+
+    /**
+     * 하나의 스트림을 partSize 단위로 순서대로 읽어 멀티파트 업로드, 실패하거나 다른 파일이 실패하면 업로드 중단(abort)
+     */
+    private void uploadMultipart(String key, InputStream inputStream, long size, ObjectMetadata metadata, AtomicBoolean failed) {
+        String uploadId = amazonS3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            long offset = 0;
+            int partNumber = 1;
+            while (offset < size) {
+                checkNotFailed(key, failed);
+                long length = Math.min(partSize, size - offset);
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(inputStream)
+                        .withPartSize(length)
+                        .withLastPart(offset + length >= size);
+                partETags.add(amazonS3Client.uploadPart(request).getPartETag());
+                offset += length;
+            }
+            amazonS3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (RuntimeException e) {
+            abort(key, uploadId);
+            throw e;
+        }
+    }
+
+    private void checkNotFailed(String key, AtomicBoolean failed) {
+        if (failed.get()) {
+            throw new ImageUploadException("다른 이미지 업로드 실패로 업로드를 취소했습니다. key: " + key, null);
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (RuntimeException e) {
+            log.warn("[멀티파트 업로드 중단 실패] key: {}, uploadId: {}, {}", key, uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드에 성공한 Object 삭제
+     */
+    private void rollback(List<UploadItem> items, List<CompletableFuture<String>> futures) {
+        for (int i = 0; i < futures.size(); i++) {
+            if (futures.get(i).isCompletedExceptionally()) continue;
+            String key = items.get(i).key();
+            try {
+                amazonS3Client.deleteObject(bucket, key);
+            } catch (RuntimeException e) {
+                log.warn("[업로드 이미지 삭제 실패] key: {}, {}", key, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package inu.codin.codin.infra.s3;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직접 업로드(Presigned URL) 용도, 용도별로 S3 경로와 최대 파일 개수가 다름
+ * Object key = {directory}/{userId}/{UUID}.{확장자}
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UploadPurpose {
+    CHAT("chat", 10),
+    POST("post", 10),
+    NOTICE("notice", 10),
+    PROFILE("profile", 1);
+
+    private final String directory;
+    private final int maxFileCount;
+}
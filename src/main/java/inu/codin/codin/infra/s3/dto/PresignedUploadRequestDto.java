@@ -0,0 +1,54 @@
+package inu.codin.codin.infra.s3.dto;
+
+import inu.codin.codin.infra.s3.UploadPurpose;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PresignedUploadRequestDto {
+
+    @NotNull
+    @Schema(description = "업로드 용도", example = "POST")
+    private UploadPurpose purpose;
+
+    @NotEmpty
+    @Valid
+    private List<FileInfo> files;
+
+    public PresignedUploadRequestDto(UploadPurpose purpose, List<FileInfo> files) {
+        this.purpose = purpose;
+        this.files = files;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class FileInfo {
+
+        @NotBlank
+        @Schema(description = "원본 파일명", example = "image.png")
+        private String fileName;
+
+        @NotBlank
+        @Schema(description = "파일 Content-Type, 업로드 시 같은 Content-Type 헤더를 보내야 함", example = "image/png")
+        private String contentType;
+
+        @Positive
+        @Schema(description = "파일 크기(byte)", example = "102400")
+        private long size;
+
+        public FileInfo(String fileName, String contentType, long size) {
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.size = size;
+        }
+    }
+}
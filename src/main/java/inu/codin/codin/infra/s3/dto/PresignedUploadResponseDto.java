@@ -0,0 +1,31 @@
+package inu.codin.codin.infra.s3.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class PresignedUploadResponseDto {
+
+    @Schema(description = "업로드 후 게시물, 채팅 등의 요청에 전달할 Object key", example = "post/111111/uuid.png")
+    private final String key;
+
+    @Schema(description = "PUT 업로드 URL")
+    private final String uploadUrl;
+
+    @Schema(description = "업로드 시 보내야 하는 Content-Type 헤더", example = "image/png")
+    private final String contentType;
+
+    @Schema(description = "업로드 URL 만료 시각", example = "2024-11-29 12:00:00")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private final LocalDateTime expiresAt;
+
+    public PresignedUploadResponseDto(String key, String uploadUrl, String contentType, LocalDateTime expiresAt) {
+        this.key = key;
+        this.uploadUrl = uploadUrl;
+        this.contentType = contentType;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,7 @@
+package inu.codin.codin.infra.s3.exception;
+
+public class ImageKeyException extends RuntimeException{
+    public ImageKeyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package inu.codin.codin.infra.s3.exception;
+
+public class ImageUploadException extends RuntimeException{
+    public ImageUploadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,66 @@
+package inu.codin.codin.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver clientIpResolver = new ClientIpResolver(new RateLimitProperties());
+
+    @Test
+    void resolve_신뢰하지않는주소에서직접요청_헤더무시() {
+        // Given
+        MockHttpServletRequest request = request("203.0.113.7", "1.1.1.1");
+
+        // When
+        String clientIp = clientIpResolver.resolve(request);
+
+        // Then
+        assertThat(clientIp).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void resolve_Proxy경유_Proxy가덧붙인주소사용() {
+        // Given : 요청자가 X-Forwarded-For에 1.1.1.1을 넣어 보냈고, Proxy가 실제 주소를 덧붙임
+        MockHttpServletRequest request = request("10.0.0.5", "1.1.1.1, 203.0.113.7");
+
+        // When
+        String clientIp = clientIpResolver.resolve(request);
+
+        // Then
+        assertThat(clientIp).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void resolve_여러Proxy경유_신뢰하지않는첫주소사용() {
+        // Given
+        MockHttpServletRequest request = request("127.0.0.1", "1.1.1.1, 203.0.113.7, 10.0.0.9");
+
+        // When
+        String clientIp = clientIpResolver.resolve(request);
+
+        // Then
+        assertThat(clientIp).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void resolve_형식이잘못된주소_마지막으로확인된주소사용() {
+        // Given
+        MockHttpServletRequest request = request("10.0.0.5", "evil.example.com, 10.0.0.9");
+
+        // When
+        String clientIp = clientIpResolver.resolve(request);
+
+        // Then
+        assertThat(clientIp).isEqualTo("10.0.0.9");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}
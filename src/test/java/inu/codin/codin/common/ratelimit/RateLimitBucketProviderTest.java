@@ -0,0 +1,104 @@
+package inu.codin.codin.common.ratelimit;
+
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.lettuce.core.RedisCommandTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+class RateLimitBucketProviderTest {
+
+    private final RedisHealthChecker redisHealthChecker = mock(RedisHealthChecker.class);
+
+    @Test
+    void tryConsume_용량초과_요청자별로따로제한() {
+        // Given : READ 그룹 3회 / 1분
+        RateLimitBucketProvider provider = provider(properties(3), null);
+
+        // When
+        for (int i = 0; i < 3; i++) assertThat(provider.tryConsume(RateLimitGroup.READ, "ip:1.1.1.1").isConsumed()).isTrue();
+        ConsumptionProbe exceeded = provider.tryConsume(RateLimitGroup.READ, "ip:1.1.1.1");
+
+        // Then
+        assertThat(exceeded.isConsumed()).isFalse();
+        assertThat(exceeded.getNanosToWaitForRefill()).isPositive();
+        assertThat(provider.tryConsume(RateLimitGroup.READ, "user:abc").isConsumed()).isTrue();
+        assertThat(provider.tryConsume(RateLimitGroup.WRITE, "ip:1.1.1.1").isConsumed()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryConsume_Redis장애_서버메모리버킷으로제한() {
+        // Given
+        ProxyManager<byte[]> proxyManager = mock(ProxyManager.class);
+        given(proxyManager.builder()).willThrow(new IllegalStateException("Redis 연결 실패"));
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisHealthChecker.execute(any())).willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        RateLimitBucketProvider provider = provider(properties(1), proxyManager);
+
+        // When
+        ConsumptionProbe first = provider.tryConsume(RateLimitGroup.READ, "ip:1.1.1.1");
+        ConsumptionProbe second = provider.tryConsume(RateLimitGroup.READ, "ip:1.1.1.1");
+
+        // Then
+        assertThat(first.isConsumed()).isTrue();
+        assertThat(second.isConsumed()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryConsume_Redis타임아웃_CircuitBreaker에집계() {
+        // Given : 1번 실패하면 OPEN
+        RedisHealthChecker circuitBreaker = new RedisHealthChecker(mock(RedisConnectionFactory.class), 1, 250, 0.9, 100, 5000, 3, Runnable::run);
+        ProxyManager<byte[]> proxyManager = mock(ProxyManager.class);
+        given(proxyManager.builder()).willThrow(new RedisCommandTimeoutException("Command timed out"));
+        ObjectProvider<ProxyManager<byte[]>> objectProvider = mock(ObjectProvider.class);
+        given(objectProvider.getIfAvailable()).willReturn(proxyManager);
+        RateLimitBucketProvider provider = new RateLimitBucketProvider(properties(1), objectProvider, circuitBreaker);
+
+        // When
+        ConsumptionProbe probe = provider.tryConsume(RateLimitGroup.READ, "ip:1.1.1.1");
+
+        // Then
+        assertThat(probe.isConsumed()).isTrue();
+        assertThat(circuitBreaker.isRedisAvailable()).isFalse();
+    }
+
+    @Test
+    void resolveGroup_경로와Method로그룹구분() {
+        // Given
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(provider(properties(3), null), mock(RateLimitService.class),
+                properties(3), new ClientIpResolver(properties(3)));
+
+        // When & Then
+        assertThat(interceptor.resolveGroup(new MockHttpServletRequest("POST", "/auth/login"))).isEqualTo(RateLimitGroup.AUTH);
+        assertThat(interceptor.resolveGroup(new MockHttpServletRequest("GET", "/chatroom/page"))).isEqualTo(RateLimitGroup.CHAT);
+        assertThat(interceptor.resolveGroup(new MockHttpServletRequest("POST", "/posts"))).isEqualTo(RateLimitGroup.WRITE);
+        assertThat(interceptor.resolveGroup(new MockHttpServletRequest("GET", "/posts/category"))).isEqualTo(RateLimitGroup.READ);
+    }
+
+    private static RateLimitProperties properties(long readCapacity) {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Plan plan = new RateLimitProperties.Plan();
+        plan.setCapacity(readCapacity);
+        plan.setRefillPeriod(Duration.ofMinutes(1));
+        properties.getPlans().put(RateLimitGroup.READ, plan);
+        return properties;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RateLimitBucketProvider provider(RateLimitProperties properties, ProxyManager<byte[]> proxyManager) {
+        ObjectProvider<ProxyManager<byte[]>> objectProvider = mock(ObjectProvider.class);
+        given(objectProvider.getIfAvailable()).willReturn(proxyManager);
+        return new RateLimitBucketProvider(properties, objectProvider, redisHealthChecker);
+    }
+}
@@ -0,0 +1,99 @@
+package inu.codin.codin.common.ratelimit;
+
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisRateLimitBanService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+class RateLimitServiceTest {
+
+    private final RedisRateLimitBanService redisRateLimitBanService = mock(RedisRateLimitBanService.class);
+    private final RedisHealthChecker redisHealthChecker = mock(RedisHealthChecker.class);
+
+    @Test
+    void isLimitReachedThreshold_임계값도달_차단및Redis공유() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        RateLimitProperties properties = properties(3);
+        RateLimitBanList banList = new RateLimitBanList(redisRateLimitBanService, redisHealthChecker, properties);
+        RateLimitService rateLimitService = new RateLimitService(properties, banList);
+
+        // When
+        boolean first = rateLimitService.isLimitReachedThreshold("ip:1.1.1.1");
+        boolean second = rateLimitService.isLimitReachedThreshold("ip:1.1.1.1");
+        boolean third = rateLimitService.isLimitReachedThreshold("ip:1.1.1.1");
+
+        // Then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(third).isTrue();
+        assertThat(banList.getRemainingBanMillis("ip:1.1.1.1")).isPositive();
+        assertThat(banList.getRemainingBanMillis("ip:2.2.2.2")).isZero();
+        verify(redisRateLimitBanService).ban(eq("ip:1.1.1.1"), anyLong(), eq(Duration.ofHours(1)));
+    }
+
+    @Test
+    void violationWindow_직전구간횟수는남은비율만큼반영() {
+        // Given : 1000ms 구간, 첫 구간에 4번 위반
+        RateLimitService.ViolationWindow window = new RateLimitService.ViolationWindow(0);
+        for (int i = 0; i < 4; i++) window.increment(100, 1000);
+
+        // When
+        int halfway = window.increment(1500, 1000);   // 직전 4번 * 0.5 + 현재 1번
+        int expired = window.increment(3500, 1000);   // 두 구간이 지나면 초기화
+
+        // Then
+        assertThat(halfway).isEqualTo(3);
+        assertThat(expired).isEqualTo(1);
+    }
+
+    @Test
+    void refresh_다른서버의차단반영_만료된차단제거() {
+        // Given
+        RateLimitProperties properties = properties(3);
+        properties.setEnabled(true);
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisRateLimitBanService.getBans()).willReturn(Map.of(
+                "user:abc", System.currentTimeMillis() + 60_000));
+        RateLimitBanList banList = new RateLimitBanList(redisRateLimitBanService, redisHealthChecker, properties);
+
+        // When
+        banList.refresh();
+
+        // Then
+        assertThat(banList.getRemainingBanMillis("user:abc")).isPositive();
+        assertThat(banList.getRemainingBanMillis("ip:1.1.1.1")).isZero();
+    }
+
+    @Test
+    void refresh_조회중추가된현재서버차단_유지() {
+        // Given
+        RateLimitProperties properties = properties(3);
+        properties.setEnabled(true);
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        RateLimitBanList banList = new RateLimitBanList(redisRateLimitBanService, redisHealthChecker, properties);
+        given(redisRateLimitBanService.getBans()).willAnswer(invocation -> {
+            banList.ban("ip:3.3.3.3");  // Redis 조회 중 현재 서버에서 차단
+            return Map.of("user:abc", System.currentTimeMillis() + 60_000);
+        });
+
+        // When
+        banList.refresh();
+
+        // Then
+        assertThat(banList.getRemainingBanMillis("ip:3.3.3.3")).isPositive();
+        assertThat(banList.getRemainingBanMillis("user:abc")).isPositive();
+    }
+
+    private static RateLimitProperties properties(int threshold) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setViolationThreshold(threshold);
+        return properties;
+    }
+}
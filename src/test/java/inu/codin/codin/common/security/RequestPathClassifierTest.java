@@ -0,0 +1,60 @@
+package inu.codin.codin.common.security;
+
+import inu.codin.codin.common.security.filter.RequestPathClassifier;
+import inu.codin.codin.common.security.filter.RequestPathClassifier.PathType;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RequestPathClassifierTest {
+
+    private static final List<String> PERMIT_ALL = List.of("/auth/**", "/users/signup", "/images/*/default", "/v3/api-docs/public");
+    private static final List<String> PUBLIC_API = List.of("/posts/category", "/posts/{postId}", "/lectures/**/reviews");
+
+    private final RequestPathClassifier classifier = new RequestPathClassifier(PERMIT_ALL, PUBLIC_API);
+
+    @Test
+    void classify_우선순위순서대로분류() {
+        // When & Then
+        assertThat(classifier.classify("/auth/login")).isEqualTo(PathType.PERMIT_ALL);
+        assertThat(classifier.classify("/v3/api-docs/public")).isEqualTo(PathType.PERMIT_ALL); // swagger보다 permit-all 우선
+        assertThat(classifier.classify("/v3/api-docs/swagger-config")).isEqualTo(PathType.SWAGGER);
+        assertThat(classifier.classify("/posts/abc")).isEqualTo(PathType.PUBLIC);
+        assertThat(classifier.classify("/posts/abc/comments")).isEqualTo(PathType.PROTECTED);
+        assertThat(classifier.classify("/chatroom")).isEqualTo(PathType.PROTECTED);
+    }
+
+    @Test
+    void classify_AntPathMatcher와같은결과() {
+        // Given
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        List<String> uris = List.of("/auth", "/auth/", "/auth/google/callback", "/users/signup", "/users/signup/",
+                "/images/1/default", "/images/1/2/default", "/posts/category", "/posts/", "/posts/1",
+                "/lectures/1/reviews", "/lectures/1/2/reviews", "/lectures/reviews", "/swagger-ui/index.html", "/v3/api-docs");
+
+        for (String uri : uris) {
+            // When
+            PathType pathType = classifier.classify(uri);
+
+            // Then
+            PathType expected = PERMIT_ALL.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri)) ? PathType.PERMIT_ALL
+                    : RequestPathClassifier.SWAGGER_AUTH_PATHS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri)) ? PathType.SWAGGER
+                    : PUBLIC_API.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri)) ? PathType.PUBLIC
+                    : PathType.PROTECTED;
+            assertThat(pathType).as(uri).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void classify_설정된패턴없음_모두PROTECTED() {
+        // Given
+        RequestPathClassifier empty = new RequestPathClassifier(null, null);
+
+        // When & Then
+        assertThat(empty.classify("/auth/login")).isEqualTo(PathType.PROTECTED);
+        assertThat(empty.classify("/swagger-ui/index.html")).isEqualTo(PathType.SWAGGER);
+    }
+}
@@ -0,0 +1,107 @@
+package inu.codin.codin.common.stomp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inu.codin.codin.common.stomp.relay.RedisStompRelayInterceptor;
+import inu.codin.codin.common.stomp.relay.RedisStompRelayListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStompRelayTest {
+
+    private static final String CHANNEL = "stomp:relay";
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private MessageChannel brokerChannel;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RedisStompRelayInterceptor interceptor;
+    private RedisStompRelayListener otherNodeListener;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new RedisStompRelayInterceptor(redisTemplate, objectMapper, CHANNEL, "node-a");
+        otherNodeListener = new RedisStompRelayListener(objectMapper, () -> brokerChannel, "node-b");
+    }
+
+    @Test
+    void 유저destination_다른서버의brokerChannel로전달() {
+        // Given
+        Message<byte[]> message = brokerMessage("/user/test@inu.ac.kr/queue/chatroom/unread", "{\"unread\":\"1\"}");
+
+        // When
+        interceptor.preSend(message, brokerChannel);
+
+        // Then
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+
+        otherNodeListener.onMessage(new DefaultMessage(CHANNEL.getBytes(), published.getValue().getBytes(StandardCharsets.UTF_8)), null);
+        ArgumentCaptor<Message<?>> relayed = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannel).send(relayed.capture());
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(relayed.getValue());
+        assertThat(accessor.getDestination()).isEqualTo("/user/test@inu.ac.kr/queue/chatroom/unread");
+        assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat(new String((byte[]) relayed.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"unread\":\"1\"}");
+    }
+
+    @Test
+    void 다른서버에서받은메세지와세션destination메세지_다시발행하지않음() {
+        // Given
+        SimpMessageHeaderAccessor relayedAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        relayedAccessor.setDestination("/queue/unread/room");
+        relayedAccessor.setHeader(RedisStompRelayInterceptor.RELAYED_HEADER, Boolean.TRUE);
+        // UserDestinationMessageHandler와 같이 세션 destination으로 바꾸고 원래 destination을 native 헤더로 저장
+        SimpMessageHeaderAccessor resolvedAccessor = SimpMessageHeaderAccessor.wrap(
+                brokerMessage("/user/test@inu.ac.kr/queue/chatroom/unread", "{}"));
+        resolvedAccessor.setDestination("/queue/chatroom/unread-usersession1");
+        resolvedAccessor.setNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, "/user/queue/chatroom/unread");
+
+        // When
+        interceptor.preSend(MessageBuilder.createMessage(new byte[0], relayedAccessor.getMessageHeaders()), brokerChannel);
+        interceptor.preSend(MessageBuilder.createMessage(new byte[0], resolvedAccessor.getMessageHeaders()), brokerChannel);
+
+        // Then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void 자신이발행한메세지_무시() throws Exception {
+        // Given
+        RedisStompRelayListener sameNodeListener = new RedisStompRelayListener(objectMapper, () -> brokerChannel, "node-a");
+        interceptor.preSend(brokerMessage("/queue/unread/room", "[]"), brokerChannel);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+
+        // When
+        sameNodeListener.onMessage(new DefaultMessage(CHANNEL.getBytes(), published.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        verifyNoInteractions(brokerChannel);
+    }
+
+    private static Message<byte[]> brokerMessage(String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,43 @@
+package inu.codin.codin.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalCacheTest {
+
+    @Test
+    void get_조회중evict_조회결과저장안함() {
+        // Given
+        LocalCache<String, String> cache = new LocalCache<>(10, 0);
+
+        // When : 이전 상태를 조회하는 동안 다른 스레드에서 값이 바뀌어 evict
+        String loaded = cache.get("user", key -> {
+            cache.evict(key);
+            return "ACTIVE";
+        });
+
+        // Then
+        assertThat(loaded).isEqualTo("ACTIVE");
+        assertThat(cache.get("user")).isNull();
+        assertThat(cache.get("user", key -> "SUSPENDED")).isEqualTo("SUSPENDED");
+        assertThat(cache.get("user")).isEqualTo("SUSPENDED");
+    }
+
+    @Test
+    void get_동시miss_먼저저장된값공유() {
+        // Given
+        LocalCache<String, int[]> cache = new LocalCache<>(10, 0);
+        int[] first = new int[1];
+
+        // When : 조회 중 다른 스레드가 먼저 조회하여 저장
+        int[] second = cache.get("ip", key -> {
+            cache.get(key, k -> first);
+            return new int[1];
+        });
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(cache.get("ip")).isSameAs(first);
+    }
+}
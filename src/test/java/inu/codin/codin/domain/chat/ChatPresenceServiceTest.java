@@ -0,0 +1,100 @@
+package inu.codin.codin.domain.chat;
+
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisPresenceService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceServiceTest {
+
+    @InjectMocks
+    private ChatPresenceService chatPresenceService;
+
+    @Mock private RedisPresenceService redisPresenceService;
+    @Mock private RedisHealthChecker redisHealthChecker;
+
+    private final ObjectId chatRoomId = new ObjectId();
+    private final ObjectId userId = new ObjectId();
+
+    @Test
+    void join_여러구독_첫구독만Redis기록() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+
+        // When
+        chatPresenceService.join("session-1", "sub-0", chatRoomId, userId);
+        chatPresenceService.join("session-1", "sub-1", chatRoomId, userId);
+        chatPresenceService.join("session-2", "sub-0", chatRoomId, userId);
+
+        // Then
+        verify(redisPresenceService, times(1)).add(chatRoomId, userId);
+        assertThat(chatPresenceService.getConnectedUserIds(chatRoomId)).contains(userId);
+    }
+
+    @Test
+    void leave_마지막구독해제시에만퇴장() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisPresenceService.getUserIds(chatRoomId)).willReturn(Set.of());
+        chatPresenceService.join("session-1", "sub-0", chatRoomId, userId);
+        chatPresenceService.join("session-2", "sub-0", chatRoomId, userId);
+
+        // When
+        ObjectId leftRoomId = chatPresenceService.leave("session-1", "sub-0");
+
+        // Then
+        assertThat(leftRoomId).isEqualTo(chatRoomId);
+        assertThat(chatPresenceService.getConnectedUserIds(chatRoomId)).contains(userId);
+        verify(redisPresenceService, never()).remove(any(), any());
+
+        // When
+        chatPresenceService.leave("session-2", "sub-0");
+
+        // Then
+        assertThat(chatPresenceService.getConnectedUserIds(chatRoomId)).doesNotContain(userId);
+        verify(redisPresenceService).remove(chatRoomId, userId);
+    }
+
+    @Test
+    void disconnect_세션의모든구독정리_중복호출무시() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisPresenceService.getUserIds(chatRoomId)).willReturn(Set.of());
+        chatPresenceService.join("session-1", "sub-0", chatRoomId, userId);
+        chatPresenceService.join("session-1", "sub-1", chatRoomId, userId);
+
+        // When
+        chatPresenceService.disconnect("session-1");
+        chatPresenceService.disconnect("session-1");
+
+        // Then
+        assertThat(chatPresenceService.getConnectedUserIds(chatRoomId)).isEmpty();
+        verify(redisPresenceService, times(1)).remove(chatRoomId, userId);
+    }
+
+    @Test
+    void getConnectedUserIds_Redis장애_현재서버접속상태만사용() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+        chatPresenceService.join("session-1", "sub-0", chatRoomId, userId);
+
+        // When
+        Set<ObjectId> connectedIds = chatPresenceService.getConnectedUserIds(chatRoomId);
+
+        // Then
+        assertThat(connectedIds).containsExactly(userId);
+        verifyNoInteractions(redisPresenceService);
+    }
+}
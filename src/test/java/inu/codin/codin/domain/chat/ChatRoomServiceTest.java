@@ -0,0 +1,143 @@
+package inu.codin.codin.domain.chat;
+
+import inu.codin.codin.common.security.util.SecurityUtils;
+import inu.codin.codin.domain.block.service.BlockService;
+import inu.codin.codin.domain.chat.chatroom.dto.ChatInboxCursor;
+import inu.codin.codin.domain.chat.chatroom.dto.response.ChatRoomPageResponse;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatInbox;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.Participants;
+import inu.codin.codin.domain.chat.chatroom.repository.ChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatInboxRepository;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.service.ChatInboxService;
+import inu.codin.codin.domain.chat.chatroom.service.ChatRoomService;
+import inu.codin.codin.domain.chat.exception.ChatRoomException;
+import inu.codin.codin.domain.user.repository.UserRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomServiceTest {
+
+    @InjectMocks
+    private ChatRoomService chatRoomService;
+
+    @Mock private ChatRoomRepository chatRoomRepository;
+    @Mock private CustomChatRoomRepository customChatRoomRepository;
+    @Mock private CustomChatInboxRepository customChatInboxRepository;
+    @Mock private ChatInboxService chatInboxService;
+    @Mock private UserRepository userRepository;
+    @Mock private BlockService blockService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+    private final ObjectId userId = new ObjectId();
+
+    @BeforeEach
+    void setUp() {
+        securityUtilsMock = Mockito.mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtilsMock.close();
+    }
+
+    @Test
+    void getChatRoomsByCursor_다음페이지존재_마지막채팅방커서반환() {
+        // Given
+        List<ObjectId> blockedUsers = List.of(new ObjectId());
+        ChatInbox newest = inbox(LocalDateTime.of(2024, 1, 2, 0, 0));
+        ChatInbox older = inbox(LocalDateTime.of(2024, 1, 1, 0, 0));
+        given(blockService.getBlockedUsers()).willReturn(blockedUsers);
+        given(customChatInboxRepository.findSlice(eq(userId), eq(blockedUsers), isNull(), anyInt()))
+                .willReturn(new SliceImpl<>(List.of(newest, older), PageRequest.of(0, 2), true));
+
+        // When
+        ChatRoomPageResponse response = chatRoomService.getChatRoomsByCursor(null);
+
+        // Then
+        assertThat(response.getContents()).extracting("chatRoomId")
+                .containsExactly(newest.getChatRoomId().toString(), older.getChatRoomId().toString());
+        ChatInboxCursor next = ChatInboxCursor.decode(response.getNextCursor());
+        assertThat(next.getLastMessageAt()).isEqualTo(older.getLastMessageAt());
+        assertThat(next.getId()).isEqualTo(older.get_id());
+    }
+
+    @Test
+    void getChatRoomsByCursor_마지막페이지_커서없음() {
+        // Given
+        given(blockService.getBlockedUsers()).willReturn(List.of());
+        given(customChatInboxRepository.findSlice(eq(userId), anyList(), isNull(), anyInt()))
+                .willReturn(new SliceImpl<>(List.of(inbox(LocalDateTime.now())), PageRequest.of(0, 20), false));
+
+        // When
+        ChatRoomPageResponse response = chatRoomService.getChatRoomsByCursor("");
+
+        // Then
+        assertThat(response.getContents()).hasSize(1);
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getChatRoomsByCursor_잘못된커서_예외() {
+        // When & Then
+        assertThatThrownBy(() -> chatRoomService.getChatRoomsByCursor("잘못된커서"))
+                .isInstanceOf(ChatRoomException.class);
+        verify(customChatInboxRepository, never()).findSlice(any(), anyList(), any(), anyInt());
+    }
+
+    @Test
+    void leaveChatRoom_나가기_나간시점채팅번호로Inbox숨김() {
+        // Given
+        ObjectId chatRoomId = new ObjectId();
+        Participants participants = new Participants();
+        participants.create(userId);
+        participants.create(new ObjectId());
+        ChatRoom chatRoom = mock(ChatRoom.class);
+        given(chatRoom.get_id()).willReturn(chatRoomId);
+        given(chatRoom.getParticipants()).willReturn(participants);
+        given(chatRoomRepository.findById(chatRoomId.toString())).willReturn(Optional.of(chatRoom));
+        ChatRoom leavedChatRoom = mock(ChatRoom.class);
+        given(leavedChatRoom.getLastSeq()).willReturn(7L);
+        given(customChatRoomRepository.leave(chatRoomId, userId)).willReturn(leavedChatRoom);
+
+        // When
+        chatRoomService.leaveChatRoom(chatRoomId.toString());
+
+        // Then
+        verify(customChatRoomRepository).leave(chatRoomId, userId);
+        verify(chatInboxService).remove(chatRoomId, userId, 7L);
+    }
+
+    private static ChatInbox inbox(LocalDateTime lastMessageAt) {
+        ChatInbox inbox = mock(ChatInbox.class);
+        ObjectId id = new ObjectId();
+        ObjectId chatRoomId = new ObjectId();
+        lenient().when(inbox.get_id()).thenReturn(id);
+        lenient().when(inbox.getChatRoomId()).thenReturn(chatRoomId);
+        lenient().when(inbox.getLastMessageAt()).thenReturn(lastMessageAt);
+        return inbox;
+    }
+}
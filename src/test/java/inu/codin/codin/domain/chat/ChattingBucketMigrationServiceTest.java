@@ -0,0 +1,134 @@
+package inu.codin.codin.domain.chat;
+
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.chat.chatting.entity.ChattingBucket;
+import inu.codin.codin.domain.chat.chatting.service.ChattingBucketMigrationService;
+import inu.codin.codin.domain.chat.exception.ChattingException;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChattingBucketMigrationServiceTest {
+
+    @InjectMocks
+    private ChattingBucketMigrationService chattingBucketMigrationService;
+
+    @Mock private MongoTemplate mongoTemplate;
+
+    @Test
+    void migrate_기존채팅은음수묶음_채팅번호채팅은번호묶음() {
+        // Given : 채팅 번호가 없는 기존 채팅 150개, 채팅 번호 1~120 채팅
+        ObjectId chatRoomId = new ObjectId();
+        List<Chatting> legacy = new ArrayList<>();
+        LongStream.range(0, 150).forEach(i -> legacy.add(chatting(chatRoomId, 0)));
+        List<Chatting> sequenced = new ArrayList<>();
+        LongStream.rangeClosed(1, 120).forEach(seq -> sequenced.add(chatting(chatRoomId, seq)));
+        given(mongoTemplate.stream(any(Query.class), eq(Chatting.class))).willReturn(legacy.stream(), sequenced.stream());
+
+        // When
+        long[] result = chattingBucketMigrationService.migrate(chatRoomId);
+
+        // Then : 최근 기존 채팅 100개는 -1, 나머지 50개는 -2
+        assertThat(result).containsExactly(270, 4);
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(4)).upsert(queries.capture(), updates.capture(), eq(ChattingBucket.class));
+        assertThat(queries.getAllValues()).extracting(query -> query.getQueryObject().get("bucketNo"))
+                .containsExactly(-1L, -2L, 0L, 1L);
+        assertThat(updates.getAllValues()).extracting(update -> ((Document) update.getUpdateObject().get("$set")).get("count"))
+                .containsExactly(100, 50, 100, 20);
+    }
+
+    @Test
+    void migrate_기존채팅이많아도_묶음크기를넘지않음() {
+        // Given : 기존 채팅 250개, 채팅 번호 1~50 채팅
+        ObjectId chatRoomId = new ObjectId();
+        List<Chatting> legacy = new ArrayList<>();
+        LongStream.range(0, 250).forEach(i -> legacy.add(chatting(chatRoomId, 0)));
+        List<Chatting> sequenced = new ArrayList<>();
+        LongStream.rangeClosed(1, 50).forEach(seq -> sequenced.add(chatting(chatRoomId, seq)));
+        given(mongoTemplate.stream(any(Query.class), eq(Chatting.class))).willReturn(legacy.stream(), sequenced.stream());
+
+        // When
+        long[] result = chattingBucketMigrationService.migrate(chatRoomId);
+
+        // Then : 기존 채팅은 -1, -2, -3 묶음으로 나뉘고 채팅 번호 묶음 0 과 겹치지 않음
+        assertThat(result).containsExactly(300, 4);
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(4)).upsert(queries.capture(), updates.capture(), eq(ChattingBucket.class));
+        assertThat(queries.getAllValues()).extracting(query -> query.getQueryObject().get("bucketNo"))
+                .containsExactly(-1L, -2L, -3L, 0L);
+        assertThat(updates.getAllValues()).extracting(update -> ((Document) update.getUpdateObject().get("$set")).get("count"))
+                .containsExactly(100, 100, 50, 50);
+    }
+
+    @Test
+    void migrate_기존채팅조회_채팅번호필드없는채팅포함() {
+        // Given
+        ObjectId chatRoomId = new ObjectId();
+        given(mongoTemplate.stream(any(Query.class), eq(Chatting.class))).willReturn(Stream.empty(), Stream.empty());
+
+        // When
+        chattingBucketMigrationService.migrate(chatRoomId);
+
+        // Then
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).stream(queries.capture(), eq(Chatting.class));
+        assertThat(queries.getAllValues().get(0).getQueryObject().toJson())
+                .contains("\"seq\": {\"$exists\": false}")
+                .contains("\"seq\": {\"$lte\": 0}");
+    }
+
+    @Test
+    void migrate_채팅이없는채팅방_저장하지않음() {
+        // Given
+        ObjectId chatRoomId = new ObjectId();
+        given(mongoTemplate.stream(any(Query.class), eq(Chatting.class))).willReturn(Stream.empty(), Stream.empty());
+
+        // When
+        long[] result = chattingBucketMigrationService.migrate(chatRoomId);
+
+        // Then
+        assertThat(result).containsExactly(0, 0);
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(ChattingBucket.class));
+    }
+
+    @Test
+    void migrateAll_묶음저장소사용중_실행거부() {
+        // Given
+        ChattingBucketMigrationService bucketModeService = new ChattingBucketMigrationService(mongoTemplate, "bucket");
+
+        // When & Then
+        assertThatThrownBy(bucketModeService::migrateAll)
+                .isInstanceOf(ChattingException.class);
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private static Chatting chatting(ObjectId chatRoomId, long seq) {
+        return Chatting.builder()
+                .senderId(new ObjectId())
+                .content("안녕하세요")
+                .chatRoomId(chatRoomId)
+                .seq(seq)
+                .build();
+    }
+}
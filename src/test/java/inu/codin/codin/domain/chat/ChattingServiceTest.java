@@ -0,0 +1,115 @@
+package inu.codin.codin.domain.chat;
+
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatroom.entity.Participants;
+import inu.codin.codin.domain.chat.chatroom.exception.ChatRoomNotFoundException;
+import inu.codin.codin.domain.chat.chatroom.repository.ChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.repository.CustomChatRoomRepository;
+import inu.codin.codin.domain.chat.chatroom.service.ChatPresenceService;
+import inu.codin.codin.domain.chat.chatting.dto.ContentType;
+import inu.codin.codin.domain.chat.chatting.dto.request.ChattingRequestDto;
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.chat.chatting.repository.ChattingStore;
+import inu.codin.codin.domain.chat.chatting.service.ChattingService;
+import inu.codin.codin.domain.chat.chatting.service.RecentChattingCache;
+import inu.codin.codin.domain.notification.service.NotificationService;
+import inu.codin.codin.domain.user.security.CustomUserDetails;
+import inu.codin.codin.infra.s3.S3PresignedUploadService;
+import inu.codin.codin.infra.s3.S3Service;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChattingServiceTest {
+
+    @InjectMocks
+    private ChattingService chattingService;
+
+    @Mock private ChatRoomRepository chatRoomRepository;
+    @Mock private CustomChatRoomRepository customChatRoomRepository;
+    @Mock private ChatPresenceService chatPresenceService;
+    @Mock private ChattingStore chattingStore;
+    @Mock private RecentChattingCache recentChattingCache;
+    @Mock private S3Service s3Service;
+    @Mock private S3PresignedUploadService s3PresignedUploadService;
+    @Mock private NotificationService notificationService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectId chatRoomId = new ObjectId();
+    private final ObjectId senderId = new ObjectId();
+    private final ObjectId receiverId = new ObjectId();
+    private ChatRoom chatRoom;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        Participants participants = new Participants();
+        participants.create(senderId);
+        participants.create(receiverId);
+        chatRoom = ChatRoom.builder().roomName("채팅해요").participants(participants).build();
+
+        CustomUserDetails userDetails = CustomUserDetails.builder().id(senderId).build();
+        authentication = mock(Authentication.class);
+        given(authentication.getPrincipal()).willReturn(userDetails);
+    }
+
+    @Test
+    void sendMessage_참여자Cache_두번째전송부터채팅방조회없음() {
+        // Given
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatPresenceService.getConnectedUserIds(chatRoomId)).willReturn(Set.of(receiverId));
+        given(customChatRoomRepository.appendMessage(eq(chatRoomId), eq(senderId), anyString(), anyCollection(), anyCollection()))
+                .willReturn(chatRoom);
+
+        // When
+        chattingService.sendMessage(chatRoomId.toString(), request("안녕하세요"), authentication);
+        chattingService.sendMessage(chatRoomId.toString(), request("반가워요"), authentication);
+
+        // Then
+        verify(chatRoomRepository, times(1)).findById(chatRoomId);
+        verify(chattingStore, times(2)).append(any(Chatting.class));
+        verify(recentChattingCache, times(2)).append(any(Chatting.class));
+        verify(customChatRoomRepository, times(2)).appendMessage(eq(chatRoomId), eq(senderId), anyString(),
+                argThat(readers -> readers.containsAll(List.of(senderId, receiverId))),
+                argThat(rejoins -> rejoins.size() == 1 && rejoins.contains(receiverId)));
+    }
+
+    @Test
+    void sendMessage_참여자가아님_예외및Cache제거() {
+        // Given
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatPresenceService.getConnectedUserIds(chatRoomId)).willReturn(Set.of());
+        given(customChatRoomRepository.appendMessage(eq(chatRoomId), eq(senderId), anyString(), anyCollection(), anyCollection()))
+                .willReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> chattingService.sendMessage(chatRoomId.toString(), request("안녕하세요"), authentication))
+                .isInstanceOf(ChatRoomNotFoundException.class);
+        assertThatThrownBy(() -> chattingService.sendMessage(chatRoomId.toString(), request("안녕하세요"), authentication))
+                .isInstanceOf(ChatRoomNotFoundException.class);
+        verify(chatRoomRepository, times(2)).findById(chatRoomId);
+        verify(chattingStore, never()).append(any(Chatting.class));
+    }
+
+    private static ChattingRequestDto request(String content) {
+        ChattingRequestDto requestDto = new ChattingRequestDto();
+        requestDto.setContent(content);
+        requestDto.setContentType(ContentType.TEXT);
+        return requestDto;
+    }
+}
@@ -0,0 +1,156 @@
+package inu.codin.codin.domain.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import inu.codin.codin.domain.chat.chatroom.entity.ChatRoom;
+import inu.codin.codin.domain.chat.chatting.dto.ContentType;
+import inu.codin.codin.domain.chat.chatting.entity.Chatting;
+import inu.codin.codin.domain.chat.chatting.repository.ChattingStore;
+import inu.codin.codin.domain.chat.chatting.service.RecentChattingCache;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisRecentChattingService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecentChattingCacheTest {
+
+    private RecentChattingCache recentChattingCache;
+
+    @Mock private ChattingStore chattingStore;
+    @Mock private RedisRecentChattingService redisRecentChattingService;
+    @Mock private RedisHealthChecker redisHealthChecker;
+    @Mock private ChatRoom chatRoom;
+
+    private final ObjectId chatRoomId = new ObjectId();
+    private final ObjectId senderId = new ObjectId();
+    private final LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        recentChattingCache = new RecentChattingCache(chattingStore, redisRecentChattingService, redisHealthChecker, objectMapper);
+        given(chatRoom.get_id()).willReturn(chatRoomId);
+    }
+
+    @Test
+    void findRecent_Buffer적중_DB조회없음() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+        given(chattingStore.findPage(chatRoomId, null, 0, RecentChattingCache.CAPACITY)).willReturn(newestFirst(1, 3));
+        given(chatRoom.getLastSeq()).willReturn(4L);
+        recentChattingCache.findRecent(chatRoom, null, 20);
+
+        // When
+        recentChattingCache.append(chatting(4));
+        List<Chatting> result = recentChattingCache.findRecent(chatRoom, null, 20);
+
+        // Then
+        assertThat(result).extracting(Chatting::getSeq).containsExactly(4L, 3L, 2L, 1L);
+        verify(chattingStore, times(1)).findPage(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void findRecent_Buffer에빠진채팅_DB에서다시조회() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+        given(chattingStore.findPage(chatRoomId, null, 0, RecentChattingCache.CAPACITY))
+                .willReturn(newestFirst(1, 2), newestFirst(1, 4));
+        given(chatRoom.getLastSeq()).willReturn(4L);
+        recentChattingCache.findRecent(chatRoom, null, 20);
+
+        // When : 3번 채팅이 다른 서버에서 전송되어 현재 서버의 Buffer에 없음
+        recentChattingCache.append(chatting(4));
+        List<Chatting> result = recentChattingCache.findRecent(chatRoom, null, 20);
+
+        // Then
+        assertThat(result).extracting(Chatting::getSeq).containsExactly(4L, 3L, 2L, 1L);
+        verify(chattingStore, times(2)).findPage(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void findRecent_Redis적중_JSON왕복및나간이후채팅만반환() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(chattingStore.findPage(chatRoomId, null, 0, RecentChattingCache.CAPACITY)).willReturn(newestFirst(1, 5));
+        given(chatRoom.getLastSeq()).willReturn(5L);
+        List<String> stored = new ArrayList<>();
+        willAnswer(invocation -> {
+            stored.add(String.valueOf((long) invocation.getArgument(1)));
+            List<String> values = invocation.getArgument(2);
+            return stored.addAll(values);
+        }).given(redisRecentChattingService).seed(eq(chatRoomId), eq(5L), anyList());
+        recentChattingCache.findRecent(chatRoom, null, 20);
+
+        RecentChattingCache otherNode = new RecentChattingCache(chattingStore, redisRecentChattingService, redisHealthChecker,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        given(redisRecentChattingService.range(chatRoomId)).willReturn(stored);
+
+        // When : 3번 채팅 시각에 나간 유저
+        List<Chatting> result = otherNode.findRecent(chatRoom, base.plusMinutes(3), 20);
+
+        // Then
+        assertThat(result).extracting(Chatting::getSeq).containsExactly(5L, 4L);
+        assertThat(result.get(0).getSenderId()).isEqualTo(senderId);
+        assertThat(result.get(0).getChatRoomId()).isEqualTo(chatRoomId);
+        verify(chattingStore, times(1)).findPage(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void findRecent_채팅번호없는이전채팅방_DB다시조회안함() {
+        // Given : 채팅 번호 도입 전 채팅만 있고, 채팅방 번호는 읽음 수로 7까지 채워진 채팅방
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+        given(chattingStore.findPage(chatRoomId, null, 0, RecentChattingCache.CAPACITY)).willReturn(List.of(chatting(0), chatting(0)));
+        given(chatRoom.getLastSeq()).willReturn(7L, 7L, 8L);
+        recentChattingCache.findRecent(chatRoom, null, 20);
+
+        // When
+        recentChattingCache.findRecent(chatRoom, null, 20);
+        recentChattingCache.append(chatting(8));
+        List<Chatting> result = recentChattingCache.findRecent(chatRoom, null, 20);
+
+        // Then
+        assertThat(result).extracting(Chatting::getSeq).containsExactly(8L, 0L, 0L);
+        verify(chattingStore, times(1)).findPage(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void findRecent_채팅번호없는이전채팅방_이후채팅빠짐_DB에서다시조회() {
+        // Given
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+        given(chattingStore.findPage(chatRoomId, null, 0, RecentChattingCache.CAPACITY))
+                .willReturn(List.of(chatting(0)), List.of(chatting(9), chatting(8), chatting(0)));
+        given(chatRoom.getLastSeq()).willReturn(7L, 9L);
+        recentChattingCache.findRecent(chatRoom, null, 20);
+
+        // When : 8번 채팅이 다른 서버에서 전송되어 현재 서버의 Buffer에 없음
+        recentChattingCache.append(chatting(9));
+        List<Chatting> result = recentChattingCache.findRecent(chatRoom, null, 20);
+
+        // Then
+        assertThat(result).extracting(Chatting::getSeq).containsExactly(9L, 8L, 0L);
+        verify(chattingStore, times(2)).findPage(any(), any(), anyInt(), anyInt());
+    }
+
+    private List<Chatting> newestFirst(int fromSeq, int toSeq) {
+        List<Chatting> chattings = new ArrayList<>();
+        for (int seq = toSeq; seq >= fromSeq; seq--) chattings.add(chatting(seq));
+        return chattings;
+    }
+
+    private Chatting chatting(long seq) {
+        return Chatting.restore(new ObjectId(), chatRoomId, senderId, "채팅 " + seq, ContentType.TEXT, seq, base.plusMinutes(seq));
+    }
+}
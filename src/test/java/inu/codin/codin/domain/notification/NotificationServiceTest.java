@@ -0,0 +1,141 @@
+package inu.codin.codin.domain.notification;
+
+import inu.codin.codin.domain.notification.entity.NotificationEntity;
+import inu.codin.codin.domain.notification.repository.NotificationRepository;
+import inu.codin.codin.domain.notification.service.NotificationService;
+import inu.codin.codin.domain.user.entity.UserEntity;
+import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.infra.fcm.dto.FcmMessageUserDto;
+import inu.codin.codin.infra.fcm.exception.FcmTokenNotFoundException;
+import inu.codin.codin.infra.fcm.service.FcmService;
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.service.RedisNotificationBufferService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Mock private NotificationRepository notificationRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private FcmService fcmService;
+    @Mock private RedisNotificationBufferService redisNotificationBufferService;
+    @Mock private RedisHealthChecker redisHealthChecker;
+
+    @Test
+    void sendNotificationMessageByChat_Redis사용가능_Buffer에추가() {
+        // Given
+        ObjectId userId = new ObjectId();
+        ObjectId chatRoomId = new ObjectId();
+        given(userRepository.findById(userId)).willReturn(Optional.of(mock(UserEntity.class)));
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+
+        // When
+        notificationService.sendNotificationMessageByChat(userId, chatRoomId);
+
+        // Then
+        verify(redisNotificationBufferService).add(eq("CHAT:" + userId + ":" + chatRoomId), anyLong(), anyMap(), isNull());
+        verify(fcmService, never()).sendFcmMessage(any());
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @Test
+    void sendNotificationMessageByChat_Redis장애_바로전송() {
+        // Given
+        ObjectId userId = new ObjectId();
+        given(userRepository.findById(userId)).willReturn(Optional.of(mock(UserEntity.class)));
+        given(redisHealthChecker.isRedisAvailable()).willReturn(false);
+
+        // When
+        notificationService.sendNotificationMessageByChat(userId, new ObjectId());
+
+        // Then
+        verify(fcmService).sendFcmMessage(any());
+        verify(notificationRepository).save(any(NotificationEntity.class));
+        verify(redisNotificationBufferService, never()).add(anyString(), anyLong(), anyMap(), any());
+    }
+
+    @Test
+    void flushCoalescedNotifications_묶음당알림1회() {
+        // Given
+        ObjectId userId = new ObjectId();
+        ObjectId postId = new ObjectId();
+        given(redisNotificationBufferService.popDue(100)).willReturn(Map.of(
+                "LIKE:" + userId + ":" + postId, Map.of(
+                        "count", "12",
+                        "dataId", postId.toString(),
+                        "title", "좋아요가 달렸습니다",
+                        "content", "내 게시글 보러 가기")));
+
+        // When
+        int flushed = notificationService.flushCoalescedNotifications(100);
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        ArgumentCaptor<FcmMessageUserDto> captor = ArgumentCaptor.forClass(FcmMessageUserDto.class);
+        verify(fcmService, times(1)).sendFcmMessage(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(userId);
+        assertThat(captor.getValue().getTitle()).isEqualTo("12명이 좋아요를 눌렀습니다");
+        assertThat(captor.getValue().getData()).containsEntry("id", postId.toString());
+        verify(notificationRepository, times(1)).save(any(NotificationEntity.class));
+    }
+
+    @Test
+    void flushCoalescedNotifications_전송실패_Buffer에되돌림() {
+        // Given
+        ObjectId userId = new ObjectId();
+        ObjectId postId = new ObjectId();
+        String bufferKey = "COMMENT:" + userId + ":" + postId;
+        Map<String, String> fields = Map.of(
+                "count", "3",
+                "dataId", postId.toString(),
+                "title", "게시글",
+                "content", "댓글 내용");
+        given(redisNotificationBufferService.popDue(100)).willReturn(Map.of(bufferKey, fields));
+        willThrow(new CompletionException(new RuntimeException("FCM 응답 없음"))).given(fcmService).sendFcmMessage(any());
+        given(redisNotificationBufferService.restore(bufferKey, fields)).willReturn(true);
+
+        // When
+        int flushed = notificationService.flushCoalescedNotifications(100);
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        verify(redisNotificationBufferService).restore(bufferKey, fields);
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @Test
+    void flushCoalescedNotifications_FCM토큰없음_되돌리지않음() {
+        // Given
+        ObjectId userId = new ObjectId();
+        ObjectId chatRoomId = new ObjectId();
+        given(redisNotificationBufferService.popDue(100)).willReturn(Map.of(
+                "CHAT:" + userId + ":" + chatRoomId, Map.of(
+                        "count", "2",
+                        "dataId", chatRoomId.toString(),
+                        "title", "익명 채팅방",
+                        "content", "새로운 채팅이 있습니다.")));
+        willThrow(new FcmTokenNotFoundException("유저에게 FCM 토큰이 존재하지 않습니다.")).given(fcmService).sendFcmMessage(any());
+
+        // When
+        notificationService.flushCoalescedNotifications(100);
+
+        // Then
+        verify(redisNotificationBufferService, never()).restore(anyString(), anyMap());
+        verify(notificationRepository).save(any(NotificationEntity.class));
+    }
+}
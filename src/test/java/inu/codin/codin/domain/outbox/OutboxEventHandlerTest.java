@@ -0,0 +1,59 @@
+package inu.codin.codin.domain.outbox;
+
+import inu.codin.codin.domain.notification.service.NotificationService;
+import inu.codin.codin.domain.outbox.entity.OutboxEntity;
+import inu.codin.codin.domain.outbox.entity.OutboxEventType;
+import inu.codin.codin.domain.outbox.repository.CustomOutboxRepository;
+import inu.codin.codin.domain.outbox.service.OutboxEventHandler;
+import inu.codin.codin.domain.post.service.PostCommandService;
+import inu.codin.codin.infra.redis.service.RedisBestService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventHandlerTest {
+
+    @InjectMocks
+    private OutboxEventHandler outboxEventHandler;
+
+    @Mock private RedisBestService redisBestService;
+    @Mock private PostCommandService postCommandService;
+    @Mock private NotificationService notificationService;
+    @Mock private CustomOutboxRepository customOutboxRepository;
+
+    @Test
+    void handle_댓글수작업_처음반영_증가() {
+        // Given
+        ObjectId postId = new ObjectId();
+        OutboxEntity event = OutboxEntity.of(OutboxEventType.COMMENT_COUNT, new ObjectId(), Map.of("postId", postId.toString()));
+        given(customOutboxRepository.markApplied(event)).willReturn(true);
+
+        // When
+        outboxEventHandler.handle(event);
+
+        // Then
+        verify(postCommandService).increaseCommentCount(postId);
+    }
+
+    @Test
+    void handle_댓글수작업_이미반영_증가안함() {
+        // Given
+        OutboxEntity event = OutboxEntity.of(OutboxEventType.COMMENT_COUNT, new ObjectId(), Map.of("postId", new ObjectId().toString()));
+        given(customOutboxRepository.markApplied(event)).willReturn(false);
+
+        // When
+        outboxEventHandler.handle(event);
+
+        // Then
+        verify(postCommandService, never()).increaseCommentCount(any());
+    }
+}
@@ -0,0 +1,102 @@
+package inu.codin.codin.domain.outbox;
+
+import inu.codin.codin.domain.outbox.entity.OutboxEntity;
+import inu.codin.codin.domain.outbox.entity.OutboxEventType;
+import inu.codin.codin.domain.outbox.repository.CustomOutboxRepository;
+import inu.codin.codin.domain.outbox.service.OutboxService;
+import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
+import inu.codin.codin.domain.post.domain.comment.reply.entity.ReplyCommentEntity;
+import inu.codin.codin.domain.post.entity.PostCategory;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @InjectMocks
+    private OutboxService outboxService;
+
+    @Mock private CustomOutboxRepository customOutboxRepository;
+
+    @Captor private ArgumentCaptor<List<OutboxEntity>> eventsCaptor;
+
+    @Test
+    void publishCommentCreated_다른사용자게시물_알림포함() throws Exception {
+        // Given
+        ObjectId postOwner = new ObjectId();
+        ObjectId writerId = new ObjectId();
+        ObjectId commentId = new ObjectId();
+        PostEntity post = createPostEntity(postOwner);
+
+        // When
+        outboxService.publishCommentCreated(commentId, OutboxEventType.COMMENT_NOTIFICATION, post, writerId, "댓글 내용");
+
+        // Then
+        verify(customOutboxRepository).insertAll(eventsCaptor.capture());
+        List<OutboxEntity> events = eventsCaptor.getValue();
+        assertThat(events).extracting(OutboxEntity::getEventType)
+                .containsExactly(OutboxEventType.BEST_SCORE, OutboxEventType.COMMENT_COUNT, OutboxEventType.COMMENT_NOTIFICATION);
+        assertThat(events).extracting(OutboxEntity::getIdempotencyKey)
+                .allMatch(key -> key.startsWith(commentId.toString()))
+                .doesNotHaveDuplicates();
+        assertThat(events.get(2).getPayload())
+                .containsEntry("receiverId", postOwner.toString())
+                .containsEntry("postId", post.get_id().toString())
+                .containsEntry("content", "댓글 내용");
+        verify(customOutboxRepository).clearSourcePending(CommentEntity.class, commentId);
+    }
+
+    @Test
+    void publishCommentCreated_본인게시물_알림미포함() throws Exception {
+        // Given
+        ObjectId writerId = new ObjectId();
+        PostEntity post = createPostEntity(writerId);
+
+        ObjectId replyId = new ObjectId();
+
+        // When
+        outboxService.publishCommentCreated(replyId, OutboxEventType.REPLY_NOTIFICATION, post, writerId, "대댓글 내용");
+
+        // Then
+        verify(customOutboxRepository).insertAll(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).extracting(OutboxEntity::getEventType)
+                .containsExactly(OutboxEventType.BEST_SCORE, OutboxEventType.COMMENT_COUNT);
+        verify(customOutboxRepository).clearSourcePending(ReplyCommentEntity.class, replyId);
+    }
+
+    @Test
+    void publishPostLiked_같은유저_같은멱등키() {
+        // Given
+        ObjectId postId = new ObjectId();
+        String sourceId = postId + ":" + new ObjectId();
+
+        // When
+        outboxService.publishPostLiked(sourceId, postId);
+        outboxService.publishPostLiked(sourceId, postId);
+
+        // Then
+        verify(customOutboxRepository, times(2)).insertAll(eventsCaptor.capture());
+        assertThat(eventsCaptor.getAllValues().get(0).get(0).getIdempotencyKey())
+                .isEqualTo(eventsCaptor.getAllValues().get(1).get(0).getIdempotencyKey());
+    }
+
+    private PostEntity createPostEntity(ObjectId userId) throws Exception {
+        PostEntity post = PostEntity.builder()
+                .userId(userId)
+                .postCategory(PostCategory.COMMUNICATION)
+                .build();
+        java.lang.reflect.Field idField = PostEntity.class.getDeclaredField("_id");
+        idField.setAccessible(true);
+        idField.set(post, new ObjectId());
+        return post;
+    }
+}
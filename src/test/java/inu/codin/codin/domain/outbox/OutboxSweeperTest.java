@@ -0,0 +1,82 @@
+package inu.codin.codin.domain.outbox;
+
+import inu.codin.codin.domain.outbox.entity.OutboxEventType;
+import inu.codin.codin.domain.outbox.repository.CustomOutboxRepository;
+import inu.codin.codin.domain.outbox.service.OutboxService;
+import inu.codin.codin.domain.outbox.service.OutboxSweeper;
+import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
+import inu.codin.codin.domain.post.domain.comment.reply.entity.ReplyCommentEntity;
+import inu.codin.codin.domain.post.domain.comment.repository.CommentRepository;
+import inu.codin.codin.domain.post.entity.PostCategory;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.repository.PostRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxSweeperTest {
+
+    @InjectMocks
+    private OutboxSweeper outboxSweeper;
+
+    @Mock private CustomOutboxRepository customOutboxRepository;
+    @Mock private OutboxService outboxService;
+    @Mock private CommentRepository commentRepository;
+    @Mock private PostRepository postRepository;
+
+    @Test
+    void sweep_기록전댓글과대댓글_다시기록() throws Exception {
+        // Given
+        PostEntity post = withId(PostEntity.builder().userId(new ObjectId()).postCategory(PostCategory.COMMUNICATION).build(), PostEntity.class);
+        ObjectId writerId = new ObjectId();
+        CommentEntity comment = withId(CommentEntity.builder().postId(post.get_id()).userId(writerId).content("댓글").build(), CommentEntity.class);
+        ReplyCommentEntity reply = withId(ReplyCommentEntity.builder().commentId(comment.get_id()).userId(writerId).content("대댓글").build(), ReplyCommentEntity.class);
+
+        given(customOutboxRepository.findPendingSources(eq(CommentEntity.class), any(), anyInt())).willReturn(List.of(comment));
+        given(customOutboxRepository.findPendingSources(eq(ReplyCommentEntity.class), any(), anyInt())).willReturn(List.of(reply));
+        given(commentRepository.findById(comment.get_id())).willReturn(Optional.of(comment));
+        given(postRepository.findById(post.get_id())).willReturn(Optional.of(post));
+
+        // When
+        outboxSweeper.sweep();
+
+        // Then
+        verify(outboxService).publishCommentCreated(comment.get_id(), OutboxEventType.COMMENT_NOTIFICATION, post, writerId, "댓글");
+        verify(outboxService).publishCommentCreated(reply.get_id(), OutboxEventType.REPLY_NOTIFICATION, post, writerId, "대댓글");
+    }
+
+    @Test
+    void sweep_게시글없음_표시만제거() throws Exception {
+        // Given
+        ObjectId postId = new ObjectId();
+        CommentEntity comment = withId(CommentEntity.builder().postId(postId).userId(new ObjectId()).content("댓글").build(), CommentEntity.class);
+
+        given(customOutboxRepository.findPendingSources(eq(CommentEntity.class), any(), anyInt())).willReturn(List.of(comment));
+        given(customOutboxRepository.findPendingSources(eq(ReplyCommentEntity.class), any(), anyInt())).willReturn(List.of());
+        given(postRepository.findById(postId)).willReturn(Optional.empty());
+
+        // When
+        outboxSweeper.sweep();
+
+        // Then
+        verify(customOutboxRepository).clearSourcePending(CommentEntity.class, comment.get_id());
+        verifyNoInteractions(outboxService);
+    }
+
+    private static <T> T withId(T entity, Class<T> type) throws Exception {
+        java.lang.reflect.Field idField = type.getDeclaredField("_id");
+        idField.setAccessible(true);
+        idField.set(entity, new ObjectId());
+        return entity;
+    }
+}
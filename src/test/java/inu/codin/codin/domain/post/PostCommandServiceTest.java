@@ -8,6 +8,7 @@ import inu.codin.codin.domain.post.entity.PostAnonymous;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.post.repository.CustomPostRepository;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.domain.post.security.OwnershipPolicy;
 import inu.codin.codin.domain.post.service.PostCommandService;
@@ -34,6 +35,7 @@ class PostCommandServiceTest {
     private PostCommandService postCommandService;
     
     @Mock private PostRepository postRepository;
+    @Mock private CustomPostRepository customPostRepository;
     @Mock private PostInteractionService postInteractionService;
     @Mock private OwnershipPolicy ownershipPolicy;
 
@@ -174,31 +176,64 @@ class PostCommandServiceTest {
     }
     
     @Test
-    void handleCommentCreation_정상처리_성공() throws Exception {
+    void handleCommentCreation_익명번호할당_익명정보만저장() throws Exception {
         // Given
         PostEntity post = createPostEntityWithAnonymous();
+        setIdField(post, new ObjectId());
         ObjectId userId = new ObjectId();
+        given(customPostRepository.assignAnonNumber(post.get_id(), userId, 1)).willReturn(true);
         
-        given(postRepository.save(any())).willReturn(post);
+        // When
+        postCommandService.handleCommentCreation(post, userId);
+        
+        // Then
+        verify(customPostRepository).assignAnonNumber(post.get_id(), userId, 1);
+        verify(postRepository, never()).save(any());
+    }
+    
+    @Test
+    void handleCommentCreation_다른요청이번호선점_다시읽고다음번호할당() throws Exception {
+        // Given
+        PostEntity post = createPostEntityWithAnonymous();
+        setIdField(post, new ObjectId());
+        ObjectId userId = new ObjectId();
+        PostAnonymous latest = new PostAnonymous();
+        latest.setAnonNumber(new ObjectId()); // 다른 유저가 1번을 먼저 할당받음
+        given(customPostRepository.assignAnonNumber(post.get_id(), userId, 1)).willReturn(false);
+        given(customPostRepository.findAnonymous(post.get_id())).willReturn(latest);
+        given(customPostRepository.assignAnonNumber(post.get_id(), userId, 2)).willReturn(true);
         
         // When
         postCommandService.handleCommentCreation(post, userId);
         
         // Then
-        verify(postRepository).save(post);
+        verify(customPostRepository).assignAnonNumber(post.get_id(), userId, 2);
     }
     
     @Test
-    void increaseCommentCount_댓글수증가_성공() throws Exception {
+    void handleCommentCreation_익명아님_저장안함() throws Exception {
         // Given
         PostEntity post = createPostEntity();
-        int initialCount = post.getCommentCount();
+        ObjectId userId = new ObjectId();
         
         // When
-        postCommandService.increaseCommentCount(post);
+        postCommandService.handleCommentCreation(post, userId);
         
         // Then
-        assertThat(post.getCommentCount()).isEqualTo(initialCount + 1);
+        verify(customPostRepository, never()).assignAnonNumber(any(), any(), anyInt());
+        verify(postRepository, never()).save(any());
+    }
+    
+    @Test
+    void increaseCommentCount_댓글수증가_성공() throws Exception {
+        // Given
+        ObjectId postId = new ObjectId();
+        
+        // When
+        postCommandService.increaseCommentCount(postId);
+        
+        // Then
+        verify(customPostRepository).incrementCommentCount(postId, 1);
     }
     
     @Test
@@ -207,14 +242,13 @@ class PostCommandServiceTest {
         PostEntity post = createPostEntityWithComments();
         int initialCount = post.getCommentCount();
         
-        given(postRepository.save(any())).willReturn(post);
-        
         // When
         postCommandService.decreaseCommentCount(post);
         
         // Then
         assertThat(post.getCommentCount()).isEqualTo(initialCount - 1);
-        verify(postRepository).save(post);
+        verify(customPostRepository).incrementCommentCount(post.get_id(), -1);
+        verify(postRepository, never()).save(any());
     }
     
     @Test
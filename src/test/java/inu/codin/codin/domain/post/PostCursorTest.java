@@ -0,0 +1,70 @@
+package inu.codin.codin.domain.post;
+
+import inu.codin.codin.domain.post.dto.PostCursor;
+import inu.codin.codin.domain.post.entity.PostCategory;
+import inu.codin.codin.domain.post.entity.PostEntity;
+import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.domain.post.exception.PostErrorCode;
+import inu.codin.codin.domain.post.exception.PostException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PostCursorTest {
+
+    @Test
+    void encode_decode_createdAt과_id복원() {
+        // Given
+        ObjectId postId = new ObjectId();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 2, 13, 5, 7, 123_000_000);
+        PostEntity post = createPostEntity(postId, createdAt);
+
+        // When
+        String token = PostCursor.from(post).encode();
+        PostCursor decoded = PostCursor.decode(token);
+
+        // Then
+        assertThat(decoded.getId()).isEqualTo(postId);
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void decode_빈커서_첫페이지() {
+        assertThat(PostCursor.decode(null)).isNull();
+        assertThat(PostCursor.decode("")).isNull();
+    }
+
+    @Test
+    void decode_잘못된커서_예외발생() {
+        assertThatThrownBy(() -> PostCursor.decode("not-a-cursor"))
+                .isInstanceOf(PostException.class)
+                .extracting("errorCode")
+                .isEqualTo(PostErrorCode.INVALID_CURSOR);
+    }
+
+    private PostEntity createPostEntity(ObjectId id, LocalDateTime createdAt) {
+        PostEntity post = PostEntity.builder()
+                .userId(new ObjectId())
+                .postCategory(PostCategory.COMMUNICATION)
+                .title("Test Post")
+                .content("Test Content")
+                .postStatus(PostStatus.ACTIVE)
+                .build();
+        setFieldSafely(post, PostEntity.class, "_id", id);
+        setFieldSafely(post, post.getClass().getSuperclass(), "createdAt", createdAt);
+        return post;
+    }
+
+    private void setFieldSafely(Object entity, Class<?> owner, String name, Object value) {
+        try {
+            java.lang.reflect.Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(entity, value);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set field " + name, e);
+        }
+    }
+}
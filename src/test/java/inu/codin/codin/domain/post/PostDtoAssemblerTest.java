@@ -23,7 +23,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -155,20 +157,22 @@ class PostDtoAssemblerTest {
     @Test
     void toPageItemList_여러게시물_정상변환() {
         // Given
+        ObjectId currentUserId = new ObjectId();
         PostEntity post1 = createNormalPostEntity();
         PostEntity post2 = createPollPostEntity();
         List<PostEntity> posts = Arrays.asList(post1, post2);
-        UserEntity user = createUserEntity();
+        UserEntity user1 = createUserEntity(post1.getUserId());
+        UserEntity user2 = createUserEntity(post2.getUserId());
 
-        given(SecurityUtils.getCurrentUserId()).willReturn(new ObjectId());
-        given(userRepository.findById(any())).willReturn(Optional.of(user));
+        given(SecurityUtils.getCurrentUserIdOrNull()).willReturn(currentUserId);
+        given(userRepository.findAllById(anyIterable())).willReturn(List.of(user1, user2));
         given(s3Service.getDefaultProfileImageUrl()).willReturn("default.jpg");
-        given(likeService.getLikeCount(any(), any())).willReturn(0);
-        given(scrapService.getScrapCount(any())).willReturn(0);
-        given(hitsService.getHitsCount(any())).willReturn(0);
-        given(likeService.isLiked(any(), any(), (ObjectId) any())).willReturn(false);
-        given(scrapService.isPostScraped(any(), any())).willReturn(false);
-        given(pollQueryService.getPollInfo(eq(post2), any())).willReturn(mock(PollInfoResponseDTO.class));
+        given(likeService.getLikeCounts(eq(LikeType.POST), anyList())).willReturn(Map.of(post1.get_id().toString(), 7));
+        given(scrapService.getScrapCounts(anyList())).willReturn(Map.of(post2.get_id(), 2));
+        given(hitsService.getHitsCounts(anyList())).willReturn(Map.of(post1.get_id(), 30, post2.get_id(), 40));
+        given(likeService.getLikedIds(eq(LikeType.POST), anyList(), eq(currentUserId))).willReturn(Set.of(post1.get_id().toString()));
+        given(scrapService.getScrapedPostIds(anyList(), eq(currentUserId))).willReturn(Set.of(post2.get_id()));
+        given(pollQueryService.getPollInfos(List.of(post2), currentUserId)).willReturn(Map.of(post2.get_id(), mock(PollInfoResponseDTO.class)));
 
         // When
         List<PostPageItemResponseDTO> results = postDtoAssembler.toPageItemList(posts);
@@ -179,6 +183,50 @@ class PostDtoAssemblerTest {
         assertThat(results.get(1)).isNotNull();
         assertThat(results.get(0).getPoll()).isNull(); // 일반 게시물
         assertThat(results.get(1).getPoll()).isNotNull(); // 투표 게시물
+        assertThat(results.get(0).getPost().getLikeCount()).isEqualTo(7);
+        assertThat(results.get(0).getPost().getHits()).isEqualTo(30);
+        assertThat(results.get(0).getPost().getUserInfo().getLike()).isTrue();
+        assertThat(results.get(1).getPost().getScrapCount()).isEqualTo(2);
+        assertThat(results.get(1).getPost().getUserInfo().getScrap()).isTrue();
+    }
+
+    @Test
+    void toPageItemList_게시물단위조회없이_일괄조회() {
+        // Given
+        PostEntity post1 = createNormalPostEntity();
+        PostEntity post2 = createNormalPostEntity();
+        List<PostEntity> posts = Arrays.asList(post1, post2);
+
+        given(SecurityUtils.getCurrentUserIdOrNull()).willReturn(null);
+        given(userRepository.findAllById(anyIterable()))
+                .willReturn(List.of(createUserEntity(post1.getUserId()), createUserEntity(post2.getUserId())));
+        given(likeService.getLikeCounts(eq(LikeType.POST), anyList())).willReturn(Map.of());
+        given(scrapService.getScrapCounts(anyList())).willReturn(Map.of());
+        given(hitsService.getHitsCounts(anyList())).willReturn(Map.of());
+        given(pollQueryService.getPollInfos(List.of(), null)).willReturn(Map.of());
+
+        // When
+        List<PostPageItemResponseDTO> results = postDtoAssembler.toPageItemList(posts);
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getPost().getUserInfo().getLike()).isFalse(); // 비로그인
+        verify(userRepository, never()).findById(any());
+        verify(likeService, never()).getLikeCount(any(), any());
+        verify(likeService, never()).getLikedIds(any(), any(), any());
+        verify(scrapService, never()).getScrapedPostIds(any(), any());
+        verify(hitsService, never()).getHitsCount(any());
+        verify(pollQueryService, never()).getPollInfo(any(), any());
+    }
+
+    @Test
+    void toPageItemList_빈리스트_조회없음() {
+        // When
+        List<PostPageItemResponseDTO> results = postDtoAssembler.toPageItemList(List.of());
+
+        // Then
+        assertThat(results).isEmpty();
+        verifyNoInteractions(userRepository, likeService, scrapService, hitsService, pollQueryService);
     }
 
     // Helper methods
@@ -227,6 +275,12 @@ class PostDtoAssemblerTest {
                 .build();
     }
 
+    private UserEntity createUserEntity(ObjectId userId) {
+        UserEntity user = createUserEntity();
+        setIdFieldSafely(user, userId);
+        return user;
+    }
+
     private void setIdFieldSafely(Object entity, ObjectId id) {
         try {
             java.lang.reflect.Field idField = entity.getClass().getDeclaredField("_id");
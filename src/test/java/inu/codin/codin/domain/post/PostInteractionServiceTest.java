@@ -6,6 +6,7 @@ import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.exception.PostException;
 import inu.codin.codin.domain.post.repository.PostRepository;
 import inu.codin.codin.domain.post.service.PostInteractionService;
+import inu.codin.codin.infra.s3.S3PresignedUploadService;
 import inu.codin.codin.infra.s3.S3Service;
 import inu.codin.codin.infra.s3.exception.ImageRemoveException;
 import org.bson.types.ObjectId;
@@ -28,6 +29,7 @@ class PostInteractionServiceTest {
     private PostInteractionService postInteractionService;
     
     @Mock private S3Service s3Service;
+    @Mock private S3PresignedUploadService s3PresignedUploadService;
     @Mock private PostRepository postRepository;
     @Mock private HitsService hitsService;
     
@@ -118,57 +120,30 @@ class PostInteractionServiceTest {
     }
     
     @Test
-    void increaseHits_조회수증가_성공() {
+    void increaseHits_조회수증가_HitsService위임() {
         // Given
         PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
         
-        given(hitsService.validateHits(post.get_id(), userId)).willReturn(false);
         doNothing().when(hitsService).addHits(post.get_id(), userId);
         
         // When
         postInteractionService.increaseHits(post, userId);
         
         // Then
-        verify(hitsService).validateHits(post.get_id(), userId);
         verify(hitsService).addHits(post.get_id(), userId);
     }
     
     @Test
-    void increaseHits_이미조회함_조회수증가안함() {
+    void increaseHits_비로그인_조회수증가() {
         // Given
         PostEntity post = createPostEntity();
-        ObjectId userId = new ObjectId();
-        
-        given(hitsService.validateHits(post.get_id(), userId)).willReturn(true);
-        
-        // When
-        postInteractionService.increaseHits(post, userId);
-        
-        // Then
-        verify(hitsService).validateHits(post.get_id(), userId);
-        verify(hitsService, never()).addHits(any(), any());
-    }
-    
-    @Test
-    void increaseHits_동일사용자_중복조회방지() {
-        // Given
-        PostEntity post = createPostEntity();
-        ObjectId userId = new ObjectId();
-        
-        // 첫 번째 호출: 조회수 증가
-        given(hitsService.validateHits(post.get_id(), userId))
-            .willReturn(false)  // 첫 번째는 증가
-            .willReturn(true);  // 두 번째는 증가하지 않음
-        doNothing().when(hitsService).addHits(post.get_id(), userId);
         
         // When
-        postInteractionService.increaseHits(post, userId);  // 첫 번째 호출
-        postInteractionService.increaseHits(post, userId);  // 두 번째 호출
+        postInteractionService.increaseHits(post, null);
         
         // Then
-        verify(hitsService, times(2)).validateHits(post.get_id(), userId);
-        verify(hitsService, times(1)).addHits(post.get_id(), userId);  // 한 번만 호출
+        verify(hitsService).addHits(post.get_id(), null);
     }
     
     @Test
@@ -178,7 +153,6 @@ class PostInteractionServiceTest {
         ObjectId userId1 = new ObjectId();
         ObjectId userId2 = new ObjectId();
         
-        given(hitsService.validateHits(any(), any())).willReturn(false);
         doNothing().when(hitsService).addHits(any(), any());
         
         // When
@@ -186,8 +160,6 @@ class PostInteractionServiceTest {
         postInteractionService.increaseHits(post, userId2);
         
         // Then
-        verify(hitsService).validateHits(post.get_id(), userId1);
-        verify(hitsService).validateHits(post.get_id(), userId2);
         verify(hitsService).addHits(post.get_id(), userId1);
         verify(hitsService).addHits(post.get_id(), userId2);
     }
@@ -1,8 +1,8 @@
 package inu.codin.codin.domain.post.domain.comment;
 
 import inu.codin.codin.common.security.util.SecurityUtils;
-import inu.codin.codin.domain.notification.service.NotificationService;
-import inu.codin.codin.domain.post.domain.best.BestService;
+import inu.codin.codin.domain.outbox.entity.OutboxEventType;
+import inu.codin.codin.domain.outbox.service.OutboxService;
 import inu.codin.codin.domain.post.domain.comment.dto.request.CommentCreateRequestDTO;
 import inu.codin.codin.domain.post.domain.comment.dto.request.CommentUpdateRequestDTO;
 import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
@@ -31,11 +31,10 @@ class CommentCommandServiceTest {
     private CommentCommandService commentCommandService;
     
     @Mock private CommentRepository commentRepository;
-    @Mock private NotificationService notificationService;
+    @Mock private OutboxService outboxService;
     @Mock private PostCommandService postCommandService;
     @Mock private PostQueryService postQueryService;
     @Mock private CommentQueryService commentQueryService;
-    @Mock private BestService bestService;
 
     @Mock private OwnershipPolicy ownershipPolicy;
     
@@ -67,77 +66,39 @@ class CommentCommandServiceTest {
             return entity;
         });
         doNothing().when(postCommandService).handleCommentCreation(any(), any());
-        doNothing().when(bestService).applyBestScore(any());
-        doNothing().when(notificationService).sendNotificationMessageByComment(any(), any(), any(), any());
         
         // When & Then
         assertThatCode(() -> commentCommandService.addComment(postId, dto)).doesNotThrowAnyException();
         verify(commentRepository).save(any(CommentEntity.class));
         verify(postCommandService).handleCommentCreation(post, userId);
-        verify(bestService).applyBestScore(any());
     }
     
     @Test
-    void addComment_본인게시물_알림미발송() throws Exception {
-        // Given
-        String postId = new ObjectId().toString();
-        CommentCreateRequestDTO dto = createCommentCreateRequestDTO("댓글 내용", false);
-        ObjectId userId = new ObjectId();
-        PostEntity post = PostEntity.builder()
-                .userId(userId) // 댓글 작성자와 동일한 userId
-                .postCategory(PostCategory.COMMUNICATION)
-                .build();
-        setIdField(post, new ObjectId());
-        
-        given(postQueryService.findPostById(any())).willReturn(post);
-        given(SecurityUtils.getCurrentUserId()).willReturn(userId);
-        given(commentRepository.save(any())).willAnswer(inv -> {
-            CommentEntity entity = inv.getArgument(0);
-            setIdField(entity, new ObjectId());
-            return entity;
-        });
-        doNothing().when(postCommandService).handleCommentCreation(any(), any());
-        doNothing().when(bestService).applyBestScore(any());
-        
-        // When
-        commentCommandService.addComment(postId, dto);
-        
-        // Then
-        verify(notificationService, never()).sendNotificationMessageByComment(any(), any(), any(), any());
-    }
-    
-    @Test
-    void addComment_다른사용자게시물_알림발송() throws Exception {
+    void addComment_부가작업_Outbox기록() throws Exception {
         // Given
         String postId = new ObjectId().toString();
         CommentCreateRequestDTO dto = createCommentCreateRequestDTO("댓글 내용", false);
+        PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
-        ObjectId postOwner = new ObjectId(); // 다른 사용자
-        PostEntity post = PostEntity.builder()
-                .userId(postOwner)
-                .postCategory(PostCategory.COMMUNICATION)
-                .build();
-        setIdField(post, new ObjectId());
+        ObjectId commentId = new ObjectId();
         
         given(postQueryService.findPostById(any())).willReturn(post);
         given(SecurityUtils.getCurrentUserId()).willReturn(userId);
         given(commentRepository.save(any())).willAnswer(inv -> {
             CommentEntity entity = inv.getArgument(0);
-            setIdField(entity, new ObjectId());
+            setIdField(entity, commentId);
             return entity;
         });
-        doNothing().when(postCommandService).handleCommentCreation(any(), any());
-        doNothing().when(bestService).applyBestScore(any());
-        doNothing().when(notificationService).sendNotificationMessageByComment(any(), any(), any(), any());
         
         // When
         commentCommandService.addComment(postId, dto);
         
         // Then
-        verify(notificationService).sendNotificationMessageByComment(
-                eq(post.getPostCategory()),
-                eq(postOwner),
-                eq(post.get_id().toString()),
+        verify(outboxService).publishCommentCreated(
+                eq(commentId),
+                eq(OutboxEventType.COMMENT_NOTIFICATION),
+                eq(post),
+                eq(userId),
                 eq(dto.getContent())
         );
     }
@@ -1,8 +1,8 @@
 package inu.codin.codin.domain.post.domain.comment.reply;
 
 import inu.codin.codin.common.security.util.SecurityUtils;
-import inu.codin.codin.domain.notification.service.NotificationService;
-import inu.codin.codin.domain.post.domain.best.BestService;
+import inu.codin.codin.domain.outbox.entity.OutboxEventType;
+import inu.codin.codin.domain.outbox.service.OutboxService;
 import inu.codin.codin.domain.post.domain.comment.entity.CommentEntity;
 import inu.codin.codin.domain.post.domain.comment.service.CommentQueryService;
 import inu.codin.codin.domain.post.domain.comment.reply.dto.request.ReplyCreateRequestDTO;
@@ -35,8 +35,7 @@ class ReplyCommandServiceTest {
     @Mock private ReplyCommentRepository replyCommentRepository;
     @Mock private PostCommandService postCommandService;
     @Mock private PostQueryService postQueryService;
-    @Mock private NotificationService notificationService;
-    @Mock private BestService bestService;
+    @Mock private OutboxService outboxService;
     @Mock private CommentQueryService commentQueryService;
     @Mock private OwnershipPolicy ownershipPolicy;
     private static AutoCloseable securityUtilsMock;
@@ -59,7 +58,6 @@ class ReplyCommandServiceTest {
         CommentEntity comment = createCommentEntity();
         PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
-        ReplyCommentEntity reply = createReplyEntity();
         
         given(commentQueryService.findCommentById(any())).willReturn(comment);
         given(postQueryService.findPostById(comment.getPostId())).willReturn(post);
@@ -70,88 +68,41 @@ class ReplyCommandServiceTest {
             return entity;
         });
         doNothing().when(postCommandService).handleCommentCreation(any(), any());
-        doNothing().when(bestService).applyBestScore(any());
-        doNothing().when(notificationService).sendNotificationMessageByReply(any(), any(), any(), any());
         
         // When & Then
         assertThatCode(() -> replyCommandService.addReply(commentId, dto)).doesNotThrowAnyException();
         verify(replyCommentRepository).save(any(ReplyCommentEntity.class));
         verify(postCommandService).handleCommentCreation(post, userId);
-        verify(bestService).applyBestScore(post.get_id());
     }
     
     @Test
-    void addReply_본인게시물_알림미발송() throws Exception {
+    void addReply_부가작업_Outbox기록() throws Exception {
         // Given
         String commentId = new ObjectId().toString();
         ReplyCreateRequestDTO dto = createReplyCreateRequestDTO("대댓글 내용", false);
-        ObjectId userId = new ObjectId();
         CommentEntity comment = createCommentEntity();
-        PostEntity post = PostEntity.builder()
-                .userId(userId) // 대댓글 작성자와 동일한 userId
-                .postCategory(PostCategory.COMMUNICATION)
-                .build();
-        setIdField(post, new ObjectId());
-        
-        given(commentQueryService.findCommentById(any())).willReturn(comment);
-        given(postQueryService.findPostById(comment.getPostId())).willReturn(post);
-        given(SecurityUtils.getCurrentUserId()).willReturn(userId);
-        given(replyCommentRepository.save(any())).willAnswer(inv -> {
-            ReplyCommentEntity entity = inv.getArgument(0);
-            setIdField(entity, new ObjectId());
-            return entity;
-        });
-        doNothing().when(postCommandService).handleCommentCreation(any(), any());
-        doNothing().when(bestService).applyBestScore(any());
-        
-        // When
-        replyCommandService.addReply(commentId, dto);
-        
-        // Then
-        verify(notificationService, never()).sendNotificationMessageByReply(any(), any(), any(), any());
-    }
-    
-    @Test
-    void addReply_다른사용자게시물_알림발송() throws Exception {
-        // Given
-        String commentId = new ObjectId().toString();
-        ReplyCreateRequestDTO dto = createReplyCreateRequestDTO("대댓글 내용", false);
+        PostEntity post = createPostEntity();
         ObjectId userId = new ObjectId();
-        ObjectId postOwner = new ObjectId(); // 다른 사용자
-        ObjectId commentOwner = new ObjectId(); // 댓글 작성자
-        CommentEntity comment = CommentEntity.builder()
-                .postId(new ObjectId())
-                .userId(commentOwner)
-                .content("원댓글")
-                .anonymous(false)
-                .build();
-        setIdField(comment, new ObjectId());
-        PostEntity post = PostEntity.builder()
-                .userId(postOwner)
-                .postCategory(PostCategory.COMMUNICATION)
-                .build();
-        setIdField(post, new ObjectId());
+        ObjectId replyId = new ObjectId();
         
         given(commentQueryService.findCommentById(any())).willReturn(comment);
         given(postQueryService.findPostById(comment.getPostId())).willReturn(post);
         given(SecurityUtils.getCurrentUserId()).willReturn(userId);
         given(replyCommentRepository.save(any())).willAnswer(inv -> {
             ReplyCommentEntity entity = inv.getArgument(0);
-            setIdField(entity, new ObjectId());
+            setIdField(entity, replyId);
             return entity;
         });
-        doNothing().when(postCommandService).handleCommentCreation(any(), any());
-        doNothing().when(bestService).applyBestScore(any());
-        doNothing().when(notificationService).sendNotificationMessageByReply(any(), any(), any(), any());
         
         // When
         replyCommandService.addReply(commentId, dto);
         
         // Then
-        verify(notificationService).sendNotificationMessageByReply(
-                eq(post.getPostCategory()),
-                eq(commentOwner),
-                eq(post.get_id().toString()),
+        verify(outboxService).publishCommentCreated(
+                eq(replyId),
+                eq(OutboxEventType.REPLY_NOTIFICATION),
+                eq(post),
+                eq(userId),
                 eq(dto.getContent())
         );
     }
@@ -1,16 +1,21 @@
 package inu.codin.codin.domain.post.domain.hits;
 
-import inu.codin.codin.domain.post.domain.hits.entity.HitsEntity;
+import inu.codin.codin.domain.post.domain.hits.repository.CustomHitsRepository;
 import inu.codin.codin.domain.post.domain.hits.repository.HitsRepository;
 import inu.codin.codin.domain.post.domain.hits.service.HitsService;
 import inu.codin.codin.infra.redis.config.RedisHealthChecker;
 import inu.codin.codin.infra.redis.service.RedisHitsService;
+import inu.codin.codin.infra.redis.service.CacheRecoveryLoader;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -24,109 +29,121 @@ class HitsServiceTest {
     @Mock private RedisHitsService redisHitsService;
     @Mock private RedisHealthChecker redisHealthChecker;
     @Mock private HitsRepository hitsRepository;
+    @Mock private CustomHitsRepository customHitsRepository;
+    @Spy private CacheRecoveryLoader cacheRecoveryLoader = new CacheRecoveryLoader(Runnable::run);
     
     @Test
-    void addHits_Redis사용가능_Redis와DB모두저장() {
+    void addHits_처음조회_고유조회반영() {
         // Given
         ObjectId postId = new ObjectId();
         ObjectId userId = new ObjectId();
         
         given(redisHealthChecker.isRedisAvailable()).willReturn(true);
-        doNothing().when(redisHitsService).addHits(postId);
-        given(hitsRepository.save(any(HitsEntity.class))).willReturn(createHitsEntity());
+        given(redisHitsService.addUniqueHit(postId, userId.toString())).willReturn(1L);
         
         // When & Then
         assertThatCode(() -> hitsService.addHits(postId, userId)).doesNotThrowAnyException();
-        verify(redisHitsService).addHits(postId);
-        verify(hitsRepository).save(any(HitsEntity.class));
+        verify(redisHitsService).addUniqueHit(postId, userId.toString());
+        verify(redisHitsService, never()).recoveryHits(any(ObjectId.class), anyInt());
+        verify(hitsRepository, never()).save(any());
     }
     
     @Test
-    void addHits_Redis사용불가_DB만저장() {
+    void addHits_Redis사용불가_반영생략() {
         // Given
         ObjectId postId = new ObjectId();
         ObjectId userId = new ObjectId();
         
         given(redisHealthChecker.isRedisAvailable()).willReturn(false);
-        given(hitsRepository.save(any(HitsEntity.class))).willReturn(createHitsEntity());
         
         // When & Then
         assertThatCode(() -> hitsService.addHits(postId, userId)).doesNotThrowAnyException();
-        verify(redisHitsService, never()).addHits(any());
-        verify(hitsRepository).save(any(HitsEntity.class));
+        verify(redisHitsService, never()).addUniqueHit(any(), any());
+        verify(hitsRepository, never()).save(any());
     }
     
     @Test
-    void addHits_다른사용자_각각저장() {
+    void addHits_캐시미스_스냅샷복구후재반영() {
         // Given
         ObjectId postId = new ObjectId();
-        ObjectId userId1 = new ObjectId();
-        ObjectId userId2 = new ObjectId();
+        ObjectId userId = new ObjectId();
         
         given(redisHealthChecker.isRedisAvailable()).willReturn(true);
-        doNothing().when(redisHitsService).addHits(postId);
-        given(hitsRepository.save(any(HitsEntity.class))).willReturn(createHitsEntity());
+        given(redisHitsService.addUniqueHit(postId, userId.toString())).willReturn(-1L, 1L);
+        given(customHitsRepository.findSnapshotCounts(List.of(postId))).willReturn(Map.of(postId, 20));
         
         // When
-        hitsService.addHits(postId, userId1);
-        hitsService.addHits(postId, userId2);
+        hitsService.addHits(postId, userId);
         
         // Then
-        verify(redisHitsService, times(2)).addHits(postId);
-        verify(hitsRepository, times(2)).save(any(HitsEntity.class));
+        verify(redisHitsService).recoveryHits(postId, 20);
+        verify(redisHitsService, times(2)).addUniqueHit(postId, userId.toString());
+        verify(hitsRepository, never()).countAllByPostId(any());
     }
     
     @Test
-    void validateHits_이미조회함_true반환() {
+    void addHits_비로그인_반영생략() {
         // Given
         ObjectId postId = new ObjectId();
-        ObjectId userId = new ObjectId();
-        
-        given(hitsRepository.existsByPostIdAndUserId(postId, userId)).willReturn(true);
         
         // When
-        boolean result = hitsService.validateHits(postId, userId);
+        hitsService.addHits(postId, null);
         
         // Then
-        assertThat(result).isTrue();
-        verify(hitsRepository).existsByPostIdAndUserId(postId, userId);
+        verify(redisHitsService, never()).addUniqueHit(any(), any());
     }
     
     @Test
-    void validateHits_조회안함_false반환() {
+    void addHits_조회유저HLL없음_이전조회기록으로복구후재반영() {
         // Given
         ObjectId postId = new ObjectId();
         ObjectId userId = new ObjectId();
+        List<String> legacyViewers = List.of(userId.toString(), new ObjectId().toString());
         
-        given(hitsRepository.existsByPostIdAndUserId(postId, userId)).willReturn(false);
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisHitsService.addUniqueHit(postId, userId.toString())).willReturn(-2L, 0L);
+        given(customHitsRepository.findViewerIds(postId)).willReturn(legacyViewers);
         
         // When
-        boolean result = hitsService.validateHits(postId, userId);
+        hitsService.addHits(postId, userId);
         
         // Then
-        assertThat(result).isFalse();
-        verify(hitsRepository).existsByPostIdAndUserId(postId, userId);
+        verify(redisHitsService).seedViewers(postId, legacyViewers);
+        verify(redisHitsService, times(2)).addUniqueHit(postId, userId.toString());
     }
     
     @Test
-    void validateHits_다른사용자_각각검증() {
+    void flushHitsSnapshots_변경된게시글_스냅샷저장() {
         // Given
-        ObjectId postId = new ObjectId();
-        ObjectId userId1 = new ObjectId();
-        ObjectId userId2 = new ObjectId();
+        ObjectId postId1 = new ObjectId();
+        ObjectId postId2 = new ObjectId();
         
-        given(hitsRepository.existsByPostIdAndUserId(postId, userId1)).willReturn(true);
-        given(hitsRepository.existsByPostIdAndUserId(postId, userId2)).willReturn(false);
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisHitsService.popDirtyPosts(anyInt()))
+                .willReturn(List.of(postId1.toString(), postId2.toString()), List.of());
+        given(redisHitsService.getHitsCounts(List.of(postId1, postId2))).willReturn(Arrays.asList("3", null));
         
         // When
-        boolean result1 = hitsService.validateHits(postId, userId1);
-        boolean result2 = hitsService.validateHits(postId, userId2);
+        hitsService.flushHitsSnapshots();
         
         // Then
-        assertThat(result1).isTrue();
-        assertThat(result2).isFalse();
-        verify(hitsRepository).existsByPostIdAndUserId(postId, userId1);
-        verify(hitsRepository).existsByPostIdAndUserId(postId, userId2);
+        verify(customHitsRepository).upsertSnapshots(Map.of(postId1, 3));
+    }
+    
+    @Test
+    void flushHitsSnapshots_저장실패_스냅샷대상다시추가() {
+        // Given
+        ObjectId postId = new ObjectId();
+        List<String> dirtyIds = List.of(postId.toString());
+        
+        given(redisHealthChecker.isRedisAvailable()).willReturn(true);
+        given(redisHitsService.popDirtyPosts(anyInt())).willReturn(dirtyIds);
+        given(redisHitsService.getHitsCounts(List.of(postId))).willReturn(List.of("3"));
+        willThrow(new RuntimeException("MongoDB 연결 실패")).given(customHitsRepository).upsertSnapshots(any());
+        
+        // When & Then
+        assertThatThrownBy(() -> hitsService.flushHitsSnapshots()).isInstanceOf(RuntimeException.class);
+        verify(redisHitsService).markDirty(dirtyIds);
     }
     
     @Test
@@ -247,24 +264,4 @@ class HitsServiceTest {
         verify(redisHitsService).getHitsCount(postId2);
         verify(redisHitsService).getHitsCount(postId3);
     }
-    
-    // Helper methods
-    private HitsEntity createHitsEntity() {
-        HitsEntity hitsEntity = HitsEntity.builder()
-                .postId(new ObjectId())
-                .userId(new ObjectId())
-                .build();
-        setIdFieldSafely(hitsEntity, new ObjectId());
-        return hitsEntity;
-    }
-    
-    private void setIdFieldSafely(Object entity, ObjectId id) {
-        try {
-            java.lang.reflect.Field idField = entity.getClass().getDeclaredField("_id");
-            idField.setAccessible(true);
-            idField.set(entity, id);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to set ID field", e);
-        }
-    }
-}
\ No newline at end of file
+}
@@ -10,6 +10,7 @@ import inu.codin.codin.domain.post.dto.response.PollInfoResponseDTO;
 import inu.codin.codin.domain.post.entity.PostCategory;
 import inu.codin.codin.domain.post.entity.PostEntity;
 import inu.codin.codin.domain.post.entity.PostStatus;
+import inu.codin.codin.infra.redis.service.CacheRecoveryLoader;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +32,7 @@ class PollQueryServiceTest {
     
     @Mock private PollRepository pollRepository;
     @Mock private PollVoteRepository pollVoteRepository;
+    @Spy private CacheRecoveryLoader cacheRecoveryLoader = new CacheRecoveryLoader(Runnable::run);
     
     @Test
     void getPollInfo_정상조회_성공() {
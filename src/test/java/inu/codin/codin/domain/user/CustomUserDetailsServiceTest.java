@@ -0,0 +1,74 @@
+package inu.codin.codin.domain.user;
+
+import inu.codin.codin.domain.user.entity.UserEntity;
+import inu.codin.codin.domain.user.entity.UserRole;
+import inu.codin.codin.domain.user.entity.UserStatus;
+import inu.codin.codin.domain.user.exception.UserDisabledException;
+import inu.codin.codin.domain.user.repository.UserRepository;
+import inu.codin.codin.domain.user.security.CustomUserDetails;
+import inu.codin.codin.domain.user.security.CustomUserDetailsService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+class CustomUserDetailsServiceTest {
+
+    private static final String EMAIL = "user@inu.ac.kr";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CustomUserDetailsService customUserDetailsService = new CustomUserDetailsService(userRepository, 100, 60);
+
+    @Test
+    void loadAuthenticatedUser_반복조회_DB는한번만조회() {
+        // Given
+        given(userRepository.findByEmailAndStatusAll(EMAIL)).willReturn(Optional.of(user("닉네임", UserStatus.ACTIVE)));
+
+        // When
+        CustomUserDetails first = customUserDetailsService.loadAuthenticatedUser(EMAIL);
+        CustomUserDetails second = customUserDetailsService.loadAuthenticatedUser(EMAIL);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByEmailAndStatusAll(EMAIL);
+    }
+
+    @Test
+    void loadAuthenticatedUser_evict후_변경된유저정보조회() {
+        // Given
+        given(userRepository.findByEmailAndStatusAll(EMAIL))
+                .willReturn(Optional.of(user("이전닉네임", UserStatus.ACTIVE)))
+                .willReturn(Optional.of(user("새닉네임", UserStatus.ACTIVE)));
+        customUserDetailsService.loadAuthenticatedUser(EMAIL);
+
+        // When
+        customUserDetailsService.evict(EMAIL);
+        CustomUserDetails userDetails = customUserDetailsService.loadAuthenticatedUser(EMAIL);
+
+        // Then
+        assertThat(userDetails.getNickname()).isEqualTo("새닉네임");
+        verify(userRepository, times(2)).findByEmailAndStatusAll(EMAIL);
+    }
+
+    @Test
+    void loadAuthenticatedUser_정지유저_Cache하지않고매번확인() {
+        // Given
+        given(userRepository.findByEmailAndStatusAll(EMAIL)).willReturn(Optional.of(user("닉네임", UserStatus.SUSPENDED)));
+
+        // When & Then
+        assertThatThrownBy(() -> customUserDetailsService.loadAuthenticatedUser(EMAIL)).isInstanceOf(UserDisabledException.class);
+        assertThatThrownBy(() -> customUserDetailsService.loadAuthenticatedUser(EMAIL)).isInstanceOf(UserDisabledException.class);
+        verify(userRepository, times(2)).findByEmailAndStatusAll(EMAIL);
+    }
+
+    private static UserEntity user(String nickname, UserStatus status) {
+        return UserEntity.builder()
+                .email(EMAIL)
+                .nickname(nickname)
+                .role(UserRole.USER)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package inu.codin.codin.infra.fcm;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import inu.codin.codin.infra.fcm.dto.FcmDispatchResult;
+import inu.codin.codin.infra.fcm.dto.FcmMulticastDto;
+import inu.codin.codin.infra.fcm.repository.CustomFcmTokenRepository;
+import inu.codin.codin.infra.fcm.service.FcmDispatcher;
+import inu.codin.codin.infra.fcm.transport.FakeFcmTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FcmDispatcherTest {
+
+    @Mock private CustomFcmTokenRepository customFcmTokenRepository;
+
+    private FakeFcmTransport fakeFcmTransport;
+    private FcmDispatcher fcmDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        fakeFcmTransport = new FakeFcmTransport();
+        fcmDispatcher = new FcmDispatcher(fakeFcmTransport, customFcmTokenRepository, Runnable::run, 100_000, 0);
+    }
+
+    @Test
+    void dispatch_500개씩_묶음전송() {
+        // Given
+        FcmMulticastDto message = createMessage(tokens(1200));
+
+        // When
+        FcmDispatchResult result = fcmDispatcher.dispatch(message).join();
+
+        // Then
+        assertThat(fakeFcmTransport.getRequestCount()).isEqualTo(3);
+        assertThat(result.getSuccessCount()).isEqualTo(1200);
+        verify(customFcmTokenRepository, never()).removeFcmTokens(any());
+    }
+
+    @Test
+    void dispatch_중복토큰_한번만전송() {
+        // Given
+        FcmMulticastDto message = createMessage(List.of("token-1", "token-1", "token-2"));
+
+        // When
+        FcmDispatchResult result = fcmDispatcher.dispatch(message).join();
+
+        // Then
+        assertThat(result.getResults()).hasSize(2);
+        assertThat(fakeFcmTransport.getDeliveredCount()).isEqualTo(2);
+    }
+
+    @Test
+    void dispatch_일시적오류_재시도후성공() {
+        // Given
+        fakeFcmTransport.failNext(2, MessagingErrorCode.QUOTA_EXCEEDED);
+        FcmMulticastDto message = createMessage(tokens(10));
+
+        // When
+        FcmDispatchResult result = fcmDispatcher.dispatch(message).join();
+
+        // Then
+        assertThat(fakeFcmTransport.getRequestCount()).isEqualTo(3);
+        assertThat(result.getSuccessCount()).isEqualTo(10);
+    }
+
+    @Test
+    void dispatch_재시도횟수초과_실패처리() {
+        // Given
+        fakeFcmTransport.failNext(10, MessagingErrorCode.UNAVAILABLE);
+        FcmMulticastDto message = createMessage(tokens(3));
+
+        // When
+        FcmDispatchResult result = fcmDispatcher.dispatch(message).join();
+
+        // Then
+        assertThat(fakeFcmTransport.getRequestCount()).isEqualTo(4);
+        assertThat(result.getFailureCount()).isEqualTo(3);
+    }
+
+    @Test
+    void dispatch_등록해제토큰_한번에제거() {
+        // Given
+        List<String> tokens = tokens(600);
+        fakeFcmTransport.unregister(List.of("token-1", "token-550"));
+
+        // When
+        FcmDispatchResult result = fcmDispatcher.dispatch(createMessage(tokens)).join();
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(598);
+        verify(customFcmTokenRepository, times(1))
+                .removeFcmTokens(argThat(removed -> removed.containsAll(List.of("token-1", "token-550")) && removed.size() == 2));
+    }
+
+    private FcmMulticastDto createMessage(List<String> tokens) {
+        return FcmMulticastDto.builder()
+                .title("공지")
+                .body("내용")
+                .tokens(tokens)
+                .build();
+    }
+
+    private List<String> tokens(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "token-" + i).toList();
+    }
+}
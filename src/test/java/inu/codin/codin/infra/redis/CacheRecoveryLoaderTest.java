@@ -0,0 +1,97 @@
+package inu.codin.codin.infra.redis;
+
+import inu.codin.codin.infra.redis.service.CacheRecoveryLoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CacheRecoveryLoaderTest {
+
+    @Test
+    void load_동시CacheMiss_DB조회1회공유() throws Exception {
+        // Given
+        List<Runnable> recoveries = new ArrayList<>();
+        CacheRecoveryLoader loader = new CacheRecoveryLoader(recoveries::add);
+        AtomicInteger dbCalls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService readers = Executors.newFixedThreadPool(8);
+
+        // When
+        Future<Integer> leader = readers.submit(() -> loader.load("post:hits:1", () -> {
+            dbCalls.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return 42;
+        }, hits -> {}));
+        loading.await();
+        List<Future<Integer>> followers = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            followers.add(readers.submit(() -> loader.load("post:hits:1", () -> {
+                dbCalls.incrementAndGet();
+                return -1;
+            }, hits -> {})));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo(42);
+        for (Future<Integer> follower : followers) {
+            assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(dbCalls.get()).isEqualTo(1);
+        assertThat(recoveries).hasSize(1);
+        readers.shutdown();
+    }
+
+    @Test
+    void load_이전조회완료후_새로조회() {
+        // Given
+        CacheRecoveryLoader loader = new CacheRecoveryLoader(Runnable::run);
+        AtomicInteger dbCalls = new AtomicInteger();
+
+        // When
+        loader.load("POST:likes:1", dbCalls::incrementAndGet);
+        int second = loader.load("POST:likes:1", dbCalls::incrementAndGet);
+
+        // Then
+        assertThat(second).isEqualTo(2);
+    }
+
+    @Test
+    void load_DB조회실패_예외전파후재시도가능() {
+        // Given
+        CacheRecoveryLoader loader = new CacheRecoveryLoader(Runnable::run);
+
+        // When & Then
+        assertThatThrownBy(() -> loader.load("post:hits:2", () -> {
+            throw new IllegalStateException("DB 조회 실패");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(loader.load("post:hits:2", () -> 3)).isEqualTo(3);
+    }
+
+    @Test
+    void recoverAsync_Executor포화_요청에영향없음() {
+        // Given
+        CacheRecoveryLoader loader = new CacheRecoveryLoader(task -> {
+            throw new RejectedExecutionException();
+        });
+
+        // When & Then
+        assertThat(loader.load("post:hits:3", () -> 5, hits -> {})).isEqualTo(5);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package inu.codin.codin.infra.redis;
+
+import inu.codin.codin.infra.redis.config.RedisHealthChecker;
+import inu.codin.codin.infra.redis.exception.RedisUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+class RedisHealthCheckerTest {
+
+    private final RedisConnectionFactory redisConnectionFactory = mock(RedisConnectionFactory.class);
+    private final RedisConnection redisConnection = mock(RedisConnection.class);
+
+    // 연속 실패 3회, 지연 기준 100ms, p50, 최근 10개 명령, OPEN 유지 0ms, HALF_OPEN 성공 2회, Key 삭제는 호출 스레드에서 실행
+    private final RedisHealthChecker redisHealthChecker = new RedisHealthChecker(redisConnectionFactory, 3, 100, 0.5, 10, 0, 2, Runnable::run);
+
+    @Test
+    void execute_연속연결실패_Circuit열림및즉시실패() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> redisHealthChecker.execute(() -> {
+                throw new RedisConnectionFailureException("연결 실패");
+            })).isInstanceOf(RedisConnectionFailureException.class);
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThat(redisHealthChecker.isRedisAvailable()).isFalse();
+        assertThat(redisHealthChecker.getState()).isEqualTo(RedisHealthChecker.State.OPEN);
+        assertThatThrownBy(() -> redisHealthChecker.execute(calls::incrementAndGet)).isInstanceOf(RedisUnavailableException.class);
+        assertThat(calls).hasValue(0);
+        assertThat(redisHealthChecker.getMetrics().getTripCount()).isEqualTo(1);
+        assertThat(redisHealthChecker.getMetrics().getRejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_연결실패가아닌예외_집계하지않음() {
+        // Given & When
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> redisHealthChecker.execute(() -> {
+                throw new InvalidDataAccessApiUsageException("WRONGTYPE");
+            })).isInstanceOf(InvalidDataAccessApiUsageException.class);
+        }
+        redisHealthChecker.recordFailure(new QueryTimeoutException("타임아웃"));
+
+        // Then
+        assertThat(redisHealthChecker.isRedisAvailable()).isTrue();
+        assertThat(redisHealthChecker.getMetrics().getConsecutiveFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void recordSuccess_지연비율초과_Circuit열림() {
+        // Given : 10개 중 6개가 100ms 초과 (p50 지연 시간 초과)
+        for (int i = 0; i < 4; i++) redisHealthChecker.recordSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+        for (int i = 0; i < 5; i++) redisHealthChecker.recordSuccess(TimeUnit.MILLISECONDS.toNanos(300));
+        assertThat(redisHealthChecker.isRedisAvailable()).isTrue();
+
+        // When
+        redisHealthChecker.recordSuccess(TimeUnit.MILLISECONDS.toNanos(300));
+
+        // Then
+        assertThat(redisHealthChecker.getState()).isEqualTo(RedisHealthChecker.State.OPEN);
+    }
+
+    @Test
+    void checkRedisStatus_HALF_OPEN에서연속성공_복구() {
+        // Given
+        for (int i = 0; i < 3; i++) redisHealthChecker.recordFailure(new RedisConnectionFailureException("연결 실패"));
+        given(redisConnectionFactory.getConnection()).willReturn(redisConnection);
+        given(redisConnection.ping()).willReturn("PONG");
+
+        // When
+        redisHealthChecker.checkRedisStatus();
+        RedisHealthChecker.State afterFirstProbe = redisHealthChecker.getState();
+        redisHealthChecker.checkRedisStatus();
+
+        // Then
+        assertThat(afterFirstProbe).isEqualTo(RedisHealthChecker.State.HALF_OPEN);
+        assertThat(redisHealthChecker.getState()).isEqualTo(RedisHealthChecker.State.CLOSED);
+        assertThat(redisHealthChecker.isRedisAvailable()).isTrue();
+        verify(redisConnection, times(2)).close();
+    }
+
+    @Test
+    void checkRedisStatus_HALF_OPEN에서실패_다시열림() {
+        // Given
+        for (int i = 0; i < 3; i++) redisHealthChecker.recordFailure(new RedisConnectionFailureException("연결 실패"));
+        given(redisConnectionFactory.getConnection()).willThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // When
+        redisHealthChecker.checkRedisStatus();
+
+        // Then
+        assertThat(redisHealthChecker.getState()).isEqualTo(RedisHealthChecker.State.OPEN);
+        assertThat(redisHealthChecker.getMetrics().getTripCount()).isEqualTo(1);
+    }
+
+    @Test
+    void checkRedisStatus_복구_장애중기록한Key삭제후CLOSED() {
+        // Given
+        for (int i = 0; i < 3; i++) redisHealthChecker.recordFailure(new RedisConnectionFailureException("연결 실패"));
+        redisHealthChecker.markStale("*:likes:*", "POST:likes:1", "POST:likes:members:1");
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        given(redisConnectionFactory.getConnection()).willReturn(redisConnection);
+        given(redisConnection.ping()).willReturn("PONG");
+        given(redisConnection.keyCommands()).willReturn(keyCommands);
+        given(keyCommands.del(any(byte[][].class))).willReturn(2L);
+
+        // When
+        redisHealthChecker.checkRedisStatus();
+        redisHealthChecker.checkRedisStatus();
+
+        // Then
+        assertThat(redisHealthChecker.getState()).isEqualTo(RedisHealthChecker.State.CLOSED);
+        verify(keyCommands, times(1)).del(any(byte[][].class));
+    }
+
+    @Test
+    void checkRedisStatus_기록한Key삭제실패_다시열림() {
+        // Given
+        for (int i = 0; i < 3; i++) redisHealthChecker.recordFailure(new RedisConnectionFailureException("연결 실패"));
+        redisHealthChecker.markStale("*:likes:*", "POST:likes:1");
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        given(redisConnectionFactory.getConnection()).willReturn(redisConnection);
+        given(redisConnection.ping()).willReturn("PONG");
+        given(redisConnection.keyCommands()).willReturn(keyCommands);
+        given(keyCommands.del(any(byte[][].class))).willThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // When
+        redisHealthChecker.checkRedisStatus();
+        redisHealthChecker.checkRedisStatus();
+
+        // Then
+        assertThat(redisHealthChecker.getState()).isEqualTo(RedisHealthChecker.State.OPEN);
+        assertThat(redisHealthChecker.isRedisAvailable()).isFalse();
+    }
+
+    @Test
+    void checkRedisStatus_복구_Key삭제는복구Executor에서실행() {
+        // Given
+        List<Runnable> tasks = new ArrayList<>();
+        RedisHealthChecker checker = new RedisHealthChecker(redisConnectionFactory, 3, 100, 0.5, 10, 0, 2, tasks::add);
+        for (int i = 0; i < 3; i++) checker.recordFailure(new RedisConnectionFailureException("연결 실패"));
+        checker.markStale("*:likes:*", "POST:likes:1");
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        given(redisConnectionFactory.getConnection()).willReturn(redisConnection);
+        given(redisConnection.ping()).willReturn("PONG");
+        given(redisConnection.keyCommands()).willReturn(keyCommands);
+        given(keyCommands.del(any(byte[][].class))).willReturn(1L);
+
+        // When
+        checker.checkRedisStatus();
+        checker.checkRedisStatus();
+        checker.checkRedisStatus(); // 삭제 작업 실행 전 추가 확인은 작업을 다시 등록하지 않음
+        RedisHealthChecker.State beforeTask = checker.getState();
+        tasks.forEach(Runnable::run);
+
+        // Then
+        assertThat(beforeTask).isEqualTo(RedisHealthChecker.State.HALF_OPEN);
+        assertThat(tasks).hasSize(1);
+        assertThat(checker.getState()).isEqualTo(RedisHealthChecker.State.CLOSED);
+        verify(keyCommands, times(1)).del(any(byte[][].class));
+    }
+
+    @Test
+    void checkRedisStatus_복구대기열포화_다음확인에서다시등록() {
+        // Given : 첫 등록은 대기열 포화로 거부
+        List<Runnable> tasks = new ArrayList<>();
+        AtomicInteger submits = new AtomicInteger();
+        RedisHealthChecker checker = new RedisHealthChecker(redisConnectionFactory, 3, 100, 0.5, 10, 0, 2, task -> {
+            if (submits.incrementAndGet() == 1) throw new RejectedExecutionException("대기열 포화");
+            tasks.add(task);
+        });
+        for (int i = 0; i < 3; i++) checker.recordFailure(new RedisConnectionFailureException("연결 실패"));
+        given(redisConnectionFactory.getConnection()).willReturn(redisConnection);
+        given(redisConnection.ping()).willReturn("PONG");
+
+        // When
+        checker.checkRedisStatus();
+        checker.checkRedisStatus();
+        checker.checkRedisStatus();
+        tasks.forEach(Runnable::run);
+
+        // Then
+        assertThat(submits).hasValue(2);
+        assertThat(checker.getState()).isEqualTo(RedisHealthChecker.State.CLOSED);
+    }
+}
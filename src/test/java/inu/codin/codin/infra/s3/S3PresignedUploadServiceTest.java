@@ -0,0 +1,143 @@
+package inu.codin.codin.infra.s3;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import inu.codin.codin.infra.s3.dto.PresignedUploadRequestDto;
+import inu.codin.codin.infra.s3.dto.PresignedUploadResponseDto;
+import inu.codin.codin.infra.s3.exception.ImageFileSizeException;
+import inu.codin.codin.infra.s3.exception.ImageKeyException;
+import inu.codin.codin.infra.s3.exception.ImageTypeException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+class S3PresignedUploadServiceTest {
+
+    private static final String BUCKET = "codin-s3-bucket";
+    private final ObjectId userId = new ObjectId();
+
+    @Test
+    void issue_로컬S3호환서버_용도와유저경로의PUT_URL발급() {
+        // Given : 로컬 S3 호환 서버 설정 (URL 서명은 네트워크 없이 생성됨)
+        AmazonS3Client localClient = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration("http://localhost:9000", "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .build();
+        S3PresignedUploadService service = service(localClient);
+        PresignedUploadRequestDto requestDto = new PresignedUploadRequestDto(UploadPurpose.POST, List.of(
+                new PresignedUploadRequestDto.FileInfo("a.PNG", "image/png", 1024),
+                new PresignedUploadRequestDto.FileInfo("b.jpg", "image/jpeg", 2048)));
+
+        // When
+        List<PresignedUploadResponseDto> responses = service.issue(userId, requestDto);
+
+        // Then
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).getKey()).startsWith("post/" + userId + "/").endsWith(".png");
+        assertThat(responses.get(1).getContentType()).isEqualTo("image/jpeg");
+        assertThat(responses.get(0).getUploadUrl())
+                .startsWith("http://localhost:9000/" + BUCKET + "/" + responses.get(0).getKey())
+                .contains("Signature=");
+    }
+
+    @Test
+    void issue_Content_Type불일치_예외() {
+        // Given
+        S3PresignedUploadService service = service(mock(AmazonS3Client.class));
+        PresignedUploadRequestDto requestDto = new PresignedUploadRequestDto(UploadPurpose.CHAT, List.of(
+                new PresignedUploadRequestDto.FileInfo("a.png", "application/octet-stream", 1024)));
+
+        // When & Then
+        assertThatThrownBy(() -> service.issue(userId, requestDto)).isInstanceOf(ImageTypeException.class);
+    }
+
+    @Test
+    void issue_파일크기초과_예외() {
+        // Given
+        S3PresignedUploadService service = service(mock(AmazonS3Client.class));
+        PresignedUploadRequestDto requestDto = new PresignedUploadRequestDto(UploadPurpose.CHAT, List.of(
+                new PresignedUploadRequestDto.FileInfo("a.png", "image/png", 6 * 1024 * 1024)));
+
+        // When & Then
+        assertThatThrownBy(() -> service.issue(userId, requestDto)).isInstanceOf(ImageFileSizeException.class);
+    }
+
+    @Test
+    void register_업로드완료_URL반환() throws Exception {
+        // Given
+        AmazonS3Client client = mock(AmazonS3Client.class);
+        String key = "chat/" + userId + "/uuid.png";
+        given(client.getObjectMetadata(BUCKET, key)).willReturn(metadata(1024, "image/png"));
+        given(client.getUrl(BUCKET, key)).willReturn(new URL("https://" + BUCKET + ".s3.amazonaws.com/" + key));
+
+        // When
+        List<String> urls = service(client).register(userId, UploadPurpose.CHAT, List.of(key));
+
+        // Then
+        assertThat(urls).containsExactly("https://" + BUCKET + ".s3.amazonaws.com/" + key);
+    }
+
+    @Test
+    void register_다른유저의key_예외() {
+        // Given
+        AmazonS3Client client = mock(AmazonS3Client.class);
+        String key = "chat/" + new ObjectId() + "/uuid.png";
+
+        // When & Then
+        assertThatThrownBy(() -> service(client).register(userId, UploadPurpose.CHAT, List.of(key)))
+                .isInstanceOf(ImageKeyException.class);
+        verify(client, never()).getObjectMetadata(anyString(), anyString());
+    }
+
+    @Test
+    void register_업로드되지않은key_예외() {
+        // Given
+        AmazonS3Client client = mock(AmazonS3Client.class);
+        String key = "post/" + userId + "/uuid.png";
+        AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+        notFound.setStatusCode(404);
+        given(client.getObjectMetadata(BUCKET, key)).willThrow(notFound);
+
+        // When & Then
+        assertThatThrownBy(() -> service(client).register(userId, UploadPurpose.POST, List.of(key)))
+                .isInstanceOf(ImageKeyException.class);
+    }
+
+    @Test
+    void register_업로드된파일크기초과_삭제후예외() {
+        // Given
+        AmazonS3Client client = mock(AmazonS3Client.class);
+        String key = "post/" + userId + "/uuid.png";
+        given(client.getObjectMetadata(BUCKET, key)).willReturn(metadata(6 * 1024 * 1024, "image/png"));
+
+        // When & Then
+        assertThatThrownBy(() -> service(client).register(userId, UploadPurpose.POST, List.of(key)))
+                .isInstanceOf(ImageFileSizeException.class);
+        verify(client).deleteObject(BUCKET, key);
+    }
+
+    private static S3PresignedUploadService service(AmazonS3Client client) {
+        S3PresignedUploadService service = new S3PresignedUploadService(client, 300);
+        ReflectionTestUtils.setField(service, "bucket", BUCKET);
+        return service;
+    }
+
+    private static ObjectMetadata metadata(long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        return metadata;
+    }
+}
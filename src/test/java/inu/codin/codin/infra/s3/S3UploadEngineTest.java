@@ -0,0 +1,136 @@
+package inu.codin.codin.infra.s3;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import inu.codin.codin.infra.s3.exception.ImageUploadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+class S3UploadEngineTest {
+
+    private static final String BUCKET = "codin-s3-bucket";
+
+    private final AmazonS3Client amazonS3Client = mock(AmazonS3Client.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void uploadAll_병렬업로드_요청순서대로URL반환및메타데이터지정() throws Exception {
+        // Given : 첫 번째 파일의 업로드가 가장 늦게 끝남
+        S3UploadEngine engine = engine(1024, 512, executor);
+        givenUrl();
+        given(amazonS3Client.putObject(any(PutObjectRequest.class))).willAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            if (request.getKey().equals("a.png")) Thread.sleep(200);
+            return new PutObjectResult();
+        });
+        List<S3UploadEngine.UploadItem> items = List.of(
+                item("a.png", 10, "image/png"),
+                item("b.jpg", 20, "image/jpeg"),
+                item("c.gif", 30, "image/gif"));
+
+        // When
+        List<String> urls = engine.uploadAll(items);
+
+        // Then
+        assertThat(urls).containsExactly(url("a.png"), url("b.jpg"), url("c.gif"));
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3Client, times(3)).putObject(captor.capture());
+        PutObjectRequest request = captor.getAllValues().stream()
+                .filter(putObjectRequest -> putObjectRequest.getKey().equals("b.jpg")).findFirst().orElseThrow();
+        assertThat(request.getMetadata().getContentLength()).isEqualTo(20);
+        assertThat(request.getMetadata().getContentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void uploadAll_임계값이상_파트단위멀티파트업로드() throws Exception {
+        // Given : 10byte 파일, 파트 크기 4byte -> 3개 파트
+        S3UploadEngine engine = engine(10, 4, executor);
+        givenUrl();
+        givenMultipartUpload();
+
+        // When
+        List<String> urls = engine.uploadAll(List.of(item("big.png", 10, "image/png")));
+
+        // Then
+        assertThat(urls).containsExactly(url("big.png"));
+        verify(amazonS3Client, never()).putObject(any(PutObjectRequest.class));
+        verify(amazonS3Client, times(3)).uploadPart(any(UploadPartRequest.class));
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3Client).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().getPartETags()).hasSize(3);
+    }
+
+    @Test
+    void uploadAll_하나실패_멀티파트중단및완료된업로드삭제() throws Exception {
+        // Given : 순서대로 실행되는 Executor, 두 번째 파일의 멀티파트 업로드 실패
+        S3UploadEngine engine = engine(10, 4, Runnable::run);
+        givenUrl();
+        given(amazonS3Client.putObject(any(PutObjectRequest.class))).willReturn(new PutObjectResult());
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-1");
+        given(amazonS3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).willReturn(initiateResult);
+        given(amazonS3Client.uploadPart(any(UploadPartRequest.class))).willThrow(new AmazonS3Exception("S3 장애"));
+
+        List<S3UploadEngine.UploadItem> items = List.of(
+                item("a.png", 5, "image/png"),
+                item("big.png", 10, "image/png"),
+                item("c.png", 5, "image/png"));
+
+        // When & Then
+        assertThatThrownBy(() -> engine.uploadAll(items)).isInstanceOf(ImageUploadException.class);
+        verify(amazonS3Client).abortMultipartUpload(argThat(request -> request.getUploadId().equals("upload-1")));
+        verify(amazonS3Client).deleteObject(BUCKET, "a.png");
+        verify(amazonS3Client, times(1)).putObject(any(PutObjectRequest.class)); // c.png는 업로드하지 않음
+        verify(amazonS3Client, never()).completeMultipartUpload(any());
+    }
+
+    private S3UploadEngine engine(long multipartThreshold, long partSize, Executor executor) {
+        S3UploadEngine engine = new S3UploadEngine(amazonS3Client, executor, multipartThreshold, partSize);
+        ReflectionTestUtils.setField(engine, "bucket", BUCKET);
+        return engine;
+    }
+
+    private void givenUrl() throws Exception {
+        given(amazonS3Client.getUrl(eq(BUCKET), anyString()))
+                .willAnswer(invocation -> new URL(url(invocation.getArgument(1))));
+    }
+
+    private void givenMultipartUpload() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-1");
+        given(amazonS3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).willReturn(initiateResult);
+        given(amazonS3Client.uploadPart(any(UploadPartRequest.class))).willAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+    }
+
+    private static S3UploadEngine.UploadItem item(String key, int size, String contentType) {
+        return new S3UploadEngine.UploadItem(new MockMultipartFile("images", key, contentType, new byte[size]), key, contentType);
+    }
+
+    private static String url(String key) {
+        return "https://" + BUCKET + ".s3.amazonaws.com/" + key;
+    }
+}